@@ -0,0 +1,41 @@
+package com.cosmic.scavengers.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Level;
+
+/**
+ * Command line handling shared by the benchmark {@code main} methods.
+ */
+public final class BenchmarkOptions {
+
+	private BenchmarkOptions() {
+		throw new AssertionError("BenchmarkOptions cannot be instantiated");
+	}
+
+	/**
+	 * Parses {@code key=value} arguments and limits logging to INFO. Exits the
+	 * process on a malformed argument.
+	 */
+	public static Map<String, String> parse(String[] args) {
+		final Map<String, String> options = new HashMap<>();
+		for (String arg : args) {
+			final int separator = arg.indexOf('=');
+			if (separator <= 0) {
+				System.err.println("Arguments must be key=value pairs, got: " + arg);
+				System.exit(1);
+			}
+			options.put(arg.substring(0, separator), arg.substring(separator + 1));
+		}
+
+		// Without Spring Boot there is no logging config; per-entity debug output would dominate
+		if (LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME) instanceof ch.qos.logback.classic.Logger root) {
+			root.setLevel(Level.INFO);
+		}
+		return options;
+	}
+}
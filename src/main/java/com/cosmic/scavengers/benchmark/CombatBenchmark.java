@@ -0,0 +1,164 @@
+package com.cosmic.scavengers.benchmark;
+
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.cosmic.scavengers.ecs.domain.components.Health;
+import com.cosmic.scavengers.ecs.domain.components.Owner;
+import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.ecs.domain.components.Weapon;
+import com.cosmic.scavengers.engine.TickClock;
+import com.cosmic.scavengers.registries.EntityRegistry;
+import com.cosmic.scavengers.spatial.SpatialHashGrid;
+import com.cosmic.scavengers.system.CombatSystem;
+
+import dev.dominion.ecs.api.Dominion;
+import dev.dominion.ecs.api.Entity;
+
+/**
+ * Lines up two armies facing each other and measures what
+ * {@link CombatSystem} costs per tick while they fight.
+ *
+ * <p>
+ * Each army is a block of {@code units} / 2 combatants, {@code spacing} units
+ * apart, with the two blocks {@code gap} units apart along the X axis. Before
+ * every tick, untimed, each survivor steps {@code advance} units towards its
+ * side of the gap, so the armies keep closing in and pile up at the battle
+ * line. Every 50 ticks, and at the end, the survivors per army are logged.
+ *
+ * <p>
+ * Arguments are {@code key=value} pairs: {@code units} (10000), {@code spacing}
+ * in units (2), {@code gap} in units (5), {@code advance} in units per tick
+ * (1), {@code range} in units (15), {@code damage} per shot (10),
+ * {@code cooldown} in ticks (5), {@code health} (100), {@code retarget}
+ * interval in ticks (5), {@code cell} size in units (10), {@code ticks} (300).
+ */
+public class CombatBenchmark {
+	private static final Logger log = LoggerFactory.getLogger(CombatBenchmark.class);
+	private static final long SCALE = 10_000L;
+
+	private final int units;
+	private final long spacing;
+	private final long gap;
+	private final long advance;
+	private final long range;
+	private final int damage;
+	private final int cooldown;
+	private final int health;
+	private final int retarget;
+	private final long cellSize;
+	private final int ticks;
+
+	public CombatBenchmark(Map<String, String> options) {
+		this.units = Integer.parseInt(options.getOrDefault("units", "10000"));
+		this.spacing = Long.parseLong(options.getOrDefault("spacing", "2")) * SCALE;
+		this.gap = Long.parseLong(options.getOrDefault("gap", "5")) * SCALE;
+		this.advance = Long.parseLong(options.getOrDefault("advance", "1")) * SCALE;
+		this.range = Long.parseLong(options.getOrDefault("range", "15")) * SCALE;
+		this.damage = Integer.parseInt(options.getOrDefault("damage", "10"));
+		this.cooldown = Integer.parseInt(options.getOrDefault("cooldown", "5"));
+		this.health = Integer.parseInt(options.getOrDefault("health", "100"));
+		this.retarget = Integer.parseInt(options.getOrDefault("retarget", "5"));
+		this.cellSize = Long.parseLong(options.getOrDefault("cell", "10")) * SCALE;
+		this.ticks = Integer.parseInt(options.getOrDefault("ticks", "300"));
+	}
+
+	public void run() {
+		final Dominion dominion = Dominion.create("combat");
+		try {
+			final EntityRegistry registry = new EntityRegistry();
+			final SpatialHashGrid grid = new SpatialHashGrid(cellSize);
+			registry.addSlotListener(grid);
+			final TickClock tickClock = new TickClock(10);
+			final CombatSystem combat = new CombatSystem(dominion, registry, grid, tickClock, retarget, null, null);
+			registry.addSlotListener(combat);
+			spawnArmies(dominion, registry);
+
+			long combatNanos = 0;
+			long worstNanos = 0;
+			long acquisitions = 0;
+			long shots = 0;
+			long destroyed = 0;
+			for (int tick = 1; tick <= ticks; tick++) {
+				advance(registry, grid);
+
+				final long start = System.nanoTime();
+				combat.run();
+				combat.removeDestroyed();
+				final long elapsed = System.nanoTime() - start;
+				combatNanos += elapsed;
+				worstNanos = Math.max(worstNanos, elapsed);
+				acquisitions += combat.getLastTickAcquisitions();
+				shots += combat.getLastTickShots();
+				destroyed += combat.getLastTickDestroyed();
+				tickClock.advance();
+
+				if (tick % 50 == 0 || tick == ticks) {
+					log.info("Tick {} | {} vs {} units left", tick, countArmy(registry, 1L), countArmy(registry, 2L));
+				}
+			}
+
+			log.info("{} combatants, {} ticks, retarget every {} ticks", units, ticks, retarget);
+			log.info("Combat | {} ms/tick | worst {} ms", fmt(combatNanos / 1_000_000.0 / ticks),
+					fmt(worstNanos / 1_000_000.0));
+			log.info("Per tick | {} searches | {} shots | {} destroyed", acquisitions / ticks, shots / ticks,
+					fmt((double) destroyed / ticks));
+		} finally {
+			dominion.close();
+		}
+	}
+
+	/**
+	 * Two square blocks, the first left of the origin, the second right of it.
+	 */
+	private void spawnArmies(Dominion dominion, EntityRegistry registry) {
+		final int perArmy = units / 2;
+		final int side = (int) Math.ceil(Math.sqrt(perArmy));
+		for (int i = 0; i < 2 * perArmy; i++) {
+			final long playerId = i < perArmy ? 1L : 2L;
+			final int index = i % perArmy;
+			final long depth = gap / 2 + (index / side) * spacing;
+			final long x = playerId == 1L ? -depth : depth;
+			final long y = (index % side - side / 2) * spacing;
+			registry.register(i, dominion.createEntity(new Position(x, y, 0L), new Owner(playerId),
+					new Weapon(range, damage, cooldown), new Health(health, health)));
+		}
+	}
+
+	private void advance(EntityRegistry registry, SpatialHashGrid grid) {
+		final long front = gap / 2;
+		for (int slot = 0; slot < registry.getSlotCount(); slot++) {
+			final Entity entity = registry.getEntityAt(slot);
+			if (entity == null) {
+				continue;
+			}
+			final Position position = entity.get(Position.class);
+			final long x = position.x() < 0 ? Math.min(-front, position.x() + advance)
+					: Math.max(front, position.x() - advance);
+			position.set(x, position.y(), 0L);
+			grid.update(slot, x, position.y());
+		}
+	}
+
+	private static int countArmy(EntityRegistry registry, long playerId) {
+		int count = 0;
+		for (int slot = 0; slot < registry.getSlotCount(); slot++) {
+			final Entity entity = registry.getEntityAt(slot);
+			final Owner owner = entity != null ? entity.get(Owner.class) : null;
+			if (owner != null && owner.playerId() == playerId) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private static String fmt(double value) {
+		return String.format("%.3f", value);
+	}
+
+	public static void main(String[] args) {
+		new CombatBenchmark(BenchmarkOptions.parse(args)).run();
+	}
+}
@@ -0,0 +1,122 @@
+package com.cosmic.scavengers.benchmark;
+
+import static com.cosmic.scavengers.core.utils.DecimalUtils.ARITHMETIC;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongUnaryOperator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.cosmic.scavengers.core.utils.FixedPointMath;
+
+/**
+ * Compares {@link FixedPointMath} with the HALF_UP {@code ARITHMETIC} instance
+ * on the operations of one movement step: the distance square root and the
+ * three normalizing divisions by that distance.
+ *
+ * <p>
+ * Inputs are deltas of up to +-5000 units, as in a dense battle. Each variant
+ * runs over the same pre-generated inputs, and their checksums must match, so
+ * the benchmark doubles as a coarse equivalence check.
+ *
+ * <p>
+ * Arguments are {@code key=value} pairs: {@code samples} (1000000),
+ * {@code rounds} per measurement (20), {@code warmup} rounds (10),
+ * {@code seed} (42).
+ */
+public class FixedPointMathBenchmark {
+	private static final Logger log = LoggerFactory.getLogger(FixedPointMathBenchmark.class);
+
+	private final int rounds;
+	private final int warmupRounds;
+
+	private final long[] deltaX;
+	private final long[] deltaY;
+	private final long[] deltaZ;
+	private final long[] distanceSquared;
+
+	public FixedPointMathBenchmark(Map<String, String> options) {
+		final int samples = Integer.parseInt(options.getOrDefault("samples", "1000000"));
+		this.rounds = Integer.parseInt(options.getOrDefault("rounds", "20"));
+		this.warmupRounds = Integer.parseInt(options.getOrDefault("warmup", "10"));
+		final SplittableRandom random = new SplittableRandom(Long.parseLong(options.getOrDefault("seed", "42")));
+
+		this.deltaX = new long[samples];
+		this.deltaY = new long[samples];
+		this.deltaZ = new long[samples];
+		this.distanceSquared = new long[samples];
+		for (int i = 0; i < samples; i++) {
+			deltaX[i] = random.nextLong(-50_000_000L, 50_000_001L);
+			deltaY[i] = random.nextLong(-50_000_000L, 50_000_001L);
+			deltaZ[i] = random.nextLong(-1_000_000L, 1_000_001L);
+			distanceSquared[i] = ARITHMETIC.multiply(deltaX[i], deltaX[i]) + ARITHMETIC.multiply(deltaY[i], deltaY[i])
+					+ ARITHMETIC.multiply(deltaZ[i], deltaZ[i]);
+		}
+	}
+
+	public void run() {
+		final Result arithmetic = measure(ARITHMETIC::sqrt, ARITHMETIC::divide, false);
+		final Result fast = measure(FixedPointMath::sqrt, FixedPointMath::divide, false);
+		final Result reciprocal = measure(FixedPointMath::sqrt, FixedPointMath::divide, true);
+
+		log.info("{} samples, {} rounds | ns/step | speedup", deltaX.length, rounds);
+		log.info("ARITHMETIC | {} | 1.00x", fmt(arithmetic.nanosPerStep));
+		log.info("FixedPointMath | {} | {}x", fmt(fast.nanosPerStep),
+				fmt(arithmetic.nanosPerStep / fast.nanosPerStep));
+		log.info("FixedPointMath, shared reciprocal | {} | {}x", fmt(reciprocal.nanosPerStep),
+				fmt(arithmetic.nanosPerStep / reciprocal.nanosPerStep));
+
+		if (fast.checksum != arithmetic.checksum || reciprocal.checksum != arithmetic.checksum) {
+			throw new IllegalStateException("FixedPointMath results differ from ARITHMETIC");
+		}
+	}
+
+	private record Result(double nanosPerStep, long checksum) {
+	}
+
+	private Result measure(LongUnaryOperator sqrt, LongBinaryOperator divide, boolean sharedReciprocal) {
+		long checksum = 0;
+		for (int round = 0; round < warmupRounds; round++) {
+			checksum = step(sqrt, divide, sharedReciprocal);
+		}
+		final long start = System.nanoTime();
+		for (int round = 0; round < rounds; round++) {
+			checksum = step(sqrt, divide, sharedReciprocal);
+		}
+		final long nanos = System.nanoTime() - start;
+		return new Result((double) nanos / rounds / deltaX.length, checksum);
+	}
+
+	private long step(LongUnaryOperator sqrt, LongBinaryOperator divide, boolean sharedReciprocal) {
+		long checksum = 0;
+		for (int i = 0; i < deltaX.length; i++) {
+			final long distance = sqrt.applyAsLong(distanceSquared[i]);
+			if (distance == 0) {
+				continue;
+			}
+			if (sharedReciprocal) {
+				final double reciprocal = 1.0 / distance;
+				checksum += FixedPointMath.divide(deltaX[i], distance, reciprocal)
+						^ FixedPointMath.divide(deltaY[i], distance, reciprocal)
+						^ FixedPointMath.divide(deltaZ[i], distance, reciprocal);
+			} else {
+				checksum += divide.applyAsLong(deltaX[i], distance)
+						^ divide.applyAsLong(deltaY[i], distance)
+						^ divide.applyAsLong(deltaZ[i], distance);
+			}
+			checksum = checksum * 31 + distance;
+		}
+		return checksum;
+	}
+
+	private static String fmt(double value) {
+		return String.format("%.2f", value);
+	}
+
+	public static void main(String[] args) {
+		new FixedPointMathBenchmark(BenchmarkOptions.parse(args)).run();
+	}
+}
@@ -0,0 +1,149 @@
+package com.cosmic.scavengers.benchmark;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.ecs.domain.intents.MoveIntent;
+import com.cosmic.scavengers.engine.TickClock;
+import com.cosmic.scavengers.gameplay.services.data.MoveRequestData;
+import com.cosmic.scavengers.navigation.NavGrid;
+import com.cosmic.scavengers.system.FlowFieldSystem;
+import com.cosmic.scavengers.system.IntentProcessorSystem;
+import com.cosmic.scavengers.system.MovementSystem;
+import com.cosmic.scavengers.system.PathFollowingSystem;
+import com.cosmic.scavengers.system.PathfindingSystem;
+import com.cosmic.scavengers.system.meta.IEcsSystem;
+
+import dev.dominion.ecs.api.Dominion;
+
+/**
+ * Compares a group move order routed through one shared flow field with the
+ * same order routed unit by unit through A*.
+ *
+ * <p>
+ * A blob of units on one side of a field of obstacles is ordered to a single
+ * point on the other side. Each variant runs the navigation systems and the
+ * movement pipeline for {@code ticks} ticks; only the navigation systems are
+ * timed. Both get the same expansion budget per tick, so the interesting
+ * numbers are total navigation time, the worst tick, and how many ticks pass
+ * before every unit is on its way.
+ *
+ * <p>
+ * Arguments are {@code key=value} pairs: {@code sizes} of the group (comma
+ * separated, 50,200,1000,5000), {@code grid} cells per side (256),
+ * {@code obstacles} (300), {@code budget} expansions per tick (20000),
+ * {@code ticks} (200), {@code seed} (42).
+ */
+public class FlowFieldBenchmark {
+	private static final Logger log = LoggerFactory.getLogger(FlowFieldBenchmark.class);
+	private static final long UNIT = 10_000L;
+
+	private final int[] sizes;
+	private final int gridSize;
+	private final int obstacles;
+	private final int budget;
+	private final int ticks;
+	private final long seed;
+
+	public FlowFieldBenchmark(Map<String, String> options) {
+		this.sizes = Arrays.stream(options.getOrDefault("sizes", "50,200,1000,5000").split(","))
+				.mapToInt(Integer::parseInt).toArray();
+		this.gridSize = Integer.parseInt(options.getOrDefault("grid", "256"));
+		this.obstacles = Integer.parseInt(options.getOrDefault("obstacles", "300"));
+		this.budget = Integer.parseInt(options.getOrDefault("budget", "20000"));
+		this.ticks = Integer.parseInt(options.getOrDefault("ticks", "200"));
+		this.seed = Long.parseLong(options.getOrDefault("seed", "42"));
+	}
+
+	public void run() {
+		log.info("units | variant | total nav ms | worst tick ms | ticks until all routed");
+		for (int size : sizes) {
+			measure(size, true);
+			measure(size, false);
+		}
+	}
+
+	private void measure(int units, boolean flowField) {
+		final SplittableRandom random = new SplittableRandom(seed);
+		final NavGrid grid = createGrid(random);
+		final long half = gridSize * UNIT / 2;
+
+		final Dominion dominion = Dominion.create("flow-" + units);
+		try {
+			// Field width grows with the group so the blob stays about equally dense
+			final long spread = Math.max(5, (long) Math.sqrt(units)) * UNIT;
+			for (int i = 0; i < units; i++) {
+				final long x = -half + 2 * UNIT + random.nextLong(spread);
+				final long y = random.nextLong(-spread, spread);
+				dominion.createEntity(new Position(x, y, 0L), new MoveIntent(i, null,
+						new MoveRequestData(i, null, half - 3 * UNIT, 0L, 0L, 10 * UNIT, 0L, 0L)));
+			}
+
+			final TickClock tickClock = new TickClock(10);
+			final IEcsSystem navigation = flowField
+					? new FlowFieldSystem(dominion, grid, tickClock, 8, budget, 8, 100, null, null)
+					: new PathfindingSystem(dominion, grid, budget, grid.getCellCount(), 1024, null);
+			final IntentProcessorSystem intents = new IntentProcessorSystem(dominion);
+			final PathFollowingSystem paths = new PathFollowingSystem(dominion, null, null);
+			final MovementSystem movement = new MovementSystem(dominion, tickClock, true);
+
+			long totalNanos = 0;
+			long worstNanos = 0;
+			int routedTick = -1;
+			for (int tick = 0; tick < ticks; tick++) {
+				final long start = System.nanoTime();
+				navigation.run();
+				final long elapsed = System.nanoTime() - start;
+				totalNanos += elapsed;
+				worstNanos = Math.max(worstNanos, elapsed);
+
+				if (routedTick < 0 && waiting(navigation) == 0) {
+					routedTick = tick;
+				}
+				intents.run();
+				paths.run();
+				movement.run();
+				tickClock.advance();
+			}
+
+			log.info("{} | {} | {} | {} | {}", units, flowField ? "flow field" : "A*", fmt(totalNanos / 1_000_000.0),
+					fmt(worstNanos / 1_000_000.0), routedTick < 0 ? "> " + ticks : String.valueOf(routedTick));
+		} finally {
+			dominion.close();
+		}
+	}
+
+	private static int waiting(IEcsSystem navigation) {
+		if (navigation instanceof PathfindingSystem pathfinding) {
+			return pathfinding.getQueueSize();
+		}
+		return ((FlowFieldSystem) navigation).getLastTickWaiting();
+	}
+
+	/**
+	 * Scattered round obstacles, leaving the spawn and goal margins free.
+	 */
+	private NavGrid createGrid(SplittableRandom random) {
+		final NavGrid grid = new NavGrid(gridSize, UNIT, 0L);
+		final long half = gridSize * UNIT / 2;
+		for (int i = 0; i < obstacles; i++) {
+			final long x = random.nextLong(-half / 2, half / 2);
+			final long y = random.nextLong(-half, half);
+			grid.addObstacle(x, y, random.nextLong(2 * UNIT, 8 * UNIT), 1);
+		}
+		return grid;
+	}
+
+	private static String fmt(double value) {
+		return String.format("%.3f", value);
+	}
+
+	public static void main(String[] args) {
+		new FlowFieldBenchmark(BenchmarkOptions.parse(args)).run();
+	}
+}
@@ -0,0 +1,193 @@
+package com.cosmic.scavengers.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.cosmic.scavengers.core.utils.DecimalUtils;
+import com.cosmic.scavengers.db.model.tables.pojos.PlayerEntities;
+import com.cosmic.scavengers.ecs.commands.InitSpawnEntitiesCommand;
+import com.cosmic.scavengers.ecs.commands.MoveEntityCommand;
+import com.cosmic.scavengers.engine.profiling.SystemTickProfiler;
+import com.cosmic.scavengers.engine.snapshot.WorldSnapshot;
+import com.cosmic.scavengers.engine.world.EngineSettings;
+import com.cosmic.scavengers.engine.world.GameWorld;
+import com.cosmic.scavengers.engine.world.GameWorldFactory;
+import com.cosmic.scavengers.gameplay.services.data.MoveRequestData;
+
+/**
+ * Runs one world of synthetic players as fast as possible, without Spring,
+ * Netty or Postgres, to measure how many entities a world can hold at its
+ * tick rate.
+ *
+ * <p>
+ * The world is built by {@link GameWorldFactory}, so it runs exactly the
+ * production system list. Entities are spawned through
+ * {@link InitSpawnEntitiesCommand} and steered by random
+ * {@link MoveEntityCommand}s, both going through the command queue like real
+ * traffic. Randomness is seeded, so runs with the same arguments issue the same
+ * commands.
+ *
+ * <p>
+ * Reported after the warmup ticks:
+ * <ul>
+ * <li>ticks/s - ticks executed per second of tick time;</li>
+ * <li>entity-updates/s - moving entities advanced per second;</li>
+ * <li>bytes/tick - heap allocated by the engine thread per tick. Systems run
+ * on the shared pool (parallelism above 1) are not counted.</li>
+ * </ul>
+ *
+ * <p>
+ * Arguments are {@code key=value} pairs: {@code players} (10),
+ * {@code entities} (10000, in total), {@code ticks} (1000), {@code warmup}
+ * (200), {@code moves} (1% of the entities per tick), {@code extent} (world
+ * half-size in units, 1000), {@code speed} (units/s, 15), {@code seed} (42),
+ * and the engine settings {@code hz}, {@code parallelism}, {@code batched}
+ * (movement backend) and {@code threshold} (moving entities before movement
+ * runs in parallel). Every other setting, and these when not given, keep the
+ * {@link EngineSettings} defaults.
+ */
+public class HeadlessSimulationBenchmark {
+	private static final Logger log = LoggerFactory.getLogger(HeadlessSimulationBenchmark.class);
+
+	private final int players;
+	private final int entities;
+	private final int ticks;
+	private final int warmupTicks;
+	private final int movesPerTick;
+	private final double extent;
+	private final long speedScaled;
+	private final EngineSettings settings = new EngineSettings();
+	private final SplittableRandom random;
+
+	public HeadlessSimulationBenchmark(Map<String, String> options) {
+		this.players = Integer.parseInt(options.getOrDefault("players", "10"));
+		this.entities = Integer.parseInt(options.getOrDefault("entities", "10000"));
+		this.ticks = Integer.parseInt(options.getOrDefault("ticks", "1000"));
+		this.warmupTicks = Integer.parseInt(options.getOrDefault("warmup", "200"));
+		this.movesPerTick = Integer.parseInt(options.getOrDefault("moves", String.valueOf(Math.max(1, entities / 100))));
+		this.extent = Double.parseDouble(options.getOrDefault("extent", "1000"));
+		this.speedScaled = DecimalUtils.toScaled(Double.parseDouble(options.getOrDefault("speed", "15")));
+		settings.setTickRateHz(Integer.parseInt(
+				options.getOrDefault("hz", String.valueOf(settings.getTickRateHz()))));
+		settings.setSystemParallelism(Integer.parseInt(
+				options.getOrDefault("parallelism", String.valueOf(settings.getSystemParallelism()))));
+		settings.setMovementBatched(Boolean.parseBoolean(
+				options.getOrDefault("batched", String.valueOf(settings.isMovementBatched()))));
+		settings.setMovementParallelThreshold(Integer.parseInt(
+				options.getOrDefault("threshold", String.valueOf(settings.getMovementParallelThreshold()))));
+		this.random = new SplittableRandom(Long.parseLong(options.getOrDefault("seed", "42")));
+	}
+
+	public void run() {
+		final SystemTickProfiler profiler = new SystemTickProfiler();
+		final GameWorldFactory factory = new GameWorldFactory(profiler, settings);
+		final GameWorld world = factory.create(0);
+		try {
+			spawn(world);
+
+			log.info("Warming up for {} ticks...", warmupTicks);
+			for (int i = 0; i < warmupTicks; i++) {
+				issueMoves(world);
+				world.engine().tick();
+			}
+
+			final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+					.getThreadMXBean();
+			long tickNanos = 0;
+			long allocatedBytes = 0;
+			long entityUpdates = 0;
+			for (int i = 0; i < ticks; i++) {
+				// Commands are queued outside the measured region, like network threads would
+				issueMoves(world);
+
+				final long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+				final long start = System.nanoTime();
+				world.engine().tick();
+				tickNanos += System.nanoTime() - start;
+				allocatedBytes += threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+				entityUpdates += countMoving(world.snapshots().getLatest());
+			}
+
+			final double seconds = tickNanos / 1_000_000_000.0;
+			log.info("Benchmark: {} entities, {} players, {} moves/tick, {} Hz, parallelism {}, batched {}",
+					entities, players, movesPerTick, settings.getTickRateHz(), settings.getSystemParallelism(),
+					settings.isMovementBatched());
+			log.info("  {} ticks in {}s: {} ticks/s ({}x real time), mean tick {}ms",
+					ticks, fmt(seconds), fmt(ticks / seconds), fmt(ticks / seconds / settings.getTickRateHz()),
+					fmt(tickNanos / 1_000_000.0 / ticks));
+			log.info("  {} entity-updates/s, {} moving entities/tick on average",
+					fmt(entityUpdates / seconds), fmt((double) entityUpdates / ticks));
+			log.info("  {} bytes allocated/tick on the engine thread", allocatedBytes / ticks);
+			log.info("  load: {}", world.engine().getLoadStats());
+			profiler.logSummary();
+		} finally {
+			world.dominion().close();
+			factory.shutdown();
+		}
+	}
+
+	private void spawn(GameWorld world) {
+		final Map<Long, List<PlayerEntities>> byPlayer = new HashMap<>();
+		for (long id = 1; id <= entities; id++) {
+			final long playerId = 1 + (id % players);
+			final PlayerEntities entity = new PlayerEntities();
+			entity.setId(id);
+			entity.setPlayerId(playerId);
+			entity.setEntityName("bench-" + id);
+			entity.setPosX((float) randomCoordinate());
+			entity.setPosY((float) randomCoordinate());
+			entity.setPosZ(0f);
+			entity.setIsStatic(false);
+			byPlayer.computeIfAbsent(playerId, key -> new ArrayList<>()).add(entity);
+		}
+		byPlayer.forEach((playerId, list) -> world.commandQueue().submit(new InitSpawnEntitiesCommand(playerId, list)));
+		world.engine().tick();
+		log.info("Spawned {} entities for {} players.", world.entityRegistry().getActiveCount(), byPlayer.size());
+	}
+
+	private void issueMoves(GameWorld world) {
+		for (int i = 0; i < movesPerTick; i++) {
+			final long entityId = 1 + random.nextInt(entities);
+			final long playerId = 1 + (entityId % players);
+			world.commandQueue().submit(new MoveEntityCommand(new MoveRequestData(
+					entityId,
+					playerId,
+					DecimalUtils.toScaled(randomCoordinate()),
+					DecimalUtils.toScaled(randomCoordinate()),
+					0L,
+					speedScaled,
+					0L,
+					0L)));
+		}
+	}
+
+	private double randomCoordinate() {
+		return (random.nextDouble() * 2 - 1) * extent;
+	}
+
+	private static int countMoving(WorldSnapshot snapshot) {
+		int moving = 0;
+		for (int i = 0; i < snapshot.size(); i++) {
+			if (snapshot.isMoving(i)) {
+				moving++;
+			}
+		}
+		return moving;
+	}
+
+	private static String fmt(double value) {
+		return String.format("%.2f", value);
+	}
+
+	public static void main(String[] args) {
+		new HeadlessSimulationBenchmark(BenchmarkOptions.parse(args)).run();
+	}
+}
@@ -0,0 +1,132 @@
+package com.cosmic.scavengers.benchmark;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.cosmic.scavengers.ecs.domain.components.Movement;
+import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.engine.TickClock;
+import com.cosmic.scavengers.system.MovementSystem;
+
+import dev.dominion.ecs.api.Dominion;
+
+/**
+ * Finds the number of moving entities at which chunked parallel movement
+ * starts to beat sequential batched movement, to pick
+ * {@code game.engine.movement-parallel-threshold}.
+ *
+ * <p>
+ * For every size, one Dominion is filled with entities whose targets are too
+ * far away to be reached during the run, so every tick moves all of them. The
+ * same world is then stepped by a sequential and a parallel
+ * {@link MovementSystem}, each warmed up first. Batches below
+ * {@link MovementSystem#CHUNK_SIZE} are a single chunk and cannot gain, and a
+ * size only counts as the crossover once parallel is at least 10% faster, so
+ * noise does not pick a threshold.
+ *
+ * <p>
+ * Arguments are {@code key=value} pairs: {@code sizes} (comma separated,
+ * 1000,2000,5000,10000,20000,50000,100000), {@code ticks} per measurement (200),
+ * {@code warmup} (100), {@code parallelism} (number of cores), {@code seed}
+ * (42).
+ */
+public class MovementParallelBenchmark {
+	private static final Logger log = LoggerFactory.getLogger(MovementParallelBenchmark.class);
+
+	private static final double MIN_SPEEDUP = 1.1;
+
+	private final int[] sizes;
+	private final int ticks;
+	private final int warmupTicks;
+	private final int parallelism;
+	private final SplittableRandom random;
+
+	public MovementParallelBenchmark(Map<String, String> options) {
+		this.sizes = Arrays.stream(options.getOrDefault("sizes", "1000,2000,5000,10000,20000,50000,100000").split(","))
+				.mapToInt(Integer::parseInt).toArray();
+		this.ticks = Integer.parseInt(options.getOrDefault("ticks", "200"));
+		this.warmupTicks = Integer.parseInt(options.getOrDefault("warmup", "100"));
+		this.parallelism = Integer.parseInt(
+				options.getOrDefault("parallelism", String.valueOf(Runtime.getRuntime().availableProcessors())));
+		this.random = new SplittableRandom(Long.parseLong(options.getOrDefault("seed", "42")));
+	}
+
+	public void run() {
+		final ForkJoinPool pool = new ForkJoinPool(parallelism);
+		final TickClock tickClock = new TickClock(10);
+		int crossover = -1;
+		try {
+			log.info("{} entities | sequential ms/tick | parallel ms/tick | speedup ({} threads)", "moving",
+					parallelism);
+			for (int size : sizes) {
+				final Dominion dominion = Dominion.create("movement-" + size);
+				try {
+					spawn(dominion, size);
+					final MovementSystem sequential = new MovementSystem(dominion, tickClock, true);
+					final MovementSystem parallel = new MovementSystem(dominion, tickClock, true, pool, 1, null, null,
+							null);
+
+					measure(sequential, warmupTicks);
+					measure(parallel, warmupTicks);
+					final double sequentialMs = measure(sequential, ticks);
+					final double parallelMs = measure(parallel, ticks);
+
+					log.info("{} | {} | {} | {}x", size, fmt(sequentialMs), fmt(parallelMs),
+							fmt(sequentialMs / parallelMs));
+					if (crossover < 0 && size > MovementSystem.CHUNK_SIZE
+							&& sequentialMs / parallelMs >= MIN_SPEEDUP) {
+						crossover = size;
+					}
+				} finally {
+					dominion.close();
+				}
+			}
+		} finally {
+			pool.shutdown();
+		}
+
+		if (crossover < 0) {
+			log.info("Parallel movement never won; keep it disabled on this machine.");
+		} else {
+			log.info("Parallel movement wins from about {} moving entities per world.", crossover);
+		}
+	}
+
+	private static double measure(MovementSystem system, int ticks) {
+		final long start = System.nanoTime();
+		for (int i = 0; i < ticks; i++) {
+			system.run();
+		}
+		return (System.nanoTime() - start) / 1_000_000.0 / ticks;
+	}
+
+	/**
+	 * Targets are at least 10,000 units away at 1 unit/s, so nobody arrives
+	 * during the run.
+	 */
+	private void spawn(Dominion dominion, int size) {
+		for (int i = 0; i < size; i++) {
+			dominion.createEntity(
+					new Position(coordinate(), coordinate(), 0L),
+					new Movement(100_000_000L + coordinate(), 100_000_000L + coordinate(), 0L, 10_000L));
+		}
+	}
+
+	// +-1000.0 units, Scale4f
+	private long coordinate() {
+		return random.nextLong(-10_000_000L, 10_000_001L);
+	}
+
+	private static String fmt(double value) {
+		return String.format("%.3f", value);
+	}
+
+	public static void main(String[] args) {
+		new MovementParallelBenchmark(BenchmarkOptions.parse(args)).run();
+	}
+}
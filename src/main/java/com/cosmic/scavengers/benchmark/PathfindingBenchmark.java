@@ -0,0 +1,147 @@
+package com.cosmic.scavengers.benchmark;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.ecs.domain.intents.MoveIntent;
+import com.cosmic.scavengers.gameplay.services.data.MoveRequestData;
+import com.cosmic.scavengers.navigation.NavGrid;
+import com.cosmic.scavengers.system.IntentProcessorSystem;
+import com.cosmic.scavengers.system.PathfindingSystem;
+
+import dev.dominion.ecs.api.Dominion;
+import dev.dominion.ecs.api.Entity;
+
+/**
+ * Measures {@link PathfindingSystem} under bursts of blocked move orders:
+ * path throughput, and what the time-sliced search costs the worst tick.
+ *
+ * <p>
+ * A navigation grid is scattered with circular obstacles. Every
+ * {@code interval} ticks a burst of units gets orders to one of a few shared
+ * destinations, so many orders share a goal and, from nearby starts, a cached
+ * path. Orders whose straight line is clear are skipped by the system and not
+ * counted. Only the pathfinder is timed; an {@link IntentProcessorSystem}
+ * consumes the intents after it. The run ends when every burst has been answered.
+ *
+ * <p>
+ * Arguments are {@code key=value} pairs: {@code grid} cells per side (512),
+ * {@code cell} size in units (5), {@code obstacles} (600), {@code units} per
+ * burst (500), {@code bursts} (10), {@code interval} ticks between bursts
+ * (20), {@code goals} (8), {@code budget} expansions per tick (4000),
+ * {@code seed} (42).
+ */
+public class PathfindingBenchmark {
+	private static final Logger log = LoggerFactory.getLogger(PathfindingBenchmark.class);
+	private static final long SCALE = 10_000L;
+
+	private final int gridSize;
+	private final long cellSize;
+	private final int obstacles;
+	private final int unitsPerBurst;
+	private final int bursts;
+	private final int interval;
+	private final int goals;
+	private final int budget;
+	private final SplittableRandom random;
+
+	public PathfindingBenchmark(Map<String, String> options) {
+		this.gridSize = Integer.parseInt(options.getOrDefault("grid", "512"));
+		this.cellSize = Long.parseLong(options.getOrDefault("cell", "5")) * SCALE;
+		this.obstacles = Integer.parseInt(options.getOrDefault("obstacles", "600"));
+		this.unitsPerBurst = Integer.parseInt(options.getOrDefault("units", "500"));
+		this.bursts = Integer.parseInt(options.getOrDefault("bursts", "10"));
+		this.interval = Integer.parseInt(options.getOrDefault("interval", "20"));
+		this.goals = Integer.parseInt(options.getOrDefault("goals", "8"));
+		this.budget = Integer.parseInt(options.getOrDefault("budget", "4000"));
+		this.random = new SplittableRandom(Long.parseLong(options.getOrDefault("seed", "42")));
+	}
+
+	public void run() {
+		final NavGrid grid = new NavGrid(gridSize, cellSize, 0L);
+		final long half = gridSize * cellSize / 2;
+		for (int i = 0; i < obstacles; i++) {
+			grid.addObstacle(coordinate(half), coordinate(half), random.nextLong(2 * cellSize, 12 * cellSize), 1);
+		}
+		final long[] goalX = new long[goals];
+		final long[] goalY = new long[goals];
+		for (int i = 0; i < goals; i++) {
+			do {
+				goalX[i] = coordinate(half);
+				goalY[i] = coordinate(half);
+			} while (grid.isBlocked(grid.cellAt(goalX[i], goalY[i])));
+		}
+
+		final Dominion dominion = Dominion.create("pathfinding");
+		try {
+			final PathfindingSystem pathfinding = new PathfindingSystem(dominion, grid, budget, gridSize * gridSize,
+					1024, null);
+			// Consumes the intents like in a world; not timed
+			final IntentProcessorSystem intents = new IntentProcessorSystem(dominion);
+
+			long worstTickNanos = 0;
+			long totalNanos = 0;
+			int tick = 0;
+			int issued = 0;
+			while (tick < bursts * interval || pathfinding.getQueueSize() > 0) {
+				if (tick % interval == 0 && tick < bursts * interval) {
+					issued += burst(dominion, goalX, goalY, half);
+				}
+				final long start = System.nanoTime();
+				pathfinding.run();
+				final long elapsed = System.nanoTime() - start;
+				totalNanos += elapsed;
+				worstTickNanos = Math.max(worstTickNanos, elapsed);
+				intents.run();
+				tick++;
+			}
+
+			final long paths = pathfinding.getPathsCompleted();
+			final long hits = pathfinding.getCache().getHits();
+			final long lookups = hits + pathfinding.getCache().getMisses();
+			log.info("{}x{} grid, {} orders issued, {} routed in {} ticks, budget {} expansions/tick", gridSize,
+					gridSize, issued, paths, tick, budget);
+			log.info("Throughput | {} paths/s of pathfinding time", fmt(paths / (totalNanos / 1_000_000_000.0)));
+			log.info("Tick impact | {} ms avg | {} ms worst", fmt(totalNanos / 1_000_000.0 / tick),
+					fmt(worstTickNanos / 1_000_000.0));
+			log.info("Cache | {}% hits of {} lookups", fmt(lookups == 0 ? 0 : 100.0 * hits / lookups), lookups);
+		} finally {
+			dominion.close();
+		}
+	}
+
+	private int burst(Dominion dominion, long[] goalX, long[] goalY, long half) {
+		// Units of a burst start from a handful of rally points, as groups do
+		final long rallyX = coordinate(half);
+		final long rallyY = coordinate(half);
+		for (int i = 0; i < unitsPerBurst; i++) {
+			final int goal = random.nextInt(goals);
+			final long x = clamp(rallyX + random.nextLong(-10 * cellSize, 10 * cellSize), half);
+			final long y = clamp(rallyY + random.nextLong(-10 * cellSize, 10 * cellSize), half);
+			final Entity unit = dominion.createEntity(new Position(x, y, 0L));
+			unit.add(new MoveIntent(i, null, new MoveRequestData(i, null, goalX[goal], goalY[goal], 0L, SCALE, 0L,
+					0L)));
+		}
+		return unitsPerBurst;
+	}
+
+	private long coordinate(long half) {
+		return random.nextLong(-half, half);
+	}
+
+	private static long clamp(long value, long half) {
+		return Math.max(-half, Math.min(half - 1, value));
+	}
+
+	private static String fmt(double value) {
+		return String.format("%.2f", value);
+	}
+
+	public static void main(String[] args) {
+		new PathfindingBenchmark(BenchmarkOptions.parse(args)).run();
+	}
+}
@@ -0,0 +1,130 @@
+package com.cosmic.scavengers.benchmark;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.cosmic.scavengers.ecs.domain.components.Health;
+import com.cosmic.scavengers.ecs.domain.components.Owner;
+import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.engine.TickClock;
+import com.cosmic.scavengers.projectile.ProjectileStore;
+import com.cosmic.scavengers.registries.EntityRegistry;
+import com.cosmic.scavengers.spatial.SpatialHashGrid;
+import com.cosmic.scavengers.system.CombatSystem;
+import com.cosmic.scavengers.system.ProjectileSystem;
+
+import dev.dominion.ecs.api.Dominion;
+
+/**
+ * Measures what {@link ProjectileSystem} costs per tick under a steady stream
+ * of short-lived projectiles, and checks that the pooled store stops growing.
+ *
+ * <p>
+ * {@code targets} entities of two players are spread uniformly over a square
+ * of {@code extent} units around the origin, with health enough to survive
+ * the run. Every tick, untimed, {@code spawn} projectiles appear at random
+ * points with random velocities of up to {@code speed} units per axis and a
+ * lifetime of {@code lifetime} ticks; then the projectile system runs, timed,
+ * followed by the untimed damage pass of the {@link CombatSystem}.
+ *
+ * <p>
+ * Arguments are {@code key=value} pairs: {@code targets} (10000),
+ * {@code extent} half-width in units (300), {@code spawn} per tick (2000),
+ * {@code speed} in units per tick (5), {@code lifetime} in ticks (20),
+ * {@code radius} of a hit in units (1), {@code cell} size in units (10),
+ * {@code ticks} (300), {@code seed} (42).
+ */
+public class ProjectileBenchmark {
+	private static final Logger log = LoggerFactory.getLogger(ProjectileBenchmark.class);
+	private static final long SCALE = 10_000L;
+
+	private final int targets;
+	private final long extent;
+	private final int spawn;
+	private final long speed;
+	private final int lifetime;
+	private final long hitRadius;
+	private final long cellSize;
+	private final int ticks;
+	private final SplittableRandom random;
+
+	public ProjectileBenchmark(Map<String, String> options) {
+		this.targets = Integer.parseInt(options.getOrDefault("targets", "10000"));
+		this.extent = Long.parseLong(options.getOrDefault("extent", "300")) * SCALE;
+		this.spawn = Integer.parseInt(options.getOrDefault("spawn", "2000"));
+		this.speed = Long.parseLong(options.getOrDefault("speed", "5")) * SCALE;
+		this.lifetime = Integer.parseInt(options.getOrDefault("lifetime", "20"));
+		this.hitRadius = Long.parseLong(options.getOrDefault("radius", "1")) * SCALE;
+		this.cellSize = Long.parseLong(options.getOrDefault("cell", "10")) * SCALE;
+		this.ticks = Integer.parseInt(options.getOrDefault("ticks", "300"));
+		this.random = new SplittableRandom(Long.parseLong(options.getOrDefault("seed", "42")));
+	}
+
+	public void run() {
+		final Dominion dominion = Dominion.create("projectiles");
+		try {
+			final EntityRegistry registry = new EntityRegistry();
+			final SpatialHashGrid grid = new SpatialHashGrid(cellSize);
+			registry.addSlotListener(grid);
+			final ProjectileStore store = new ProjectileStore();
+			final TickClock tickClock = new TickClock(10);
+			final CombatSystem combat = new CombatSystem(dominion, registry, grid, tickClock, 1, null, store);
+			registry.addSlotListener(combat);
+			final ProjectileSystem projectiles = new ProjectileSystem(store, grid, combat, hitRadius);
+
+			for (int i = 0; i < targets; i++) {
+				registry.register(i, dominion.createEntity(new Position(randomCoordinate(), randomCoordinate(), 0L),
+						new Owner(i % 2), new Health(Integer.MAX_VALUE, Integer.MAX_VALUE)));
+			}
+
+			long projectileNanos = 0;
+			long worstNanos = 0;
+			long flown = 0;
+			long hits = 0;
+			for (int tick = 1; tick <= ticks; tick++) {
+				for (int i = 0; i < spawn; i++) {
+					store.spawn(randomCoordinate(), randomCoordinate(), random.nextLong(-speed, speed + 1),
+							random.nextLong(-speed, speed + 1), random.nextInt(2), 1, lifetime);
+				}
+				flown += store.size();
+
+				final long start = System.nanoTime();
+				projectiles.run();
+				final long elapsed = System.nanoTime() - start;
+				projectileNanos += elapsed;
+				worstNanos = Math.max(worstNanos, elapsed);
+				hits += projectiles.getLastTickHits();
+
+				combat.run();
+				tickClock.advance();
+				if (tick % 50 == 0 || tick == ticks) {
+					log.info("Tick {} | {} projectiles in flight | capacity {}", tick, store.size(),
+							store.capacity());
+				}
+			}
+
+			log.info("{} targets, {} projectiles spawned per tick, {} ticks", targets, spawn, ticks);
+			log.info("Projectiles | {} ms/tick | worst {} ms | {} ns/projectile",
+					fmt(projectileNanos / 1_000_000.0 / ticks), fmt(worstNanos / 1_000_000.0),
+					fmt((double) projectileNanos / flown));
+			log.info("Per tick | {} in flight | {} hits", flown / ticks, hits / ticks);
+		} finally {
+			dominion.close();
+		}
+	}
+
+	private long randomCoordinate() {
+		return random.nextLong(-extent, extent + 1);
+	}
+
+	private static String fmt(double value) {
+		return String.format("%.3f", value);
+	}
+
+	public static void main(String[] args) {
+		new ProjectileBenchmark(BenchmarkOptions.parse(args)).run();
+	}
+}
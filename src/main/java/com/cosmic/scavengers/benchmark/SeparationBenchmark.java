@@ -0,0 +1,137 @@
+package com.cosmic.scavengers.benchmark;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.cosmic.scavengers.ecs.domain.components.Movement;
+import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.engine.TickClock;
+import com.cosmic.scavengers.registries.EntityRegistry;
+import com.cosmic.scavengers.spatial.SpatialHashGrid;
+import com.cosmic.scavengers.system.MovementSystem;
+import com.cosmic.scavengers.system.SeparationSystem;
+
+import dev.dominion.ecs.api.Dominion;
+
+/**
+ * Sends every unit to the same point and measures what {@link SeparationSystem}
+ * costs while they pile up there, and how well they end up spread.
+ *
+ * <p>
+ * Units start uniformly within {@code spawn} units of the origin and all move
+ * to the origin, so without separation they would end on one coordinate. Each
+ * tick runs the batched {@link MovementSystem} and then the separation system,
+ * timed separately. Every 50 ticks, and at the end, the number of unit pairs
+ * closer than half the separation radius is logged.
+ *
+ * <p>
+ * Arguments are {@code key=value} pairs: {@code units} (10000), {@code spawn}
+ * radius in units (200), {@code speed} in units/s (20), {@code radius} of
+ * separation in units (1), {@code cell} size in units (2), {@code budget} units
+ * per tick (20000), {@code neighbours} (16), {@code ticks} (300), {@code seed}
+ * (42).
+ */
+public class SeparationBenchmark {
+	private static final Logger log = LoggerFactory.getLogger(SeparationBenchmark.class);
+	private static final long SCALE = 10_000L;
+
+	private final int units;
+	private final long spawnRadius;
+	private final long speed;
+	private final long radius;
+	private final long cellSize;
+	private final int budget;
+	private final int neighbours;
+	private final int ticks;
+	private final SplittableRandom random;
+
+	public SeparationBenchmark(Map<String, String> options) {
+		this.units = Integer.parseInt(options.getOrDefault("units", "10000"));
+		this.spawnRadius = Long.parseLong(options.getOrDefault("spawn", "200")) * SCALE;
+		this.speed = Long.parseLong(options.getOrDefault("speed", "20")) * SCALE;
+		this.radius = Long.parseLong(options.getOrDefault("radius", "1")) * SCALE;
+		this.cellSize = Long.parseLong(options.getOrDefault("cell", "2")) * SCALE;
+		this.budget = Integer.parseInt(options.getOrDefault("budget", "20000"));
+		this.neighbours = Integer.parseInt(options.getOrDefault("neighbours", "16"));
+		this.ticks = Integer.parseInt(options.getOrDefault("ticks", "300"));
+		this.random = new SplittableRandom(Long.parseLong(options.getOrDefault("seed", "42")));
+	}
+
+	public void run() {
+		final Dominion dominion = Dominion.create("separation");
+		try {
+			final EntityRegistry registry = new EntityRegistry();
+			final SpatialHashGrid grid = new SpatialHashGrid(cellSize);
+			registry.addSlotListener(grid);
+			spawn(dominion, registry);
+
+			final MovementSystem movement = new MovementSystem(dominion, new TickClock(10), true, null, 0, null,
+					null, grid);
+			final SeparationSystem separation = new SeparationSystem(registry, grid, radius, budget, neighbours,
+					null);
+
+			long movementNanos = 0;
+			long separationNanos = 0;
+			long worstSeparationNanos = 0;
+			for (int tick = 1; tick <= ticks; tick++) {
+				long start = System.nanoTime();
+				movement.run();
+				movementNanos += System.nanoTime() - start;
+
+				start = System.nanoTime();
+				separation.run();
+				final long elapsed = System.nanoTime() - start;
+				separationNanos += elapsed;
+				worstSeparationNanos = Math.max(worstSeparationNanos, elapsed);
+
+				if (tick % 50 == 0 || tick == ticks) {
+					log.info("Tick {} | {} overlapping pairs", tick, countOverlaps(registry, grid));
+				}
+			}
+
+			log.info("{} units, {} ticks, budget {} units/tick", units, ticks, budget);
+			log.info("Movement | {} ms/tick", fmt(movementNanos / 1_000_000.0 / ticks));
+			log.info("Separation | {} ms/tick | worst {} ms", fmt(separationNanos / 1_000_000.0 / ticks),
+					fmt(worstSeparationNanos / 1_000_000.0));
+		} finally {
+			dominion.close();
+		}
+	}
+
+	private void spawn(Dominion dominion, EntityRegistry registry) {
+		for (int i = 0; i < units; i++) {
+			long x;
+			long y;
+			do {
+				x = random.nextLong(-spawnRadius, spawnRadius + 1);
+				y = random.nextLong(-spawnRadius, spawnRadius + 1);
+			} while (x * x + y * y > spawnRadius * spawnRadius);
+			registry.register(i, dominion.createEntity(new Position(x, y, 0L), new Movement(0L, 0L, 0L, speed)));
+		}
+	}
+
+	/**
+	 * Pairs of units closer than half the separation radius.
+	 */
+	private long countOverlaps(EntityRegistry registry, SpatialHashGrid grid) {
+		final int[] out = new int[units];
+		long pairs = 0;
+		for (int slot = 0; slot < registry.getSlotCount(); slot++) {
+			if (grid.contains(slot)) {
+				pairs += Math.min(grid.queryRange(grid.getX(slot), grid.getY(slot), radius / 2, out), out.length) - 1;
+			}
+		}
+		return pairs / 2;
+	}
+
+	private static String fmt(double value) {
+		return String.format("%.3f", value);
+	}
+
+	public static void main(String[] args) {
+		new SeparationBenchmark(BenchmarkOptions.parse(args)).run();
+	}
+}
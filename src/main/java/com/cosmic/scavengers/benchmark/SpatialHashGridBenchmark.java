@@ -0,0 +1,138 @@
+package com.cosmic.scavengers.benchmark;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.cosmic.scavengers.spatial.SpatialHashGrid;
+
+/**
+ * Measures {@link SpatialHashGrid} on a crowded world: the cost of the
+ * per-tick position updates, and of range and nearest-neighbour queries.
+ *
+ * <p>
+ * Entities are spread uniformly over a square map and every one of them moves
+ * a small step each tick, so a few percent cross a cell boundary, as in a
+ * large battle. Queries are centred on random entities.
+ *
+ * <p>
+ * Arguments are {@code key=value} pairs: {@code entities} (100000),
+ * {@code map} edge in units (5000), {@code cell} size in units (10),
+ * {@code radius} of the queries in units (15), {@code step} per tick in units
+ * (1), {@code ticks} (200), {@code queries} per tick (10000), {@code seed}
+ * (42).
+ */
+public class SpatialHashGridBenchmark {
+	private static final Logger log = LoggerFactory.getLogger(SpatialHashGridBenchmark.class);
+	private static final long SCALE = 10_000L;
+
+	private final int entities;
+	private final long mapSize;
+	private final long radius;
+	private final long step;
+	private final int ticks;
+	private final int queries;
+	private final SplittableRandom random;
+
+	private final SpatialHashGrid grid;
+	private final long[] xs;
+	private final long[] ys;
+
+	public SpatialHashGridBenchmark(Map<String, String> options) {
+		this.entities = Integer.parseInt(options.getOrDefault("entities", "100000"));
+		this.mapSize = Long.parseLong(options.getOrDefault("map", "5000")) * SCALE;
+		this.radius = Long.parseLong(options.getOrDefault("radius", "15")) * SCALE;
+		this.step = Long.parseLong(options.getOrDefault("step", "1")) * SCALE;
+		this.ticks = Integer.parseInt(options.getOrDefault("ticks", "200"));
+		this.queries = Integer.parseInt(options.getOrDefault("queries", "10000"));
+		this.random = new SplittableRandom(Long.parseLong(options.getOrDefault("seed", "42")));
+
+		this.grid = new SpatialHashGrid(Long.parseLong(options.getOrDefault("cell", "10")) * SCALE);
+		this.xs = new long[entities];
+		this.ys = new long[entities];
+	}
+
+	public void run() {
+		final long insertStart = System.nanoTime();
+		for (int slot = 0; slot < entities; slot++) {
+			xs[slot] = random.nextLong(mapSize);
+			ys[slot] = random.nextLong(mapSize);
+			grid.insert(slot, xs[slot], ys[slot]);
+		}
+		final long insertNanos = System.nanoTime() - insertStart;
+
+		// Warm up with the same mix that is measured
+		for (int tick = 0; tick < ticks / 4; tick++) {
+			moveAll();
+			rangeQueries();
+			nearestQueries();
+		}
+
+		long updateNanos = 0;
+		long rangeNanos = 0;
+		long nearestNanos = 0;
+		long crossings = 0;
+		long found = 0;
+		for (int tick = 0; tick < ticks; tick++) {
+			long start = System.nanoTime();
+			crossings += moveAll();
+			updateNanos += System.nanoTime() - start;
+
+			start = System.nanoTime();
+			found += rangeQueries();
+			rangeNanos += System.nanoTime() - start;
+
+			start = System.nanoTime();
+			found += nearestQueries();
+			nearestNanos += System.nanoTime() - start;
+		}
+
+		log.info("{} entities, {} ticks, {} queries/tick (checksum {})", entities, ticks, queries, found);
+		log.info("Insert all | {} ms", fmt(insertNanos / 1_000_000.0));
+		log.info("Update all | {} ms/tick | {} ns/entity | {}% crossed a cell", fmt(updateNanos / 1_000_000.0 / ticks),
+				fmt((double) updateNanos / ticks / entities), fmt(100.0 * crossings / ticks / entities));
+		log.info("Range query | {} ns/query", fmt((double) rangeNanos / ticks / queries));
+		log.info("Nearest query | {} ns/query", fmt((double) nearestNanos / ticks / queries));
+	}
+
+	private int moveAll() {
+		int crossings = 0;
+		for (int slot = 0; slot < entities; slot++) {
+			xs[slot] = Math.floorMod(xs[slot] + random.nextLong(-step, step + 1), mapSize);
+			ys[slot] = Math.floorMod(ys[slot] + random.nextLong(-step, step + 1), mapSize);
+			if (grid.update(slot, xs[slot], ys[slot])) {
+				crossings++;
+			}
+		}
+		return crossings;
+	}
+
+	private long rangeQueries() {
+		final int[] out = new int[1024];
+		long found = 0;
+		for (int n = 0; n < queries; n++) {
+			final int slot = random.nextInt(entities);
+			found += grid.queryRange(xs[slot], ys[slot], radius, out);
+		}
+		return found;
+	}
+
+	private long nearestQueries() {
+		long found = 0;
+		for (int n = 0; n < queries; n++) {
+			final int self = random.nextInt(entities);
+			found += grid.nearest(xs[self], ys[self], radius, slot -> slot != self);
+		}
+		return found;
+	}
+
+	private static String fmt(double value) {
+		return String.format("%.2f", value);
+	}
+
+	public static void main(String[] args) {
+		new SpatialHashGridBenchmark(BenchmarkOptions.parse(args)).run();
+	}
+}
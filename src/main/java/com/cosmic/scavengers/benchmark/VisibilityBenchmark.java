@@ -0,0 +1,135 @@
+package com.cosmic.scavengers.benchmark;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.cosmic.scavengers.ecs.domain.components.Owner;
+import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.ecs.tracking.ChangedEntityTracker;
+import com.cosmic.scavengers.engine.TickClock;
+import com.cosmic.scavengers.registries.EntityRegistry;
+import com.cosmic.scavengers.system.VisibilityMarkSystem;
+import com.cosmic.scavengers.system.VisibilitySystem;
+
+import dev.dominion.ecs.api.Dominion;
+import dev.dominion.ecs.api.Entity;
+
+/**
+ * Measures what {@link VisibilitySystem} costs per tick when every unit moves,
+ * and what an {@code isVisibleTo} check costs.
+ *
+ * <p>
+ * Units are spread uniformly over a square of {@code extent} units around the
+ * origin and handed round-robin to the players. Every tick each unit steps up
+ * to {@code step} units along both axes and is marked changed, untimed, then
+ * the marks are collected and the visibility system runs, timed. In a world
+ * it only runs every few ticks; here every tick is one run. Afterwards every unit is checked against
+ * a random player, timed as well.
+ *
+ * <p>
+ * Arguments are {@code key=value} pairs: {@code units} (20000),
+ * {@code players} (32), {@code extent} half-width in units (1200),
+ * {@code step} in units (2), {@code size} of the grid in cells (256),
+ * {@code cell} size in units (10), {@code radius} of vision in units (50),
+ * {@code ticks} (200), {@code seed} (42).
+ */
+public class VisibilityBenchmark {
+	private static final Logger log = LoggerFactory.getLogger(VisibilityBenchmark.class);
+	private static final long SCALE = 10_000L;
+
+	private final int units;
+	private final int players;
+	private final long extent;
+	private final long step;
+	private final int size;
+	private final long cellSize;
+	private final long radius;
+	private final int ticks;
+	private final SplittableRandom random;
+
+	public VisibilityBenchmark(Map<String, String> options) {
+		this.units = Integer.parseInt(options.getOrDefault("units", "20000"));
+		this.players = Integer.parseInt(options.getOrDefault("players", "32"));
+		this.extent = Long.parseLong(options.getOrDefault("extent", "1200")) * SCALE;
+		this.step = Long.parseLong(options.getOrDefault("step", "2")) * SCALE;
+		this.size = Integer.parseInt(options.getOrDefault("size", "256"));
+		this.cellSize = Long.parseLong(options.getOrDefault("cell", "10")) * SCALE;
+		this.radius = Long.parseLong(options.getOrDefault("radius", "50")) * SCALE;
+		this.ticks = Integer.parseInt(options.getOrDefault("ticks", "200"));
+		this.random = new SplittableRandom(Long.parseLong(options.getOrDefault("seed", "42")));
+	}
+
+	public void run() {
+		final Dominion dominion = Dominion.create("visibility");
+		try {
+			final EntityRegistry registry = new EntityRegistry();
+			final ChangedEntityTracker changes = new ChangedEntityTracker();
+			final VisibilitySystem visibility = new VisibilitySystem(registry, new TickClock(10), size, cellSize,
+					radius, players, changes);
+			final VisibilityMarkSystem marks = new VisibilityMarkSystem(visibility);
+			registry.addSlotListener(visibility);
+
+			final Entity[] entities = new Entity[units];
+			for (int i = 0; i < units; i++) {
+				final Position position = new Position(random.nextLong(-extent, extent + 1),
+						random.nextLong(-extent, extent + 1), 0L);
+				entities[i] = dominion.createEntity(position, new Owner(i % players));
+				registry.register(i, entities[i]);
+			}
+			long start = System.nanoTime();
+			visibility.run();
+			log.info("Initial reveal of {} units | {} ms", units, fmt((System.nanoTime() - start) / 1_000_000.0));
+
+			long tickNanos = 0;
+			long worstTickNanos = 0;
+			long restamped = 0;
+			long queryNanos = 0;
+			long visible = 0;
+			for (int tick = 1; tick <= ticks; tick++) {
+				changes.clear();
+				for (Entity entity : entities) {
+					final Position position = entity.get(Position.class);
+					position.set(position.x() + random.nextLong(-step, step + 1),
+							position.y() + random.nextLong(-step, step + 1), 0L);
+					changes.mark(entity);
+				}
+
+				start = System.nanoTime();
+				marks.run();
+				visibility.run();
+				final long elapsed = System.nanoTime() - start;
+				tickNanos += elapsed;
+				worstTickNanos = Math.max(worstTickNanos, elapsed);
+				restamped += visibility.getLastTickRestamped();
+
+				final long player = random.nextInt(players);
+				start = System.nanoTime();
+				for (Entity entity : entities) {
+					if (visibility.isVisibleTo(player, entity)) {
+						visible++;
+					}
+				}
+				queryNanos += System.nanoTime() - start;
+			}
+
+			log.info("{} units, {} players, {} ticks", units, players, ticks);
+			log.info("Visibility | {} ms/tick | worst {} ms | {} re-stamped units/tick",
+					fmt(tickNanos / 1_000_000.0 / ticks), fmt(worstTickNanos / 1_000_000.0), restamped / ticks);
+			log.info("isVisibleTo | {} ns/check | {}% visible", fmt((double) queryNanos / ticks / units),
+					fmt(100.0 * visible / ticks / units));
+		} finally {
+			dominion.close();
+		}
+	}
+
+	private static String fmt(double value) {
+		return String.format("%.3f", value);
+	}
+
+	public static void main(String[] args) {
+		new VisibilityBenchmark(BenchmarkOptions.parse(args)).run();
+	}
+}
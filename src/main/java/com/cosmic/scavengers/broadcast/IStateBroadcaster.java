@@ -1,6 +1,6 @@
 package com.cosmic.scavengers.broadcast;
 
-import dev.dominion.ecs.api.Dominion;
+import com.cosmic.scavengers.engine.snapshot.WorldSnapshot;
 
 /**
  * Interface for the service responsible for collecting and broadcasting the ECS
@@ -8,10 +8,18 @@ import dev.dominion.ecs.api.Dominion;
  */
 public interface IStateBroadcaster {
 	/**
-	 * Collects necessary game state from the Dominion ECS and broadcasts the
-	 * compiled binary message to all connected clients.
+	 * Collects necessary game state from a world snapshot and broadcasts the
+	 * compiled binary message to all connected clients. Never touches live ECS
+	 * state, so it may run on any thread.
 	 * 
-	 * @param dominion the current ECS context containing authoritative state
+	 * @param worldId  the world the snapshot belongs to; snapshot sequences are
+	 *                 per world
+	 * @param snapshot the end-of-tick state of the world to broadcast
 	 */
-	void broadcastCurrentState(Dominion dominion);
+	void broadcastCurrentState(long worldId, WorldSnapshot snapshot);
+
+	/**
+	 * Drops what is remembered about a world that was removed.
+	 */
+	void forgetWorld(long worldId);
 }
\ No newline at end of file
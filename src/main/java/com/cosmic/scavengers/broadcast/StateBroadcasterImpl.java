@@ -1,31 +1,41 @@
 package com.cosmic.scavengers.broadcast;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import com.cosmic.scavengers.ecs.domain.components.Movement;
-import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.engine.snapshot.WorldSnapshot;
 import com.cosmic.scavengers.networking.dto.PositionUpdateDto;
 
-import dev.dominion.ecs.api.Dominion;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.util.CharsetUtil;
 
 /**
  * Implementation of IStateBroadcaster. Responsible for collecting position data
- * from the ECS, serializing it into a binary ByteBuf, and sending it to
+ * from world snapshots, serializing it into a binary ByteBuf, and sending it to
  * clients.
+ *
+ * <p>
+ * Normally only the entities a snapshot marks as changed are sent. Those marks
+ * are relative to the previous snapshot of the same world, so when the given
+ * snapshot does not directly follow the last one sent for its world (the first
+ * send, or snapshots skipped in between) every entity is sent instead;
+ * otherwise clients would miss the changes of the skipped snapshots.
  */
 @Service
 public class StateBroadcasterImpl implements IStateBroadcaster {	
 	private static final Logger log = LoggerFactory.getLogger(StateBroadcasterImpl.class);
 	// This broadcaster is assumed to manage the list of GameChannelHandlers
 	private IMessageBroadcaster messageBroadcaster;
+	// WorldId -> sequence of the last snapshot sent for that world
+	private final Map<Long, Long> lastSentSequences = new ConcurrentHashMap<>();
 
 	/**
 	 * Setter method used by Spring to inject the dependency after the bean is
@@ -37,12 +47,32 @@ public class StateBroadcasterImpl implements IStateBroadcaster {
 	}
 	
 	@Override
-	public void broadcastCurrentState(Dominion dominion) {
-		List<PositionUpdateDto> updates = dominion.findEntitiesWith(Position.class, Movement.class).stream()
-				.map(result -> new PositionUpdateDto(						
-						result.entity().getName(), result.comp1().x().unscaledValue(),
-						result.comp1().y().unscaledValue()))
-				.toList();
+	public void broadcastCurrentState(long worldId, WorldSnapshot snapshot) {
+		final long sequence = snapshot.getSequence();
+		// A world's snapshots are published by one engine thread at a time
+		final Long lastSent = lastSentSequences.put(worldId, sequence);
+		if (lastSent != null && lastSent == sequence) {
+			return;
+		}
+		final boolean consecutive = lastSent != null && lastSent > 0 && sequence == lastSent + 1;
+
+		final List<PositionUpdateDto> updates;
+		if (consecutive) {
+			// Only entities marked as changed since the previous snapshot, which also
+			// covers the final snapped position of entities that just arrived
+			updates = new ArrayList<>(snapshot.getChangedCount());
+			for (int n = 0; n < snapshot.getChangedCount(); n++) {
+				final int i = snapshot.getChangedIndex(n);
+				updates.add(new PositionUpdateDto(snapshot.getName(i), snapshot.getX(i), snapshot.getY(i)));
+			}
+		} else {
+			log.debug("Snapshot {} of world {} does not follow the last one sent, sending all {} entities.",
+					sequence, worldId, snapshot.size());
+			updates = new ArrayList<>(snapshot.size());
+			for (int i = 0; i < snapshot.size(); i++) {
+				updates.add(new PositionUpdateDto(snapshot.getName(i), snapshot.getX(i), snapshot.getY(i)));
+			}
+		}
 
 		if (updates.isEmpty()) {
 			//log.info("No entities to broadcast.");
@@ -53,6 +83,11 @@ public class StateBroadcasterImpl implements IStateBroadcaster {
 		messageBroadcaster.broadcastBinary(binaryPayload);
 	}
 
+	@Override
+	public void forgetWorld(long worldId) {
+		lastSentSequences.remove(worldId);
+	}
+
 	/**
 	 * Serializes a list of position updates into a single Netty ByteBuf. The
 	 * structure is [int count] followed by N * [long id, long x, long y].
@@ -0,0 +1,30 @@
+package com.cosmic.scavengers.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Execution of one queued ECS command on the engine thread.
+ */
+@Name("com.cosmic.scavengers.EcsCommand")
+@Label("ECS Command")
+@Category({ "Cosmic Scavengers", "Engine" })
+@Description("Execution of a command drained from a world's command queue")
+@StackTrace(false)
+public class EcsCommandEvent extends Event {
+	@Label("World")
+	public String world;
+
+	@Label("Tick")
+	public long tick;
+
+	@Label("Command")
+	public String command;
+
+	@Label("Succeeded")
+	public boolean succeeded;
+}
@@ -0,0 +1,40 @@
+package com.cosmic.scavengers.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One game tick of one world. The event duration is the time spent in the
+ * world's systems.
+ */
+@Name("com.cosmic.scavengers.GameTick")
+@Label("Game Tick")
+@Category({ "Cosmic Scavengers", "Engine" })
+@Description("Execution of one fixed-timestep tick of a world")
+@StackTrace(false)
+public class GameTickEvent extends Event {
+	@Label("World")
+	public String world;
+
+	@Label("Tick")
+	public long tick;
+
+	@Label("Entities")
+	@Description("Live entities in the world at the end of the tick")
+	public int entityCount;
+
+	@Label("Commands")
+	@Description("Commands executed during the tick")
+	public int commandCount;
+
+	@Label("Over Budget")
+	public boolean overBudget;
+
+	@Label("Deferred Systems")
+	@Description("Due systems pushed to a later tick because of load")
+	public int deferredSystems;
+}
@@ -0,0 +1,38 @@
+package com.cosmic.scavengers.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One client message, either routed to its handler or sent back to a client.
+ * For inbound messages the duration includes the handler; for outbound ones
+ * it covers framing and queueing the write, not the socket I/O.
+ */
+@Name("com.cosmic.scavengers.NetworkMessage")
+@Label("Network Message")
+@Category({ "Cosmic Scavengers", "Network" })
+@Description("A message routed by CommandRouter or sent by MessageDispatcher")
+@StackTrace(false)
+public class NetworkMessageEvent extends Event {
+	public static final String INBOUND = "Inbound";
+	public static final String OUTBOUND = "Outbound";
+
+	@Label("Direction")
+	public String direction;
+
+	@Label("Type")
+	@Description("Protocol type: TYPE_TEXT or TYPE_BINARY")
+	public String type;
+
+	@Label("Command")
+	public String command;
+
+	@Label("Size")
+	@DataAmount
+	public int bytes;
+}
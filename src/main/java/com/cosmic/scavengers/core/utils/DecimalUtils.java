@@ -111,4 +111,39 @@ public final class DecimalUtils {
 			return FACTORY.valueOf(0);
 		return FACTORY.valueOf(value.doubleValue());
 	}
-}
\ No newline at end of file
+
+	// ==============================================================
+	// SCALED LONG ARITHMETIC (Allocation-free, same rounding)
+	// ==============================================================
+
+	// These operate on raw scaled longs (Value * 10,000) as stored by the hot
+	// ECS components. They delegate to ARITHMETIC, so results and HALF_UP
+	// rounding are identical to the equivalent Decimal4j object operations.
+
+	public static long addScaled(long a, long b) {
+		return ARITHMETIC.add(a, b);
+	}
+
+	public static long subtractScaled(long a, long b) {
+		return ARITHMETIC.subtract(a, b);
+	}
+
+	public static long multiplyScaled(long a, long b) {
+		return ARITHMETIC.multiply(a, b);
+	}
+
+	public static long divideScaled(long dividend, long divisor) {
+		return ARITHMETIC.divide(dividend, divisor);
+	}
+
+	public static long sqrtScaled(long value) {
+		return ARITHMETIC.sqrt(value);
+	}
+
+	/**
+	 * Formats a scaled long as a decimal string (e.g. 12345 -> "1.2345").
+	 */
+	public static String formatScaled(long scaledValue) {
+		return ARITHMETIC.toString(scaledValue);
+	}
+}
@@ -0,0 +1,106 @@
+package com.cosmic.scavengers.core.utils;
+
+import static com.cosmic.scavengers.core.utils.DecimalUtils.ARITHMETIC;
+
+/**
+ * Fast Scale4f square root and division for the movement hot path.
+ *
+ * <p>
+ * Results are bit-identical to {@link DecimalUtils#ARITHMETIC} (HALF_UP). Both
+ * routines compute the exact truncated result with primitive long math, using
+ * a double only as a first estimate that is then corrected, and round the
+ * exact remainder themselves. Inputs outside the ranges where that is exact
+ * (roughly beyond 10^10 units) and every error case fall back to
+ * {@code ARITHMETIC}, so the fallback also decides overflow and exceptions.
+ *
+ * <p>
+ * A square root can never be exactly halfway between two integers, so its
+ * rounding only needs the remainder against the truncated root. Division
+ * rounds half away from zero, like C# MidpointRounding.AwayFromZero.
+ */
+public final class FixedPointMath {
+	// 10^4, the Scale4f scale factor
+	private static final long SCALE_FACTOR = 10_000L;
+
+	// value * 10^4 < 2^62, so the root is below 2^31 and its square fits a long
+	private static final long MAX_FAST_SQRT = (1L << 62) / SCALE_FACTOR;
+
+	// |dividend| * 10^4 <= 2^52 is exact as a double, so the estimate is off by
+	// at most a few units
+	private static final long MAX_FAST_DIVIDEND = (1L << 52) / SCALE_FACTOR;
+
+	private FixedPointMath() {
+		// Prevent instantiation
+		throw new AssertionError("FixedPointMath cannot be instantiated");
+	}
+
+	/**
+	 * Square root of a scaled value, identical to {@code ARITHMETIC.sqrt}.
+	 */
+	public static long sqrt(long value) {
+		if (value < 0 || value > MAX_FAST_SQRT) {
+			return ARITHMETIC.sqrt(value);
+		}
+		// sqrt(value / 10^4) * 10^4 == sqrt(value * 10^4)
+		final long radicand = value * SCALE_FACTOR;
+		long root = (long) Math.sqrt((double) radicand);
+		while (root * root > radicand) {
+			root--;
+		}
+		while ((root + 1) * (root + 1) <= radicand) {
+			root++;
+		}
+		// sqrt(radicand) >= root + 0.5 <=> radicand > root^2 + root
+		return radicand - root * root > root ? root + 1 : root;
+	}
+
+	/**
+	 * Scaled division, identical to {@code ARITHMETIC.divide}.
+	 */
+	public static long divide(long dividend, long divisor) {
+		if (divisor <= 0) {
+			return ARITHMETIC.divide(dividend, divisor);
+		}
+		return divide(dividend, divisor, 1.0 / divisor);
+	}
+
+	/**
+	 * Scaled division by a divisor whose reciprocal the caller computed once, so
+	 * normalizing the components of one vector costs a single floating-point
+	 * division. Identical to {@code ARITHMETIC.divide(dividend, divisor)}.
+	 *
+	 * @param reciprocal {@code 1.0 / divisor}
+	 */
+	public static long divide(long dividend, long divisor, double reciprocal) {
+		if (divisor <= 0 || dividend > MAX_FAST_DIVIDEND || dividend < -MAX_FAST_DIVIDEND) {
+			return ARITHMETIC.divide(dividend, divisor);
+		}
+		final long numerator = dividend * SCALE_FACTOR;
+
+		// Correct the estimate to the quotient truncated toward zero, so the
+		// remainder has the numerator's sign and is smaller than the divisor
+		long quotient = (long) (numerator * reciprocal);
+		long remainder = numerator - quotient * divisor;
+		if (numerator >= 0) {
+			while (remainder < 0) {
+				quotient--;
+				remainder += divisor;
+			}
+			while (remainder >= divisor) {
+				quotient++;
+				remainder -= divisor;
+			}
+			// Half away from zero: round up when remainder >= divisor / 2
+			return remainder >= divisor - remainder ? quotient + 1 : quotient;
+		}
+		while (remainder > 0) {
+			quotient++;
+			remainder -= divisor;
+		}
+		while (remainder <= -divisor) {
+			quotient--;
+			remainder += divisor;
+		}
+		return -remainder >= divisor + remainder ? quotient - 1 : quotient;
+	}
+}
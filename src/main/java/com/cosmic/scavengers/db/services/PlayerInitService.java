@@ -8,47 +8,68 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import com.cosmic.scavengers.db.jooq.repositories.PlayerEntitiyRepository;
+import com.cosmic.scavengers.db.jooq.repositories.PlayerRepository;
 import com.cosmic.scavengers.db.jooq.repositories.WorldRepository;
 import com.cosmic.scavengers.db.model.tables.pojos.PlayerEntities;
+import com.cosmic.scavengers.db.model.tables.pojos.Players;
 import com.cosmic.scavengers.db.model.tables.pojos.Worlds;
 import com.cosmic.scavengers.ecs.commands.InitSpawnEntitiesCommand;
-import com.cosmic.scavengers.ecs.queue.EcsCommandQueue;
+import com.cosmic.scavengers.engine.world.GameWorld;
+import com.cosmic.scavengers.engine.world.GameWorldManager;
 
 @Service
 public class PlayerInitService {
 	private static final Logger log = LoggerFactory.getLogger(PlayerInitService.class);
 
 	private final WorldRepository jooqWorldRepository;
+	private final PlayerRepository jooqPlayerRepository;
 	private final PlayerEntitiyRepository jooqPlayerEntityRepository;	
-	private final EcsCommandQueue dominionCommandQueue;
+	private final GameWorldManager gameWorldManager;
 
 	public PlayerInitService(WorldRepository jooqWorldRepository,
+			PlayerRepository jooqPlayerRepository,
 			PlayerEntitiyRepository jooqPlayerEntityRepository,			
-			EcsCommandQueue dominionCommandQueue) {
+			GameWorldManager gameWorldManager) {
 		this.jooqWorldRepository = jooqWorldRepository;
+		this.jooqPlayerRepository = jooqPlayerRepository;
 		this.jooqPlayerEntityRepository = jooqPlayerEntityRepository;		
-		this.dominionCommandQueue = dominionCommandQueue;
+		this.gameWorldManager = gameWorldManager;
 
 	}
 
 	public Worlds getCurrentWorldDataByPlayerId(long playerId) {
 		log.info("Fetching world data for player {}", playerId);
 
-		final Optional<Worlds> worldOptional = jooqWorldRepository.getById(playerId);
+		final long worldId = getCurrentWorldId(playerId);
+		final Optional<Worlds> worldOptional = jooqWorldRepository.getById(worldId);
 		return worldOptional
 				.orElseThrow(() -> new IllegalStateException("No world data found for player with ID: " + playerId));
 	}
 
 	/**
-	 * Fetches entities from DB and ensures they exist in the live ECS simulation.
+	 * Fetches entities from DB and ensures they exist in the live ECS simulation
+	 * of the player's current world. From here on the player's commands are
+	 * routed to that world.
 	 */
 	public List<PlayerEntities> fetchAndInitializeEntities(long playerId) {
 		log.info("Fetching entities for player {}", playerId);
 		final List<PlayerEntities> entities = jooqPlayerEntityRepository.getAllByPlayerId(playerId);
 
+		final GameWorld world = gameWorldManager.assignPlayer(playerId, getCurrentWorldId(playerId));
+
 		InitSpawnEntitiesCommand spawnCommand = new InitSpawnEntitiesCommand(playerId, entities);
-		dominionCommandQueue.submit(spawnCommand);
+		world.commandQueue().submit(spawnCommand);
 
 		return entities;
 	}
+
+	private long getCurrentWorldId(long playerId) {
+		final Players player = jooqPlayerRepository.findById(playerId)
+				.orElseThrow(() -> new IllegalStateException("No player found with ID: " + playerId));
+		final Long worldId = player.getCurrentWorldId();
+		if (worldId == null) {
+			throw new IllegalStateException("Player with ID " + playerId + " has no current world");
+		}
+		return worldId;
+	}
 }
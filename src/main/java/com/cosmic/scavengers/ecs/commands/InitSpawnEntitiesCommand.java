@@ -32,9 +32,9 @@ public record InitSpawnEntitiesCommand(long playerId, List<PlayerEntities> entit
 			}
 			
             final Position initialPos = new Position(
-            		DecimalUtils.fromScaled(data.getPosX()),
-            	    DecimalUtils.fromScaled(data.getPosY()), 
-            	    DecimalUtils.fromScaled(data.getPosZ())
+            		DecimalUtils.toScaled(data.getPosX()),
+            	    DecimalUtils.toScaled(data.getPosY()), 
+            	    DecimalUtils.toScaled(data.getPosZ())
             );
 			final Owner owner = new Owner(data.getPlayerId());
 			
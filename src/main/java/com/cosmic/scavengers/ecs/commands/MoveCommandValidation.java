@@ -0,0 +1,47 @@
+package com.cosmic.scavengers.ecs.commands;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.cosmic.scavengers.ecs.domain.components.Owner;
+import com.cosmic.scavengers.ecs.domain.tags.StaticTag;
+import com.cosmic.scavengers.ecs.events.IntentRejectReason;
+
+import dev.dominion.ecs.api.Entity;
+
+/**
+ * Checks shared by the commands that give an entity a movement order.
+ */
+final class MoveCommandValidation {
+	private static final Logger log = LoggerFactory.getLogger(MoveCommandValidation.class);
+
+	private MoveCommandValidation() {
+		throw new AssertionError("MoveCommandValidation cannot be instantiated");
+	}
+
+	/**
+	 * @param liveEntity The entity looked up in the registry, possibly null.
+	 * @return Why the order must be rejected, or null if the player may move the
+	 *         entity.
+	 */
+	static IntentRejectReason check(Entity liveEntity, long entityId, Long playerId) {
+		if (liveEntity == null) {
+			log.warn("Move rejected: Entity Id '{}' not found in registry.", entityId);
+			return IntentRejectReason.ENTITY_NOT_FOUND;
+		}
+
+		Owner owner = liveEntity.get(Owner.class);
+		if (owner == null || playerId == null || owner.playerId() != playerId) {
+			log.error("Cheat Attempt: (Wrong)Player Id '{}' tried to move entity '{}' owned by Player Id'{}'",
+					playerId, entityId,
+					owner != null ? owner.playerId() : "none");
+			return IntentRejectReason.NOT_OWNER;
+		}
+
+		if (liveEntity.has(StaticTag.class)) {
+			log.warn("Move rejected: Entity {} is static.", entityId);
+			return IntentRejectReason.STATIC_ENTITY;
+		}
+		return null;
+	}
+}
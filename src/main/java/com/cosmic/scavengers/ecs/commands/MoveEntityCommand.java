@@ -4,9 +4,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.cosmic.scavengers.ecs.commands.meta.IEcsCommand;
-import com.cosmic.scavengers.ecs.domain.components.Owner;
 import com.cosmic.scavengers.ecs.domain.intents.MoveIntent;
-import com.cosmic.scavengers.ecs.domain.tags.StaticTag;
+import com.cosmic.scavengers.ecs.domain.intents.PathIntent;
+import com.cosmic.scavengers.ecs.events.EcsEventBuffer;
+import com.cosmic.scavengers.ecs.events.IntentRejectReason;
 import com.cosmic.scavengers.gameplay.services.data.MoveRequestData;
 import com.cosmic.scavengers.registries.EntityRegistry;
 
@@ -18,29 +19,26 @@ public record MoveEntityCommand(MoveRequestData data) implements IEcsCommand {
 
 	@Override
 	public void execute(Dominion dominion, EntityRegistry entityRegistry) {
+		execute(dominion, entityRegistry, null);
+	}
+
+	/**
+	 * Validates the request and attaches a {@link MoveIntent}, or reports an
+	 * {@code INTENT_REJECTED} event when the buffer is given.
+	 */
+	@Override
+	public void execute(Dominion dominion, EntityRegistry entityRegistry, EcsEventBuffer events) {
 		long entityId = data.entityId();
 		Long playerId = data.playerId();
 
-		log.info("Handling ECS Move Command for Player Id '{}' Entity Id '{}'. Target: [{}, {}, {}]",
+		log.debug("Handling ECS Move Command for Player Id '{}' Entity Id '{}'. Target: [{}, {}, {}]",
 				playerId, entityId, 
 				data.targetX(), data.targetY(), data.targetZ());
 
 		Entity liveEntity = entityRegistry.getLiveEntity(entityId);
-		if (liveEntity == null) {
-			log.warn("Move rejected: Entity Id '{}' not found in registry.", entityId);
-			return;
-		}
-
-		Owner owner = liveEntity.get(Owner.class);
-		if (owner == null || owner.playerId() != playerId) {
-			log.error("Cheat Attempt: (Wrong)Player Id '{}' tried to move entity '{}' owned by Player Id'{}'",
-					playerId, entityId,
-					owner != null ? playerId : "none");
-			return;
-		}
-
-		if (liveEntity.has(StaticTag.class)) {
-			log.warn("Move rejected: Entity {} is static.", entityId);
+		final IntentRejectReason rejection = MoveCommandValidation.check(liveEntity, entityId, playerId);
+		if (rejection != null) {
+			reject(events, rejection);
 			return;
 		}
 
@@ -52,6 +50,18 @@ public record MoveEntityCommand(MoveRequestData data) implements IEcsCommand {
 				liveEntity.remove(existing);
 			}
 		}
+		// The latest order wins, including over a path submitted in the same tick
+		final PathIntent pendingPath = liveEntity.get(PathIntent.class);
+		if (pendingPath != null) {
+			liveEntity.remove(pendingPath);
+		}
 		liveEntity.add(intent);
 	}
+
+	private void reject(EcsEventBuffer events, IntentRejectReason reason) {
+		if (events != null) {
+			events.intentRejected(data.entityId(), data.playerId() != null ? data.playerId() : 0L, reason,
+					data.targetX(), data.targetY(), data.targetZ());
+		}
+	}
 }
@@ -0,0 +1,65 @@
+package com.cosmic.scavengers.ecs.commands;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.cosmic.scavengers.ecs.commands.meta.IEcsCommand;
+import com.cosmic.scavengers.ecs.domain.intents.MoveIntent;
+import com.cosmic.scavengers.ecs.domain.intents.PathIntent;
+import com.cosmic.scavengers.ecs.events.EcsEventBuffer;
+import com.cosmic.scavengers.ecs.events.IntentRejectReason;
+import com.cosmic.scavengers.gameplay.services.data.MovePathRequestData;
+import com.cosmic.scavengers.registries.EntityRegistry;
+
+import dev.dominion.ecs.api.Dominion;
+import dev.dominion.ecs.api.Entity;
+
+/**
+ * Gives an entity a whole waypoint path in one command. Validated like
+ * {@link MoveEntityCommand}, then attached as a {@link PathIntent} that
+ * replaces any pending move or path order.
+ */
+public record MoveEntityPathCommand(MovePathRequestData data) implements IEcsCommand {
+	private static final Logger log = LoggerFactory.getLogger(MoveEntityPathCommand.class);
+
+	@Override
+	public void execute(Dominion dominion, EntityRegistry entityRegistry) {
+		execute(dominion, entityRegistry, null);
+	}
+
+	@Override
+	public void execute(Dominion dominion, EntityRegistry entityRegistry, EcsEventBuffer events) {
+		final long entityId = data.entityId();
+		final Long playerId = data.playerId();
+
+		log.debug("Handling ECS Path Command for Player Id '{}' Entity Id '{}' with {} waypoints.",
+				playerId, entityId, data.waypointCount());
+
+		if (data.waypointCount() == 0) {
+			log.warn("Path rejected: Entity Id '{}' got an empty path.", entityId);
+			return;
+		}
+
+		final Entity liveEntity = entityRegistry.getLiveEntity(entityId);
+		final IntentRejectReason rejection = MoveCommandValidation.check(liveEntity, entityId, playerId);
+		if (rejection != null) {
+			if (events != null) {
+				// Rejections report the first waypoint as the requested target
+				final long[] waypoints = data.waypoints();
+				events.intentRejected(entityId, playerId != null ? playerId : 0L, rejection,
+						waypoints[0], waypoints[1], waypoints[2]);
+			}
+			return;
+		}
+
+		final PathIntent existing = liveEntity.get(PathIntent.class);
+		if (existing != null) {
+			liveEntity.remove(existing);
+		}
+		final MoveIntent pendingMove = liveEntity.get(MoveIntent.class);
+		if (pendingMove != null) {
+			liveEntity.remove(pendingMove);
+		}
+		liveEntity.add(new PathIntent(entityId, playerId, data));
+	}
+}
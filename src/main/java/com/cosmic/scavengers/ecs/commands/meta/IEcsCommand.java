@@ -1,9 +1,22 @@
 package com.cosmic.scavengers.ecs.commands.meta;
 
+import com.cosmic.scavengers.ecs.events.EcsEventBuffer;
 import com.cosmic.scavengers.registries.EntityRegistry;
 
 import dev.dominion.ecs.api.Dominion;
 
 public interface IEcsCommand {
 	void execute(Dominion dominion, EntityRegistry entityRegistry);
-}
\ No newline at end of file
+
+	/**
+	 * Executes the command with access to the world's event buffer. Commands
+	 * that report events (such as rejections) override this; the default
+	 * ignores the buffer.
+	 *
+	 * @param events The world's event buffer, or null when nobody consumes
+	 *               events.
+	 */
+	default void execute(Dominion dominion, EntityRegistry entityRegistry, EcsEventBuffer events) {
+		execute(dominion, entityRegistry);
+	}
+}
@@ -0,0 +1,12 @@
+package com.cosmic.scavengers.ecs.domain.components;
+
+/**
+ * Dense per-world index of a registered entity, assigned by the
+ * {@code EntityRegistry}. Slots of unregistered entities are reused, so a slot
+ * identifies an entity only while it is registered.
+ *
+ * Systems use the slot to key per-tick bookkeeping (such as changed-entity
+ * bitsets) by a small int instead of hashing entity references.
+ */
+public record EntitySlot(int index) {
+}
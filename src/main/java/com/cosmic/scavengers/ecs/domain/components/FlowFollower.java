@@ -0,0 +1,43 @@
+package com.cosmic.scavengers.ecs.domain.components;
+
+import com.cosmic.scavengers.gameplay.services.data.MoveRequestData;
+
+/**
+ * Marks an entity that is steered towards its move target by a shared flow
+ * field instead of a path of its own.
+ *
+ * <p>
+ * Mutable: the steering system records the navigation cell it last steered
+ * from, so an entity is only re-targeted after it entered a new cell.
+ */
+public final class FlowFollower {
+	private final MoveRequestData requestData;
+	private final int goalCell;
+	private int lastCell = -1;
+
+	public FlowFollower(MoveRequestData requestData, int goalCell) {
+		this.requestData = requestData;
+		this.goalCell = goalCell;
+	}
+
+	public MoveRequestData requestData() {
+		return requestData;
+	}
+
+	public int goalCell() {
+		return goalCell;
+	}
+
+	public int lastCell() {
+		return lastCell;
+	}
+
+	public void setLastCell(int lastCell) {
+		this.lastCell = lastCell;
+	}
+
+	@Override
+	public String toString() {
+		return "FlowFollower(goalCell=" + goalCell + ", lastCell=" + lastCell + ")";
+	}
+}
@@ -1,10 +1,47 @@
 package com.cosmic.scavengers.ecs.domain.components;
 
+import com.cosmic.scavengers.ecs.domain.components.meta.IEcsComponent;
+
 /**
  * Component for the entity's current health and maximum health capacity.
  *
  * Health is represented by standard integers (int) for simplicity, as defined
  * in the Protobuf message.
+ *
+ * The component is mutable so the CombatSystem can apply a tick's damage in
+ * place; replacing it would be a structural change that moves the entity
+ * between archetypes. Instances therefore use identity equality and must only
+ * be written by systems that declare Health in their write set.
  */
-public record Health(int current, int max) {
-}
\ No newline at end of file
+public final class Health implements IEcsComponent {
+	private int current;
+	private final int max;
+
+	public Health(int current, int max) {
+		this.current = current;
+		this.max = max;
+	}
+
+	public int current() {
+		return current;
+	}
+
+	public int max() {
+		return max;
+	}
+
+	/**
+	 * Subtracts the damage, stopping at zero.
+	 *
+	 * @return The health left.
+	 */
+	public int damage(int amount) {
+		current = Math.max(0, current - amount);
+		return current;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("Health(current=%d, max=%d)", current, max);
+	}
+}
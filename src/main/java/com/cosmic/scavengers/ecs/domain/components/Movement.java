@@ -1,16 +1,55 @@
 package com.cosmic.scavengers.ecs.domain.components;
 
-import org.decimal4j.api.Decimal;
-import org.decimal4j.scale.Scale4f;
+import com.cosmic.scavengers.core.utils.DecimalUtils;
 
 /**
  * Component defining an entity's movement goal and movement speed.
  *
- * This component is used by the MovementSystem to update the Position.
+ * This component is used by the MovementSystem to update the Position. Target
+ * and speed are raw Scale4f scaled longs, like {@link Position}. It is mutable
+ * so that re-targeting an entity which is already moving does not remove and
+ * re-add the component.
  */
-public record Movement(
-		Decimal<Scale4f> targetX, 
-		Decimal<Scale4f> targetY, 
-		Decimal<Scale4f> targetZ,
-		Decimal<Scale4f> speed) {
-}
\ No newline at end of file
+public final class Movement {
+	private long targetX;
+	private long targetY;
+	private long targetZ;
+	private long speed;
+
+	public Movement(long targetX, long targetY, long targetZ, long speed) {
+		retarget(targetX, targetY, targetZ, speed);
+	}
+
+	public long targetX() {
+		return targetX;
+	}
+
+	public long targetY() {
+		return targetY;
+	}
+
+	public long targetZ() {
+		return targetZ;
+	}
+
+	public long speed() {
+		return speed;
+	}
+
+	/**
+	 * Replaces the movement goal and speed in place.
+	 */
+	public void retarget(long targetX, long targetY, long targetZ, long speed) {
+		this.targetX = targetX;
+		this.targetY = targetY;
+		this.targetZ = targetZ;
+		this.speed = speed;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("Movement(target=[%s, %s, %s], speed=%s)", DecimalUtils.formatScaled(targetX),
+				DecimalUtils.formatScaled(targetY), DecimalUtils.formatScaled(targetZ),
+				DecimalUtils.formatScaled(speed));
+	}
+}
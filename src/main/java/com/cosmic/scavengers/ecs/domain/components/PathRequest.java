@@ -0,0 +1,15 @@
+package com.cosmic.scavengers.ecs.domain.components;
+
+import com.cosmic.scavengers.gameplay.services.data.MoveRequestData;
+
+/**
+ * Marks an entity whose move order is waiting for the pathfinder. The
+ * pathfinder only delivers a result while the entity still carries the same
+ * instance, so a newer order simply replaces or removes it.
+ *
+ * @param requestData The original move order.
+ * @param startCell   Navigation cell the entity was in.
+ * @param goalCell    Navigation cell of the target.
+ */
+public record PathRequest(MoveRequestData requestData, int startCell, int goalCell) {
+}
@@ -1,23 +1,57 @@
 package com.cosmic.scavengers.ecs.domain.components;
 
-import org.decimal4j.api.Decimal;
-import org.decimal4j.scale.Scale4f;
-
+import com.cosmic.scavengers.core.utils.DecimalUtils;
 import com.cosmic.scavengers.ecs.domain.components.meta.IEcsComponent;
 
 /**
  * Component defining the entity's current location in the game world.
  *
- * Uses Decimal<?> for deterministic fixed-point arithmetic. The specific scale
- * (e.g., Decimal<S4>) must be chosen when instantiated to match the precision
- * agreed upon by the server and client.
+ * Coordinates are stored as raw Scale4f scaled longs (Value * 10,000), the same
+ * fixed-point representation used on the wire, so the deterministic movement
+ * math can run on primitives without creating a Decimal object per value. Use
+ * the scaled helpers in {@link DecimalUtils} to compute with them.
+ *
+ * The component is mutable so the MovementSystem can update it in place every
+ * tick; replacing it would be a structural change that moves the entity between
+ * archetypes. Instances therefore use identity equality and must only be written
+ * by systems that declare Position in their write set.
  */
-public record Position(
-		Decimal<Scale4f> x, 
-		Decimal<Scale4f> y, 
-		Decimal<Scale4f> z) implements IEcsComponent {
+public final class Position implements IEcsComponent {
+	private long x;
+	private long y;
+	private long z;
+
+	public Position(long x, long y, long z) {
+		this.x = x;
+		this.y = y;
+		this.z = z;
+	}
+
+	public long x() {
+		return x;
+	}
+
+	public long y() {
+		return y;
+	}
+
+	public long z() {
+		return z;
+	}
+
+	/**
+	 * Moves the entity to the given scaled coordinates without touching its
+	 * archetype.
+	 */
+	public void set(long x, long y, long z) {
+		this.x = x;
+		this.y = y;
+		this.z = z;
+	}
 
+	@Override
 	public String toString() {
-		return String.format("Position(x=%s, y=%s, z=%s)", x, y, z);
+		return String.format("Position(x=%s, y=%s, z=%s)", DecimalUtils.formatScaled(x),
+				DecimalUtils.formatScaled(y), DecimalUtils.formatScaled(z));
 	}
-}
\ No newline at end of file
+}
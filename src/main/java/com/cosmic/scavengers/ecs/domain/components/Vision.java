@@ -0,0 +1,11 @@
+package com.cosmic.scavengers.ecs.domain.components;
+
+/**
+ * How far an entity reveals the map for its owner. Entities without one use
+ * the world's default vision radius. Replace the component and mark the entity
+ * changed to alter it at runtime.
+ *
+ * @param radius Scale4f scaled radius.
+ */
+public record Vision(long radius) {
+}
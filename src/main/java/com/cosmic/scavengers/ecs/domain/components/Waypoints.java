@@ -0,0 +1,70 @@
+package com.cosmic.scavengers.ecs.domain.components;
+
+/**
+ * Component holding the remaining waypoints of a path an entity follows.
+ *
+ * The PathFollowingSystem turns the next waypoint into a {@link Movement}
+ * whenever the entity has none, so each leg is an ordinary straight-line move.
+ * Waypoints are flattened Scale4f {@code x, y, z} triples. The component is
+ * mutable so that a new path for an entity which already follows one does not
+ * remove and re-add it.
+ */
+public final class Waypoints {
+	private long[] points;
+	private int count;
+	private int next;
+	private long speed;
+
+	public Waypoints(long[] points, long speed) {
+		replace(points, speed);
+	}
+
+	/**
+	 * Replaces the path in place and restarts at its first waypoint.
+	 */
+	public void replace(long[] points, long speed) {
+		this.points = points;
+		this.count = points.length / 3;
+		this.next = 0;
+		this.speed = speed;
+	}
+
+	public boolean hasNext() {
+		return next < count;
+	}
+
+	public long nextX() {
+		return points[next * 3];
+	}
+
+	public long nextY() {
+		return points[next * 3 + 1];
+	}
+
+	public long nextZ() {
+		return points[next * 3 + 2];
+	}
+
+	/**
+	 * Moves past the waypoint returned by {@link #nextX()} and friends.
+	 */
+	public void advance() {
+		next++;
+	}
+
+	/**
+	 * Waypoints not yet handed out as a movement target.
+	 */
+	public int remaining() {
+		return count - next;
+	}
+
+	public long speed() {
+		return speed;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("Waypoints(next=%d, count=%d)", next, count);
+	}
+}
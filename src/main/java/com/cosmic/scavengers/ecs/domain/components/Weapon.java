@@ -0,0 +1,20 @@
+package com.cosmic.scavengers.ecs.domain.components;
+
+/**
+ * Lets an entity attack the nearest hostile entity in range.
+ *
+ * @param range           Scale4f scaled reach.
+ * @param damage          Health removed per shot.
+ * @param cooldownTicks   Ticks between two shots; 1 fires every tick.
+ * @param projectileSpeed Scaled distance per tick of the fired projectile, or
+ *                        0 for a weapon that hits instantly.
+ */
+public record Weapon(long range, int damage, int cooldownTicks, long projectileSpeed) {
+
+	/**
+	 * A weapon that hits instantly.
+	 */
+	public Weapon(long range, int damage, int cooldownTicks) {
+		this(range, damage, cooldownTicks, 0L);
+	}
+}
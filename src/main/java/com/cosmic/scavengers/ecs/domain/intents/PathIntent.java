@@ -0,0 +1,10 @@
+package com.cosmic.scavengers.ecs.domain.intents;
+
+import com.cosmic.scavengers.ecs.domain.intents.meta.IEcsIntent;
+import com.cosmic.scavengers.gameplay.services.data.MovePathRequestData;
+
+public record PathIntent(
+		long entityId,
+		Long playerId,
+		MovePathRequestData requestData) implements IEcsIntent {
+}
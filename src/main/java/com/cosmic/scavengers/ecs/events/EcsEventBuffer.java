@@ -0,0 +1,169 @@
+package com.cosmic.scavengers.ecs.events;
+
+import java.util.Arrays;
+
+import com.cosmic.scavengers.ecs.domain.components.EntitySlot;
+import com.cosmic.scavengers.ecs.domain.components.Movement;
+import com.cosmic.scavengers.ecs.domain.components.Owner;
+import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.registries.EntityRegistry;
+
+import dev.dominion.ecs.api.Entity;
+
+/**
+ * Per-tick, append-only list of state transitions of one world, so consumers
+ * learn about arrivals, rejections and losses without polling every entity.
+ *
+ * <p>
+ * Systems and commands append during the tick; the {@link EcsEventDispatcher}
+ * hands the buffer to the consumers at the end of the tick and clears it.
+ * Events are stored column-wise in primitive arrays that grow on demand and
+ * are reused, so a warm buffer does not allocate.
+ *
+ * <p>
+ * Entities are identified by their database id, resolved through the world's
+ * {@link EntityRegistry} when the event is appended. Not thread-safe: every
+ * appending system is structural and runs alone, and the batched movement
+ * backend appends from its single-threaded apply pass.
+ */
+public final class EcsEventBuffer {
+	private static final int INITIAL_CAPACITY = 64;
+
+	private final EntityRegistry entityRegistry;
+
+	private int size = 0;
+	private EcsEventType[] types = new EcsEventType[INITIAL_CAPACITY];
+	private IntentRejectReason[] rejectReasons = new IntentRejectReason[INITIAL_CAPACITY];
+	private long[] entityIds = new long[INITIAL_CAPACITY];
+	private long[] playerIds = new long[INITIAL_CAPACITY];
+	private long[] x = new long[INITIAL_CAPACITY];
+	private long[] y = new long[INITIAL_CAPACITY];
+	private long[] z = new long[INITIAL_CAPACITY];
+
+	public EcsEventBuffer(EntityRegistry entityRegistry) {
+		this.entityRegistry = entityRegistry;
+	}
+
+	public void movementStarted(Entity entity, Movement movement) {
+		movementStarted(entity, movement.targetX(), movement.targetY(), movement.targetZ());
+	}
+
+	/**
+	 * For orders accepted before their first {@link Movement} exists, e.g. while
+	 * a flow field is built.
+	 */
+	public void movementStarted(Entity entity, long targetX, long targetY, long targetZ) {
+		append(EcsEventType.MOVEMENT_STARTED, null, entityIdOf(entity), ownerOf(entity), targetX, targetY, targetZ);
+	}
+
+	public void movementArrived(Entity entity, Position position) {
+		append(EcsEventType.MOVEMENT_ARRIVED, null, entityIdOf(entity), ownerOf(entity), position.x(),
+				position.y(), position.z());
+	}
+
+	/**
+	 * Must be called while the entity is still registered, so its id resolves.
+	 */
+	public void entityDestroyed(Entity entity, Position position) {
+		append(EcsEventType.ENTITY_DESTROYED, null, entityIdOf(entity), ownerOf(entity), position.x(),
+				position.y(), position.z());
+	}
+
+	/**
+	 * @param playerId The player who sent the request.
+	 */
+	public void intentRejected(long entityId, long playerId, IntentRejectReason reason, long targetX,
+			long targetY, long targetZ) {
+		append(EcsEventType.INTENT_REJECTED, reason, entityId, playerId, targetX, targetY, targetZ);
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public EcsEventType getType(int index) {
+		return types[index];
+	}
+
+	/**
+	 * Database id of the entity, or -1 if it was never registered.
+	 */
+	public long getEntityId(int index) {
+		return entityIds[index];
+	}
+
+	/**
+	 * Owner of the entity, or the requesting player for rejected intents; 0 if
+	 * unknown.
+	 */
+	public long getPlayerId(int index) {
+		return playerIds[index];
+	}
+
+	public long getX(int index) {
+		return x[index];
+	}
+
+	public long getY(int index) {
+		return y[index];
+	}
+
+	public long getZ(int index) {
+		return z[index];
+	}
+
+	/**
+	 * Null unless the event is {@link EcsEventType#INTENT_REJECTED}.
+	 */
+	public IntentRejectReason getRejectReason(int index) {
+		return rejectReasons[index];
+	}
+
+	/**
+	 * Drops all events. Called by the dispatcher once the consumers are done.
+	 */
+	public void clear() {
+		Arrays.fill(rejectReasons, 0, size, null);
+		size = 0;
+	}
+
+	private void append(EcsEventType type, IntentRejectReason reason, long entityId, long playerId, long eventX,
+			long eventY, long eventZ) {
+		if (size == types.length) {
+			grow();
+		}
+		types[size] = type;
+		rejectReasons[size] = reason;
+		entityIds[size] = entityId;
+		playerIds[size] = playerId;
+		x[size] = eventX;
+		y[size] = eventY;
+		z[size] = eventZ;
+		size++;
+	}
+
+	private long entityIdOf(Entity entity) {
+		final EntitySlot slot = entity.get(EntitySlot.class);
+		return slot != null ? entityRegistry.getIdAt(slot.index()) : -1L;
+	}
+
+	private static long ownerOf(Entity entity) {
+		final Owner owner = entity.get(Owner.class);
+		return owner != null ? owner.playerId() : 0L;
+	}
+
+	private void grow() {
+		final int capacity = types.length * 2;
+		types = Arrays.copyOf(types, capacity);
+		rejectReasons = Arrays.copyOf(rejectReasons, capacity);
+		entityIds = Arrays.copyOf(entityIds, capacity);
+		playerIds = Arrays.copyOf(playerIds, capacity);
+		x = Arrays.copyOf(x, capacity);
+		y = Arrays.copyOf(y, capacity);
+		z = Arrays.copyOf(z, capacity);
+	}
+}
@@ -0,0 +1,74 @@
+package com.cosmic.scavengers.ecs.events;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.cosmic.scavengers.engine.TickClock;
+import com.cosmic.scavengers.system.meta.IEcsSystem;
+import com.cosmic.scavengers.system.meta.SystemAccess;
+
+/**
+ * Drains the world's {@link EcsEventBuffer} once per tick: every consumer sees
+ * all events of the tick, then the buffer is cleared. Registered last, so it
+ * sees the events of every system of the tick.
+ *
+ * <p>
+ * Consumers run on the engine thread and may touch the world, so the
+ * dispatcher declares itself structural and always runs alone. It is
+ * {@link com.cosmic.scavengers.system.meta.SystemPriority#CRITICAL}, since a
+ * deferred drain would let the buffer grow without bound.
+ */
+public class EcsEventDispatcher implements IEcsSystem {
+	private static final Logger log = LoggerFactory.getLogger(EcsEventDispatcher.class);
+
+	private final EcsEventBuffer events;
+	private final TickClock tickClock;
+	private final List<IEcsEventConsumer> consumers = new CopyOnWriteArrayList<>();
+
+	public EcsEventDispatcher(EcsEventBuffer events, TickClock tickClock) {
+		this.events = events;
+		this.tickClock = tickClock;
+	}
+
+	/**
+	 * Adds a consumer for all following ticks. May be called from any thread.
+	 */
+	public void addConsumer(IEcsEventConsumer consumer) {
+		consumers.add(consumer);
+	}
+
+	public void removeConsumer(IEcsEventConsumer consumer) {
+		consumers.remove(consumer);
+	}
+
+	/**
+	 * The buffer systems append to.
+	 */
+	public EcsEventBuffer getEvents() {
+		return events;
+	}
+
+	@Override
+	public SystemAccess access() {
+		return SystemAccess.structural(Set.of(), Set.of());
+	}
+
+	@Override
+	public void run() {
+		if (events.isEmpty()) {
+			return;
+		}
+		for (IEcsEventConsumer consumer : consumers) {
+			try {
+				consumer.onEvents(tickClock.getTick(), events);
+			} catch (Exception e) {
+				log.error("Event consumer {} failed in tick {}.", consumer, tickClock.getTick(), e);
+			}
+		}
+		events.clear();
+	}
+}
@@ -0,0 +1,29 @@
+package com.cosmic.scavengers.ecs.events;
+
+/**
+ * Kinds of state transitions reported through the {@link EcsEventBuffer}.
+ */
+public enum EcsEventType {
+	/**
+	 * An entity got a new movement target. Coordinates are the target.
+	 */
+	MOVEMENT_STARTED,
+
+	/**
+	 * An entity reached its movement target and lost its Movement. Coordinates
+	 * are the arrival position.
+	 */
+	MOVEMENT_ARRIVED,
+
+	/**
+	 * A move request was refused before it reached the ECS. Coordinates are the
+	 * requested target.
+	 */
+	INTENT_REJECTED,
+
+	/**
+	 * An entity's health reached zero and it was removed from the world.
+	 * Coordinates are its last position.
+	 */
+	ENTITY_DESTROYED
+}
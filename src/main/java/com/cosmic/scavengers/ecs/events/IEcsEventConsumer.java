@@ -0,0 +1,15 @@
+package com.cosmic.scavengers.ecs.events;
+
+/**
+ * Receives the events of every tick that produced any. Called on the engine
+ * thread, so implementations must be quick and must copy whatever they hand to
+ * other threads; the buffer is cleared right after the last consumer returns.
+ */
+@FunctionalInterface
+public interface IEcsEventConsumer {
+	/**
+	 * @param tick   The tick that produced the events.
+	 * @param events The events in the order they were appended.
+	 */
+	void onEvents(long tick, EcsEventBuffer events);
+}
@@ -0,0 +1,11 @@
+package com.cosmic.scavengers.ecs.events;
+
+/**
+ * Why a move request was turned into an {@link EcsEventType#INTENT_REJECTED}
+ * event instead of an intent.
+ */
+public enum IntentRejectReason {
+	ENTITY_NOT_FOUND,
+	NOT_OWNER,
+	STATIC_ENTITY
+}
@@ -0,0 +1,81 @@
+package com.cosmic.scavengers.ecs.journal;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Binary layout of a command journal, shared by {@link CommandJournalWriter}
+ * and {@link CommandJournalReader}.
+ *
+ * <pre>
+ * header   : int magic "CSJ1", short version, settings
+ * settings : int tickRateHz, boolean movementBatched, long spatialCellSize,
+ *            float separationRadius, int separationUnitsPerTick,
+ *            int separationMaxNeighbours, int navGridSize, long navCellSize,
+ *            long navObstacleRadius, int pathExpansionsPerTick,
+ *            int pathMaxExpansions, int pathCacheSize, int flowGroupSize,
+ *            int flowExpansionsPerTick, int flowFieldCacheSize,
+ *            int flowFieldIdleTicks, int visionGridSize, long visionCellSize,
+ *            long visionRadius, int visionMaxPlayers, int combatRetargetTicks,
+ *            float projectileHitRadius
+ * record   : varlong tickDelta, byte commandType, payload
+ * </pre>
+ *
+ * The settings are the {@code EngineSettings} that shape the simulation;
+ * thread counts, the tick budget and the journal directory only affect how a
+ * world runs on its host and are not recorded.
+ * The tick of a record is stored as the difference to the previous record, and
+ * signed values are ZigZag varints, so a busy journal costs a few bytes per
+ * command. Fixed-point values are stored as their Scale4f unscaled longs, so
+ * replay restores them bit for bit.
+ */
+final class CommandJournalFormat {
+	static final int MAGIC = 0x43534A31;
+	static final short VERSION = 2;
+
+	static final byte TYPE_MOVE_ENTITY = 1;
+	static final byte TYPE_INIT_SPAWN_ENTITIES = 2;
+	static final byte TYPE_MOVE_ENTITY_PATH = 3;
+
+	// Presence bits of the nullable PlayerEntities fields
+	static final int HAS_POS_X = 1;
+	static final int HAS_POS_Y = 1 << 1;
+	static final int HAS_POS_Z = 1 << 2;
+	static final int HAS_NAME = 1 << 3;
+	static final int HAS_IS_STATIC = 1 << 4;
+	static final int IS_STATIC = 1 << 5;
+
+	private CommandJournalFormat() {
+		throw new AssertionError("CommandJournalFormat cannot be instantiated");
+	}
+
+	static void writeVarLong(DataOutput out, long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			out.writeByte((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.writeByte((int) value);
+	}
+
+	static long readVarLong(DataInput in) throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			final byte b = in.readByte();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IOException("Malformed varint in command journal.");
+	}
+
+	static void writeSignedVarLong(DataOutput out, long value) throws IOException {
+		writeVarLong(out, (value << 1) ^ (value >> 63));
+	}
+
+	static long readSignedVarLong(DataInput in) throws IOException {
+		final long encoded = readVarLong(in);
+		return (encoded >>> 1) ^ -(encoded & 1);
+	}
+}
@@ -0,0 +1,178 @@
+package com.cosmic.scavengers.ecs.journal;
+
+import static com.cosmic.scavengers.ecs.journal.CommandJournalFormat.HAS_IS_STATIC;
+import static com.cosmic.scavengers.ecs.journal.CommandJournalFormat.HAS_NAME;
+import static com.cosmic.scavengers.ecs.journal.CommandJournalFormat.HAS_POS_X;
+import static com.cosmic.scavengers.ecs.journal.CommandJournalFormat.HAS_POS_Y;
+import static com.cosmic.scavengers.ecs.journal.CommandJournalFormat.HAS_POS_Z;
+import static com.cosmic.scavengers.ecs.journal.CommandJournalFormat.IS_STATIC;
+import static com.cosmic.scavengers.ecs.journal.CommandJournalFormat.MAGIC;
+import static com.cosmic.scavengers.ecs.journal.CommandJournalFormat.TYPE_INIT_SPAWN_ENTITIES;
+import static com.cosmic.scavengers.ecs.journal.CommandJournalFormat.TYPE_MOVE_ENTITY;
+import static com.cosmic.scavengers.ecs.journal.CommandJournalFormat.TYPE_MOVE_ENTITY_PATH;
+import static com.cosmic.scavengers.ecs.journal.CommandJournalFormat.VERSION;
+import static com.cosmic.scavengers.ecs.journal.CommandJournalFormat.readSignedVarLong;
+import static com.cosmic.scavengers.ecs.journal.CommandJournalFormat.readVarLong;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.cosmic.scavengers.db.model.tables.pojos.PlayerEntities;
+import com.cosmic.scavengers.ecs.commands.InitSpawnEntitiesCommand;
+import com.cosmic.scavengers.ecs.commands.MoveEntityCommand;
+import com.cosmic.scavengers.ecs.commands.MoveEntityPathCommand;
+import com.cosmic.scavengers.ecs.commands.meta.IEcsCommand;
+import com.cosmic.scavengers.engine.world.EngineSettings;
+import com.cosmic.scavengers.gameplay.services.data.MovePathRequestData;
+import com.cosmic.scavengers.gameplay.services.data.MoveRequestData;
+
+/**
+ * Reads a journal written by {@link CommandJournalWriter} back into commands.
+ */
+public class CommandJournalReader implements Closeable {
+	private final DataInputStream in;
+	private final EngineSettings settings;
+	private long lastTick;
+
+	public CommandJournalReader(Path path) throws IOException {
+		this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)));
+		if (in.readInt() != MAGIC) {
+			in.close();
+			throw new IOException("Not a command journal: " + path);
+		}
+		final short version = in.readShort();
+		if (version != VERSION) {
+			in.close();
+			throw new IOException("Unsupported command journal version " + version + ": " + path);
+		}
+		this.settings = readSettings();
+	}
+
+	/**
+	 * Settings of the recorded world. Replays must build their world from them
+	 * for the simulation to match; the settings a journal does not record keep
+	 * their defaults.
+	 */
+	public EngineSettings getSettings() {
+		return settings;
+	}
+
+	/**
+	 * @return The next entry, or null at the end of the journal.
+	 */
+	public JournalEntry next() throws IOException {
+		final long tickDelta;
+		try {
+			tickDelta = readVarLong(in);
+		} catch (EOFException e) {
+			return null;
+		}
+		lastTick += tickDelta;
+
+		final byte type = in.readByte();
+		final IEcsCommand command = switch (type) {
+		case TYPE_MOVE_ENTITY -> readMove();
+		case TYPE_INIT_SPAWN_ENTITIES -> readInitSpawn();
+		case TYPE_MOVE_ENTITY_PATH -> readPath();
+		default -> throw new IOException("Unknown command type " + type + " at tick " + lastTick);
+		};
+		return new JournalEntry(lastTick, command);
+	}
+
+	@Override
+	public void close() throws IOException {
+		in.close();
+	}
+
+	private EngineSettings readSettings() throws IOException {
+		final EngineSettings settings = new EngineSettings();
+		settings.setTickRateHz(in.readInt());
+		settings.setMovementBatched(in.readBoolean());
+		settings.setSpatialCellSize(in.readLong());
+		settings.setSeparationRadius(in.readFloat());
+		settings.setSeparationUnitsPerTick(in.readInt());
+		settings.setSeparationMaxNeighbours(in.readInt());
+		settings.setNavGridSize(in.readInt());
+		settings.setNavCellSize(in.readLong());
+		settings.setNavObstacleRadius(in.readLong());
+		settings.setPathExpansionsPerTick(in.readInt());
+		settings.setPathMaxExpansions(in.readInt());
+		settings.setPathCacheSize(in.readInt());
+		settings.setFlowGroupSize(in.readInt());
+		settings.setFlowExpansionsPerTick(in.readInt());
+		settings.setFlowFieldCacheSize(in.readInt());
+		settings.setFlowFieldIdleTicks(in.readInt());
+		settings.setVisionGridSize(in.readInt());
+		settings.setVisionCellSize(in.readLong());
+		settings.setVisionRadius(in.readLong());
+		settings.setVisionMaxPlayers(in.readInt());
+		settings.setCombatRetargetTicks(in.readInt());
+		settings.setProjectileHitRadius(in.readFloat());
+		return settings;
+	}
+
+	private MoveEntityCommand readMove() throws IOException {
+		final long entityId = readVarLong(in);
+		final Long playerId = in.readBoolean() ? readVarLong(in) : null;
+		return new MoveEntityCommand(new MoveRequestData(
+				entityId,
+				playerId,
+				readSignedVarLong(in),
+				readSignedVarLong(in),
+				readSignedVarLong(in),
+				readSignedVarLong(in),
+				readSignedVarLong(in),
+				readSignedVarLong(in)));
+	}
+
+	private MoveEntityPathCommand readPath() throws IOException {
+		final long entityId = readVarLong(in);
+		final Long playerId = in.readBoolean() ? readVarLong(in) : null;
+		final long movementSpeed = readSignedVarLong(in);
+		final long rotationSpeed = readSignedVarLong(in);
+		final long stoppingDistance = readSignedVarLong(in);
+		final long[] waypoints = new long[(int) readVarLong(in)];
+		for (int i = 0; i < waypoints.length; i++) {
+			waypoints[i] = readSignedVarLong(in);
+		}
+		return new MoveEntityPathCommand(new MovePathRequestData(
+				entityId, playerId, waypoints, movementSpeed, rotationSpeed, stoppingDistance));
+	}
+
+	private InitSpawnEntitiesCommand readInitSpawn() throws IOException {
+		final long playerId = readVarLong(in);
+		final int count = (int) readVarLong(in);
+		final List<PlayerEntities> entities = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			final PlayerEntities entity = new PlayerEntities();
+			entity.setId(readVarLong(in));
+			entity.setPlayerId(readVarLong(in));
+
+			final int flags = in.readUnsignedByte();
+			if ((flags & HAS_POS_X) != 0) {
+				entity.setPosX(in.readFloat());
+			}
+			if ((flags & HAS_POS_Y) != 0) {
+				entity.setPosY(in.readFloat());
+			}
+			if ((flags & HAS_POS_Z) != 0) {
+				entity.setPosZ(in.readFloat());
+			}
+			if ((flags & HAS_NAME) != 0) {
+				entity.setEntityName(in.readUTF());
+			}
+			if ((flags & HAS_IS_STATIC) != 0) {
+				entity.setIsStatic((flags & IS_STATIC) != 0);
+			}
+			entities.add(entity);
+		}
+		return new InitSpawnEntitiesCommand(playerId, entities);
+	}
+}
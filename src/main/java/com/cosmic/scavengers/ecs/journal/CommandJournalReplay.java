@@ -0,0 +1,91 @@
+package com.cosmic.scavengers.ecs.journal;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.cosmic.scavengers.engine.GameEngine;
+import com.cosmic.scavengers.engine.profiling.SystemTickProfiler;
+import com.cosmic.scavengers.engine.world.GameWorld;
+import com.cosmic.scavengers.engine.world.GameWorldFactory;
+
+/**
+ * Feeds a recorded journal into a fresh world and ticks it as fast as
+ * possible, without Spring, Netty or the database.
+ *
+ * <p>
+ * The world is built from the settings in the journal header, and every
+ * command is submitted right before the tick it was executed on when recorded,
+ * so the replayed world goes through the same sequence of states as the
+ * original one. Wall-clock behaviour (pacing, deferred non-critical systems)
+ * is not reproduced.
+ *
+ * <p>
+ * Usage: {@code CommandJournalReplay <journal> [extraTicks]}, where
+ * {@code extraTicks} keeps simulating after the last command (default 0).
+ */
+public class CommandJournalReplay {
+	private static final Logger log = LoggerFactory.getLogger(CommandJournalReplay.class);
+
+	private final GameWorld world;
+	private final CommandJournalReader reader;
+
+	public CommandJournalReplay(GameWorld world, CommandJournalReader reader) {
+		this.world = world;
+		this.reader = reader;
+	}
+
+	/**
+	 * Replays the whole journal, then runs {@code extraTicks} more ticks.
+	 *
+	 * @return The number of ticks executed.
+	 */
+	public long run(long extraTicks) throws IOException {
+		final GameEngine engine = world.engine();
+		final long startTick = world.tickClock().getTick();
+
+		JournalEntry entry;
+		while ((entry = reader.next()) != null) {
+			while (world.tickClock().getTick() < entry.tick()) {
+				engine.tick();
+			}
+			world.commandQueue().submit(entry.command());
+		}
+		// Let the last submitted commands execute
+		engine.tick();
+
+		for (long i = 0; i < extraTicks; i++) {
+			engine.tick();
+		}
+		return world.tickClock().getTick() - startTick;
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length < 1) {
+			System.err.println("Usage: CommandJournalReplay <journal> [extraTicks]");
+			System.exit(1);
+		}
+		final Path path = Path.of(args[0]);
+		final long extraTicks = args.length > 1 ? Long.parseLong(args[1]) : 0;
+
+		final SystemTickProfiler profiler = new SystemTickProfiler();
+		try (CommandJournalReader reader = new CommandJournalReader(path)) {
+			// The journal carries everything that shapes the simulation; the rest stays at its defaults
+			final GameWorldFactory factory = new GameWorldFactory(profiler, reader.getSettings());
+			final GameWorld world = factory.create(0);
+
+			final long start = System.nanoTime();
+			final long ticks = new CommandJournalReplay(world, reader).run(extraTicks);
+			final double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+			log.info("Replayed '{}': {} ticks in {}s ({} ticks/s), {} entities.",
+					path, ticks, String.format("%.3f", seconds), String.format("%.0f", ticks / seconds),
+					world.entityRegistry().getActiveCount());
+			profiler.logSummary();
+			world.dominion().close();
+			factory.shutdown();
+		}
+	}
+}
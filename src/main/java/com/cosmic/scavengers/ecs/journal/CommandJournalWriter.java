@@ -0,0 +1,230 @@
+package com.cosmic.scavengers.ecs.journal;
+
+import static com.cosmic.scavengers.ecs.journal.CommandJournalFormat.HAS_IS_STATIC;
+import static com.cosmic.scavengers.ecs.journal.CommandJournalFormat.HAS_NAME;
+import static com.cosmic.scavengers.ecs.journal.CommandJournalFormat.HAS_POS_X;
+import static com.cosmic.scavengers.ecs.journal.CommandJournalFormat.HAS_POS_Y;
+import static com.cosmic.scavengers.ecs.journal.CommandJournalFormat.HAS_POS_Z;
+import static com.cosmic.scavengers.ecs.journal.CommandJournalFormat.IS_STATIC;
+import static com.cosmic.scavengers.ecs.journal.CommandJournalFormat.MAGIC;
+import static com.cosmic.scavengers.ecs.journal.CommandJournalFormat.TYPE_INIT_SPAWN_ENTITIES;
+import static com.cosmic.scavengers.ecs.journal.CommandJournalFormat.TYPE_MOVE_ENTITY;
+import static com.cosmic.scavengers.ecs.journal.CommandJournalFormat.TYPE_MOVE_ENTITY_PATH;
+import static com.cosmic.scavengers.ecs.journal.CommandJournalFormat.VERSION;
+import static com.cosmic.scavengers.ecs.journal.CommandJournalFormat.writeSignedVarLong;
+import static com.cosmic.scavengers.ecs.journal.CommandJournalFormat.writeVarLong;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.cosmic.scavengers.db.model.tables.pojos.PlayerEntities;
+import com.cosmic.scavengers.ecs.commands.InitSpawnEntitiesCommand;
+import com.cosmic.scavengers.ecs.commands.MoveEntityCommand;
+import com.cosmic.scavengers.ecs.commands.MoveEntityPathCommand;
+import com.cosmic.scavengers.ecs.commands.meta.IEcsCommand;
+import com.cosmic.scavengers.engine.world.EngineSettings;
+import com.cosmic.scavengers.gameplay.services.data.MovePathRequestData;
+import com.cosmic.scavengers.gameplay.services.data.MoveRequestData;
+
+/**
+ * Appends executed commands of one world to a binary journal (see
+ * {@link CommandJournalFormat}).
+ *
+ * <p>
+ * Only the world's engine thread writes, so the writer is not thread-safe.
+ * Writes are buffered and flushed through {@link #flush()} at the end of every
+ * tick that recorded commands, so a crash loses at most the tick in progress.
+ * An I/O error, or a command that cannot be encoded faithfully, disables the
+ * journal instead of failing the tick; the simulation always takes priority
+ * over the recording.
+ */
+public class CommandJournalWriter implements Closeable {
+	private static final Logger log = LoggerFactory.getLogger(CommandJournalWriter.class);
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final Path path;
+	private final DataOutputStream out;
+	private long lastTick;
+	private boolean failed;
+
+	/**
+	 * Creates the journal file, replacing any existing one, and writes the
+	 * header with the settings of the recorded world.
+	 */
+	public CommandJournalWriter(Path path, EngineSettings settings) throws IOException {
+		this.path = path;
+		this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE));
+		out.writeInt(MAGIC);
+		out.writeShort(VERSION);
+		writeSettings(settings);
+	}
+
+	/**
+	 * Records a command executed during {@code tick}. Ticks must not decrease.
+	 */
+	public void record(long tick, IEcsCommand command) {
+		if (failed) {
+			return;
+		}
+		try {
+			if (command instanceof MoveEntityCommand move) {
+				writeHeader(tick, TYPE_MOVE_ENTITY);
+				writeMove(move.data());
+			} else if (command instanceof MoveEntityPathCommand path) {
+				writeHeader(tick, TYPE_MOVE_ENTITY_PATH);
+				writePath(path.data());
+			} else if (command instanceof InitSpawnEntitiesCommand spawn) {
+				validateInitSpawn(spawn);
+				writeHeader(tick, TYPE_INIT_SPAWN_ENTITIES);
+				writeInitSpawn(spawn);
+			} else {
+				log.warn("Command {} has no journal encoding; the journal '{}' will not replay it.",
+						command.getClass().getSimpleName(), path);
+			}
+		} catch (IOException e) {
+			failed = true;
+			log.error("Failed to write command journal '{}', recording stopped.", path, e);
+		}
+	}
+
+	/**
+	 * Writes the buffered records to the file.
+	 */
+	public void flush() {
+		if (failed) {
+			return;
+		}
+		try {
+			out.flush();
+		} catch (IOException e) {
+			failed = true;
+			log.error("Failed to flush command journal '{}', recording stopped.", path, e);
+		}
+	}
+
+	public Path getPath() {
+		return path;
+	}
+
+	@Override
+	public void close() throws IOException {
+		out.close();
+	}
+
+	private void writeSettings(EngineSettings settings) throws IOException {
+		out.writeInt(settings.getTickRateHz());
+		out.writeBoolean(settings.isMovementBatched());
+		out.writeLong(settings.getSpatialCellSize());
+		out.writeFloat(settings.getSeparationRadius());
+		out.writeInt(settings.getSeparationUnitsPerTick());
+		out.writeInt(settings.getSeparationMaxNeighbours());
+		out.writeInt(settings.getNavGridSize());
+		out.writeLong(settings.getNavCellSize());
+		out.writeLong(settings.getNavObstacleRadius());
+		out.writeInt(settings.getPathExpansionsPerTick());
+		out.writeInt(settings.getPathMaxExpansions());
+		out.writeInt(settings.getPathCacheSize());
+		out.writeInt(settings.getFlowGroupSize());
+		out.writeInt(settings.getFlowExpansionsPerTick());
+		out.writeInt(settings.getFlowFieldCacheSize());
+		out.writeInt(settings.getFlowFieldIdleTicks());
+		out.writeInt(settings.getVisionGridSize());
+		out.writeLong(settings.getVisionCellSize());
+		out.writeLong(settings.getVisionRadius());
+		out.writeInt(settings.getVisionMaxPlayers());
+		out.writeInt(settings.getCombatRetargetTicks());
+		out.writeFloat(settings.getProjectileHitRadius());
+	}
+
+	private void writeHeader(long tick, byte type) throws IOException {
+		writeVarLong(out, tick - lastTick);
+		lastTick = tick;
+		out.writeByte(type);
+	}
+
+	private void writeMove(MoveRequestData data) throws IOException {
+		writeVarLong(out, data.entityId());
+		out.writeBoolean(data.playerId() != null);
+		if (data.playerId() != null) {
+			writeVarLong(out, data.playerId());
+		}
+		writeSignedVarLong(out, data.targetX());
+		writeSignedVarLong(out, data.targetY());
+		writeSignedVarLong(out, data.targetZ());
+		writeSignedVarLong(out, data.movementSpeed());
+		writeSignedVarLong(out, data.rotationSpeed());
+		writeSignedVarLong(out, data.stoppingDistance());
+	}
+
+	private void writePath(MovePathRequestData data) throws IOException {
+		writeVarLong(out, data.entityId());
+		out.writeBoolean(data.playerId() != null);
+		if (data.playerId() != null) {
+			writeVarLong(out, data.playerId());
+		}
+		writeSignedVarLong(out, data.movementSpeed());
+		writeSignedVarLong(out, data.rotationSpeed());
+		writeSignedVarLong(out, data.stoppingDistance());
+		writeVarLong(out, data.waypoints().length);
+		for (long value : data.waypoints()) {
+			writeSignedVarLong(out, value);
+		}
+	}
+
+	/**
+	 * Ids are written as non-null varints. A spawn with a missing id is rejected
+	 * before any of its bytes are written, so the journal stays readable up to
+	 * the previous record.
+	 */
+	private static void validateInitSpawn(InitSpawnEntitiesCommand spawn) throws IOException {
+		for (PlayerEntities entity : spawn.entitiesData()) {
+			if (entity.getId() == null || entity.getPlayerId() == null) {
+				throw new IOException("Spawn of player " + spawn.playerId() + " contains an entity without "
+						+ (entity.getId() == null ? "id" : "player id"));
+			}
+		}
+	}
+
+	/**
+	 * Only the fields the spawn command reads are recorded. Positions keep their
+	 * database float so the replayed conversion matches the original one.
+	 */
+	private void writeInitSpawn(InitSpawnEntitiesCommand spawn) throws IOException {
+		writeVarLong(out, spawn.playerId());
+		writeVarLong(out, spawn.entitiesData().size());
+		for (PlayerEntities entity : spawn.entitiesData()) {
+			writeVarLong(out, entity.getId());
+			writeVarLong(out, entity.getPlayerId());
+
+			int flags = 0;
+			flags |= entity.getPosX() != null ? HAS_POS_X : 0;
+			flags |= entity.getPosY() != null ? HAS_POS_Y : 0;
+			flags |= entity.getPosZ() != null ? HAS_POS_Z : 0;
+			flags |= entity.getEntityName() != null ? HAS_NAME : 0;
+			flags |= entity.getIsStatic() != null ? HAS_IS_STATIC : 0;
+			flags |= Boolean.TRUE.equals(entity.getIsStatic()) ? IS_STATIC : 0;
+			out.writeByte(flags);
+
+			if (entity.getPosX() != null) {
+				out.writeFloat(entity.getPosX());
+			}
+			if (entity.getPosY() != null) {
+				out.writeFloat(entity.getPosY());
+			}
+			if (entity.getPosZ() != null) {
+				out.writeFloat(entity.getPosZ());
+			}
+			if (entity.getEntityName() != null) {
+				out.writeUTF(entity.getEntityName());
+			}
+		}
+	}
+}
@@ -0,0 +1,12 @@
+package com.cosmic.scavengers.ecs.journal;
+
+import com.cosmic.scavengers.ecs.commands.meta.IEcsCommand;
+
+/**
+ * One recorded command.
+ *
+ * @param tick    The tick whose command-processing step executed the command.
+ * @param command The command, reconstructed from the journal.
+ */
+public record JournalEntry(long tick, IEcsCommand command) {
+}
@@ -2,11 +2,12 @@ package com.cosmic.scavengers.ecs.queue;
 
 import java.util.concurrent.ConcurrentLinkedQueue;
 
-import org.springframework.stereotype.Component;
-
 import com.cosmic.scavengers.ecs.commands.meta.IEcsCommand;
 
-@Component
+/**
+ * Thread-safe inbox of commands for one world. Network threads submit, the
+ * world's engine drains it at the start of every tick.
+ */
 public class EcsCommandQueue {
 	private final ConcurrentLinkedQueue<IEcsCommand> queue = new ConcurrentLinkedQueue<>();
 
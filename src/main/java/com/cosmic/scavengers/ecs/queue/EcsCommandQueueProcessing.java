@@ -1,33 +1,78 @@
 package com.cosmic.scavengers.ecs.queue;
 
+import java.util.Set;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.stereotype.Component;
 
+import com.cosmic.scavengers.core.jfr.EcsCommandEvent;
 import com.cosmic.scavengers.ecs.commands.meta.IEcsCommand;
+import com.cosmic.scavengers.ecs.events.EcsEventBuffer;
+import com.cosmic.scavengers.ecs.journal.CommandJournalWriter;
+import com.cosmic.scavengers.engine.TickClock;
 import com.cosmic.scavengers.registries.EntityRegistry;
+import com.cosmic.scavengers.system.meta.IEcsSystem;
+import com.cosmic.scavengers.system.meta.SystemAccess;
 
 import dev.dominion.ecs.api.Dominion;
 
-@Component
-public class EcsCommandQueueProcessing implements Runnable {
+public class EcsCommandQueueProcessing implements IEcsSystem {
 	private static final Logger log = LoggerFactory.getLogger(EcsCommandQueueProcessing.class);
 
 	private final EcsCommandQueue commandQueue;
 	private final EntityRegistry entityRegistry;
 	private final Dominion dominion;
+	private final TickClock tickClock;
+	// Null unless command recording is enabled
+	private final CommandJournalWriter journal;
+	// Null when nobody consumes events
+	private final EcsEventBuffer events;
+	// Commands executed by the latest run; read by the engine on the same thread
+	private int lastRunCommandCount;
+
+	public EcsCommandQueueProcessing(
+			EcsCommandQueue commandQueue, 
+			EntityRegistry entityRegistry, 
+			Dominion dominion,
+			TickClock tickClock,
+			CommandJournalWriter journal) {
+		this(commandQueue, entityRegistry, dominion, tickClock, journal, null);
+	}
 
 	public EcsCommandQueueProcessing(
 			EcsCommandQueue commandQueue, 
 			EntityRegistry entityRegistry, 
-			Dominion dominion) {
+			Dominion dominion,
+			TickClock tickClock,
+			CommandJournalWriter journal,
+			EcsEventBuffer events) {
 		this.commandQueue = commandQueue;
 		this.entityRegistry = entityRegistry;
 		this.dominion = dominion;
+		this.tickClock = tickClock;
+		this.journal = journal;
+		this.events = events;
+	}
+
+	/**
+	 * Commands spawn entities and attach intents, so the queue always drains
+	 * alone.
+	 */
+	@Override
+	public SystemAccess access() {
+		return SystemAccess.structural(Set.of(), Set.of());
+	}
+
+	/**
+	 * Number of commands executed by the most recent {@link #run()}.
+	 */
+	public int getLastRunCommandCount() {
+		return lastRunCommandCount;
 	}
 
 	@Override
 	public void run() {
+		int executed = 0;
 		while (!commandQueue.isEmpty()) {
 			IEcsCommand command = commandQueue.poll();
 			if (command == null) {
@@ -35,11 +80,33 @@ public class EcsCommandQueueProcessing implements Runnable {
 				continue;
 			}
 
+			// Recorded at execution, not submission, so replay applies it on the same tick
+			if (journal != null) {
+				journal.record(tickClock.getTick(), command);
+			}
+
+			final EcsCommandEvent event = new EcsCommandEvent();
+			event.begin();
 			try {
-				command.execute(dominion, entityRegistry);
+				command.execute(dominion, entityRegistry, events);
+				event.succeeded = true;
 			} catch (Exception e) {
 				log.error("Failed to execute command: " + command.getClass().getSimpleName(), e);
 			}
+			executed++;
+
+			event.end();
+			if (event.shouldCommit()) {
+				event.world = dominion.getName();
+				event.tick = tickClock.getTick();
+				event.command = command.getClass().getSimpleName();
+				event.commit();
+			}
+		}
+		// Commands are only recorded here, so this is the end of the tick for the journal
+		if (journal != null && executed > 0) {
+			journal.flush();
 		}
+		lastRunCommandCount = executed;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.cosmic.scavengers.ecs.tracking;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import com.cosmic.scavengers.ecs.domain.components.EntitySlot;
+
+import dev.dominion.ecs.api.Entity;
+
+/**
+ * Records which entities of one world changed since the last consumer pass,
+ * keyed by {@link EntitySlot}.
+ *
+ * <p>
+ * Systems that change observable state (position, movement target) mark the
+ * entities they touched. A bitset deduplicates the marks and a parallel list
+ * keeps the slots in marking order, so consumers and {@link #clear()} run in
+ * time proportional to the number of changed entities, not to the world size.
+ *
+ * <p>
+ * The world's {@code WorldSnapshotPublisher} consumes the marks and clears them
+ * at the end of every tick it runs. When it is deferred under load the marks
+ * keep accumulating, so no change is lost.
+ *
+ * <p>
+ * Not thread-safe. Marking systems write Position or Movement, which the
+ * publisher reads, so the scheduler never runs a marker concurrently with the
+ * publisher or with another marker. Systems that only read the marks declare
+ * this class as read in their access, and the publisher declares it as
+ * written, so a reader never runs while the publisher clears.
+ */
+public final class ChangedEntityTracker {
+	private static final int INITIAL_CAPACITY = 256;
+
+	private final BitSet marked = new BitSet();
+	private int[] slots = new int[INITIAL_CAPACITY];
+	private int size = 0;
+
+	/**
+	 * Marks the slot as changed. Marking an already marked slot does nothing.
+	 */
+	public void mark(int slot) {
+		if (marked.get(slot)) {
+			return;
+		}
+		marked.set(slot);
+		if (size == slots.length) {
+			slots = Arrays.copyOf(slots, size * 2);
+		}
+		slots[size++] = slot;
+	}
+
+	/**
+	 * Marks the entity as changed. Entities that were never registered have no
+	 * slot and are ignored.
+	 */
+	public void mark(Entity entity) {
+		final EntitySlot slot = entity.get(EntitySlot.class);
+		if (slot != null) {
+			mark(slot.index());
+		}
+	}
+
+	public boolean isMarked(int slot) {
+		return marked.get(slot);
+	}
+
+	/**
+	 * Number of distinct slots marked since the last {@link #clear()}.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * The {@code index}-th marked slot, in marking order.
+	 */
+	public int getSlot(int index) {
+		return slots[index];
+	}
+
+	/**
+	 * Forgets all marks. Only clears the bits that were set.
+	 */
+	public void clear() {
+		for (int i = 0; i < size; i++) {
+			marked.clear(slots[i]);
+		}
+		size = 0;
+	}
+}
@@ -0,0 +1,67 @@
+package com.cosmic.scavengers.engine;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Overload counters of one {@link GameEngine}. Written by the engine thread
+ * (and scheduler workers for failures), safe to read from any thread.
+ */
+public class EngineLoadStats {
+	// Ticks dropped because the engine fell too far behind to catch up
+	private final LongAdder skippedTicks = new LongAdder();
+	// Ticks that started a full tick length or more after their deadline
+	private final LongAdder lateTicks = new LongAdder();
+	// Ticks whose systems took longer than the tick budget
+	private final LongAdder overBudgetTicks = new LongAdder();
+	// Due system executions pushed to a later tick
+	private final LongAdder deferredSystemRuns = new LongAdder();
+	// System executions that threw
+	private final LongAdder failedSystemRuns = new LongAdder();
+
+	void addSkippedTicks(long ticks) {
+		skippedTicks.add(ticks);
+	}
+
+	void incrementLateTicks() {
+		lateTicks.increment();
+	}
+
+	void incrementOverBudgetTicks() {
+		overBudgetTicks.increment();
+	}
+
+	void incrementDeferredSystemRuns() {
+		deferredSystemRuns.increment();
+	}
+
+	void incrementFailedSystemRuns() {
+		failedSystemRuns.increment();
+	}
+
+	public long getSkippedTicks() {
+		return skippedTicks.sum();
+	}
+
+	public long getLateTicks() {
+		return lateTicks.sum();
+	}
+
+	public long getOverBudgetTicks() {
+		return overBudgetTicks.sum();
+	}
+
+	public long getDeferredSystemRuns() {
+		return deferredSystemRuns.sum();
+	}
+
+	public long getFailedSystemRuns() {
+		return failedSystemRuns.sum();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("skipped=%d late=%d overBudget=%d deferred=%d failed=%d",
+				getSkippedTicks(), getLateTicks(), getOverBudgetTicks(), getDeferredSystemRuns(),
+				getFailedSystemRuns());
+	}
+}
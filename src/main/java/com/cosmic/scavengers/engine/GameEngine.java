@@ -1,96 +1,363 @@
 package com.cosmic.scavengers.engine;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.stereotype.Component;
 
-import com.cosmic.scavengers.ecs.queue.EcsCommandQueueProcessing;
-import com.cosmic.scavengers.system.IntentProcessorSystem;
-import com.cosmic.scavengers.system.MovementSystem;
+import com.cosmic.scavengers.core.jfr.GameTickEvent;
+import com.cosmic.scavengers.engine.pacing.ITickPacer;
+import com.cosmic.scavengers.engine.profiling.SystemTickProfiler;
+import com.cosmic.scavengers.engine.profiling.TickTimingHistogram;
+import com.cosmic.scavengers.engine.scheduling.SystemScheduler;
+import com.cosmic.scavengers.system.meta.IEcsSystem;
 
 /**
- * The core game loop component. Runs on a dedicated thread, executes ECS
- * systems, and broadcasts the resulting game state.
+ * The core game loop of a single ECS world. Executes the world's systems on a
+ * fixed timestep, and broadcasts the resulting game state.
  *
- * Note: MovementSystem currently expects a TICK_DELTA of 0.1s (100ms). The
- * GameEngine's TICK_RATE_MS must match that delta to avoid accelerated
- * movement.
+ * <p>
+ * The engine does not own a thread. In production an
+ * {@link com.cosmic.scavengers.engine.world.EngineShard} multiplexes many
+ * engines on one thread by waiting for the earliest {@link #getNextTickTime()}
+ * and calling {@link #runDueTicks()}. {@link #run()} drives a single engine on
+ * a dedicated thread, waiting through the engine's own {@link ITickPacer}, and
+ * {@link #tick()} runs one tick immediately for headless tools.
+ *
+ * <p>
+ * The tick length is owned by the world's {@link TickClock}, which systems
+ * read for their fixed-point delta, so the loop rate and movement math cannot
+ * drift apart.
+ *
+ * <p>
+ * Under load the engine degrades instead of stalling: a tick that ran past
+ * its budget marks the engine as overloaded, which lets the scheduler defer
+ * non-critical systems; when the engine falls more than
+ * {@value #MAX_CATCH_UP_NS}ns behind, whole ticks are skipped. A failing
+ * system is logged and counted, and the engine only stops after
+ * {@value #MAX_CONSECUTIVE_FAILED_TICKS} failed ticks in a row. All of this is
+ * counted in {@link #getLoadStats()}.
+ *
+ * <p>
+ * Every tick is recorded as a {@link GameTickEvent} when a Flight Recorder
+ * session is running, so tick overruns can be lined up with GC pauses and
+ * other JVM activity.
  */
-@Component
 public class GameEngine implements Runnable {
 	private static final Logger log = LoggerFactory.getLogger(GameEngine.class);
-	// The fixed step our systems expect (0.1 seconds)
-	private static final double TICK_DELTA_S = 0.1;
-	// Convert that step to nanoseconds for precise comparison
-	private static final long TICK_DELTA_NS = (long) (TICK_DELTA_S * 1_000_000_000L);
 
-	private final List<Runnable> systems = new java.util.ArrayList<>();
+	// Never run more than this much wall time in catch-up ticks ("Spiral of Death")
+	private static final long MAX_CATCH_UP_NS = 250_000_000L;
+	// Tick starts later than this are counted as over budget in the jitter histogram
+	private static final long TICK_START_JITTER_BUDGET_NS = 1_000_000L;
+	// A world whose systems keep failing is broken, not overloaded
+	private static final int MAX_CONSECUTIVE_FAILED_TICKS = 100;
 
-	private boolean running = true;
+	// Log the profiler summary once a minute while running
+	private static final long PROFILE_REPORT_INTERVAL_TICKS = 600;
 
-	public GameEngine(
-			EcsCommandQueueProcessing commandHandlerSystem,
-			IntentProcessorSystem intentProcessorSystem,
-			MovementSystem movementSystem) {
-		systems.add(commandHandlerSystem);		
-		systems.add(intentProcessorSystem);
-		systems.add(movementSystem);
+	/**
+	 * World-level counts reported with each {@link GameTickEvent}. Only read
+	 * while a recording is active.
+	 */
+	public interface TickCounters {
+		default int entityCount() {
+			return 0;
+		}
+
+		/**
+		 * Commands executed during the current tick.
+		 */
+		default int commandCount() {
+			return 0;
+		}
 	}
 
-	@Override
-	public void run() {
-		log.info("GameEngine started with Accumulator Timestep ({}s per tick)", TICK_DELTA_S);
+	private final String name;
+	private final List<IEcsSystem> systems;
+	private final SystemScheduler scheduler;
 
-		long lastTime = System.nanoTime();
-		long accumulator = 0;
+	private final SystemTickProfiler profiler;
+	// Resolved once so the tick loop never touches the profiler's map
+	private final TickTimingHistogram[] systemTimings;
+	private final TickTimingHistogram tickTiming;
+	private final TickTimingHistogram tickStartJitter;
+	// Durations of the most recent tick, used to attribute overruns.
+	// Written by scheduler workers, read after the stage join.
+	private final long[] lastTickNanos;
 
-		while (running && !Thread.currentThread().isInterrupted()) {
-			long currentTime = System.nanoTime();
-			long frameTime = currentTime - lastTime;
-			lastTime = currentTime;
+	private final TickClock tickClock;
+	// Cached from the clock; the tick length never changes at runtime
+	private final long tickDeltaNs;
+	private final long tickBudgetNs;
+	// Only used when the engine drives itself through run()
+	private final ITickPacer pacer;
 
-			// Cap frameTime to avoid "Spiral of Death" if server hangs for seconds
-			if (frameTime > 250_000_000L) { // max 0.25s per loop
-				frameTime = 250_000_000L;
-			}
+	private final EngineLoadStats loadStats = new EngineLoadStats();
+	// Whether the previous tick overran its budget or ran late
+	private boolean overloaded;
+	private int consecutiveFailedTicks;
+	// Systems deferred during the current tick, for the tick event
+	private int tickDeferredSystems;
+	private TickCounters tickCounters = new TickCounters() {
+	};
+
+	// Deadline of the next tick on the System.nanoTime() clock
+	private long nextTickTime;
+	private volatile boolean running = true;
+
+	/**
+	 * @param name       Engine name, used as the profiler and log prefix.
+	 * @param systems    Systems in registration order, which is the order
+	 *                   conflicting systems run in.
+	 * @param tickClock  The world's clock.
+	 * @param profiler   Profiler receiving per-system timings.
+	 * @param systemPool Pool for running non-conflicting systems in parallel, or
+	 *                   null to run every system on the calling thread.
+	 * @param tickBudgetNs Time the systems of one tick may take before
+	 *                   non-critical work is deferred; 0 uses the tick length.
+	 * @param pacer      Waits for tick deadlines when the engine runs on its own
+	 *                   thread through {@link #run()}.
+	 */
+	public GameEngine(
+			String name,
+			List<? extends IEcsSystem> systems,
+			TickClock tickClock,
+			SystemTickProfiler profiler,
+			ForkJoinPool systemPool,
+			long tickBudgetNs,
+			ITickPacer pacer) {
+		this.name = name;
+		this.systems = List.copyOf(systems);
+
+		this.tickClock = tickClock;
+		this.tickDeltaNs = tickClock.getDeltaNanos();
+		this.tickBudgetNs = tickBudgetNs > 0 ? tickBudgetNs : tickDeltaNs;
+		this.pacer = pacer;
 
-			accumulator += frameTime;
-			// Consume all accumulated time in fixed TICK_DELTA_NS steps
-			while (accumulator >= TICK_DELTA_NS) {
-				executeGameTick();
-				accumulator -= TICK_DELTA_NS;
+		this.profiler = profiler;
+		this.systemTimings = this.systems.stream()
+				.map(system -> profiler.register(name + "/" + system.name(), this.tickBudgetNs))
+				.toArray(TickTimingHistogram[]::new);
+		this.tickTiming = profiler.register(name + "/" + SystemTickProfiler.TICK_TOTAL, this.tickBudgetNs);
+		this.tickStartJitter = profiler.register(name + "/TickStartJitter", TICK_START_JITTER_BUDGET_NS);
+		this.lastTickNanos = new long[this.systems.size()];
+
+		this.scheduler = new SystemScheduler(this.systems, tickClock, systemPool, new SchedulerListener(),
+				this.tickBudgetNs);
+	}
+
+	/**
+	 * Schedules the first tick one tick length after {@code nowNanos}.
+	 */
+	public void start(long nowNanos) {
+		// Deadlines advance by exactly one tick, so pacing error never accumulates
+		nextTickTime = nowNanos + tickDeltaNs;
+		log.info("GameEngine '{}' started with Fixed Timestep ({} Hz, {}s per tick)",
+				name, tickClock.getTickRateHz(), tickClock.getDelta());
+	}
+
+	/**
+	 * Deadline of the next tick on the {@code System.nanoTime()} clock.
+	 */
+	public long getNextTickTime() {
+		return nextTickTime;
+	}
+
+	/**
+	 * Runs every tick whose deadline has passed. When behind, catch-up ticks
+	 * run back to back, but never for more than {@value #MAX_CATCH_UP_NS}ns of
+	 * wall time; older ticks are skipped.
+	 *
+	 * @return The number of ticks executed.
+	 */
+	public int runDueTicks() {
+		int executed = 0;
+		long now = System.nanoTime();
+		while (running && now >= nextTickTime) {
+			final long lateness = now - nextTickTime;
+			tickStartJitter.record(lateness);
+			if (lateness >= tickDeltaNs) {
+				loadStats.incrementLateTicks();
+				overloaded = true;
 			}
+			executeGameTick();
+			executed++;
+
+			nextTickTime += tickDeltaNs;
+			now = System.nanoTime();
+			skipUnrecoverableTicks(now);
+		}
+		return executed;
+	}
+
+	/**
+	 * Drops whole ticks the engine cannot catch up on ("Spiral of Death").
+	 * Deadlines stay on the original tick grid, so pacing keeps its phase.
+	 */
+	private void skipUnrecoverableTicks(long now) {
+		final long behind = now - MAX_CATCH_UP_NS - nextTickTime;
+		if (behind <= 0) {
+			return;
+		}
+		final long skipped = behind / tickDeltaNs + 1;
+		nextTickTime += skipped * tickDeltaNs;
+		loadStats.addSkippedTicks(skipped);
+		log.warn("GameEngine '{}' fell {}ms behind, skipped {} ticks.",
+				name, (behind + MAX_CATCH_UP_NS) / 1_000_000, skipped);
+	}
+
+	/**
+	 * Runs one tick immediately, ignoring the wall clock. Used by headless
+	 * tools that simulate as fast as possible.
+	 */
+	public void tick() {
+		executeGameTick();
+	}
+
+	/**
+	 * Drives this engine alone on the calling thread until stopped or
+	 * interrupted.
+	 */
+	@Override
+	public void run() {
+		start(System.nanoTime());
 
-			// Sleep a tiny bit to prevent 100% CPU usage
-			// This is "relaxed" sleep; the accumulator handles the precision
-			try {
-				Thread.sleep(1);
-			} catch (InterruptedException e) {
-				Thread.currentThread().interrupt();
+		while (running && !Thread.currentThread().isInterrupted()) {
+			pacer.awaitDeadline(nextTickTime);
+			if (Thread.currentThread().isInterrupted()) {
+				break;
 			}
+			runDueTicks();
 		}
+
+		log.info("GameEngine '{}' stopped after {} ticks.", name, tickClock.getTick());
 	}
 
 	private void executeGameTick() {
 		try {
-			for (Runnable system : systems) {
-				system.run();
+			// Systems not due this tick keep a zero in the overrun breakdown
+			Arrays.fill(lastTickNanos, 0L);
+			tickDeferredSystems = 0;
+
+			final GameTickEvent event = new GameTickEvent();
+			event.begin();
+			final long tickStart = System.nanoTime();
+			final int failedSystems = scheduler.runTick(overloaded);
+
+			final long tickNanos = System.nanoTime() - tickStart;
+			event.end();
+			tickTiming.record(tickNanos);
+			final boolean overBudget = tickNanos > tickBudgetNs;
+			if (overBudget) {
+				loadStats.incrementOverBudgetTicks();
+				// Only the first tick of an overload streak gets the full breakdown
+				if (!overloaded) {
+					logTickOverrun(tickNanos);
+				}
 			}
+			overloaded = overBudget;
+			commitTickEvent(event, overBudget);
 
-			// Note: In this pattern, we broadcast after the systems run
-			// If you want to save bandwidth, you can move stateBroadcaster
-			// outside the while loop so it only sends the latest state after
-			// all catch-up ticks are done.
-			// stateBroadcaster.broadcastCurrentState(dominion);
+			tickClock.advance();
+			if (tickClock.getTick() % PROFILE_REPORT_INTERVAL_TICKS == 0) {
+				profiler.logSummary(name + "/");
+				log.info("GameEngine '{}' load: {}", name, loadStats);
+			}
+			recordTickOutcome(failedSystems > 0);
 		} catch (Exception e) {
-			log.error("Error in game tick execution", e);
+			log.error("Error in game tick execution of '{}'", name, e);
+			recordTickOutcome(true);
+		}
+	}
+
+	private void commitTickEvent(GameTickEvent event, boolean overBudget) {
+		if (!event.shouldCommit()) {
+			return;
+		}
+		event.world = name;
+		event.tick = tickClock.getTick();
+		event.entityCount = tickCounters.entityCount();
+		event.commandCount = tickCounters.commandCount();
+		event.overBudget = overBudget;
+		event.deferredSystems = tickDeferredSystems;
+		event.commit();
+	}
+
+	private void recordTickOutcome(boolean failed) {
+		if (!failed) {
+			consecutiveFailedTicks = 0;
+			return;
+		}
+		if (++consecutiveFailedTicks >= MAX_CONSECUTIVE_FAILED_TICKS) {
+			log.error("GameEngine '{}' failed {} ticks in a row, stopping.", name, consecutiveFailedTicks);
 			this.stop();
 		}
 	}
 
+	/**
+	 * Routes scheduler callbacks into the profiler and the load counters.
+	 */
+	private class SchedulerListener implements SystemScheduler.SystemTimingListener {
+		@Override
+		public void onSystemFinished(int systemIndex, long nanos) {
+			lastTickNanos[systemIndex] = nanos;
+			systemTimings[systemIndex].record(nanos);
+		}
+
+		@Override
+		public void onSystemDeferred(int systemIndex) {
+			tickDeferredSystems++;
+			loadStats.incrementDeferredSystemRuns();
+		}
+
+		@Override
+		public void onSystemFailed(int systemIndex, Exception e) {
+			loadStats.incrementFailedSystemRuns();
+			log.error("System {} failed in tick {} of '{}'",
+					systems.get(systemIndex).name(), tickClock.getTick(), name, e);
+		}
+	}
+
+	private void logTickOverrun(long tickNanos) {
+		if (!log.isWarnEnabled()) {
+			return;
+		}
+		final String breakdown = IntStream.range(0, systems.size())
+				.mapToObj(i -> String.format("%s=%.3fms", systemTimings[i].getName(), lastTickNanos[i] / 1_000_000.0))
+				.collect(Collectors.joining(", "));
+		log.warn("Tick {} overran budget: {}ms > {}ms [{}]",
+				tickClock.getTick(), tickNanos / 1_000_000.0, tickBudgetNs / 1_000_000.0, breakdown);
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Sets the source of the counts reported with each tick event.
+	 */
+	public void setTickCounters(TickCounters tickCounters) {
+		this.tickCounters = tickCounters;
+	}
+
+	public EngineLoadStats getLoadStats() {
+		return loadStats;
+	}
+
+	public TickClock getTickClock() {
+		return tickClock;
+	}
+
+	public boolean isRunning() {
+		return running;
+	}
+
 	public void stop() {
 		this.running = false;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,107 @@
+package com.cosmic.scavengers.engine;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.scale.Scale4f;
+
+import com.cosmic.scavengers.core.utils.DecimalUtils;
+
+/**
+ * Single source of truth for simulation time.
+ *
+ * <p>
+ * Owns the fixed tick rate, the tick delta (both as nanoseconds for the
+ * engine loop and as a Scale4f fixed-point value for deterministic system
+ * math) and the number of the tick currently being simulated. The GameEngine
+ * advances the clock; systems only read it. Every world has its own clock.
+ *
+ * <p>
+ * The tick rate must divide one Scale4f unit (10,000) evenly, so that the
+ * wall-clock step and the fixed-point step describe exactly the same
+ * duration.
+ */
+public class TickClock {
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+	private static final long SCALED_ONE = Scale4f.INSTANCE.getScaleFactor();
+
+	private final int tickRateHz;
+	private final long deltaNanos;
+	private final long deltaScaled;
+	private final Decimal<Scale4f> delta;
+
+	// Written by the engine thread only, read by anyone
+	private volatile long tick = 0;
+
+	public TickClock(int tickRateHz) {
+		// Any divisor of 10,000 also divides 10^9, so one check covers both clocks
+		if (tickRateHz <= 0 || SCALED_ONE % tickRateHz != 0) {
+			throw new IllegalArgumentException("Tick rate must evenly divide 10000, got: " + tickRateHz);
+		}
+		this.tickRateHz = tickRateHz;
+		this.deltaNanos = NANOS_PER_SECOND / tickRateHz;
+		this.deltaScaled = SCALED_ONE / tickRateHz;
+		this.delta = DecimalUtils.fromScaled(deltaScaled);
+	}
+
+	/**
+	 * Number of the tick currently executing (or, between ticks, the next one to
+	 * execute). The first tick is 0.
+	 */
+	public long getTick() {
+		return tick;
+	}
+
+	/**
+	 * Moves the clock to the next tick. Called by the GameEngine once per
+	 * completed tick.
+	 */
+	public void advance() {
+		tick = tick + 1;
+	}
+
+	public int getTickRateHz() {
+		return tickRateHz;
+	}
+
+	/**
+	 * Fixed tick length in nanoseconds.
+	 */
+	public long getDeltaNanos() {
+		return deltaNanos;
+	}
+
+	/**
+	 * Fixed tick length in seconds as an unscaled Scale4f value (1000 at 10 Hz).
+	 */
+	public long getDeltaScaled() {
+		return deltaScaled;
+	}
+
+	/**
+	 * Fixed tick length in seconds as a Scale4f decimal.
+	 */
+	public Decimal<Scale4f> getDelta() {
+		return delta;
+	}
+
+	/**
+	 * Converts a target frequency into a tick interval, for systems that should
+	 * run slower than the tick rate. Frequencies at or above the tick rate map to
+	 * every tick.
+	 *
+	 * @param hz Desired executions per second.
+	 * @return Run every N ticks (at least 1).
+	 */
+	public int intervalForHz(double hz) {
+		if (hz <= 0) {
+			throw new IllegalArgumentException("Frequency must be positive, got: " + hz);
+		}
+		return (int) Math.max(1L, Math.round(tickRateHz / hz));
+	}
+
+	/**
+	 * Whether a system with the given interval is due on the current tick.
+	 */
+	public boolean isDue(int tickInterval) {
+		return tickInterval <= 1 || tick % tickInterval == 0;
+	}
+}
@@ -0,0 +1,18 @@
+package com.cosmic.scavengers.engine.pacing;
+
+/**
+ * Strategy for waiting until the start of the next game tick.
+ */
+public interface ITickPacer {
+
+	/**
+	 * Blocks the calling thread until {@code System.nanoTime()} reaches
+	 * {@code deadlineNanos}. Returns immediately if the deadline has already
+	 * passed, and early if the thread is interrupted (the interrupt flag is left
+	 * set).
+	 *
+	 * @param deadlineNanos Absolute deadline on the {@code System.nanoTime()}
+	 *                      clock.
+	 */
+	void awaitDeadline(long deadlineNanos);
+}
@@ -0,0 +1,24 @@
+package com.cosmic.scavengers.engine.pacing;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Low-CPU pacer: parks the engine thread for the whole remaining time.
+ *
+ * <p>
+ * The thread wakes once per tick instead of once per millisecond, but the
+ * wake-up is subject to OS timer slack, so tick starts are typically late by
+ * tens of microseconds up to a millisecond.
+ */
+public class ParkingTickPacer implements ITickPacer {
+
+	@Override
+	public void awaitDeadline(long deadlineNanos) {
+		long remaining = deadlineNanos - System.nanoTime();
+		// parkNanos may return spuriously, so re-check until the deadline
+		while (remaining > 0 && !Thread.currentThread().isInterrupted()) {
+			LockSupport.parkNanos(this, remaining);
+			remaining = deadlineNanos - System.nanoTime();
+		}
+	}
+}
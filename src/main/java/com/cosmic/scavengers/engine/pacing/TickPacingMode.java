@@ -0,0 +1,25 @@
+package com.cosmic.scavengers.engine.pacing;
+
+/**
+ * Deployment-selectable tick pacing strategy
+ * ({@code game.engine.pacing}).
+ */
+public enum TickPacingMode {
+	/**
+	 * Park for the whole wait. Minimal CPU use, ~0.1-1 ms tick-start jitter.
+	 */
+	LOW_CPU,
+
+	/**
+	 * Park, then spin through an adaptive window before the deadline. Burns up
+	 * to a couple of milliseconds of one core per tick for microsecond jitter.
+	 */
+	LOW_JITTER;
+
+	public ITickPacer createPacer() {
+		return switch (this) {
+		case LOW_CPU -> new ParkingTickPacer();
+		case LOW_JITTER -> new SpinParkTickPacer();
+		};
+	}
+}
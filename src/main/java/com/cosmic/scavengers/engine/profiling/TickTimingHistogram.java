@@ -0,0 +1,157 @@
+package com.cosmic.scavengers.engine.profiling;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free, fixed-size histogram of tick durations in nanoseconds.
+ *
+ * <p>
+ * Samples are bucketed log-linearly: every power of two is split into
+ * {@value #SUB_BUCKETS} linear sub-buckets, which keeps the relative error of
+ * reported percentiles below ~6% while the whole histogram stays a single
+ * preallocated {@link AtomicLongArray}. Within a bucket, percentiles are
+ * interpolated linearly by rank. Values below {@value #SUB_BUCKETS} have a
+ * bucket each and are exact. Recording is wait-free (one atomic
+ * increment plus a CAS loop for the max that almost never retries), so the
+ * engine thread can record on every tick while admin threads read snapshots
+ * concurrently.
+ */
+public final class TickTimingHistogram {
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int SUB_BUCKET_MASK = SUB_BUCKETS - 1;
+	// Enough buckets to cover every non-negative long value
+	private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	private final String name;
+	private final long budgetNanos;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+	private final AtomicLong samples = new AtomicLong();
+	private final AtomicLong totalNanos = new AtomicLong();
+	private final AtomicLong maxNanos = new AtomicLong();
+	private final AtomicLong overBudget = new AtomicLong();
+
+	/**
+	 * @param name        Display name (usually the system class name).
+	 * @param budgetNanos Samples strictly above this value are counted as over
+	 *                    budget.
+	 */
+	public TickTimingHistogram(String name, long budgetNanos) {
+		this.name = name;
+		this.budgetNanos = budgetNanos;
+	}
+
+	/**
+	 * Records a single duration sample. Negative values are clamped to zero.
+	 */
+	public void record(long nanos) {
+		final long value = Math.max(0L, nanos);
+
+		counts.incrementAndGet(bucketIndex(value));
+		samples.incrementAndGet();
+		totalNanos.addAndGet(value);
+
+		long currentMax = maxNanos.get();
+		while (value > currentMax && !maxNanos.compareAndSet(currentMax, value)) {
+			currentMax = maxNanos.get();
+		}
+
+		if (value > budgetNanos) {
+			overBudget.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Builds a point-in-time view of the histogram. Concurrent writers may make
+	 * individual fields differ by a sample or two, which is acceptable for
+	 * monitoring purposes.
+	 */
+	public TickTimingSnapshot snapshot() {
+		final long sampleCount = samples.get();
+		final long[] bucketCounts = new long[BUCKET_COUNT];
+		long bucketTotal = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			bucketCounts[i] = counts.get(i);
+			bucketTotal += bucketCounts[i];
+		}
+
+		final long max = maxNanos.get();
+		final long mean = sampleCount == 0 ? 0L : totalNanos.get() / sampleCount;
+
+		return new TickTimingSnapshot(
+				name,
+				sampleCount,
+				mean,
+				Math.min(max, percentile(bucketCounts, bucketTotal, 0.50)),
+				Math.min(max, percentile(bucketCounts, bucketTotal, 0.99)),
+				max,
+				overBudget.get());
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public long getBudgetNanos() {
+		return budgetNanos;
+	}
+
+	private static long percentile(long[] bucketCounts, long total, double quantile) {
+		if (total == 0) {
+			return 0L;
+		}
+		final long rank = Math.max(1L, (long) Math.ceil(total * quantile));
+		long seen = 0;
+		for (int i = 0; i < bucketCounts.length; i++) {
+			if (seen + bucketCounts[i] >= rank) {
+				return interpolate(i, rank - seen, bucketCounts[i]);
+			}
+			seen += bucketCounts[i];
+		}
+		return bucketUpperBound(bucketCounts.length - 1);
+	}
+
+	/**
+	 * Estimates the {@code rankInBucket}-th of {@code count} samples in the
+	 * bucket, assuming they are spread evenly over it.
+	 */
+	static long interpolate(int index, long rankInBucket, long count) {
+		final long lower = bucketLowerBound(index);
+		final long upper = bucketUpperBound(index);
+		// Widths of the top buckets round up as a double; clamped before adding so
+		// the last bucket cannot overflow
+		final long width = upper - lower;
+		return lower + Math.min(width, (long) (width * ((double) rankInBucket / count)));
+	}
+
+	static int bucketIndex(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		final int msb = 63 - Long.numberOfLeadingZeros(value);
+		final int shift = msb - SUB_BUCKET_BITS;
+		final int subBucket = (int) ((value >>> shift) & SUB_BUCKET_MASK);
+		return (shift + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	static long bucketLowerBound(int index) {
+		final int bucket = index >>> SUB_BUCKET_BITS;
+		final int subBucket = index & SUB_BUCKET_MASK;
+		if (bucket == 0) {
+			return subBucket;
+		}
+		return (long) (SUB_BUCKETS + subBucket) << (bucket - 1);
+	}
+
+	static long bucketUpperBound(int index) {
+		final int bucket = index >>> SUB_BUCKET_BITS;
+		final int subBucket = index & SUB_BUCKET_MASK;
+		if (bucket == 0) {
+			return subBucket;
+		}
+		final int shift = bucket - 1;
+		return bucketLowerBound(index) + (1L << shift) - 1;
+	}
+}
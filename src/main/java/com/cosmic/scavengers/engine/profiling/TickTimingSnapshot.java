@@ -0,0 +1,24 @@
+package com.cosmic.scavengers.engine.profiling;
+
+/**
+ * Immutable view of a {@link TickTimingHistogram} at a point in time. All
+ * durations are in nanoseconds.
+ */
+public record TickTimingSnapshot(
+		String name,
+		long samples,
+		long meanNanos,
+		long p50Nanos,
+		long p99Nanos,
+		long maxNanos,
+		long overBudget) {
+
+	@Override
+	public String toString() {
+		return String.format("%-28s samples=%d mean=%.3fms p50=%.3fms p99=%.3fms max=%.3fms overBudget=%d",
+				name, samples,
+				meanNanos / 1_000_000.0, p50Nanos / 1_000_000.0,
+				p99Nanos / 1_000_000.0, maxNanos / 1_000_000.0,
+				overBudget);
+	}
+}
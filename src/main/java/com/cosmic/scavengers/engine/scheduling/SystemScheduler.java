@@ -0,0 +1,250 @@
+package com.cosmic.scavengers.engine.scheduling;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.cosmic.scavengers.engine.TickClock;
+import com.cosmic.scavengers.system.meta.IEcsSystem;
+import com.cosmic.scavengers.system.meta.SystemPriority;
+
+/**
+ * Runs the ECS systems of one tick, in parallel where their declared component
+ * access allows it.
+ *
+ * <p>
+ * At construction the systems are arranged into a DAG: a system depends on
+ * every earlier-registered system it conflicts with (see
+ * {@link com.cosmic.scavengers.system.meta.SystemAccess#conflictsWith}). The
+ * DAG is then flattened into stages, where a system's stage is one past the
+ * latest stage of its dependencies. Systems in the same stage never conflict,
+ * so running them concurrently produces the same world state as running them
+ * sequentially in registration order; stages themselves run strictly one
+ * after another.
+ *
+ * <p>
+ * Systems with a {@link IEcsSystem#tickInterval()} above 1 are skipped on
+ * ticks where they are not due; the stage layout stays the same.
+ *
+ * <p>
+ * Each tick has a time budget. Once a tick has used it up, due systems that
+ * are not {@link SystemPriority#CRITICAL} are deferred: they stay pending and
+ * run on the next tick that has time left, no matter their interval. A system
+ * is never deferred more than {@value #MAX_DEFERRED_TICKS} ticks in a row, so
+ * sustained overload slows it down instead of starving it.
+ *
+ * <p>
+ * A system that throws does not abort the tick. The failure is reported to
+ * the listener and the remaining systems still run, so a single faulty system
+ * cannot take its world down.
+ *
+ * <p>
+ * The worker pool is shared between all worlds and owned by the caller. Without
+ * a pool every system runs inline on the engine thread.
+ */
+public class SystemScheduler {
+	private static final Logger log = LoggerFactory.getLogger(SystemScheduler.class);
+
+	// Upper bound on consecutive deferrals of one system
+	static final int MAX_DEFERRED_TICKS = 10;
+
+	/**
+	 * Callbacks about system executions. Systems are identified by their index
+	 * in the registration order. {@link #onSystemFinished} and
+	 * {@link #onSystemFailed} may be called from pool threads.
+	 */
+	@FunctionalInterface
+	public interface SystemTimingListener {
+		/**
+		 * Called after every execution, including failed ones.
+		 */
+		void onSystemFinished(int systemIndex, long nanos);
+
+		/**
+		 * Called on the engine thread when a due system is pushed to a later tick.
+		 */
+		default void onSystemDeferred(int systemIndex) {
+		}
+
+		/**
+		 * Called when a system throws. The tick continues with the next system.
+		 */
+		default void onSystemFailed(int systemIndex, Exception e) {
+		}
+	}
+
+	private final List<IEcsSystem> systems;
+	private final int[] tickIntervals;
+	private final boolean[] deferrable;
+	private final SystemPriority[] priorities;
+	// Deferred systems that still owe a run, and for how many ticks
+	private final boolean[] pending;
+	private final int[] deferredTicks;
+	// Scratch buffer for the systems of the current stage that run this tick
+	private final int[] due;
+	private final int[][] stages;
+	private final TickClock tickClock;
+	// Shared, may be null
+	private final ForkJoinPool pool;
+	private final SystemTimingListener timingListener;
+	private final long tickBudgetNanos;
+	// Failures of the current tick; systems may fail on pool threads
+	private final AtomicInteger failedSystems = new AtomicInteger();
+
+	/**
+	 * @param systems        Systems in registration order.
+	 * @param tickClock      Clock deciding which systems are due each tick.
+	 * @param pool           Pool for parallel stages, or null to run inline.
+	 * @param timingListener  Receives the duration of every system execution.
+	 * @param tickBudgetNanos Time after which deferrable systems are pushed to a
+	 *                        later tick.
+	 */
+	public SystemScheduler(List<? extends IEcsSystem> systems, TickClock tickClock, ForkJoinPool pool,
+			SystemTimingListener timingListener, long tickBudgetNanos) {
+		this.systems = List.copyOf(systems);
+		this.tickIntervals = this.systems.stream().mapToInt(IEcsSystem::tickInterval).toArray();
+		this.priorities = this.systems.stream().map(IEcsSystem::priority).toArray(SystemPriority[]::new);
+		this.deferrable = new boolean[this.systems.size()];
+		for (int i = 0; i < deferrable.length; i++) {
+			deferrable[i] = priorities[i] != SystemPriority.CRITICAL;
+		}
+		this.pending = new boolean[this.systems.size()];
+		this.deferredTicks = new int[this.systems.size()];
+		this.due = new int[this.systems.size()];
+		this.tickBudgetNanos = tickBudgetNanos;
+		this.stages = buildStages(this.systems);
+		this.tickClock = tickClock;
+		this.timingListener = timingListener;
+		this.pool = pool;
+
+		for (int s = 0; s < stages.length; s++) {
+			final int stage = s;
+			log.info("System stage {}: {}", stage,
+					Arrays.stream(stages[stage])
+							.mapToObj(i -> this.systems.get(i).name() + "/" + tickIntervals[i]
+									+ (deferrable[i] ? "/" + priorities[i] : ""))
+							.toList());
+		}
+	}
+
+	/**
+	 * Executes every system that is due on the clock's current tick, deferring
+	 * non-critical systems once the tick budget is spent.
+	 *
+	 * @param overloaded Whether the engine is behind; {@link SystemPriority#LOW}
+	 *                   systems are deferred up front.
+	 * @return The number of systems that threw.
+	 */
+	public int runTick(boolean overloaded) {
+		failedSystems.set(0);
+		final long tickStart = System.nanoTime();
+		for (int[] stage : stages) {
+			final boolean overBudget = System.nanoTime() - tickStart >= tickBudgetNanos;
+			final int dueCount = collectDue(stage, overloaded, overBudget);
+			if (pool == null || dueCount <= 1) {
+				for (int i = 0; i < dueCount; i++) {
+					runTimed(due[i]);
+				}
+			} else {
+				runStageParallel(dueCount);
+			}
+		}
+		return failedSystems.get();
+	}
+
+	public int getStageCount() {
+		return stages.length;
+	}
+
+	/**
+	 * Collects the systems of a stage that run this tick into {@link #due} and
+	 * updates the deferral state of the others.
+	 *
+	 * @return The number of systems to run.
+	 */
+	private int collectDue(int[] stage, boolean overloaded, boolean overBudget) {
+		int dueCount = 0;
+		for (int index : stage) {
+			if (!pending[index] && !tickClock.isDue(tickIntervals[index])) {
+				continue;
+			}
+			final boolean shed = deferrable[index]
+					&& deferredTicks[index] < MAX_DEFERRED_TICKS
+					&& (overBudget || (overloaded && priorities[index] == SystemPriority.LOW));
+			if (shed) {
+				pending[index] = true;
+				deferredTicks[index]++;
+				timingListener.onSystemDeferred(index);
+			} else {
+				pending[index] = false;
+				deferredTicks[index] = 0;
+				due[dueCount++] = index;
+			}
+		}
+		return dueCount;
+	}
+
+	private void runStageParallel(int dueCount) {
+		final List<ForkJoinTask<?>> forked = new ArrayList<>(dueCount - 1);
+		for (int i = 1; i < dueCount; i++) {
+			final int index = due[i];
+			forked.add(pool.submit(() -> runTimed(index)));
+		}
+
+		// The engine thread takes the first system itself instead of idling
+		runTimed(due[0]);
+
+		// runTimed never throws, so every task completes normally
+		for (ForkJoinTask<?> task : forked) {
+			task.join();
+		}
+	}
+
+	private void runTimed(int index) {
+		final long start = System.nanoTime();
+		try {
+			systems.get(index).run();
+		} catch (Exception e) {
+			failedSystems.incrementAndGet();
+			timingListener.onSystemFailed(index, e);
+		} finally {
+			timingListener.onSystemFinished(index, System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Assigns each system to the earliest stage after all conflicting systems
+	 * registered before it.
+	 */
+	static int[][] buildStages(List<IEcsSystem> systems) {
+		final int[] stageOf = new int[systems.size()];
+		int stageCount = 0;
+
+		for (int i = 0; i < systems.size(); i++) {
+			int stage = 0;
+			for (int j = 0; j < i; j++) {
+				if (systems.get(i).access().conflictsWith(systems.get(j).access())) {
+					stage = Math.max(stage, stageOf[j] + 1);
+				}
+			}
+			stageOf[i] = stage;
+			stageCount = Math.max(stageCount, stage + 1);
+		}
+
+		final int[][] stages = new int[stageCount][];
+		for (int s = 0; s < stageCount; s++) {
+			final int stage = s;
+			stages[s] = IntStream.range(0, systems.size())
+					.filter(i -> stageOf[i] == stage)
+					.toArray();
+		}
+		return stages;
+	}
+}
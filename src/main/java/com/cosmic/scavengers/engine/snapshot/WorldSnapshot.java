@@ -0,0 +1,161 @@
+package com.cosmic.scavengers.engine.snapshot;
+
+import java.util.Arrays;
+
+/**
+ * Immutable, array-backed copy of the observable state of one world at the end
+ * of a tick. Safe to read from any thread without locking while the engine
+ * runs later ticks, and for as long as the reader likes.
+ *
+ * <p>
+ * Entities are addressed by index {@code 0..size()-1} and sorted by entity id,
+ * so {@link #indexOf(long)} is a binary search. Coordinates are Scale4f
+ * unscaled values, the same representation the network protocol uses.
+ *
+ * <p>
+ * The snapshot also lists the indices of the entities that changed since the
+ * previous published snapshot, so consumers such as the state broadcaster can
+ * work in time proportional to what changed instead of to the world size.
+ */
+public final class WorldSnapshot {
+	/**
+	 * Snapshot of a world before its first tick.
+	 */
+	public static final WorldSnapshot EMPTY = new WorldSnapshot(0, -1, 0, new long[0], new long[0], new String[0],
+			new long[0], new long[0], new long[0], new boolean[0], new long[0], new long[0], new long[0], new int[0], 0);
+
+	private final long sequence;
+	private final long tick;
+	private final int size;
+
+	private final long[] entityIds;
+	private final long[] ownerIds;
+	private final String[] names;
+
+	private final long[] x;
+	private final long[] y;
+	private final long[] z;
+
+	// Target values are 0 for entities that are not moving
+	private final boolean[] moving;
+	private final long[] targetX;
+	private final long[] targetY;
+	private final long[] targetZ;
+
+	// Ascending snapshot indices of the entities changed since the previous snapshot
+	private final int[] changed;
+	private final int changedCount;
+
+	WorldSnapshot(long sequence, long tick, int size, long[] entityIds, long[] ownerIds, String[] names, long[] x,
+			long[] y, long[] z, boolean[] moving, long[] targetX, long[] targetY, long[] targetZ, int[] changed,
+			int changedCount) {
+		this.sequence = sequence;
+		this.tick = tick;
+		this.size = size;
+		this.entityIds = entityIds;
+		this.ownerIds = ownerIds;
+		this.names = names;
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		this.moving = moving;
+		this.targetX = targetX;
+		this.targetY = targetY;
+		this.targetZ = targetZ;
+		this.changed = changed;
+		this.changedCount = changedCount;
+	}
+
+	/**
+	 * Number of this publication, starting at 1; {@link #EMPTY} has 0. The
+	 * changed entities are relative to the snapshot with the previous number, so
+	 * a consumer that missed a number has to treat every entity as changed.
+	 */
+	public long getSequence() {
+		return sequence;
+	}
+
+	/**
+	 * The tick whose end state this snapshot holds.
+	 */
+	public long getTick() {
+		return tick;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return The index of the entity, or -1 if it is not in this snapshot.
+	 */
+	public int indexOf(long entityId) {
+		final int index = Arrays.binarySearch(entityIds, 0, size, entityId);
+		return index >= 0 ? index : -1;
+	}
+
+	/**
+	 * Database id from the PLAYER_ENTITIES table.
+	 */
+	public long getEntityId(int index) {
+		return entityIds[index];
+	}
+
+	public long getOwnerId(int index) {
+		return ownerIds[index];
+	}
+
+	/**
+	 * Dominion entity name, {@code "playerId|entityId|name"}.
+	 */
+	public String getName(int index) {
+		return names[index];
+	}
+
+	public long getX(int index) {
+		return x[index];
+	}
+
+	public long getY(int index) {
+		return y[index];
+	}
+
+	public long getZ(int index) {
+		return z[index];
+	}
+
+	/**
+	 * Whether the entity has a movement target.
+	 */
+	public boolean isMoving(int index) {
+		return moving[index];
+	}
+
+	public long getTargetX(int index) {
+		return targetX[index];
+	}
+
+	public long getTargetY(int index) {
+		return targetY[index];
+	}
+
+	public long getTargetZ(int index) {
+		return targetZ[index];
+	}
+
+	/**
+	 * Number of entities whose position or movement changed since the previous
+	 * published snapshot.
+	 */
+	public int getChangedCount() {
+		return changedCount;
+	}
+
+	/**
+	 * Snapshot index of the {@code n}-th changed entity. Indices are ascending,
+	 * so changed entities come in entity id order.
+	 */
+	public int getChangedIndex(int n) {
+		return changed[n];
+	}
+}
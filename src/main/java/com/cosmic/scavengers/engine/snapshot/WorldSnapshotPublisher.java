@@ -0,0 +1,219 @@
+package com.cosmic.scavengers.engine.snapshot;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.cosmic.scavengers.ecs.domain.components.Movement;
+import com.cosmic.scavengers.ecs.domain.components.Owner;
+import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.ecs.tracking.ChangedEntityTracker;
+import com.cosmic.scavengers.engine.TickClock;
+import com.cosmic.scavengers.registries.EntityRegistry;
+import com.cosmic.scavengers.system.meta.IEcsSystem;
+import com.cosmic.scavengers.system.meta.SystemAccess;
+import com.cosmic.scavengers.system.meta.SystemPriority;
+
+import dev.dominion.ecs.api.Entity;
+
+/**
+ * Copies the world's entities into a new {@link WorldSnapshot} and publishes
+ * it for off-thread readers. Registered last, so it observes the final state
+ * of the tick.
+ *
+ * <p>
+ * Each run fills fresh, exactly sized arrays instead of recycling earlier
+ * ones: a reader may hold on to a snapshot for as long as it likes, even while
+ * catch-up ticks publish several more in quick succession. Publication is a
+ * single volatile write, so readers always see a complete snapshot. The
+ * entities are found through the registry's slot table and ordered in reusable
+ * scratch arrays, so the snapshot's own arrays are the only allocation of a
+ * run.
+ *
+ * <p>
+ * The publisher never changes simulation state, so it is
+ * {@link SystemPriority#NORMAL}: under load readers get a snapshot that is a
+ * few ticks old rather than a slower simulation.
+ *
+ * <p>
+ * It is also the consumer of the world's {@link ChangedEntityTracker}: the
+ * marks are translated into snapshot indices and cleared. A deferred run lets
+ * the marks of several ticks accumulate into the next snapshot. Clearing is
+ * declared as a write of the tracker, so systems that read the marks never
+ * run alongside the publisher.
+ *
+ * <p>
+ * Listeners, such as the network state broadcast, are handed every new
+ * snapshot right after it is published, on the thread that ran the publisher.
+ */
+public class WorldSnapshotPublisher implements IEcsSystem {
+	private static final Logger log = LoggerFactory.getLogger(WorldSnapshotPublisher.class);
+
+	private static final int INITIAL_CAPACITY = 256;
+
+	private final EntityRegistry entityRegistry;
+	private final TickClock tickClock;
+	private final ChangedEntityTracker changes;
+
+	private final List<Consumer<WorldSnapshot>> listeners = new CopyOnWriteArrayList<>();
+	private volatile WorldSnapshot latest = WorldSnapshot.EMPTY;
+	// Engine thread only; occupied slots sorted by entity id, and the merge buffer
+	private int[] order = new int[INITIAL_CAPACITY];
+	private int[] mergeBuffer = new int[INITIAL_CAPACITY];
+	private long sequence = 0;
+
+	public WorldSnapshotPublisher(EntityRegistry entityRegistry, TickClock tickClock, ChangedEntityTracker changes) {
+		this.entityRegistry = entityRegistry;
+		this.tickClock = tickClock;
+		this.changes = changes;
+	}
+
+	@Override
+	public SystemAccess access() {
+		// Clearing the marks is a write, so systems reading them never run alongside
+		return SystemAccess.of(Set.of(Position.class, Owner.class, Movement.class),
+				Set.of(ChangedEntityTracker.class));
+	}
+
+	@Override
+	public SystemPriority priority() {
+		return SystemPriority.NORMAL;
+	}
+
+	/**
+	 * The most recently published snapshot. Never null.
+	 */
+	public WorldSnapshot getLatest() {
+		return latest;
+	}
+
+	/**
+	 * Adds a listener for all following snapshots. May be called from any
+	 * thread.
+	 */
+	public void addListener(Consumer<WorldSnapshot> listener) {
+		listeners.add(listener);
+	}
+
+	public void removeListener(Consumer<WorldSnapshot> listener) {
+		listeners.remove(listener);
+	}
+
+	@Override
+	public void run() {
+		final int count = collectSortedSlots();
+
+		final long[] entityIds = new long[count];
+		final long[] ownerIds = new long[count];
+		final String[] names = new String[count];
+		final long[] x = new long[count];
+		final long[] y = new long[count];
+		final long[] z = new long[count];
+		final boolean[] moving = new boolean[count];
+		final long[] targetX = new long[count];
+		final long[] targetY = new long[count];
+		final long[] targetZ = new long[count];
+
+		int size = 0;
+		for (int i = 0; i < count; i++) {
+			final int slot = order[i];
+			final Entity entity = entityRegistry.getEntityAt(slot);
+			final Position position = entity.get(Position.class);
+			if (position == null) {
+				continue;
+			}
+
+			entityIds[size] = entityRegistry.getIdAt(slot);
+			final Owner owner = entity.get(Owner.class);
+			ownerIds[size] = owner != null ? owner.playerId() : 0L;
+			names[size] = entity.getName();
+			x[size] = position.x();
+			y[size] = position.y();
+			z[size] = position.z();
+
+			final Movement movement = entity.get(Movement.class);
+			if (movement != null) {
+				moving[size] = true;
+				targetX[size] = movement.targetX();
+				targetY[size] = movement.targetY();
+				targetZ[size] = movement.targetZ();
+			}
+			size++;
+		}
+
+		final int[] changed = new int[changes.size()];
+		int changedCount = 0;
+		for (int i = 0; i < changes.size(); i++) {
+			// Slots freed since they were marked resolve to -1 and are dropped
+			final long id = entityRegistry.getIdAt(changes.getSlot(i));
+			final int index = id >= 0 ? Arrays.binarySearch(entityIds, 0, size, id) : -1;
+			if (index >= 0) {
+				changed[changedCount++] = index;
+			}
+		}
+		Arrays.sort(changed, 0, changedCount);
+		changes.clear();
+
+		final WorldSnapshot snapshot = new WorldSnapshot(++sequence, tickClock.getTick(), size, entityIds, ownerIds,
+				names, x, y, z, moving, targetX, targetY, targetZ, changed, changedCount);
+		latest = snapshot;
+		for (Consumer<WorldSnapshot> listener : listeners) {
+			try {
+				listener.accept(snapshot);
+			} catch (Exception e) {
+				log.error("Snapshot listener {} failed for snapshot {}.", listener, snapshot.getSequence(), e);
+			}
+		}
+	}
+
+	/**
+	 * Writes the occupied slots of the registry into {@link #order}, sorted by
+	 * entity id.
+	 *
+	 * @return The number of occupied slots.
+	 */
+	private int collectSortedSlots() {
+		final int slotCount = entityRegistry.getSlotCount();
+		if (order.length < slotCount) {
+			order = new int[slotCount];
+			mergeBuffer = new int[slotCount];
+		}
+		int count = 0;
+		for (int slot = 0; slot < slotCount; slot++) {
+			if (entityRegistry.getEntityAt(slot) != null) {
+				order[count++] = slot;
+			}
+		}
+
+		// Bottom-up merge sort; ids are unique, so the order is fully determined
+		int[] from = order;
+		int[] to = mergeBuffer;
+		for (int width = 1; width < count; width *= 2) {
+			for (int start = 0; start < count; start += 2 * width) {
+				final int middle = Math.min(start + width, count);
+				final int end = Math.min(start + 2 * width, count);
+				int left = start;
+				int right = middle;
+				for (int k = start; k < end; k++) {
+					if (right >= end || (left < middle
+							&& entityRegistry.getIdAt(from[left]) < entityRegistry.getIdAt(from[right]))) {
+						to[k] = from[left++];
+					} else {
+						to[k] = from[right++];
+					}
+				}
+			}
+			final int[] swap = from;
+			from = to;
+			to = swap;
+		}
+		order = from;
+		mergeBuffer = to;
+		return count;
+	}
+}
@@ -0,0 +1,266 @@
+package com.cosmic.scavengers.engine.world;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.cosmic.scavengers.engine.pacing.TickPacingMode;
+
+/**
+ * The {@code game.engine.*} settings a {@link GameWorldFactory} builds its
+ * worlds from, in world units as written in {@code application.properties}.
+ *
+ * <p>
+ * The field initializers are the only defaults: Spring binds the configured
+ * properties over them, and headless tools start from {@code new
+ * EngineSettings()} and change what they need. The settings that shape the
+ * simulation are also written into every command journal, so a replay builds
+ * its world exactly like the recorded one.
+ */
+@Component
+@ConfigurationProperties(prefix = "game.engine")
+public class EngineSettings {
+	private int tickRateHz = 10;
+	private int systemParallelism = 1;
+	private long tickBudgetMs = 0;
+	private TickPacingMode pacing = TickPacingMode.LOW_CPU;
+	// Empty when command recording is disabled
+	private String journalDir = "";
+	private boolean movementBatched = true;
+	private int movementParallelThreshold = 20000;
+	private long spatialCellSize = 10;
+	private float separationRadius = 1.0f;
+	private int separationUnitsPerTick = 20000;
+	private int separationMaxNeighbours = 16;
+	private int navGridSize = 512;
+	private long navCellSize = 5;
+	private long navObstacleRadius = 10;
+	private int pathExpansionsPerTick = 4000;
+	private int pathMaxExpansions = 65536;
+	private int pathCacheSize = 1024;
+	private int flowGroupSize = 8;
+	private int flowExpansionsPerTick = 20000;
+	private int flowFieldCacheSize = 8;
+	private int flowFieldIdleTicks = 100;
+	private int visionGridSize = 256;
+	private long visionCellSize = 10;
+	private long visionRadius = 50;
+	private int visionMaxPlayers = 32;
+	private int combatRetargetTicks = 5;
+	private float projectileHitRadius = 1.0f;
+
+	public int getTickRateHz() {
+		return tickRateHz;
+	}
+
+	public void setTickRateHz(int tickRateHz) {
+		this.tickRateHz = tickRateHz;
+	}
+
+	public int getSystemParallelism() {
+		return systemParallelism;
+	}
+
+	public void setSystemParallelism(int systemParallelism) {
+		this.systemParallelism = systemParallelism;
+	}
+
+	public long getTickBudgetMs() {
+		return tickBudgetMs;
+	}
+
+	public void setTickBudgetMs(long tickBudgetMs) {
+		this.tickBudgetMs = tickBudgetMs;
+	}
+
+	public TickPacingMode getPacing() {
+		return pacing;
+	}
+
+	public void setPacing(TickPacingMode pacing) {
+		this.pacing = pacing;
+	}
+
+	public String getJournalDir() {
+		return journalDir;
+	}
+
+	public void setJournalDir(String journalDir) {
+		this.journalDir = journalDir;
+	}
+
+	public boolean isMovementBatched() {
+		return movementBatched;
+	}
+
+	public void setMovementBatched(boolean movementBatched) {
+		this.movementBatched = movementBatched;
+	}
+
+	public int getMovementParallelThreshold() {
+		return movementParallelThreshold;
+	}
+
+	public void setMovementParallelThreshold(int movementParallelThreshold) {
+		this.movementParallelThreshold = movementParallelThreshold;
+	}
+
+	public long getSpatialCellSize() {
+		return spatialCellSize;
+	}
+
+	public void setSpatialCellSize(long spatialCellSize) {
+		this.spatialCellSize = spatialCellSize;
+	}
+
+	public float getSeparationRadius() {
+		return separationRadius;
+	}
+
+	public void setSeparationRadius(float separationRadius) {
+		this.separationRadius = separationRadius;
+	}
+
+	public int getSeparationUnitsPerTick() {
+		return separationUnitsPerTick;
+	}
+
+	public void setSeparationUnitsPerTick(int separationUnitsPerTick) {
+		this.separationUnitsPerTick = separationUnitsPerTick;
+	}
+
+	public int getSeparationMaxNeighbours() {
+		return separationMaxNeighbours;
+	}
+
+	public void setSeparationMaxNeighbours(int separationMaxNeighbours) {
+		this.separationMaxNeighbours = separationMaxNeighbours;
+	}
+
+	public int getNavGridSize() {
+		return navGridSize;
+	}
+
+	public void setNavGridSize(int navGridSize) {
+		this.navGridSize = navGridSize;
+	}
+
+	public long getNavCellSize() {
+		return navCellSize;
+	}
+
+	public void setNavCellSize(long navCellSize) {
+		this.navCellSize = navCellSize;
+	}
+
+	public long getNavObstacleRadius() {
+		return navObstacleRadius;
+	}
+
+	public void setNavObstacleRadius(long navObstacleRadius) {
+		this.navObstacleRadius = navObstacleRadius;
+	}
+
+	public int getPathExpansionsPerTick() {
+		return pathExpansionsPerTick;
+	}
+
+	public void setPathExpansionsPerTick(int pathExpansionsPerTick) {
+		this.pathExpansionsPerTick = pathExpansionsPerTick;
+	}
+
+	public int getPathMaxExpansions() {
+		return pathMaxExpansions;
+	}
+
+	public void setPathMaxExpansions(int pathMaxExpansions) {
+		this.pathMaxExpansions = pathMaxExpansions;
+	}
+
+	public int getPathCacheSize() {
+		return pathCacheSize;
+	}
+
+	public void setPathCacheSize(int pathCacheSize) {
+		this.pathCacheSize = pathCacheSize;
+	}
+
+	public int getFlowGroupSize() {
+		return flowGroupSize;
+	}
+
+	public void setFlowGroupSize(int flowGroupSize) {
+		this.flowGroupSize = flowGroupSize;
+	}
+
+	public int getFlowExpansionsPerTick() {
+		return flowExpansionsPerTick;
+	}
+
+	public void setFlowExpansionsPerTick(int flowExpansionsPerTick) {
+		this.flowExpansionsPerTick = flowExpansionsPerTick;
+	}
+
+	public int getFlowFieldCacheSize() {
+		return flowFieldCacheSize;
+	}
+
+	public void setFlowFieldCacheSize(int flowFieldCacheSize) {
+		this.flowFieldCacheSize = flowFieldCacheSize;
+	}
+
+	public int getFlowFieldIdleTicks() {
+		return flowFieldIdleTicks;
+	}
+
+	public void setFlowFieldIdleTicks(int flowFieldIdleTicks) {
+		this.flowFieldIdleTicks = flowFieldIdleTicks;
+	}
+
+	public int getVisionGridSize() {
+		return visionGridSize;
+	}
+
+	public void setVisionGridSize(int visionGridSize) {
+		this.visionGridSize = visionGridSize;
+	}
+
+	public long getVisionCellSize() {
+		return visionCellSize;
+	}
+
+	public void setVisionCellSize(long visionCellSize) {
+		this.visionCellSize = visionCellSize;
+	}
+
+	public long getVisionRadius() {
+		return visionRadius;
+	}
+
+	public void setVisionRadius(long visionRadius) {
+		this.visionRadius = visionRadius;
+	}
+
+	public int getVisionMaxPlayers() {
+		return visionMaxPlayers;
+	}
+
+	public void setVisionMaxPlayers(int visionMaxPlayers) {
+		this.visionMaxPlayers = visionMaxPlayers;
+	}
+
+	public int getCombatRetargetTicks() {
+		return combatRetargetTicks;
+	}
+
+	public void setCombatRetargetTicks(int combatRetargetTicks) {
+		this.combatRetargetTicks = combatRetargetTicks;
+	}
+
+	public float getProjectileHitRadius() {
+		return projectileHitRadius;
+	}
+
+	public void setProjectileHitRadius(float projectileHitRadius) {
+		this.projectileHitRadius = projectileHitRadius;
+	}
+}
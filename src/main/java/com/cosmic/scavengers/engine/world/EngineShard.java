@@ -0,0 +1,119 @@
+package com.cosmic.scavengers.engine.world;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.cosmic.scavengers.engine.GameEngine;
+import com.cosmic.scavengers.engine.pacing.ITickPacer;
+
+/**
+ * One engine thread's share of the worlds.
+ *
+ * <p>
+ * The shard waits (through its {@link ITickPacer}) for the earliest tick
+ * deadline among its engines, then runs every engine that is due. Worlds on
+ * the same shard therefore tick one after another on the same thread, and a
+ * slow world delays its shard-mates but never worlds on other shards.
+ */
+public class EngineShard implements Runnable {
+	private static final Logger log = LoggerFactory.getLogger(EngineShard.class);
+
+	// How long an empty shard sleeps before checking for new worlds
+	private static final long IDLE_PARK_NS = 10_000_000L;
+
+	private final String name;
+	private final ITickPacer pacer;
+	// Null when nobody needs to know about stopped engines
+	private final Consumer<GameEngine> stoppedListener;
+	private final List<GameEngine> engines = new CopyOnWriteArrayList<>();
+
+	private volatile Thread thread;
+	private volatile boolean running = true;
+
+	public EngineShard(String name, ITickPacer pacer) {
+		this(name, pacer, null);
+	}
+
+	/**
+	 * @param stoppedListener Called on the shard thread with every engine that
+	 *                        stopped by itself and was dropped from the shard, or
+	 *                        null.
+	 */
+	public EngineShard(String name, ITickPacer pacer, Consumer<GameEngine> stoppedListener) {
+		this.name = name;
+		this.pacer = pacer;
+		this.stoppedListener = stoppedListener;
+	}
+
+	/**
+	 * Starts ticking the given engine on this shard. May be called from any
+	 * thread.
+	 */
+	public void add(GameEngine engine) {
+		engine.start(System.nanoTime());
+		engines.add(engine);
+		LockSupport.unpark(thread);
+	}
+
+	/**
+	 * Stops ticking the given engine. May be called from any thread.
+	 */
+	public void remove(GameEngine engine) {
+		engines.remove(engine);
+	}
+
+	public int size() {
+		return engines.size();
+	}
+
+	@Override
+	public void run() {
+		thread = Thread.currentThread();
+		log.info("Engine shard '{}' started.", name);
+
+		while (running && !Thread.currentThread().isInterrupted()) {
+			if (engines.isEmpty()) {
+				// add() unparks us, so a new world does not wait out the full idle period
+				LockSupport.parkNanos(this, IDLE_PARK_NS);
+				continue;
+			}
+
+			pacer.awaitDeadline(earliestDeadline());
+			if (Thread.currentThread().isInterrupted()) {
+				break;
+			}
+
+			for (GameEngine engine : engines) {
+				if (engine.isRunning()) {
+					engine.runDueTicks();
+				} else {
+					log.warn("Engine '{}' stopped; removing it from shard '{}'.", engine.getName(), name);
+					engines.remove(engine);
+					if (stoppedListener != null) {
+						stoppedListener.accept(engine);
+					}
+				}
+			}
+		}
+
+		log.info("Engine shard '{}' stopped.", name);
+	}
+
+	public void stop() {
+		running = false;
+		LockSupport.unpark(thread);
+	}
+
+	private long earliestDeadline() {
+		long earliest = Long.MAX_VALUE;
+		for (GameEngine engine : engines) {
+			earliest = Math.min(earliest, engine.getNextTickTime());
+		}
+		return earliest;
+	}
+}
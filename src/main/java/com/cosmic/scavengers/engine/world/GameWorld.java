@@ -0,0 +1,51 @@
+package com.cosmic.scavengers.engine.world;
+
+import com.cosmic.scavengers.ecs.events.EcsEventDispatcher;
+import com.cosmic.scavengers.ecs.journal.CommandJournalWriter;
+import com.cosmic.scavengers.ecs.queue.EcsCommandQueue;
+import com.cosmic.scavengers.ecs.tracking.ChangedEntityTracker;
+import com.cosmic.scavengers.engine.GameEngine;
+import com.cosmic.scavengers.engine.TickClock;
+import com.cosmic.scavengers.engine.snapshot.WorldSnapshotPublisher;
+import com.cosmic.scavengers.registries.EntityRegistry;
+import com.cosmic.scavengers.spatial.SpatialHashGrid;
+import com.cosmic.scavengers.system.VisibilitySystem;
+
+import dev.dominion.ecs.api.Dominion;
+
+/**
+ * One independent simulation: its own Dominion, command queue, entity registry,
+ * clock and engine. Nothing in here is shared with other worlds.
+ *
+ * @param worldId        Primary key from the WORLDS table.
+ * @param dominion       The world's ECS storage.
+ * @param commandQueue   Inbox for commands targeting this world.
+ * @param entityRegistry Database id to live entity lookup for this world.
+ * @param tickClock      The world's simulation clock.
+ * @param engine         The engine ticking this world's systems.
+ * @param snapshots      Source of the end-of-tick snapshots for readers
+ *                       outside the engine thread.
+ * @param journal        Recorder of the executed commands, or null when
+ *                       recording is disabled.
+ * @param changes        Entities changed since the last published snapshot;
+ *                       engine thread only.
+ * @param events         Per-tick event stream; add consumers here.
+ * @param spatialIndex   Entity slots bucketed by position; engine thread
+ *                       only.
+ * @param visibility     Per-player fog of war, or null when disabled; engine
+ *                       thread only.
+ */
+public record GameWorld(
+		long worldId,
+		Dominion dominion,
+		EcsCommandQueue commandQueue,
+		EntityRegistry entityRegistry,
+		TickClock tickClock,
+		GameEngine engine,
+		WorldSnapshotPublisher snapshots,
+		CommandJournalWriter journal,
+		ChangedEntityTracker changes,
+		EcsEventDispatcher events,
+		SpatialHashGrid spatialIndex,
+		VisibilitySystem visibility) {
+}
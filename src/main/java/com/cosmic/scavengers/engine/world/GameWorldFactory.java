@@ -0,0 +1,278 @@
+package com.cosmic.scavengers.engine.world;
+
+import static com.cosmic.scavengers.core.utils.DecimalUtils.ARITHMETIC;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.cosmic.scavengers.core.utils.DecimalUtils;
+import com.cosmic.scavengers.ecs.events.EcsEventBuffer;
+import com.cosmic.scavengers.ecs.events.EcsEventDispatcher;
+import com.cosmic.scavengers.ecs.journal.CommandJournalWriter;
+import com.cosmic.scavengers.ecs.queue.EcsCommandQueue;
+import com.cosmic.scavengers.ecs.queue.EcsCommandQueueProcessing;
+import com.cosmic.scavengers.ecs.tracking.ChangedEntityTracker;
+import com.cosmic.scavengers.engine.GameEngine;
+import com.cosmic.scavengers.engine.TickClock;
+import com.cosmic.scavengers.engine.pacing.TickPacingMode;
+import com.cosmic.scavengers.engine.profiling.SystemTickProfiler;
+import com.cosmic.scavengers.engine.snapshot.WorldSnapshotPublisher;
+import com.cosmic.scavengers.navigation.NavGrid;
+import com.cosmic.scavengers.projectile.ProjectileStore;
+import com.cosmic.scavengers.registries.EntityRegistry;
+import com.cosmic.scavengers.spatial.SpatialHashGrid;
+import com.cosmic.scavengers.system.CombatCleanupSystem;
+import com.cosmic.scavengers.system.CombatSystem;
+import com.cosmic.scavengers.system.FlowFieldSystem;
+import com.cosmic.scavengers.system.IntentProcessorSystem;
+import com.cosmic.scavengers.system.MovementSystem;
+import com.cosmic.scavengers.system.PathFollowingSystem;
+import com.cosmic.scavengers.system.PathfindingSystem;
+import com.cosmic.scavengers.system.ProjectileSystem;
+import com.cosmic.scavengers.system.SeparationSystem;
+import com.cosmic.scavengers.system.VisibilityMarkSystem;
+import com.cosmic.scavengers.system.VisibilitySystem;
+import com.cosmic.scavengers.system.meta.IEcsSystem;
+
+import dev.dominion.ecs.api.Dominion;
+
+/**
+ * Assembles a fully wired {@link GameWorld}: Dominion, command queue, registry,
+ * clock, systems and engine.
+ *
+ * <p>
+ * The factory also owns the ForkJoin pool that all worlds share for running
+ * non-conflicting systems in parallel ({@code game.engine.system-parallelism};
+ * 1 disables it). Large movement batches are chunked onto the same pool. When
+ * {@code game.engine.journal-dir} is set, every world records its executed
+ * commands to a journal file in that directory for offline replay. Each world
+ * also gets a {@link SpatialHashGrid} with cells of
+ * {@code game.engine.spatial-cell-size} units, and units closer than
+ * {@code game.engine.separation-radius} are pushed apart (0 disables it).
+ * Blocked move orders are routed around static entities on a navigation grid
+ * of {@code game.engine.nav-grid-size} cells per side (0 disables it), group
+ * orders through shared flow fields and the rest through A*. Per-player fog of
+ * war is kept on a grid of {@code game.engine.vision-grid-size} cells per side
+ * (0 disables it). Armed entities re-acquire targets every
+ * {@code game.engine.combat-retarget-ticks} ticks (0 disables combat), and
+ * their projectiles fly in a pooled {@link ProjectileStore}. All of these come
+ * from one {@link EngineSettings}, and the factory has no dependency on Spring
+ * beyond its annotations, so headless tools can construct it directly.
+ */
+@Component
+public class GameWorldFactory {
+	private static final Logger log = LoggerFactory.getLogger(GameWorldFactory.class);
+
+	private final SystemTickProfiler profiler;
+	// Written into every journal, so replays build the same world
+	private final EngineSettings settings;
+	private final int tickRateHz;
+	private final long tickBudgetNs;
+	private final TickPacingMode pacing;
+	private final boolean movementBatched;
+	private final int movementParallelThreshold;
+	// Scaled cell edge of each world's spatial index
+	private final long spatialCellSize;
+	// Scaled; 0 when units are allowed to overlap
+	private final long separationRadius;
+	private final int separationUnitsPerTick;
+	private final int separationMaxNeighbours;
+	// 0 when move orders are never routed
+	private final int navGridSize;
+	// Scaled
+	private final long navCellSize;
+	private final long navObstacleRadius;
+	private final int pathExpansionsPerTick;
+	private final int pathMaxExpansions;
+	private final int pathCacheSize;
+	private final int flowGroupSize;
+	private final int flowExpansionsPerTick;
+	private final int flowFieldCacheSize;
+	private final int flowFieldIdleTicks;
+	// 0 when every player sees everything
+	private final int visionGridSize;
+	// Scaled
+	private final long visionCellSize;
+	private final long visionRadius;
+	private final int visionMaxPlayers;
+	// 0 when nothing is ever attacked
+	private final int combatRetargetTicks;
+	// Scaled
+	private final long projectileHitRadius;
+	// Null when command recording is disabled
+	private final Path journalDir;
+	private final ForkJoinPool systemPool;
+
+	public GameWorldFactory(SystemTickProfiler profiler, EngineSettings settings) {
+		this.profiler = profiler;
+		this.settings = settings;
+		this.tickRateHz = settings.getTickRateHz();
+		this.tickBudgetNs = settings.getTickBudgetMs() * 1_000_000L;
+		this.pacing = settings.getPacing();
+		this.movementBatched = settings.isMovementBatched();
+		this.movementParallelThreshold = settings.getMovementParallelThreshold();
+		this.spatialCellSize = ARITHMETIC.fromLong(settings.getSpatialCellSize());
+		this.separationRadius = DecimalUtils.toScaled(settings.getSeparationRadius());
+		this.separationUnitsPerTick = settings.getSeparationUnitsPerTick();
+		this.separationMaxNeighbours = settings.getSeparationMaxNeighbours();
+		this.navGridSize = settings.getNavGridSize();
+		this.navCellSize = ARITHMETIC.fromLong(settings.getNavCellSize());
+		this.navObstacleRadius = ARITHMETIC.fromLong(settings.getNavObstacleRadius());
+		this.pathExpansionsPerTick = settings.getPathExpansionsPerTick();
+		this.pathMaxExpansions = settings.getPathMaxExpansions();
+		this.pathCacheSize = settings.getPathCacheSize();
+		this.flowGroupSize = settings.getFlowGroupSize();
+		this.flowExpansionsPerTick = settings.getFlowExpansionsPerTick();
+		this.flowFieldCacheSize = settings.getFlowFieldCacheSize();
+		this.flowFieldIdleTicks = settings.getFlowFieldIdleTicks();
+		this.visionGridSize = settings.getVisionGridSize();
+		this.visionCellSize = ARITHMETIC.fromLong(settings.getVisionCellSize());
+		this.visionRadius = ARITHMETIC.fromLong(settings.getVisionRadius());
+		this.visionMaxPlayers = settings.getVisionMaxPlayers();
+		this.combatRetargetTicks = settings.getCombatRetargetTicks();
+		this.projectileHitRadius = DecimalUtils.toScaled(settings.getProjectileHitRadius());
+		final String journalDir = settings.getJournalDir();
+		this.journalDir = journalDir == null || journalDir.isBlank() ? null : Path.of(journalDir);
+		this.systemPool = settings.getSystemParallelism() > 1 ? createSystemPool(settings.getSystemParallelism())
+				: null;
+	}
+
+	/**
+	 * Creates a new, empty world. The engine is not started.
+	 *
+	 * @param worldId Primary key from the WORLDS table.
+	 */
+	public GameWorld create(long worldId) {
+		final String name = "world-" + worldId;
+
+		final Dominion dominion = Dominion.create(name);
+		final EcsCommandQueue commandQueue = new EcsCommandQueue();
+		final EntityRegistry entityRegistry = new EntityRegistry();
+		final TickClock tickClock = new TickClock(tickRateHz);
+		final CommandJournalWriter journal = openJournal(name);
+		final ChangedEntityTracker changes = new ChangedEntityTracker();
+		final WorldSnapshotPublisher snapshots = new WorldSnapshotPublisher(entityRegistry, tickClock, changes);
+		final EcsEventBuffer eventBuffer = new EcsEventBuffer(entityRegistry);
+		final EcsEventDispatcher events = new EcsEventDispatcher(eventBuffer, tickClock);
+		final SpatialHashGrid spatialIndex = new SpatialHashGrid(spatialCellSize);
+		entityRegistry.addSlotListener(spatialIndex);
+
+		// Registration order is the order conflicting systems run in
+		final EcsCommandQueueProcessing commandProcessing = new EcsCommandQueueProcessing(commandQueue,
+				entityRegistry, dominion, tickClock, journal, eventBuffer);
+		final List<IEcsSystem> systems = new ArrayList<>();
+		systems.add(commandProcessing);
+		if (navGridSize > 0) {
+			final NavGrid navGrid = new NavGrid(navGridSize, navCellSize, navObstacleRadius);
+			entityRegistry.addSlotListener(navGrid);
+			systems.add(new FlowFieldSystem(dominion, navGrid, tickClock, flowGroupSize, flowExpansionsPerTick,
+					flowFieldCacheSize, flowFieldIdleTicks, changes, eventBuffer));
+			systems.add(new PathfindingSystem(dominion, navGrid, pathExpansionsPerTick, pathMaxExpansions,
+					pathCacheSize, changes));
+		}
+		systems.add(new IntentProcessorSystem(dominion, changes, eventBuffer));
+		systems.add(new PathFollowingSystem(dominion, changes, eventBuffer));
+		systems.add(new MovementSystem(dominion, tickClock, movementBatched, systemPool, movementParallelThreshold,
+				changes, eventBuffer, spatialIndex));
+		if (separationRadius > 0) {
+			systems.add(new SeparationSystem(entityRegistry, spatialIndex, separationRadius, separationUnitsPerTick,
+					separationMaxNeighbours, changes));
+		}
+		if (combatRetargetTicks > 0) {
+			final ProjectileStore projectiles = new ProjectileStore();
+			final CombatSystem combat = new CombatSystem(dominion, entityRegistry, spatialIndex, tickClock,
+					combatRetargetTicks, eventBuffer, projectiles);
+			entityRegistry.addSlotListener(combat);
+			systems.add(new ProjectileSystem(projectiles, spatialIndex, combat, projectileHitRadius));
+			systems.add(combat);
+			systems.add(new CombatCleanupSystem(combat));
+		}
+		VisibilitySystem visibility = null;
+		if (visionGridSize > 0) {
+			visibility = new VisibilitySystem(entityRegistry, tickClock, visionGridSize, visionCellSize,
+					visionRadius, visionMaxPlayers, changes);
+			entityRegistry.addSlotListener(visibility);
+			// Before visibility, so a run sees the moves of its own tick
+			systems.add(new VisibilityMarkSystem(visibility));
+			systems.add(visibility);
+		}
+		systems.add(snapshots);
+		systems.add(events);
+
+		final GameEngine engine = new GameEngine(name, systems, tickClock, profiler, systemPool, tickBudgetNs,
+				pacing.createPacer());
+		engine.setTickCounters(new GameEngine.TickCounters() {
+			@Override
+			public int entityCount() {
+				return entityRegistry.getActiveCount();
+			}
+
+			@Override
+			public int commandCount() {
+				return commandProcessing.getLastRunCommandCount();
+			}
+		});
+
+		log.info("Created world '{}' with {} systems.", name, systems.size());
+		return new GameWorld(worldId, dominion, commandQueue, entityRegistry, tickClock, engine, snapshots, journal,
+				changes, events, spatialIndex, visibility);
+	}
+
+	/**
+	 * Opens a new journal for the world, or returns null when recording is
+	 * disabled or the file cannot be created. A world never fails to start
+	 * because of its journal.
+	 */
+	private CommandJournalWriter openJournal(String worldName) {
+		if (journalDir == null) {
+			return null;
+		}
+		final Path path = journalDir.resolve(worldName + "-" + System.currentTimeMillis() + ".journal");
+		try {
+			Files.createDirectories(journalDir);
+			final CommandJournalWriter journal = new CommandJournalWriter(path, settings);
+			log.info("Recording commands of world '{}' to '{}'.", worldName, path);
+			return journal;
+		} catch (IOException e) {
+			log.error("Could not open command journal '{}', world '{}' runs unrecorded.", path, worldName, e);
+			return null;
+		}
+	}
+
+	/**
+	 * Stops the shared system pool, if any.
+	 */
+	public void shutdown() {
+		if (systemPool == null) {
+			return;
+		}
+		systemPool.shutdown();
+		try {
+			if (!systemPool.awaitTermination(1, TimeUnit.SECONDS)) {
+				systemPool.shutdownNow();
+			}
+		} catch (InterruptedException e) {
+			systemPool.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static ForkJoinPool createSystemPool(int parallelism) {
+		final AtomicInteger threadIndex = new AtomicInteger();
+		return new ForkJoinPool(parallelism, pool -> {
+			final var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+			thread.setName("ecs-system-worker-" + threadIndex.getAndIncrement());
+			return thread;
+		}, null, false);
+	}
+}
@@ -0,0 +1,187 @@
+package com.cosmic.scavengers.engine.world;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.cosmic.scavengers.broadcast.IStateBroadcaster;
+import com.cosmic.scavengers.engine.GameEngine;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Hosts every active {@link GameWorld} of this server process and routes
+ * players to the world they are playing in.
+ *
+ * <p>
+ * Worlds are created on demand the first time a player of that world is
+ * initialized. Each world is pinned to one of a fixed number of
+ * {@link EngineShard}s ({@code game.engine.threads}, default: one per core),
+ * choosing the shard with the fewest worlds, so many matches share a bounded
+ * number of engine threads. Every snapshot a world publishes is handed to the
+ * {@link IStateBroadcaster}, which sends it on to the clients.
+ *
+ * <p>
+ * A world whose engine stops by itself (e.g. after repeated failed ticks) is
+ * dropped from the routing and closed, so its players are routed to a fresh
+ * world on their next initialization instead of to a dead one.
+ */
+@Component
+public class GameWorldManager {
+	private static final Logger log = LoggerFactory.getLogger(GameWorldManager.class);
+
+	private final GameWorldFactory worldFactory;
+	private final IStateBroadcaster stateBroadcaster;
+	private final EngineShard[] shards;
+	private final ExecutorService shardExecutor;
+
+	private final Map<Long, GameWorld> worlds = new ConcurrentHashMap<>();
+	// PlayerId -> WorldId
+	private final Map<Long, Long> playerWorlds = new ConcurrentHashMap<>();
+
+	public GameWorldManager(
+			GameWorldFactory worldFactory,
+			IStateBroadcaster stateBroadcaster,
+			EngineSettings settings,
+			@Value("${game.engine.threads:0}") int engineThreads) {
+		this.worldFactory = worldFactory;
+		this.stateBroadcaster = stateBroadcaster;
+
+		final int shardCount = engineThreads > 0 ? engineThreads : Runtime.getRuntime().availableProcessors();
+		this.shards = new EngineShard[shardCount];
+		for (int i = 0; i < shardCount; i++) {
+			shards[i] = new EngineShard("engine-shard-" + i, settings.getPacing().createPacer(),
+					this::onEngineStopped);
+		}
+
+		final AtomicInteger threadIndex = new AtomicInteger();
+		this.shardExecutor = Executors.newFixedThreadPool(shardCount, runnable -> {
+			final Thread thread = new Thread(runnable, "engine-shard-" + threadIndex.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Launches the engine shard threads.
+	 */
+	public void start() {
+		for (EngineShard shard : shards) {
+			shardExecutor.submit(shard);
+		}
+		log.info("Started {} engine shards.", shards.length);
+	}
+
+	/**
+	 * Returns the live world with the given id, creating and scheduling it if it
+	 * is not running yet.
+	 */
+	public GameWorld getOrCreateWorld(long worldId) {
+		return worlds.computeIfAbsent(worldId, id -> {
+			final GameWorld world = worldFactory.create(id);
+			world.snapshots().addListener(snapshot -> stateBroadcaster.broadcastCurrentState(id, snapshot));
+			final EngineShard shard = leastLoadedShard();
+			shard.add(world.engine());
+			log.info("World {} scheduled on shard with {} worlds.", id, shard.size());
+			return world;
+		});
+	}
+
+	public Optional<GameWorld> getWorld(long worldId) {
+		return Optional.ofNullable(worlds.get(worldId));
+	}
+
+	public Collection<GameWorld> getWorlds() {
+		return worlds.values();
+	}
+
+	/**
+	 * Routes all further commands of the player to the given world, creating the
+	 * world if needed.
+	 */
+	public GameWorld assignPlayer(long playerId, long worldId) {
+		final GameWorld world = getOrCreateWorld(worldId);
+		final Long previous = playerWorlds.put(playerId, worldId);
+		if (previous != null && previous != worldId) {
+			log.info("Player {} moved from world {} to world {}.", playerId, previous, worldId);
+		}
+		return world;
+	}
+
+	/**
+	 * The world the player was last assigned to, if any.
+	 */
+	public Optional<GameWorld> getWorldForPlayer(long playerId) {
+		final Long worldId = playerWorlds.get(playerId);
+		return worldId == null ? Optional.empty() : getWorld(worldId);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		for (EngineShard shard : shards) {
+			shard.stop();
+		}
+		shardExecutor.shutdown();
+		try {
+			if (!shardExecutor.awaitTermination(1, TimeUnit.SECONDS)) {
+				shardExecutor.shutdownNow();
+			}
+		} catch (InterruptedException e) {
+			shardExecutor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+		worldFactory.shutdown();
+		worlds.values().forEach(this::closeWorld);
+	}
+
+	/**
+	 * Removes the world of a stopped engine and the routes of its players.
+	 */
+	private void onEngineStopped(GameEngine engine) {
+		for (Map.Entry<Long, GameWorld> entry : worlds.entrySet()) {
+			if (entry.getValue().engine() != engine) {
+				continue;
+			}
+			final long worldId = entry.getKey();
+			if (worlds.remove(worldId, entry.getValue())) {
+				playerWorlds.values().removeIf(id -> id == worldId);
+				stateBroadcaster.forgetWorld(worldId);
+				closeWorld(entry.getValue());
+				log.warn("World {} stopped and was removed.", worldId);
+			}
+			return;
+		}
+	}
+
+	private void closeWorld(GameWorld world) {
+		if (world.journal() != null) {
+			try {
+				world.journal().close();
+			} catch (IOException e) {
+				log.warn("Failed to close command journal '{}'.", world.journal().getPath(), e);
+			}
+		}
+		world.dominion().close();
+	}
+
+	private EngineShard leastLoadedShard() {
+		EngineShard best = shards[0];
+		for (EngineShard shard : shards) {
+			if (shard.size() < best.size()) {
+				best = shard;
+			}
+		}
+		return best;
+	}
+}
@@ -1,5 +1,7 @@
 package com.cosmic.scavengers.gameplay.services;
 
+import java.util.Optional;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -7,17 +9,20 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.cosmic.scavengers.db.model.tables.pojos.PlayerEntities;
 import com.cosmic.scavengers.ecs.commands.MoveEntityCommand;
-import com.cosmic.scavengers.ecs.queue.EcsCommandQueue;
+import com.cosmic.scavengers.ecs.commands.MoveEntityPathCommand;
+import com.cosmic.scavengers.engine.world.GameWorld;
+import com.cosmic.scavengers.engine.world.GameWorldManager;
+import com.cosmic.scavengers.gameplay.services.data.MovePathRequestData;
 import com.cosmic.scavengers.gameplay.services.data.MoveRequestData;
 
 @Service
 public class EntityActionService {
 	private static final Logger log = LoggerFactory.getLogger(EntityActionService.class);
 	
-	private final EcsCommandQueue dominionCommandQueue;	
+	private final GameWorldManager gameWorldManager;	
 
-	public EntityActionService(EcsCommandQueue dominionCommandQueue) {
-		this.dominionCommandQueue = dominionCommandQueue;
+	public EntityActionService(GameWorldManager gameWorldManager) {
+		this.gameWorldManager = gameWorldManager;
 	}
 
 	/**
@@ -28,8 +33,14 @@ public class EntityActionService {
 		log.info("Dispatching ECS Move Command for Player Id '{}' move request for Entity Id '{}'.",
 				data.playerId(), data.entityId());
 		
+		final Optional<GameWorld> world = gameWorldManager.getWorldForPlayer(data.playerId());
+		if (world.isEmpty()) {
+			log.warn("Move rejected: Player Id '{}' is not assigned to a live world.", data.playerId());
+			return;
+		}
+
 		final MoveEntityCommand command = new MoveEntityCommand(data);
-		dominionCommandQueue.submit(command);
+		world.get().commandQueue().submit(command);
 
 //		PlayerEntities entity = dsl.selectFrom(PLAYER_ENTITIES).where(PLAYER_ENTITIES.ID.eq(data.entityId()))
 //				.and(PLAYER_ENTITIES.PLAYER_ID.eq(playerId)).fetchOneInto(PlayerEntities.class);
@@ -80,6 +91,23 @@ public class EntityActionService {
 
 	}
 
+	/**
+	 * Authoritatively processes a waypoint path. The whole path is one command,
+	 * however many corners it has.
+	 */
+	public void processPathRequest(MovePathRequestData data) {
+		log.info("Dispatching ECS Path Command for Player Id '{}' path of {} waypoints for Entity Id '{}'.",
+				data.playerId(), data.waypointCount(), data.entityId());
+
+		final Optional<GameWorld> world = gameWorldManager.getWorldForPlayer(data.playerId());
+		if (world.isEmpty()) {
+			log.warn("Path rejected: Player Id '{}' is not assigned to a live world.", data.playerId());
+			return;
+		}
+
+		world.get().commandQueue().submit(new MoveEntityPathCommand(data));
+	}
+
 	/**
 	 * Validates the move request against the current state of the entity. Checks
 	 * for speed hacking and teleportation.
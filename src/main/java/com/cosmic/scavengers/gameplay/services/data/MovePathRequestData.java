@@ -0,0 +1,28 @@
+package com.cosmic.scavengers.gameplay.services.data;
+
+/**
+ * Record class that holds the data that describes a waypoint path request.
+ *
+ * Waypoints are flattened {@code x, y, z} triples in visiting order. All
+ * decimal values are raw Scale4f scaled longs (Value * 10,000), exactly as they
+ * arrive in the binary path payload. The array is owned by the request and must
+ * not be modified once submitted.
+ */
+public record MovePathRequestData(
+        long entityId,
+        Long playerId,
+        long[] waypoints,
+        long movementSpeed,
+        long rotationSpeed,
+        long stoppingDistance) {
+
+	/**
+	 * Upper bound on waypoints per request, so one message cannot make the
+	 * server hold an arbitrarily long path.
+	 */
+	public static final int MAX_WAYPOINTS = 64;
+
+	public int waypointCount() {
+		return waypoints.length / 3;
+	}
+}
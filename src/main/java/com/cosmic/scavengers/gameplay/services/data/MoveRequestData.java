@@ -1,18 +1,18 @@
 package com.cosmic.scavengers.gameplay.services.data;
 
-import org.decimal4j.api.Decimal;
-import org.decimal4j.scale.Scale4f;
-
 /**
  * Record class that holds the data that describes a move request.
+ *
+ * All decimal values are raw Scale4f scaled longs (Value * 10,000), exactly as
+ * they arrive in the binary move payload.
  */
 public record MoveRequestData(
         long entityId,
         Long playerId,
-        Decimal<Scale4f> targetX, 
-        Decimal<Scale4f> targetY, 
-        Decimal<Scale4f> targetZ,
-        Decimal<Scale4f> movementSpeed, 
-        Decimal<Scale4f> rotationSpeed, 
-        Decimal<Scale4f> stoppingDistance) {
+        long targetX, 
+        long targetY, 
+        long targetZ,
+        long movementSpeed, 
+        long rotationSpeed, 
+        long stoppingDistance) {
 }
@@ -11,7 +11,7 @@ import org.springframework.stereotype.Component;
 import com.cosmic.scavengers.core.netty.NettyServer;
 import com.cosmic.scavengers.db.ingestion.BlueprintIngestionService;
 import com.cosmic.scavengers.db.ingestion.TraitsIngestionService;
-import com.cosmic.scavengers.engine.GameEngine;
+import com.cosmic.scavengers.engine.world.GameWorldManager;
 import com.cosmic.scavengers.registries.BlueprintRegistry;
 import com.cosmic.scavengers.registries.TraitRegistry;
 
@@ -24,9 +24,9 @@ public class DataInitializer implements CommandLineRunner {
 	private final TraitRegistry traitRegistry;
 	private final BlueprintRegistry blueprintRegistry;
 	private final NettyServer nettyServer;
-	private final GameEngine gameEngine;
+	private final GameWorldManager gameWorldManager;
 
-	private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+	private final ExecutorService executorService = Executors.newFixedThreadPool(1);
 
 	public DataInitializer(
 			TraitsIngestionService traitsIngester, 
@@ -34,7 +34,7 @@ public class DataInitializer implements CommandLineRunner {
 			TraitRegistry traitRegistry, 
 			BlueprintRegistry blueprintRegistry, 
 			NettyServer nettyServer,
-			GameEngine gameEngine) {
+			GameWorldManager gameWorldManager) {
 		
 		// Ingesters
 		this.traitsIngester = traitsIngester;
@@ -46,7 +46,7 @@ public class DataInitializer implements CommandLineRunner {
 		
 		// Threads
 		this.nettyServer = nettyServer;
-		this.gameEngine = gameEngine;
+		this.gameWorldManager = gameWorldManager;
 	}
 
 	@Override
@@ -79,8 +79,8 @@ public class DataInitializer implements CommandLineRunner {
 			// Phase 3: Launch Threads
 			log.info("Phase [3/3] Launching Game Core");
 
-			executorService.submit(gameEngine);
-			log.debug("[1/2] GameEngine tick loop started.");
+			gameWorldManager.start();
+			log.debug("[1/2] GameEngine shards started, worlds load on demand.");
 			executorService.submit(nettyServer);
 			log.debug("[2/2]  NettyServer listening for players.");
 			
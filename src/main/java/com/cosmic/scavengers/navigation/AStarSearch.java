@@ -0,0 +1,256 @@
+package com.cosmic.scavengers.navigation;
+
+import java.util.Arrays;
+
+/**
+ * A* over a {@link NavGrid} that can be suspended after any number of node
+ * expansions and resumed on a later tick.
+ *
+ * <p>
+ * Moves go to the 8 neighbours with integer costs of 10 (straight) and 14
+ * (diagonal), diagonals only when both adjacent cells are free, and the
+ * heuristic is the matching octile distance. Open-list ties are broken by the
+ * smaller heuristic, then the lower cell index, so the same grid always yields
+ * the same path.
+ *
+ * <p>
+ * All per-cell state lives in arrays sized to the grid and reused between
+ * searches; a search generation stamp replaces clearing them, so starting a
+ * search is O(1). The open list is a binary heap with lazy deletion. One
+ * instance runs one search at a time.
+ */
+public final class AStarSearch {
+	public enum Status {
+		/** Budget ran out; call {@link AStarSearch#resume} again. */
+		RUNNING,
+		/** The goal was reached; see {@link AStarSearch#getPath()}. */
+		FOUND,
+		/** The goal is unreachable or the search hit its expansion cap. */
+		NOT_FOUND
+	}
+
+	private static final int STRAIGHT = 10;
+	private static final int DIAGONAL = 14;
+	private static final int[] NEIGHBOUR_X = { 1, -1, 0, 0, 1, 1, -1, -1 };
+	private static final int[] NEIGHBOUR_Y = { 0, 0, 1, -1, 1, -1, 1, -1 };
+
+	private final NavGrid grid;
+	private final int maxExpansions;
+
+	// Per cell, valid when seen[cell] == generation
+	private final int[] seen;
+	private final int[] cost;
+	private final int[] parent;
+	private final boolean[] closed;
+	private int generation = 0;
+
+	private int[] heapCell = new int[256];
+	private int[] heapF = new int[256];
+	private int[] heapH = new int[256];
+	private int heapSize = 0;
+
+	private int goal = -1;
+	private int expansions = 0;
+	private Status status = Status.NOT_FOUND;
+	private int[] path = null;
+
+	/**
+	 * @param maxExpansions Expansions after which a search gives up, so an
+	 *                      unreachable goal in a large grid cannot hog the
+	 *                      pathfinder.
+	 */
+	public AStarSearch(NavGrid grid, int maxExpansions) {
+		this.grid = grid;
+		this.maxExpansions = maxExpansions;
+		final int cells = grid.getCellCount();
+		this.seen = new int[cells];
+		this.cost = new int[cells];
+		this.parent = new int[cells];
+		this.closed = new boolean[cells];
+	}
+
+	/**
+	 * Starts a new search, abandoning the current one. Blocked start cells are
+	 * allowed, a blocked goal is not reachable.
+	 */
+	public void start(int startCell, int goalCell) {
+		generation++;
+		heapSize = 0;
+		expansions = 0;
+		path = null;
+		goal = goalCell;
+
+		if (grid.isBlocked(goalCell)) {
+			status = Status.NOT_FOUND;
+			return;
+		}
+		status = Status.RUNNING;
+		visit(startCell, 0, -1);
+	}
+
+	public Status getStatus() {
+		return status;
+	}
+
+	/**
+	 * Total expansions of the current search so far.
+	 */
+	public int getExpansions() {
+		return expansions;
+	}
+
+	/**
+	 * Expands up to {@code budget} nodes.
+	 *
+	 * @return The status after this slice.
+	 */
+	public Status resume(int budget) {
+		int remaining = budget;
+		while (status == Status.RUNNING && remaining > 0) {
+			if (heapSize == 0 || expansions >= maxExpansions) {
+				status = Status.NOT_FOUND;
+				break;
+			}
+			final int cell = pop();
+			if (closed[cell]) {
+				continue;
+			}
+			closed[cell] = true;
+			expansions++;
+			remaining--;
+
+			if (cell == goal) {
+				path = tracePath(cell);
+				status = Status.FOUND;
+				break;
+			}
+			expand(cell);
+		}
+		return status;
+	}
+
+	/**
+	 * Cells from start to goal, both included, once the search is
+	 * {@link Status#FOUND}.
+	 */
+	public int[] getPath() {
+		return path;
+	}
+
+	private void expand(int cell) {
+		final int x = grid.cellX(cell);
+		final int y = grid.cellY(cell);
+		for (int n = 0; n < NEIGHBOUR_X.length; n++) {
+			final int nx = x + NEIGHBOUR_X[n];
+			final int ny = y + NEIGHBOUR_Y[n];
+			if (!grid.isWalkable(nx, ny)) {
+				continue;
+			}
+			final boolean diagonal = n >= 4;
+			if (diagonal && (!grid.isWalkable(nx, y) || !grid.isWalkable(x, ny))) {
+				continue;
+			}
+			visit(ny * grid.getSize() + nx, cost[cell] + (diagonal ? DIAGONAL : STRAIGHT), cell);
+		}
+	}
+
+	private void visit(int cell, int newCost, int from) {
+		if (seen[cell] == generation) {
+			if (closed[cell] || newCost >= cost[cell]) {
+				return;
+			}
+		} else {
+			seen[cell] = generation;
+			closed[cell] = false;
+		}
+		cost[cell] = newCost;
+		parent[cell] = from;
+		final int h = heuristic(cell);
+		push(cell, newCost + h, h);
+	}
+
+	private int heuristic(int cell) {
+		final int dx = Math.abs(grid.cellX(cell) - grid.cellX(goal));
+		final int dy = Math.abs(grid.cellY(cell) - grid.cellY(goal));
+		return STRAIGHT * Math.max(dx, dy) + (DIAGONAL - STRAIGHT) * Math.min(dx, dy);
+	}
+
+	private int[] tracePath(int end) {
+		int length = 0;
+		for (int cell = end; cell != -1; cell = parent[cell]) {
+			length++;
+		}
+		final int[] cells = new int[length];
+		for (int cell = end, i = length - 1; cell != -1; cell = parent[cell], i--) {
+			cells[i] = cell;
+		}
+		return cells;
+	}
+
+	private boolean before(int a, int b) {
+		if (heapF[a] != heapF[b]) {
+			return heapF[a] < heapF[b];
+		}
+		if (heapH[a] != heapH[b]) {
+			return heapH[a] < heapH[b];
+		}
+		return heapCell[a] < heapCell[b];
+	}
+
+	private void push(int cell, int f, int h) {
+		if (heapSize == heapCell.length) {
+			heapCell = Arrays.copyOf(heapCell, heapSize * 2);
+			heapF = Arrays.copyOf(heapF, heapSize * 2);
+			heapH = Arrays.copyOf(heapH, heapSize * 2);
+		}
+		int i = heapSize++;
+		heapCell[i] = cell;
+		heapF[i] = f;
+		heapH[i] = h;
+		while (i > 0) {
+			final int up = (i - 1) / 2;
+			if (!before(i, up)) {
+				break;
+			}
+			swap(i, up);
+			i = up;
+		}
+	}
+
+	private int pop() {
+		final int top = heapCell[0];
+		heapSize--;
+		if (heapSize > 0) {
+			heapCell[0] = heapCell[heapSize];
+			heapF[0] = heapF[heapSize];
+			heapH[0] = heapH[heapSize];
+			int i = 0;
+			while (true) {
+				final int left = 2 * i + 1;
+				if (left >= heapSize) {
+					break;
+				}
+				final int right = left + 1;
+				final int child = right < heapSize && before(right, left) ? right : left;
+				if (!before(child, i)) {
+					break;
+				}
+				swap(i, child);
+				i = child;
+			}
+		}
+		return top;
+	}
+
+	private void swap(int a, int b) {
+		final int cell = heapCell[a];
+		final int f = heapF[a];
+		final int h = heapH[a];
+		heapCell[a] = heapCell[b];
+		heapF[a] = heapF[b];
+		heapH[a] = heapH[b];
+		heapCell[b] = cell;
+		heapF[b] = f;
+		heapH[b] = h;
+	}
+}
@@ -0,0 +1,270 @@
+package com.cosmic.scavengers.navigation;
+
+import java.util.Arrays;
+
+/**
+ * Integration and flow field towards one goal cell of a {@link NavGrid}.
+ *
+ * <p>
+ * The field is a Dijkstra search outward from the goal, using the same moves
+ * and costs as {@link AStarSearch} (10 straight, 14 diagonal, no corner
+ * cutting). Every reached cell remembers the neighbour it was reached from,
+ * which is its next step towards the goal, so steering any number of units
+ * costs one array lookup each. Building can be sliced over several ticks with
+ * {@link #resume}; open-list ties are broken by cell index, so the field is
+ * deterministic.
+ *
+ * <p>
+ * Whether a cell sees the goal in a straight line is computed on first use
+ * and cached, so units switch to walking straight as soon as they can, and
+ * every cell pays for that check at most once however many units cross it.
+ */
+public final class FlowField {
+	private static final int STRAIGHT = 10;
+	private static final int DIAGONAL = 14;
+	private static final int[] NEIGHBOUR_X = { 1, -1, 0, 0, 1, 1, -1, -1 };
+	private static final int[] NEIGHBOUR_Y = { 0, 0, 1, -1, 1, -1, 1, -1 };
+	private static final int UNREACHED = Integer.MAX_VALUE;
+
+	private static final byte SIGHT_UNKNOWN = 0;
+	private static final byte SIGHT_YES = 1;
+	private static final byte SIGHT_NO = 2;
+
+	private final NavGrid grid;
+	private final int goalCell;
+	private final int version;
+
+	private final int[] cost;
+	// Neighbour index towards the goal, -1 for the goal and unreached cells
+	private final byte[] direction;
+	private final byte[] sight;
+
+	private int[] heapCell = new int[256];
+	private int[] heapCost = new int[256];
+	private int heapSize = 0;
+	private boolean complete = false;
+	private int expansions = 0;
+
+	// Engine-side bookkeeping for the owner's eviction policy
+	private long lastUsedTick;
+
+	public FlowField(NavGrid grid, int goalCell) {
+		this.grid = grid;
+		this.goalCell = goalCell;
+		this.version = grid.getVersion();
+		final int cells = grid.getCellCount();
+		this.cost = new int[cells];
+		this.direction = new byte[cells];
+		this.sight = new byte[cells];
+		Arrays.fill(cost, UNREACHED);
+		Arrays.fill(direction, (byte) -1);
+
+		if (grid.isBlocked(goalCell)) {
+			complete = true;
+		} else {
+			cost[goalCell] = 0;
+			push(goalCell, 0);
+		}
+	}
+
+	public int getGoalCell() {
+		return goalCell;
+	}
+
+	/**
+	 * Grid version the field was built on; stale once the grid's differs.
+	 */
+	public int getVersion() {
+		return version;
+	}
+
+	public boolean isComplete() {
+		return complete;
+	}
+
+	/**
+	 * Total cells expanded so far.
+	 */
+	public int getExpansions() {
+		return expansions;
+	}
+
+	public long getLastUsedTick() {
+		return lastUsedTick;
+	}
+
+	public void setLastUsedTick(long tick) {
+		this.lastUsedTick = tick;
+	}
+
+	/**
+	 * Expands up to {@code budget} cells.
+	 *
+	 * @return The number of cells expanded.
+	 */
+	public int resume(int budget) {
+		int used = 0;
+		while (!complete && used < budget) {
+			if (heapSize == 0) {
+				complete = true;
+				break;
+			}
+			final int cellCost = heapCost[0];
+			final int cell = pop();
+			if (cellCost > cost[cell]) {
+				continue;
+			}
+			used++;
+			expand(cell);
+		}
+		expansions += used;
+		return used;
+	}
+
+	/**
+	 * Cost to the goal in tenths of a cell, or -1 if the goal cannot be reached.
+	 */
+	public int getCost(int cell) {
+		return cost[cell] == UNREACHED ? -1 : cost[cell];
+	}
+
+	/**
+	 * Next cell towards the goal. A cell the field never reached, such as one
+	 * inside an obstacle footprint, steps to its cheapest reached neighbour.
+	 *
+	 * @return The next cell, or -1 at the goal or if the goal is unreachable.
+	 */
+	public int next(int cell) {
+		if (direction[cell] >= 0) {
+			return neighbour(cell, direction[cell]);
+		}
+		if (cost[cell] != UNREACHED) {
+			return -1;
+		}
+		int best = -1;
+		int bestCost = UNREACHED;
+		final int x = grid.cellX(cell);
+		final int y = grid.cellY(cell);
+		for (int n = 0; n < NEIGHBOUR_X.length; n++) {
+			final int nx = x + NEIGHBOUR_X[n];
+			final int ny = y + NEIGHBOUR_Y[n];
+			if (grid.isWalkable(nx, ny)) {
+				final int candidate = ny * grid.getSize() + nx;
+				if (cost[candidate] < bestCost) {
+					best = candidate;
+					bestCost = cost[candidate];
+				}
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Whether a unit in the cell can walk straight to the goal.
+	 */
+	public boolean seesGoal(int cell) {
+		if (sight[cell] == SIGHT_UNKNOWN) {
+			sight[cell] = grid.hasLineOfSight(cell, goalCell) ? SIGHT_YES : SIGHT_NO;
+		}
+		return sight[cell] == SIGHT_YES;
+	}
+
+	private void expand(int cell) {
+		final int x = grid.cellX(cell);
+		final int y = grid.cellY(cell);
+		for (int n = 0; n < NEIGHBOUR_X.length; n++) {
+			final int nx = x + NEIGHBOUR_X[n];
+			final int ny = y + NEIGHBOUR_Y[n];
+			if (!grid.isWalkable(nx, ny)) {
+				continue;
+			}
+			final boolean diagonal = n >= 4;
+			if (diagonal && (!grid.isWalkable(nx, y) || !grid.isWalkable(x, ny))) {
+				continue;
+			}
+			final int neighbour = ny * grid.getSize() + nx;
+			final int newCost = cost[cell] + (diagonal ? DIAGONAL : STRAIGHT);
+			if (newCost < cost[neighbour]) {
+				cost[neighbour] = newCost;
+				// The neighbour steps back the way it was reached
+				direction[neighbour] = (byte) opposite(n);
+				push(neighbour, newCost);
+			}
+		}
+	}
+
+	private int neighbour(int cell, int n) {
+		return (grid.cellY(cell) + NEIGHBOUR_Y[n]) * grid.getSize() + grid.cellX(cell) + NEIGHBOUR_X[n];
+	}
+
+	/**
+	 * Index of the move that undoes move {@code n}.
+	 */
+	private static int opposite(int n) {
+		return switch (n) {
+		case 0 -> 1;
+		case 1 -> 0;
+		case 2 -> 3;
+		case 3 -> 2;
+		case 4 -> 7;
+		case 5 -> 6;
+		case 6 -> 5;
+		default -> 4;
+		};
+	}
+
+	private boolean before(int a, int b) {
+		return heapCost[a] != heapCost[b] ? heapCost[a] < heapCost[b] : heapCell[a] < heapCell[b];
+	}
+
+	private void push(int cell, int cellCost) {
+		if (heapSize == heapCell.length) {
+			heapCell = Arrays.copyOf(heapCell, heapSize * 2);
+			heapCost = Arrays.copyOf(heapCost, heapSize * 2);
+		}
+		int i = heapSize++;
+		heapCell[i] = cell;
+		heapCost[i] = cellCost;
+		while (i > 0) {
+			final int up = (i - 1) / 2;
+			if (!before(i, up)) {
+				break;
+			}
+			swap(i, up);
+			i = up;
+		}
+	}
+
+	private int pop() {
+		final int top = heapCell[0];
+		heapSize--;
+		if (heapSize > 0) {
+			heapCell[0] = heapCell[heapSize];
+			heapCost[0] = heapCost[heapSize];
+			int i = 0;
+			while (true) {
+				final int left = 2 * i + 1;
+				if (left >= heapSize) {
+					break;
+				}
+				final int right = left + 1;
+				final int child = right < heapSize && before(right, left) ? right : left;
+				if (!before(child, i)) {
+					break;
+				}
+				swap(i, child);
+				i = child;
+			}
+		}
+		return top;
+	}
+
+	private void swap(int a, int b) {
+		final int cell = heapCell[a];
+		final int cellCost = heapCost[a];
+		heapCell[a] = heapCell[b];
+		heapCost[a] = heapCost[b];
+		heapCell[b] = cell;
+		heapCost[b] = cellCost;
+	}
+}
@@ -0,0 +1,241 @@
+package com.cosmic.scavengers.navigation;
+
+import java.util.Arrays;
+
+import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.ecs.domain.tags.StaticTag;
+import com.cosmic.scavengers.registries.EntityRegistry;
+
+import dev.dominion.ecs.api.Entity;
+
+/**
+ * Walkability grid of one world, used by the pathfinder.
+ *
+ * <p>
+ * A square of {@code size} x {@code size} cells of {@code cellSize} scaled
+ * units, centred on the origin, over the X/Y plane. Cells are numbered row by
+ * row, {@code cell = cy * size + cx}. Outside the grid there is no navigation
+ * data and callers fall back to straight-line movement.
+ *
+ * <p>
+ * Obstacles are the footprints of static entities (stations, buildings): a
+ * circle of {@code obstacleRadius} around each, followed through the
+ * registry's {@link EntityRegistry.SlotListener}. Every cell counts the
+ * footprints covering it, so removing one obstacle never unblocks a cell that
+ * another still covers. {@link #getVersion()} changes whenever the obstacles
+ * do, so cached paths can be dropped. Engine thread only.
+ */
+public final class NavGrid implements EntityRegistry.SlotListener {
+	private static final int INITIAL_SLOTS = 256;
+
+	private final int size;
+	private final long cellSize;
+	private final long origin;
+	private final long obstacleRadius;
+	private final int[] blockers;
+	private int version = 0;
+
+	// Footprint centre per slot, so the obstacle can be removed again
+	private boolean[] obstacle = new boolean[INITIAL_SLOTS];
+	private long[] obstacleX = new long[INITIAL_SLOTS];
+	private long[] obstacleY = new long[INITIAL_SLOTS];
+
+	/**
+	 * @param size           Cells per side.
+	 * @param cellSize       Cell edge, scaled.
+	 * @param obstacleRadius Footprint radius of a static entity, scaled.
+	 */
+	public NavGrid(int size, long cellSize, long obstacleRadius) {
+		if (size <= 0 || cellSize <= 0) {
+			throw new IllegalArgumentException("Navigation grid size and cell size must be positive");
+		}
+		this.size = size;
+		this.cellSize = cellSize;
+		this.origin = -(size * cellSize) / 2;
+		this.obstacleRadius = obstacleRadius;
+		this.blockers = new int[size * size];
+	}
+
+	public int getSize() {
+		return size;
+	}
+
+	public int getCellCount() {
+		return size * size;
+	}
+
+	public int getVersion() {
+		return version;
+	}
+
+	@Override
+	public void onRegistered(int slot, Entity entity) {
+		if (!entity.has(StaticTag.class)) {
+			return;
+		}
+		final Position position = entity.get(Position.class);
+		if (position == null) {
+			return;
+		}
+		ensureSlotCapacity(slot);
+		obstacle[slot] = true;
+		obstacleX[slot] = position.x();
+		obstacleY[slot] = position.y();
+		addObstacle(position.x(), position.y(), obstacleRadius, 1);
+	}
+
+	@Override
+	public void onUnregistered(int slot) {
+		if (slot < obstacle.length && obstacle[slot]) {
+			obstacle[slot] = false;
+			addObstacle(obstacleX[slot], obstacleY[slot], obstacleRadius, -1);
+		}
+	}
+
+	/**
+	 * Blocks (or, with {@code delta} -1, unblocks) every cell whose centre lies
+	 * within {@code radius} of the point. The cell holding the point is always
+	 * covered.
+	 */
+	public void addObstacle(long x, long y, long radius, int delta) {
+		final int minX = Math.max(0, cellCoordinate(x - radius));
+		final int maxX = Math.min(size - 1, cellCoordinate(x + radius));
+		final int minY = Math.max(0, cellCoordinate(y - radius));
+		final int maxY = Math.min(size - 1, cellCoordinate(y + radius));
+		final long radiusSquared = radius * radius;
+		final int centre = cellAt(x, y);
+
+		for (int cy = minY; cy <= maxY; cy++) {
+			for (int cx = minX; cx <= maxX; cx++) {
+				final int cell = cy * size + cx;
+				final long dx = centerX(cell) - x;
+				final long dy = centerY(cell) - y;
+				if (cell == centre || dx * dx + dy * dy <= radiusSquared) {
+					blockers[cell] += delta;
+				}
+			}
+		}
+		version++;
+	}
+
+	/**
+	 * @return The cell holding the point, or -1 outside the grid.
+	 */
+	public int cellAt(long x, long y) {
+		final long cx = Math.floorDiv(x - origin, cellSize);
+		final long cy = Math.floorDiv(y - origin, cellSize);
+		if (cx < 0 || cy < 0 || cx >= size || cy >= size) {
+			return -1;
+		}
+		return (int) cy * size + (int) cx;
+	}
+
+	public int cellX(int cell) {
+		return cell % size;
+	}
+
+	public int cellY(int cell) {
+		return cell / size;
+	}
+
+	/**
+	 * Scaled X of the centre of the cell.
+	 */
+	public long centerX(int cell) {
+		return origin + cellX(cell) * cellSize + cellSize / 2;
+	}
+
+	/**
+	 * Scaled Y of the centre of the cell.
+	 */
+	public long centerY(int cell) {
+		return origin + cellY(cell) * cellSize + cellSize / 2;
+	}
+
+	public boolean isBlocked(int cell) {
+		return blockers[cell] > 0;
+	}
+
+	/**
+	 * Whether the cell exists and is free. Cell coordinates outside the grid are
+	 * not walkable.
+	 */
+	public boolean isWalkable(int cx, int cy) {
+		return cx >= 0 && cy >= 0 && cx < size && cy < size && blockers[cy * size + cx] == 0;
+	}
+
+	/**
+	 * Whether a unit can walk straight from one cell to the other. Diagonal steps
+	 * need both adjacent cells free, so the line never cuts a corner. The start
+	 * cell is not checked, so units standing inside a footprint can leave it.
+	 */
+	public boolean hasLineOfSight(int from, int to) {
+		int x = cellX(from);
+		int y = cellY(from);
+		final int toX = cellX(to);
+		final int toY = cellY(to);
+		final int dx = Math.abs(toX - x);
+		final int dy = Math.abs(toY - y);
+		final int stepX = x < toX ? 1 : -1;
+		final int stepY = y < toY ? 1 : -1;
+
+		int error = dx - dy;
+		while (x != toX || y != toY) {
+			final int doubled = 2 * error;
+			final boolean moveX = doubled > -dy;
+			final boolean moveY = doubled < dx;
+			if (moveX && moveY && (!isWalkable(x + stepX, y) || !isWalkable(x, y + stepY))) {
+				return false;
+			}
+			if (moveX) {
+				error -= dy;
+				x += stepX;
+			}
+			if (moveY) {
+				error += dx;
+				y += stepY;
+			}
+			if (!isWalkable(x, y)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Drops the cells of a path that a unit can skip by walking straight, keeping
+	 * the first and last cell. From each kept cell the path is followed while the
+	 * next cell is still in line of sight, and the last such cell is kept.
+	 */
+	public int[] simplify(int[] cells) {
+		if (cells.length <= 2) {
+			return cells;
+		}
+		final int[] kept = new int[cells.length];
+		int count = 0;
+		kept[count++] = cells[0];
+		int anchor = 0;
+		for (int i = 2; i < cells.length; i++) {
+			if (!hasLineOfSight(cells[anchor], cells[i])) {
+				anchor = i - 1;
+				kept[count++] = cells[anchor];
+			}
+		}
+		kept[count++] = cells[cells.length - 1];
+		return Arrays.copyOf(kept, count);
+	}
+
+	private int cellCoordinate(long value) {
+		return (int) Math.max(-1, Math.min(size, Math.floorDiv(value - origin, cellSize)));
+	}
+
+	private void ensureSlotCapacity(int slot) {
+		if (slot < obstacle.length) {
+			return;
+		}
+		final int capacity = Math.max(obstacle.length * 2, slot + 1);
+		obstacle = Arrays.copyOf(obstacle, capacity);
+		obstacleX = Arrays.copyOf(obstacleX, capacity);
+		obstacleY = Arrays.copyOf(obstacleY, capacity);
+	}
+}
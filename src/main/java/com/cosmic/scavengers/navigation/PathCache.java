@@ -0,0 +1,75 @@
+package com.cosmic.scavengers.navigation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least-recently-used cache of finished paths, keyed by start cell and goal
+ * cell, so units ordered from the same place to the same place share one
+ * search.
+ *
+ * <p>
+ * Values are simplified cell paths from {@link NavGrid#simplify}; an empty
+ * array records that the goal is unreachable. Entries are only valid for the
+ * grid version they were found on, so the owner clears the cache when
+ * {@link NavGrid#getVersion()} changes. Engine thread only.
+ */
+public final class PathCache {
+	private static final int[] UNREACHABLE = new int[0];
+
+	private final Map<Long, int[]> paths;
+	private long hits = 0;
+	private long misses = 0;
+
+	public PathCache(int capacity) {
+		this.paths = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, int[]> eldest) {
+				return size() > capacity;
+			}
+		};
+	}
+
+	/**
+	 * @return The cached path, an empty array if the goal is known to be
+	 *         unreachable, or null on a miss.
+	 */
+	public int[] get(int startCell, int goalCell) {
+		final int[] path = paths.get(key(startCell, goalCell));
+		if (path != null) {
+			hits++;
+		} else {
+			misses++;
+		}
+		return path;
+	}
+
+	/**
+	 * @param path The path, or null if the goal is unreachable.
+	 */
+	public void put(int startCell, int goalCell, int[] path) {
+		paths.put(key(startCell, goalCell), path != null ? path : UNREACHABLE);
+	}
+
+	public void clear() {
+		paths.clear();
+	}
+
+	public int size() {
+		return paths.size();
+	}
+
+	public long getHits() {
+		return hits;
+	}
+
+	public long getMisses() {
+		return misses;
+	}
+
+	private static Long key(int startCell, int goalCell) {
+		return ((long) startCell << 32) | (goalCell & 0xFFFFFFFFL);
+	}
+}
@@ -11,6 +11,7 @@ import org.springframework.stereotype.Component;
 
 import com.cosmic.scavengers.core.commands.ICommandBinaryHandler;
 import com.cosmic.scavengers.core.commands.ICommandTextHandler;
+import com.cosmic.scavengers.core.jfr.NetworkMessageEvent;
 import com.cosmic.scavengers.networking.commands.CommandType;
 import com.cosmic.scavengers.networking.commands.NetworkBinaryCommand;
 import com.cosmic.scavengers.networking.commands.NetworkTextCommand;
@@ -56,21 +57,27 @@ public class CommandRouter {
 	}
 
 	/**
-	 * Routes a command to the correct handler.
+	 * Routes a command to the correct handler. Each routed message is recorded
+	 * as a {@link NetworkMessageEvent}, including the time spent in its handler.
 	 * 
 	 * @param ctx     The Netty ChannelHandlerContext.
 	 * @param command The Command Payload.
 	 * 
 	 */
 	public void route(ChannelHandlerContext ctx, ByteBuf command) {
+		final NetworkMessageEvent event = new NetworkMessageEvent();
+		event.begin();
+		final int bytes = command.readableBytes();
+
 		byte commandValue = command.readByte();
 		CommandType commandType = CommandType.fromValue(commandValue);
+		String routed = null;
 		switch (commandType) {
 		case TYPE_TEXT:
-			routeTextCommand(ctx, command);
+			routed = routeTextCommand(ctx, command);
 			break;
 		case TYPE_BINARY:
-			routeBinaryCommand(ctx, command);
+			routed = routeBinaryCommand(ctx, command);
 			break;
 		case TYPE_UNKNOWN:
 			log.warn("Received unknown message type: {}", commandType);
@@ -78,14 +85,26 @@ public class CommandRouter {
 		default:
 			throw new IllegalStateException("Unexpected value: " + commandType);
 		}
+
+		event.end();
+		if (event.shouldCommit()) {
+			event.direction = NetworkMessageEvent.INBOUND;
+			event.type = commandType.name();
+			event.command = routed;
+			event.bytes = bytes;
+			event.commit();
+		}
 	}
 
-	private void routeTextCommand(ChannelHandlerContext ctx, ByteBuf payload) {
+	/**
+	 * @return The name of the routed command, or null if it was dropped.
+	 */
+	private String routeTextCommand(ChannelHandlerContext ctx, ByteBuf payload) {
 		String message = payload.toString(CharsetUtil.UTF_8).trim();
 		String[] parts = message.split(TEXT_COMMAND_DELIMITER);
 		if (parts.length == 0) {
 			log.warn("Received empty text command.");
-			return;
+			return null;
 		}
 		String commandCode = parts[0];
 		NetworkTextCommand command = NetworkTextCommand.fromCode(commandCode);
@@ -93,7 +112,7 @@ public class CommandRouter {
 		if (command == null) {
 			log.warn("Received unknown text command code: '{}'. Dropping payload.", commandCode);
 			payload.release();
-			return;
+			return null;
 		}
 
 		log.info("Routing text command: {}", command.getLogName());
@@ -105,12 +124,16 @@ public class CommandRouter {
 			log.warn("No text handler implemented for command: {}", command.getLogName());
 			payload.release();
 		}
+		return command.name();
 	}
 
-	private void routeBinaryCommand(ChannelHandlerContext ctx, ByteBuf payload) {
+	/**
+	 * @return The name of the routed command, or null if it was dropped.
+	 */
+	private String routeBinaryCommand(ChannelHandlerContext ctx, ByteBuf payload) {
 		if (payload.readableBytes() < 2) {
 			log.warn("Binary Payload too short to contain command.");
-			return;
+			return null;
 		}
 
 		short commandCode = payload.readShort();
@@ -121,7 +144,7 @@ public class CommandRouter {
 						Integer.toHexString(commandCode & 0xFFFF));
 			}
 			payload.release(); // TODO - Check if this done automatically.
-			return;
+			return null;
 		}
 
 		ICommandBinaryHandler handler = binaryCommandsMap.get(command);
@@ -133,5 +156,6 @@ public class CommandRouter {
 			log.warn("No Handler implemented for [Inbound Command] | Log: [{}]", command.getLogText());
 			payload.release(); // TODO - Check if this done automatically.
 		}
+		return command.name();
 	}
 }
\ No newline at end of file
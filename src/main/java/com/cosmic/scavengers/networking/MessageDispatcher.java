@@ -6,6 +6,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import com.cosmic.scavengers.core.jfr.NetworkMessageEvent;
 import com.cosmic.scavengers.networking.commands.CommandType;
 import com.cosmic.scavengers.networking.commands.NetworkBinaryCommand;
 import com.google.protobuf.GeneratedMessage;
@@ -29,6 +30,8 @@ public class MessageDispatcher {
 			return;
 		}
 
+		final NetworkMessageEvent event = new NetworkMessageEvent();
+		event.begin();
 		final ByteBuf messagePayload = Unpooled.copiedBuffer(message, StandardCharsets.UTF_8);
 
 		// 1 Byte (Type) + N Bytes (Payload)
@@ -42,7 +45,16 @@ public class MessageDispatcher {
 		}
 
 		log.trace("Sending TEXT message '{}' - size '{}' bytes", message, finalPayload.readableBytes());
+		final int bytes = finalPayload.readableBytes();
 		ctx.writeAndFlush(finalPayload);
+
+		event.end();
+		if (event.shouldCommit()) {
+			event.direction = NetworkMessageEvent.OUTBOUND;
+			event.type = CommandType.TYPE_TEXT.name();
+			event.bytes = bytes;
+			event.commit();
+		}
 	}
 
 	/**
@@ -85,6 +97,9 @@ public class MessageDispatcher {
 			return;
 		}
 
+		final NetworkMessageEvent event = new NetworkMessageEvent();
+		event.begin();
+
 		// Header size: 1 (Type) + 2 (Command) + 4 (Length) = 7 bytes
 		final int headerSize = Byte.BYTES + Short.BYTES + Integer.BYTES;
 		// Payload size: N bytes
@@ -106,9 +121,18 @@ public class MessageDispatcher {
 			payload.release(); // Release the original/old payload buffer
 		}
 
-		log.info("Sending BINARY command '{}' - payload-size '{}' bytes", NetworkBinaryCommand.fromCode(command).name(),
-				payloadSize);
+		final String commandName = NetworkBinaryCommand.fromCode(command).name();
+		log.info("Sending BINARY command '{}' - payload-size '{}' bytes", commandName, payloadSize);
 
 		ctx.writeAndFlush(finalPayload);
+
+		event.end();
+		if (event.shouldCommit()) {
+			event.direction = NetworkMessageEvent.OUTBOUND;
+			event.type = CommandType.TYPE_BINARY.name();
+			event.command = commandName;
+			event.bytes = totalSize;
+			event.commit();
+		}
 	}
 }
\ No newline at end of file
@@ -17,7 +17,9 @@ public enum NetworkBinaryCommand {
 	REQUEST_PLAYER_ENTITIES_S(0x0004, "Send the entities associated with a player."),
 
 	REQUEST_ENTITY_MOVE_C(0x0005, "Request an entity to movement."),
-	REQUEST_ENTITY_MOVE_S(0x0006, "Entity movement Server response.");
+	REQUEST_ENTITY_MOVE_S(0x0006, "Entity movement Server response."),
+
+	REQUEST_ENTITY_PATH_C(0x0007, "Request an entity to follow a waypoint path.");
 
 	private static final Map<Short, NetworkBinaryCommand> BY_CODE = new HashMap<>();
 
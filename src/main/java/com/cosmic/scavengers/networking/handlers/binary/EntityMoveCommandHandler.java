@@ -1,7 +1,5 @@
 package com.cosmic.scavengers.networking.handlers.binary;
 
-import org.decimal4j.api.Decimal;
-import org.decimal4j.scale.Scale4f;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -59,30 +57,23 @@ public class EntityMoveCommandHandler implements ICommandBinaryHandler {
 	private MoveRequestData getMoveRequestData(Long playerId, ByteBuf payload) {
 		final long entityId = payload.readLong();
 
+		// Values stay in their scaled wire form; the ECS components store them as is
 		final long scaledX = payload.readLong();
 		final long scaledY = payload.readLong();
 		final long scaledZ = payload.readLong();
 
-		final Decimal<Scale4f> targetX = DecimalUtils.fromScaled(scaledX);
-		final Decimal<Scale4f> targetY = DecimalUtils.fromScaled(scaledY);
-		final Decimal<Scale4f> targetZ = DecimalUtils.fromScaled(scaledZ);
-
 		final long scaledMovementSpeed = payload.readLong();
 		final long scaledRotationSpeed = payload.readLong();
 		final long scaledStoppingDistance = payload.readLong();
 
-		final Decimal<Scale4f> unscaledMovementSpeed = DecimalUtils.fromScaled(scaledMovementSpeed);
-		final Decimal<Scale4f> unscaledRotationSpeed = DecimalUtils.fromScaled(scaledRotationSpeed);
-		final Decimal<Scale4f> unscaledStoppingDistance = DecimalUtils.fromScaled(scaledStoppingDistance);
-
 		log.info("Constructed new MoveRequestData: PlayerId: '{}' requested move of EntityId: '{}' to Target: [{}, {}, {}]",
 				playerId, entityId, 
-				targetX, targetY, targetZ);
-				//unscaledMovementSpeed, unscaledRotationSpeed, scaledStoppingDistance);
+				DecimalUtils.formatScaled(scaledX), DecimalUtils.formatScaled(scaledY),
+				DecimalUtils.formatScaled(scaledZ));
 
 		return new MoveRequestData(
 				entityId, playerId,
-				targetX, targetY, targetZ, 
-				unscaledMovementSpeed, unscaledRotationSpeed, unscaledStoppingDistance);
+				scaledX, scaledY, scaledZ, 
+				scaledMovementSpeed, scaledRotationSpeed, scaledStoppingDistance);
 	}
 }
@@ -0,0 +1,91 @@
+package com.cosmic.scavengers.networking.handlers.binary;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.cosmic.scavengers.core.commands.ICommandBinaryHandler;
+import com.cosmic.scavengers.gameplay.services.EntityActionService;
+import com.cosmic.scavengers.gameplay.services.data.MovePathRequestData;
+import com.cosmic.scavengers.networking.commands.NetworkBinaryCommand;
+import com.cosmic.scavengers.networking.constants.NetworkAttributeKeys;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+
+/**
+ * Handles a whole waypoint path for one entity in a single message, instead of
+ * one {@code REQUEST_ENTITY_MOVE_C} per corner.
+ *
+ * <p>
+ * Payload: long entityId, long movementSpeed, long rotationSpeed, long
+ * stoppingDistance, int waypointCount, then waypointCount * (long x, long y,
+ * long z). All decimals are Scale4f scaled longs.
+ */
+@Component
+public class EntityPathCommandHandler implements ICommandBinaryHandler {
+	private static final Logger log = LoggerFactory.getLogger(EntityPathCommandHandler.class);
+
+	// (4 * 8) bytes for EntityID and decimals + (4) bytes for the waypoint count
+	private static final int HEADER_BYTES = 36;
+	private static final int WAYPOINT_BYTES = 3 * Long.BYTES;
+
+	private final EntityActionService entityActionService;
+
+	public EntityPathCommandHandler(EntityActionService entityActionService) {
+		this.entityActionService = entityActionService;
+	}
+
+	@Override
+	public NetworkBinaryCommand getCommand() {
+		return NetworkBinaryCommand.REQUEST_ENTITY_PATH_C;
+	}
+
+	@Override
+	public void handle(ChannelHandlerContext ctx, ByteBuf payload) {
+		log.debug("Handling {} command for channel {}.",
+				getCommand().getLogText(), ctx.channel().id());
+
+		if (payload.readableBytes() < HEADER_BYTES) {
+			log.error("Malformed path command from {}: expected at least {} bytes, got {}",
+					ctx.channel().id(), HEADER_BYTES, payload.readableBytes());
+			return;
+		}
+
+		final Long playerId =
+				ctx.channel().attr(NetworkAttributeKeys.PLAYER_ID_KEY.<Long>getKey()).get();
+		if (playerId == null) {
+			log.error("Unauthorized path request: No PlayerID associated with channel {}.", ctx.channel().id());
+			ctx.close(); // Immediate disconnect for security if session is corrupted
+			return;
+		}
+
+		final long entityId = payload.readLong();
+		final long scaledMovementSpeed = payload.readLong();
+		final long scaledRotationSpeed = payload.readLong();
+		final long scaledStoppingDistance = payload.readLong();
+		final int waypointCount = payload.readInt();
+
+		if (waypointCount <= 0 || waypointCount > MovePathRequestData.MAX_WAYPOINTS) {
+			log.error("Path command from {} has {} waypoints, allowed 1 to {}.",
+					ctx.channel().id(), waypointCount, MovePathRequestData.MAX_WAYPOINTS);
+			return;
+		}
+		if (payload.readableBytes() < waypointCount * WAYPOINT_BYTES) {
+			log.error("Malformed path command from {}: {} waypoints need {} bytes, got {}",
+					ctx.channel().id(), waypointCount, waypointCount * WAYPOINT_BYTES, payload.readableBytes());
+			return;
+		}
+
+		// Values stay in their scaled wire form; the ECS components store them as is
+		final long[] waypoints = new long[waypointCount * 3];
+		for (int i = 0; i < waypoints.length; i++) {
+			waypoints[i] = payload.readLong();
+		}
+
+		entityActionService.processPathRequest(new MovePathRequestData(
+				entityId, playerId,
+				waypoints,
+				scaledMovementSpeed, scaledRotationSpeed, scaledStoppingDistance));
+	}
+}
@@ -0,0 +1,145 @@
+package com.cosmic.scavengers.projectile;
+
+import java.util.Arrays;
+
+/**
+ * Pooled structure-of-arrays storage for the projectiles of one world.
+ *
+ * <p>
+ * Projectiles live for a handful of ticks and a fight spawns thousands per
+ * second, so they are not Dominion entities. Each field is a primitive column
+ * and the live projectiles occupy indices {@code 0 .. size() - 1}. Removing one
+ * moves the last projectile into its index, so the columns stay dense for the
+ * batch loop. The columns grow by doubling and are never shrunk, so a warm
+ * store spawns and removes without allocating.
+ *
+ * <p>
+ * Positions and velocities are Scale4f scaled longs on the X/Y plane;
+ * velocities are per tick. Indices are only stable until the next
+ * {@link #remove(int)}. Engine thread only.
+ */
+public final class ProjectileStore {
+	private static final int INITIAL_CAPACITY = 256;
+
+	/**
+	 * Fastest velocity per axis and tick (800 units), so a tick's path stays
+	 * short enough for exact fixed-point hit tests.
+	 */
+	public static final long MAX_VELOCITY = 8_000_000L;
+
+	private long[] x = new long[INITIAL_CAPACITY];
+	private long[] y = new long[INITIAL_CAPACITY];
+	private long[] velocityX = new long[INITIAL_CAPACITY];
+	private long[] velocityY = new long[INITIAL_CAPACITY];
+	private long[] owners = new long[INITIAL_CAPACITY];
+	private int[] damage = new int[INITIAL_CAPACITY];
+	private int[] ticksLeft = new int[INITIAL_CAPACITY];
+	private int size = 0;
+
+	/**
+	 * Adds a projectile.
+	 *
+	 * @param ownerId       Player whose entities the projectile passes through.
+	 * @param lifetimeTicks Ticks it flies before it is dropped.
+	 * @return The projectile's index.
+	 */
+	public int spawn(long posX, long posY, long velX, long velY, long ownerId, int damageOnHit, int lifetimeTicks) {
+		if (Math.abs(velX) > MAX_VELOCITY || Math.abs(velY) > MAX_VELOCITY) {
+			throw new IllegalArgumentException("Projectile velocity exceeds " + MAX_VELOCITY + " per tick");
+		}
+		if (size == x.length) {
+			grow();
+		}
+		final int index = size++;
+		x[index] = posX;
+		y[index] = posY;
+		velocityX[index] = velX;
+		velocityY[index] = velY;
+		owners[index] = ownerId;
+		damage[index] = damageOnHit;
+		ticksLeft[index] = lifetimeTicks;
+		return index;
+	}
+
+	/**
+	 * Moves the projectile by its velocity and uses up one tick of its life.
+	 *
+	 * @return The ticks it has left.
+	 */
+	public int advance(int index) {
+		x[index] += velocityX[index];
+		y[index] += velocityY[index];
+		return --ticksLeft[index];
+	}
+
+	/**
+	 * Drops the projectile. The last projectile takes its index.
+	 */
+	public void remove(int index) {
+		final int last = --size;
+		if (index == last) {
+			return;
+		}
+		x[index] = x[last];
+		y[index] = y[last];
+		velocityX[index] = velocityX[last];
+		velocityY[index] = velocityY[last];
+		owners[index] = owners[last];
+		damage[index] = damage[last];
+		ticksLeft[index] = ticksLeft[last];
+	}
+
+	public void clear() {
+		size = 0;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Projectiles the columns currently hold without growing.
+	 */
+	public int capacity() {
+		return x.length;
+	}
+
+	public long getX(int index) {
+		return x[index];
+	}
+
+	public long getY(int index) {
+		return y[index];
+	}
+
+	public long getVelocityX(int index) {
+		return velocityX[index];
+	}
+
+	public long getVelocityY(int index) {
+		return velocityY[index];
+	}
+
+	public long getOwner(int index) {
+		return owners[index];
+	}
+
+	public int getDamage(int index) {
+		return damage[index];
+	}
+
+	public int getTicksLeft(int index) {
+		return ticksLeft[index];
+	}
+
+	private void grow() {
+		final int capacity = x.length * 2;
+		x = Arrays.copyOf(x, capacity);
+		y = Arrays.copyOf(y, capacity);
+		velocityX = Arrays.copyOf(velocityX, capacity);
+		velocityY = Arrays.copyOf(velocityY, capacity);
+		owners = Arrays.copyOf(owners, capacity);
+		damage = Arrays.copyOf(damage, capacity);
+		ticksLeft = Arrays.copyOf(ticksLeft, capacity);
+	}
+}
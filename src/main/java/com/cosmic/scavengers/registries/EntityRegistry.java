@@ -1,35 +1,82 @@
 package com.cosmic.scavengers.registries;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.stereotype.Component;
+
+import com.cosmic.scavengers.ecs.domain.components.EntitySlot;
 
 import dev.dominion.ecs.api.Entity;
 
 /**
  * A high-performance registry that bridges Database IDs to live Dominion
  * Entities. This allows services and network handlers to find live game objects
- * instantly.
+ * instantly. Each world owns its own registry.
+ *
+ * <p>
+ * Every registered entity also gets a dense {@link EntitySlot}, which per-tick
+ * bookkeeping uses instead of hashing. The slot tables are only touched on the
+ * engine thread; the id lookups are safe from any thread. Per-slot structures
+ * such as the spatial index follow slot assignment through a
+ * {@link SlotListener}.
  */
-@Component
 public class EntityRegistry {
+	/**
+	 * Notified on the engine thread when a slot is assigned or freed.
+	 */
+	public interface SlotListener {
+		void onRegistered(int slot, Entity entity);
+
+		void onUnregistered(int slot);
+	}
+
 	private static final Logger log = LoggerFactory.getLogger(EntityRegistry.class);
 
+	private static final int INITIAL_SLOTS = 256;
+
 	// ConcurrentHashMap provides thread-safety for high-frequency access
 	private final Map<Long, Entity> liveEntities = new ConcurrentHashMap<>();
 
+	// Engine thread only. A free slot has a null entity and an id of -1.
+	private Entity[] slotEntities = new Entity[INITIAL_SLOTS];
+	private long[] slotIds = newIdTable(INITIAL_SLOTS);
+	private int[] freeSlots = new int[INITIAL_SLOTS];
+	private int freeCount = 0;
+	private int slotCount = 0;
+
+	private final List<SlotListener> slotListeners = new CopyOnWriteArrayList<>();
+
 	/**
-	 * Registers a live entity into the world.
+	 * Registers a live entity into the world and assigns it an
+	 * {@link EntitySlot}. Must be called on the engine thread.
 	 * 
 	 * @param dbId           The Primary Key from the PLAYER_ENTITIES table.
 	 * @param dominionEntity The live ECS entity instance.
 	 */
 	public void register(long dbId, Entity dominionEntity) {
+		final int slot = allocateSlot();
+		slotEntities[slot] = dominionEntity;
+		slotIds[slot] = dbId;
+		dominionEntity.add(new EntitySlot(slot));
+
 		liveEntities.put(dbId, dominionEntity);
-		log.debug("Registered live entity: ID {}", dbId);
+		for (SlotListener listener : slotListeners) {
+			listener.onRegistered(slot, dominionEntity);
+		}
+		log.debug("Registered live entity: ID {} in slot {}", dbId, slot);
+	}
+
+	public void addSlotListener(SlotListener listener) {
+		slotListeners.add(listener);
+	}
+
+	public void removeSlotListener(SlotListener listener) {
+		slotListeners.remove(listener);
 	}
 
 	/**
@@ -41,13 +88,20 @@ public class EntityRegistry {
 
 	/**
 	 * Removes an entity from the registry (e.g., when a player logs out or entity
-	 * is destroyed).
+	 * is destroyed) and frees its slot. Must be called on the engine thread.
 	 * 
 	 * 	 * @param entityDbId The Primary Key from the PLAYER_ENTITIES table.
 	 */
 	public void unregister(long dbId) {
 		Entity removed = liveEntities.remove(dbId);
 		if (removed != null) {
+			final EntitySlot slot = removed.get(EntitySlot.class);
+			if (slot != null) {
+				releaseSlot(slot.index());
+				for (SlotListener listener : slotListeners) {
+					listener.onUnregistered(slot.index());
+				}
+			}
 			log.debug("Unregistered entity: ID {}", dbId);
 		}
 	}
@@ -61,7 +115,65 @@ public class EntityRegistry {
 		return liveEntities.containsKey(entityDbId);
 	}
 
+	/**
+	 * Copies the database ids of all active entities, in no particular order.
+	 */
+	public long[] getActiveIds() {
+		return liveEntities.keySet().stream().mapToLong(Long::longValue).toArray();
+	}
+
 	public int getActiveCount() {
 		return liveEntities.size();
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Upper bound (exclusive) of the slots handed out so far.
+	 */
+	public int getSlotCount() {
+		return slotCount;
+	}
+
+	/**
+	 * @return The entity in the slot, or null if the slot is free.
+	 */
+	public Entity getEntityAt(int slot) {
+		return slot < slotCount ? slotEntities[slot] : null;
+	}
+
+	/**
+	 * @return The database id of the entity in the slot, or -1 if the slot is
+	 *         free.
+	 */
+	public long getIdAt(int slot) {
+		return slot < slotCount ? slotIds[slot] : -1L;
+	}
+
+	private int allocateSlot() {
+		if (freeCount > 0) {
+			return freeSlots[--freeCount];
+		}
+		if (slotCount == slotEntities.length) {
+			final int capacity = slotCount * 2;
+			slotEntities = Arrays.copyOf(slotEntities, capacity);
+			final long[] ids = newIdTable(capacity);
+			System.arraycopy(slotIds, 0, ids, 0, slotCount);
+			slotIds = ids;
+		}
+		return slotCount++;
+	}
+
+	private void releaseSlot(int slot) {
+		slotEntities[slot] = null;
+		slotIds[slot] = -1L;
+		if (freeCount == freeSlots.length) {
+			freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+		}
+		freeSlots[freeCount++] = slot;
+	}
+
+	private static long[] newIdTable(int capacity) {
+		final long[] ids = new long[capacity];
+		Arrays.fill(ids, -1L);
+		return ids;
+	}
+}
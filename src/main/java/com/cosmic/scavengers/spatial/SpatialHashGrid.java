@@ -0,0 +1,458 @@
+package com.cosmic.scavengers.spatial;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.registries.EntityRegistry;
+
+import dev.dominion.ecs.api.Entity;
+
+/**
+ * Uniform spatial hash over the X/Y plane of one world, keyed by
+ * {@link com.cosmic.scavengers.ecs.domain.components.EntitySlot}.
+ *
+ * <p>
+ * Positions are Scale4f scaled longs and cells are squares of {@code cellSize}
+ * scaled units, so the index needs no floating point and is deterministic.
+ * Each occupied cell is found through an open-addressing table and holds an
+ * intrusive doubly linked list of slots, so inserting, removing and moving an
+ * entity are O(1). A cell leaves the table when its last slot does, so the
+ * table is bounded by the occupied cells, not by the area ever visited.
+ * {@link #update} only relinks an entity when it crosses a cell boundary;
+ * within a cell it just records the new position.
+ *
+ * <p>
+ * Queries write slots into caller-owned arrays or test them with a
+ * caller-owned {@link IntPredicate}, so a warm grid does not allocate.
+ * Distances are compared as squared scaled longs, which is exact for
+ * coordinate differences up to about 300,000 units. Z is ignored.
+ *
+ * <p>
+ * The grid keeps itself in sync with the world's {@link EntityRegistry}:
+ * registered entities with a {@link Position} are inserted, unregistered ones
+ * removed. Positions are then updated by the systems that move entities. Not
+ * thread-safe; it is only touched on the engine thread, from systems that
+ * write {@link Position}.
+ */
+public final class SpatialHashGrid implements EntityRegistry.SlotListener {
+	private static final int INITIAL_SLOTS = 1024;
+	private static final int INITIAL_CELLS = 1024;
+	private static final int NONE = -1;
+
+	private final long cellSize;
+
+	// Per slot
+	private boolean[] present = new boolean[INITIAL_SLOTS];
+	private long[] x = new long[INITIAL_SLOTS];
+	private long[] y = new long[INITIAL_SLOTS];
+	private int[] cellX = new int[INITIAL_SLOTS];
+	private int[] cellY = new int[INITIAL_SLOTS];
+	private int[] next = new int[INITIAL_SLOTS];
+	private int[] prev = new int[INITIAL_SLOTS];
+	private int size = 0;
+
+	// Cell table: packed cell coordinates -> first slot, linear probing. Only
+	// occupied cells are stored; emptied ones are deleted by backward shifting.
+	private long[] cellKeys = new long[INITIAL_CELLS];
+	private int[] cellHeads = new int[INITIAL_CELLS];
+	private boolean[] cellUsed = new boolean[INITIAL_CELLS];
+	private int cellCount = 0;
+
+	/**
+	 * @param cellSize Cell edge in Scale4f scaled units. Pick roughly the most
+	 *                 common query radius.
+	 */
+	public SpatialHashGrid(long cellSize) {
+		if (cellSize <= 0) {
+			throw new IllegalArgumentException("Cell size must be positive, got " + cellSize);
+		}
+		this.cellSize = cellSize;
+	}
+
+	public long getCellSize() {
+		return cellSize;
+	}
+
+	/**
+	 * Number of indexed entities.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Number of cells holding at least one slot.
+	 */
+	int getCellCount() {
+		return cellCount;
+	}
+
+	public boolean contains(int slot) {
+		return slot < present.length && present[slot];
+	}
+
+	public long getX(int slot) {
+		return x[slot];
+	}
+
+	public long getY(int slot) {
+		return y[slot];
+	}
+
+	@Override
+	public void onRegistered(int slot, Entity entity) {
+		final Position position = entity.get(Position.class);
+		if (position != null) {
+			insert(slot, position.x(), position.y());
+		}
+	}
+
+	@Override
+	public void onUnregistered(int slot) {
+		remove(slot);
+	}
+
+	/**
+	 * Adds the slot, or moves it if it is already indexed.
+	 */
+	public void insert(int slot, long posX, long posY) {
+		if (contains(slot)) {
+			update(slot, posX, posY);
+			return;
+		}
+		ensureSlotCapacity(slot);
+		present[slot] = true;
+		x[slot] = posX;
+		y[slot] = posY;
+		cellX[slot] = cellCoordinate(posX);
+		cellY[slot] = cellCoordinate(posY);
+		link(slot);
+		size++;
+	}
+
+	/**
+	 * Records the slot's new position. Unindexed slots are inserted.
+	 *
+	 * @return Whether the slot moved to a different cell.
+	 */
+	public boolean update(int slot, long posX, long posY) {
+		if (!contains(slot)) {
+			insert(slot, posX, posY);
+			return true;
+		}
+		x[slot] = posX;
+		y[slot] = posY;
+
+		final int newCellX = cellCoordinate(posX);
+		final int newCellY = cellCoordinate(posY);
+		if (newCellX == cellX[slot] && newCellY == cellY[slot]) {
+			return false;
+		}
+		unlink(slot);
+		cellX[slot] = newCellX;
+		cellY[slot] = newCellY;
+		link(slot);
+		return true;
+	}
+
+	public void remove(int slot) {
+		if (!contains(slot)) {
+			return;
+		}
+		unlink(slot);
+		present[slot] = false;
+		size--;
+	}
+
+	/**
+	 * Writes the slots within {@code radius} of the point into {@code out}.
+	 *
+	 * @return The number of slots found. Only the first {@code out.length} are
+	 *         written, so a result equal to the array length may be truncated.
+	 */
+	public int queryRange(long centerX, long centerY, long radius, int[] out) {
+		final long radiusSquared = radius * radius;
+		final int minCellX = cellCoordinate(centerX - radius);
+		final int maxCellX = cellCoordinate(centerX + radius);
+		final int minCellY = cellCoordinate(centerY - radius);
+		final int maxCellY = cellCoordinate(centerY + radius);
+
+		int found = 0;
+		for (int cy = minCellY; cy <= maxCellY; cy++) {
+			for (int cx = minCellX; cx <= maxCellX; cx++) {
+				for (int slot = head(cx, cy); slot != NONE; slot = next[slot]) {
+					if (distanceSquared(slot, centerX, centerY) <= radiusSquared) {
+						if (found < out.length) {
+							out[found] = slot;
+						}
+						found++;
+					}
+				}
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Like {@link #queryRange}, but with a bounded cost even in a crowded cell:
+	 * the search stops as soon as {@code out} is full or {@code maxVisited}
+	 * indexed slots have been looked at, whether they were in range or not.
+	 * Which slots are returned then depends on the cell order, which is
+	 * deterministic.
+	 *
+	 * @return The number of slots written, at most {@code out.length}.
+	 */
+	public int queryRangeBounded(long centerX, long centerY, long radius, int[] out, int maxVisited) {
+		final long radiusSquared = radius * radius;
+		final int minCellX = cellCoordinate(centerX - radius);
+		final int maxCellX = cellCoordinate(centerX + radius);
+		final int minCellY = cellCoordinate(centerY - radius);
+		final int maxCellY = cellCoordinate(centerY + radius);
+
+		if (out.length == 0) {
+			return 0;
+		}
+		int found = 0;
+		int visited = 0;
+		for (int cy = minCellY; cy <= maxCellY; cy++) {
+			for (int cx = minCellX; cx <= maxCellX; cx++) {
+				for (int slot = head(cx, cy); slot != NONE; slot = next[slot]) {
+					if (visited++ == maxVisited) {
+						return found;
+					}
+					if (distanceSquared(slot, centerX, centerY) <= radiusSquared) {
+						out[found++] = slot;
+						if (found == out.length) {
+							return found;
+						}
+					}
+				}
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Writes the slots inside the axis-aligned rectangle (bounds inclusive) into
+	 * {@code out}, for sector-style queries.
+	 *
+	 * @return The number of slots found, see {@link #queryRange}.
+	 */
+	public int queryRect(long minX, long minY, long maxX, long maxY, int[] out) {
+		return queryRect(minX, minY, maxX, maxY, out, null);
+	}
+
+	/**
+	 * Like {@link #queryRect(long, long, long, long, int[])}, but only counts
+	 * and writes the slots that the filter accepts, so rejected slots never
+	 * crowd out the wanted ones.
+	 *
+	 * @param filter Accepts candidate slots; null accepts all.
+	 * @return The number of accepted slots, see {@link #queryRange}.
+	 */
+	public int queryRect(long minX, long minY, long maxX, long maxY, int[] out, IntPredicate filter) {
+		int found = 0;
+		for (int cy = cellCoordinate(minY); cy <= cellCoordinate(maxY); cy++) {
+			for (int cx = cellCoordinate(minX); cx <= cellCoordinate(maxX); cx++) {
+				for (int slot = head(cx, cy); slot != NONE; slot = next[slot]) {
+					if (x[slot] >= minX && x[slot] <= maxX && y[slot] >= minY && y[slot] <= maxY
+							&& (filter == null || filter.test(slot))) {
+						if (found < out.length) {
+							out[found] = slot;
+						}
+						found++;
+					}
+				}
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Finds the closest slot within {@code maxRadius} of the point that the
+	 * filter accepts. Cells are searched in rings of growing distance, and the
+	 * search stops once no unvisited cell can hold anything closer. Equally
+	 * distant candidates resolve to the lower slot, so the result is
+	 * deterministic.
+	 *
+	 * @param filter Accepts candidate slots, e.g. to skip the querying entity
+	 *               itself or friendly units; null accepts all.
+	 * @return The nearest slot, or -1 if none is in range.
+	 */
+	public int nearest(long centerX, long centerY, long maxRadius, IntPredicate filter) {
+		final long maxRadiusSquared = maxRadius * maxRadius;
+		final int centerCellX = cellCoordinate(centerX);
+		final int centerCellY = cellCoordinate(centerY);
+		final int maxRing = (int) Math.min(Integer.MAX_VALUE / 2, maxRadius / cellSize + 1);
+
+		int best = NONE;
+		long bestDistanceSquared = Long.MAX_VALUE;
+		for (int ring = 0; ring <= maxRing; ring++) {
+			for (int cy = centerCellY - ring; cy <= centerCellY + ring; cy++) {
+				// Inner rows of the ring only have their two edge cells
+				final boolean edgeRow = cy == centerCellY - ring || cy == centerCellY + ring;
+				final int step = edgeRow || ring == 0 ? 1 : 2 * ring;
+				for (int cx = centerCellX - ring; cx <= centerCellX + ring; cx += step) {
+					for (int slot = head(cx, cy); slot != NONE; slot = next[slot]) {
+						final long distanceSquared = distanceSquared(slot, centerX, centerY);
+						if (distanceSquared > maxRadiusSquared || distanceSquared > bestDistanceSquared
+								|| (distanceSquared == bestDistanceSquared && slot > best)) {
+							continue;
+						}
+						if (filter == null || filter.test(slot)) {
+							best = slot;
+							bestDistanceSquared = distanceSquared;
+						}
+					}
+				}
+			}
+			// Every cell of the next ring is at least ring * cellSize away
+			final long reach = ring * cellSize;
+			if (best != NONE && bestDistanceSquared <= reach * reach) {
+				break;
+			}
+		}
+		return best;
+	}
+
+	private long distanceSquared(int slot, long centerX, long centerY) {
+		final long dx = x[slot] - centerX;
+		final long dy = y[slot] - centerY;
+		return dx * dx + dy * dy;
+	}
+
+	private int cellCoordinate(long value) {
+		return (int) Math.floorDiv(value, cellSize);
+	}
+
+	private void link(int slot) {
+		final int cell = findOrCreateCell(cellX[slot], cellY[slot]);
+		final int first = cellHeads[cell];
+		prev[slot] = NONE;
+		next[slot] = first;
+		if (first != NONE) {
+			prev[first] = slot;
+		}
+		cellHeads[cell] = slot;
+	}
+
+	private void unlink(int slot) {
+		if (prev[slot] != NONE) {
+			next[prev[slot]] = next[slot];
+		} else if (next[slot] != NONE) {
+			cellHeads[findCell(cellX[slot], cellY[slot])] = next[slot];
+		} else {
+			deleteCell(findCell(cellX[slot], cellY[slot]));
+		}
+		if (next[slot] != NONE) {
+			prev[next[slot]] = prev[slot];
+		}
+	}
+
+	private int head(int cx, int cy) {
+		final int cell = findCell(cx, cy);
+		return cell != NONE ? cellHeads[cell] : NONE;
+	}
+
+	private static long cellKey(int cx, int cy) {
+		return ((long) cx << 32) | (cy & 0xFFFFFFFFL);
+	}
+
+	private int tableIndex(long key, int capacity) {
+		// Fibonacci hashing; capacity is a power of two
+		return (int) ((key * 0x9E3779B97F4A7C15L) >>> (64 - Integer.numberOfTrailingZeros(capacity)));
+	}
+
+	private int findCell(int cx, int cy) {
+		final long key = cellKey(cx, cy);
+		final int mask = cellKeys.length - 1;
+		for (int i = tableIndex(key, cellKeys.length);; i = (i + 1) & mask) {
+			if (!cellUsed[i]) {
+				return NONE;
+			}
+			if (cellKeys[i] == key) {
+				return i;
+			}
+		}
+	}
+
+	private int findOrCreateCell(int cx, int cy) {
+		final int existing = findCell(cx, cy);
+		if (existing != NONE) {
+			return existing;
+		}
+		if (2 * (cellCount + 1) > cellKeys.length) {
+			growCells();
+		}
+		final long key = cellKey(cx, cy);
+		final int mask = cellKeys.length - 1;
+		int i = tableIndex(key, cellKeys.length);
+		while (cellUsed[i]) {
+			i = (i + 1) & mask;
+		}
+		cellUsed[i] = true;
+		cellKeys[i] = key;
+		cellHeads[i] = NONE;
+		cellCount++;
+		return i;
+	}
+
+	/**
+	 * Removes the cell at the table index and shifts later entries of its probe
+	 * run back, so lookups never need tombstones.
+	 */
+	private void deleteCell(int index) {
+		final int mask = cellKeys.length - 1;
+		int hole = index;
+		for (int i = (hole + 1) & mask; cellUsed[i]; i = (i + 1) & mask) {
+			// An entry may fill the hole only if the hole lies between its home and i
+			final int home = tableIndex(cellKeys[i], cellKeys.length);
+			if (((i - home) & mask) >= ((i - hole) & mask)) {
+				cellKeys[hole] = cellKeys[i];
+				cellHeads[hole] = cellHeads[i];
+				hole = i;
+			}
+		}
+		cellUsed[hole] = false;
+		cellCount--;
+	}
+
+	private void growCells() {
+		final long[] oldKeys = cellKeys;
+		final int[] oldHeads = cellHeads;
+		final boolean[] oldUsed = cellUsed;
+
+		final int capacity = oldKeys.length * 2;
+		cellKeys = new long[capacity];
+		cellHeads = new int[capacity];
+		cellUsed = new boolean[capacity];
+		final int mask = capacity - 1;
+		for (int old = 0; old < oldKeys.length; old++) {
+			if (!oldUsed[old]) {
+				continue;
+			}
+			int i = tableIndex(oldKeys[old], capacity);
+			while (cellUsed[i]) {
+				i = (i + 1) & mask;
+			}
+			cellUsed[i] = true;
+			cellKeys[i] = oldKeys[old];
+			cellHeads[i] = oldHeads[old];
+		}
+	}
+
+	private void ensureSlotCapacity(int slot) {
+		if (slot < present.length) {
+			return;
+		}
+		final int capacity = Math.max(present.length * 2, slot + 1);
+		present = Arrays.copyOf(present, capacity);
+		x = Arrays.copyOf(x, capacity);
+		y = Arrays.copyOf(y, capacity);
+		cellX = Arrays.copyOf(cellX, capacity);
+		cellY = Arrays.copyOf(cellY, capacity);
+		next = Arrays.copyOf(next, capacity);
+		prev = Arrays.copyOf(prev, capacity);
+	}
+}
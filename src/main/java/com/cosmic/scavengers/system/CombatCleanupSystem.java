@@ -0,0 +1,35 @@
+package com.cosmic.scavengers.system;
+
+import java.util.Set;
+
+import com.cosmic.scavengers.ecs.domain.components.Health;
+import com.cosmic.scavengers.system.meta.IEcsSystem;
+import com.cosmic.scavengers.system.meta.SystemAccess;
+
+/**
+ * Removes the entities a {@link CombatSystem} left without health.
+ *
+ * <p>
+ * Deleting entities is structural, so the scheduler runs this step alone. It
+ * is kept apart from the combat pass, which then only writes {@link Health}
+ * and can share a stage with systems that do not touch combat components.
+ * Registered right after the combat system, so destroyed entities disappear in
+ * the tick they died.
+ */
+public class CombatCleanupSystem implements IEcsSystem {
+	private final CombatSystem combat;
+
+	public CombatCleanupSystem(CombatSystem combat) {
+		this.combat = combat;
+	}
+
+	@Override
+	public SystemAccess access() {
+		return SystemAccess.structural(Set.of(Health.class), Set.of());
+	}
+
+	@Override
+	public void run() {
+		combat.removeDestroyed();
+	}
+}
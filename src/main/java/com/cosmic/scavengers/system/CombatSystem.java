@@ -0,0 +1,372 @@
+package com.cosmic.scavengers.system;
+
+import static com.cosmic.scavengers.core.utils.DecimalUtils.ARITHMETIC;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.function.IntPredicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.cosmic.scavengers.core.utils.FixedPointMath;
+import com.cosmic.scavengers.ecs.domain.components.Health;
+import com.cosmic.scavengers.ecs.domain.components.Owner;
+import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.ecs.domain.components.Weapon;
+import com.cosmic.scavengers.ecs.events.EcsEventBuffer;
+import com.cosmic.scavengers.engine.TickClock;
+import com.cosmic.scavengers.projectile.ProjectileStore;
+import com.cosmic.scavengers.registries.EntityRegistry;
+import com.cosmic.scavengers.spatial.SpatialHashGrid;
+import com.cosmic.scavengers.system.meta.IEcsSystem;
+import com.cosmic.scavengers.system.meta.SystemAccess;
+
+import dev.dominion.ecs.api.Dominion;
+import dev.dominion.ecs.api.Entity;
+
+/**
+ * Lets armed entities shoot the nearest hostile entity in range and removes
+ * the entities whose health runs out.
+ *
+ * <p>
+ * Attackers have a {@link Weapon}, targets a {@link Health}; both need an
+ * {@link Owner}, and entities of different owners are hostile. Targets are
+ * found with {@link SpatialHashGrid#nearest}. An attacker searches again only
+ * every {@code retargetTicks} ticks, staggered by slot so the searches of a
+ * large battle spread evenly over the ticks. In between it keeps its target
+ * while that is alive and in range; a lost target is replaced on the next turn.
+ * Both the search turns and weapon cooldowns count ticks of the world's
+ * {@link TickClock}, so they line up with the tick reported in events and
+ * snapshots.
+ *
+ * <p>
+ * Weapons with a projectile speed fire a projectile at the target's current
+ * position into the world's {@link ProjectileStore} instead; its hit reaches
+ * the same damage total through {@link #addDamage(int, int)}.
+ *
+ * <p>
+ * Shots only add to a per-slot damage total. After all attackers fired, every
+ * damaged entity's {@link Health} is lowered once, so simultaneous shots do not
+ * depend on the order attackers are visited in, and an attacker killed this
+ * tick still fires. Entities left without health are queued and removed by
+ * {@link #removeDestroyed()}: they are reported as {@code ENTITY_DESTROYED},
+ * unregistered and deleted. Deleting entities is a structural change, so it
+ * runs as the separate {@link CombatCleanupSystem} registered right after this
+ * one, and the combat pass itself only writes {@link Health}.
+ *
+ * <p>
+ * Owner, Weapon and Health presence are read when an entity is registered and
+ * cached per slot, so candidate filtering during the search touches no
+ * component. Attackers are visited in ascending slot order and the spatial
+ * search breaks ties by slot, which keeps combat deterministic. Registered
+ * after the systems that move units.
+ */
+public class CombatSystem implements IEcsSystem, EntityRegistry.SlotListener {
+	private static final Logger log = LoggerFactory.getLogger(CombatSystem.class);
+
+	private static final int INITIAL_SLOTS = 256;
+	private static final int NONE = -1;
+
+	private final Dominion dominion;
+	private final EntityRegistry registry;
+	private final SpatialHashGrid grid;
+	private final TickClock tickClock;
+	private final int retargetTicks;
+	private final EcsEventBuffer events;
+	private final ProjectileStore projectiles;
+
+	// Per slot, cached at registration
+	private boolean[] armed = new boolean[INITIAL_SLOTS];
+	private boolean[] targetable = new boolean[INITIAL_SLOTS];
+	private long[] owners = new long[INITIAL_SLOTS];
+	// Bumped on every registration, so a target slot reused by another entity is noticed
+	private int[] generations = new int[INITIAL_SLOTS];
+
+	// Per attacking slot
+	private int[] targets = filled(INITIAL_SLOTS);
+	private int[] targetGenerations = new int[INITIAL_SLOTS];
+	private long[] nextShotTicks = new long[INITIAL_SLOTS];
+
+	// Damage of the current tick per target slot, and the damaged slots in hit order
+	private int[] pendingDamage = new int[INITIAL_SLOTS];
+	private int[] damagedSlots = new int[INITIAL_SLOTS];
+	private int damagedCount = 0;
+
+	// Slots left without health, waiting for removeDestroyed()
+	private boolean[] dying = new boolean[INITIAL_SLOTS];
+	private int[] destroyedSlots = new int[INITIAL_SLOTS];
+	private int destroyedCount = 0;
+
+	private final IntPredicate hostileFilter = this::isHostileToAttacker;
+	private long attackerOwner;
+
+	private int lastTickAcquisitions = 0;
+	private int lastTickShots = 0;
+	private int lastTickProjectiles = 0;
+	private int lastTickDestroyed = 0;
+
+	/**
+	 * @param tickClock     The world's clock.
+	 * @param retargetTicks Ticks between two target searches of one attacker.
+	 * @param events        Buffer for destroyed entities, or null.
+	 * @param projectiles   Store that weapons with a projectile speed fire into,
+	 *                      or null to let them hit instantly.
+	 */
+	public CombatSystem(Dominion dominion, EntityRegistry registry, SpatialHashGrid grid, TickClock tickClock,
+			int retargetTicks, EcsEventBuffer events, ProjectileStore projectiles) {
+		if (retargetTicks <= 0) {
+			throw new IllegalArgumentException("Retarget interval must be positive");
+		}
+		this.dominion = dominion;
+		this.registry = registry;
+		this.grid = grid;
+		this.tickClock = tickClock;
+		this.retargetTicks = retargetTicks;
+		this.events = events;
+		this.projectiles = projectiles;
+	}
+
+	@Override
+	public SystemAccess access() {
+		return SystemAccess.of(Set.of(Position.class, Owner.class, Weapon.class), Set.of(Health.class));
+	}
+
+	@Override
+	public void run() {
+		final long tick = tickClock.getTick();
+		lastTickAcquisitions = 0;
+		lastTickShots = 0;
+		lastTickProjectiles = 0;
+
+		final int slotCount = Math.min(registry.getSlotCount(), armed.length);
+		for (int slot = 0; slot < slotCount; slot++) {
+			if (armed[slot] && grid.contains(slot)) {
+				attack(slot, tick);
+			}
+		}
+		applyDamage();
+	}
+
+	@Override
+	public void onRegistered(int slot, Entity entity) {
+		ensureSlotCapacity(slot);
+		final Owner owner = entity.get(Owner.class);
+		armed[slot] = owner != null && entity.has(Weapon.class);
+		targetable[slot] = owner != null && entity.has(Health.class);
+		owners[slot] = owner != null ? owner.playerId() : 0L;
+		generations[slot]++;
+		dying[slot] = false;
+		targets[slot] = NONE;
+		nextShotTicks[slot] = 0L;
+	}
+
+	@Override
+	public void onUnregistered(int slot) {
+		if (slot < armed.length) {
+			armed[slot] = false;
+			targetable[slot] = false;
+			dying[slot] = false;
+		}
+	}
+
+	/**
+	 * Whether the slot holds an entity with health that is hostile to the
+	 * player.
+	 */
+	public boolean isHostile(int slot, long playerId) {
+		return slot < targetable.length && targetable[slot] && owners[slot] != playerId;
+	}
+
+	/**
+	 * Adds damage to the slot's total of the current tick, applied at the end of
+	 * the next {@link #run()}. Ignored for slots without health.
+	 */
+	public void addDamage(int slot, int amount) {
+		if (amount <= 0 || slot >= targetable.length || !targetable[slot]) {
+			return;
+		}
+		if (pendingDamage[slot] == 0) {
+			damagedSlots[damagedCount++] = slot;
+		}
+		pendingDamage[slot] += amount;
+	}
+
+	/**
+	 * The attacker's current target slot, or -1.
+	 */
+	public int getTarget(int slot) {
+		return slot < targets.length && armed[slot] ? targets[slot] : NONE;
+	}
+
+	public int getLastTickAcquisitions() {
+		return lastTickAcquisitions;
+	}
+
+	public int getLastTickShots() {
+		return lastTickShots;
+	}
+
+	/**
+	 * Shots of the last run that were fired as projectiles.
+	 */
+	public int getLastTickProjectiles() {
+		return lastTickProjectiles;
+	}
+
+	/**
+	 * Entities removed by the last {@link #removeDestroyed()}.
+	 */
+	public int getLastTickDestroyed() {
+		return lastTickDestroyed;
+	}
+
+	private void attack(int slot, long tick) {
+		final Weapon weapon = registry.getEntityAt(slot).get(Weapon.class);
+		if (weapon == null) {
+			return;
+		}
+		final long x = grid.getX(slot);
+		final long y = grid.getY(slot);
+
+		int target = targets[slot];
+		if (target != NONE && !isValidTarget(target, targetGenerations[slot], x, y, weapon.range())) {
+			target = NONE;
+		}
+		if ((tick + slot) % retargetTicks == 0) {
+			attackerOwner = owners[slot];
+			target = grid.nearest(x, y, weapon.range(), hostileFilter);
+			lastTickAcquisitions++;
+		}
+		if (target != targets[slot]) {
+			targets[slot] = target;
+			targetGenerations[slot] = target != NONE ? generations[target] : 0;
+		}
+
+		if (target == NONE || tick < nextShotTicks[slot] || weapon.damage() <= 0) {
+			return;
+		}
+		nextShotTicks[slot] = tick + Math.max(1, weapon.cooldownTicks());
+		lastTickShots++;
+		if (projectiles != null && weapon.projectileSpeed() > 0) {
+			fireProjectile(slot, target, x, y, weapon);
+		} else {
+			addDamage(target, weapon.damage());
+		}
+	}
+
+	/**
+	 * Fires at the target's current position. The projectile flies a little
+	 * further than the weapon's range, so a target moving away can still be hit.
+	 */
+	private void fireProjectile(int slot, int target, long x, long y, Weapon weapon) {
+		final long deltaX = grid.getX(target) - x;
+		final long deltaY = grid.getY(target) - y;
+		final long distance = FixedPointMath.sqrt(
+				ARITHMETIC.multiply(deltaX, deltaX) + ARITHMETIC.multiply(deltaY, deltaY));
+		final long speed = Math.min(weapon.projectileSpeed(), ProjectileStore.MAX_VELOCITY);
+		long velocityX = speed;
+		long velocityY = 0L;
+		if (distance > 0) {
+			final double reciprocal = 1.0 / distance;
+			// Rounding the direction can push a component just past the store's limit
+			velocityX = clampVelocity(ARITHMETIC.multiply(FixedPointMath.divide(deltaX, distance, reciprocal), speed));
+			velocityY = clampVelocity(ARITHMETIC.multiply(FixedPointMath.divide(deltaY, distance, reciprocal), speed));
+		}
+		final int lifetime = (int) Math.min(Integer.MAX_VALUE, weapon.range() / speed + 2);
+		projectiles.spawn(x, y, velocityX, velocityY, owners[slot], weapon.damage(), lifetime);
+		lastTickProjectiles++;
+	}
+
+	private static long clampVelocity(long velocity) {
+		return Math.max(-ProjectileStore.MAX_VELOCITY, Math.min(ProjectileStore.MAX_VELOCITY, velocity));
+	}
+
+	private boolean isValidTarget(int target, int generation, long x, long y, long range) {
+		if (!targetable[target] || generations[target] != generation || !grid.contains(target)) {
+			return false;
+		}
+		final long dx = grid.getX(target) - x;
+		final long dy = grid.getY(target) - y;
+		return dx * dx + dy * dy <= range * range;
+	}
+
+	private boolean isHostileToAttacker(int candidate) {
+		return targetable[candidate] && owners[candidate] != attackerOwner;
+	}
+
+	/**
+	 * Reports, unregisters and deletes the entities left without health since
+	 * the last call. Structural; see {@link CombatCleanupSystem}.
+	 */
+	public void removeDestroyed() {
+		lastTickDestroyed = 0;
+		for (int i = 0; i < destroyedCount; i++) {
+			final int slot = destroyedSlots[i];
+			// Unregistered by someone else in the meantime
+			if (!dying[slot]) {
+				continue;
+			}
+			destroy(slot, registry.getEntityAt(slot));
+		}
+		destroyedCount = 0;
+	}
+
+	/**
+	 * Lowers the health of every entity hit this tick once, then queues the
+	 * ones left without health for removal.
+	 */
+	private void applyDamage() {
+		for (int i = 0; i < damagedCount; i++) {
+			final int slot = damagedSlots[i];
+			final int damage = pendingDamage[slot];
+			pendingDamage[slot] = 0;
+
+			final Entity entity = registry.getEntityAt(slot);
+			final Health health = entity != null ? entity.get(Health.class) : null;
+			if (health == null || health.damage(damage) > 0 || dying[slot]) {
+				continue;
+			}
+			dying[slot] = true;
+			destroyedSlots[destroyedCount++] = slot;
+		}
+		damagedCount = 0;
+	}
+
+	private void destroy(int slot, Entity entity) {
+		if (events != null) {
+			events.entityDestroyed(entity, entity.get(Position.class));
+		}
+		final long entityId = registry.getIdAt(slot);
+		registry.unregister(entityId);
+		dominion.deleteEntity(entity);
+		lastTickDestroyed++;
+		log.debug("Entity {} destroyed.", entityId);
+	}
+
+	private void ensureSlotCapacity(int slot) {
+		if (slot < armed.length) {
+			return;
+		}
+		final int capacity = Math.max(slot + 1, armed.length * 2);
+		armed = Arrays.copyOf(armed, capacity);
+		targetable = Arrays.copyOf(targetable, capacity);
+		owners = Arrays.copyOf(owners, capacity);
+		generations = Arrays.copyOf(generations, capacity);
+		final int previous = targets.length;
+		targets = Arrays.copyOf(targets, capacity);
+		Arrays.fill(targets, previous, capacity, NONE);
+		targetGenerations = Arrays.copyOf(targetGenerations, capacity);
+		nextShotTicks = Arrays.copyOf(nextShotTicks, capacity);
+		pendingDamage = Arrays.copyOf(pendingDamage, capacity);
+		damagedSlots = Arrays.copyOf(damagedSlots, capacity);
+		dying = Arrays.copyOf(dying, capacity);
+		destroyedSlots = Arrays.copyOf(destroyedSlots, capacity);
+	}
+
+	private static int[] filled(int capacity) {
+		final int[] values = new int[capacity];
+		Arrays.fill(values, NONE);
+		return values;
+	}
+}
@@ -0,0 +1,308 @@
+package com.cosmic.scavengers.system;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.cosmic.scavengers.ecs.domain.components.FlowFollower;
+import com.cosmic.scavengers.ecs.domain.components.Movement;
+import com.cosmic.scavengers.ecs.domain.components.PathRequest;
+import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.ecs.domain.components.Waypoints;
+import com.cosmic.scavengers.ecs.domain.intents.MoveIntent;
+import com.cosmic.scavengers.ecs.domain.intents.PathIntent;
+import com.cosmic.scavengers.ecs.events.EcsEventBuffer;
+import com.cosmic.scavengers.ecs.tracking.ChangedEntityTracker;
+import com.cosmic.scavengers.engine.TickClock;
+import com.cosmic.scavengers.gameplay.services.data.MoveRequestData;
+import com.cosmic.scavengers.navigation.FlowField;
+import com.cosmic.scavengers.navigation.NavGrid;
+import com.cosmic.scavengers.system.meta.IEcsSystem;
+import com.cosmic.scavengers.system.meta.SystemAccess;
+
+import dev.dominion.ecs.api.Dominion;
+import dev.dominion.ecs.api.Entity;
+
+/**
+ * Steers group move orders with shared {@link FlowField}s.
+ *
+ * <p>
+ * Registered before the {@link PathfindingSystem}. When at least
+ * {@code groupSize} move orders of one tick target the same navigation cell,
+ * or a field for that cell already exists, the orders are taken over: the
+ * units become {@link FlowFollower}s of one field for that goal cell instead
+ * of each running a search. Smaller orders are left to the pathfinder.
+ *
+ * <p>
+ * Fields are built with at most {@code expansionsPerTick} cell expansions per
+ * tick; followers wait until theirs is complete. Steering then costs one field
+ * lookup per unit, and only when the unit entered a new cell or stopped: it
+ * moves to the centre of the next cell, and once its cell sees the goal it
+ * moves straight to the exact target and stops following. The cost of a mass
+ * order therefore grows with the size of the map, not with the number of
+ * units.
+ *
+ * <p>
+ * A field not used for {@code idleTicks} ticks is evicted, at most
+ * {@code maxFields} are kept (least recently used first), and all are dropped
+ * when the obstacles change; followers of a dropped field get a new one. A
+ * newer order for a follower ends its following. Field use is timed with the
+ * world's {@link TickClock}.
+ *
+ * <p>
+ * A taken-over order is reported as {@code MOVEMENT_STARTED} towards its
+ * target, and so is every leg a follower is steered on, exactly like the legs
+ * of the {@link PathFollowingSystem}.
+ */
+public class FlowFieldSystem implements IEcsSystem {
+	private static final Logger log = LoggerFactory.getLogger(FlowFieldSystem.class);
+
+	private final Dominion dominion;
+	private final NavGrid grid;
+	private final TickClock tickClock;
+	private final int groupSize;
+	private final int expansionsPerTick;
+	private final int maxFields;
+	private final int idleTicks;
+	private final ChangedEntityTracker changes;
+	private final EcsEventBuffer events;
+
+	// Insertion order is build order, so budget use is deterministic
+	private final Map<Integer, FlowField> fields = new LinkedHashMap<>();
+	private final Map<Integer, Integer> ordersPerGoal = new HashMap<>();
+	private int fieldVersion;
+
+	private int lastTickExpansions = 0;
+	private int lastTickSteered = 0;
+	private int lastTickWaiting = 0;
+
+	/**
+	 * @param groupSize         Orders to one goal cell in one tick that make a
+	 *                          group order.
+	 * @param expansionsPerTick Cell expansions all field builds may use per
+	 *                          tick.
+	 * @param maxFields         Fields kept at once.
+	 * @param idleTicks         Ticks without followers after which a field is
+	 *                          evicted.
+	 * @param changes           Tracker marked with every re-targeted unit, or
+	 *                          null.
+	 * @param events            Buffer for started movements, or null.
+	 */
+	public FlowFieldSystem(Dominion dominion, NavGrid grid, TickClock tickClock, int groupSize,
+			int expansionsPerTick, int maxFields, int idleTicks, ChangedEntityTracker changes,
+			EcsEventBuffer events) {
+		this.dominion = dominion;
+		this.grid = grid;
+		this.tickClock = tickClock;
+		this.groupSize = groupSize;
+		this.expansionsPerTick = expansionsPerTick;
+		this.maxFields = maxFields;
+		this.idleTicks = idleTicks;
+		this.changes = changes;
+		this.events = events;
+		this.fieldVersion = grid.getVersion();
+	}
+
+	@Override
+	public SystemAccess access() {
+		// Takes over MoveIntents and adds, re-targets or removes Movement
+		return SystemAccess.structural(Set.of(Position.class, MoveIntent.class, PathIntent.class),
+				Set.of(MoveIntent.class, FlowFollower.class, PathRequest.class, Movement.class, Waypoints.class));
+	}
+
+	@Override
+	public void run() {
+		if (fieldVersion != grid.getVersion()) {
+			fieldVersion = grid.getVersion();
+			fields.clear();
+		}
+
+		// Newer orders end the following
+		dominion.findEntitiesWith(FlowFollower.class, MoveIntent.class).stream()
+				.forEach(result -> result.entity().remove(result.comp1()));
+		dominion.findEntitiesWith(FlowFollower.class, PathIntent.class).stream()
+				.forEach(result -> result.entity().remove(result.comp1()));
+
+		takeOverGroupOrders();
+		build();
+		steer();
+		evict();
+	}
+
+	private void takeOverGroupOrders() {
+		ordersPerGoal.clear();
+		dominion.findEntitiesWith(MoveIntent.class).stream().forEach(result -> {
+			final MoveRequestData requestData = result.comp().requsetData();
+			final int goal = grid.cellAt(requestData.targetX(), requestData.targetY());
+			if (goal >= 0) {
+				ordersPerGoal.merge(goal, 1, Integer::sum);
+			}
+		});
+		if (ordersPerGoal.isEmpty()) {
+			return;
+		}
+
+		dominion.findEntitiesWith(MoveIntent.class, Position.class).stream().forEach(result -> {
+			final Entity entity = result.entity();
+			final MoveRequestData requestData = result.comp1().requsetData();
+			final Position position = result.comp2();
+			final int goal = grid.cellAt(requestData.targetX(), requestData.targetY());
+			if (goal < 0 || grid.cellAt(position.x(), position.y()) < 0
+					|| (ordersPerGoal.getOrDefault(goal, 0) < groupSize && !fields.containsKey(goal))) {
+				return;
+			}
+
+			entity.remove(result.comp1());
+			removeIfPresent(entity, PathRequest.class);
+			removeIfPresent(entity, Waypoints.class);
+			removeIfPresent(entity, Movement.class);
+			entity.add(new FlowFollower(requestData, goal));
+			field(goal);
+			if (changes != null) {
+				changes.mark(entity);
+			}
+			if (events != null) {
+				events.movementStarted(entity, requestData.targetX(), requestData.targetY(), requestData.targetZ());
+			}
+		});
+	}
+
+	private void build() {
+		lastTickExpansions = 0;
+		for (FlowField field : fields.values()) {
+			if (lastTickExpansions >= expansionsPerTick) {
+				break;
+			}
+			if (!field.isComplete()) {
+				lastTickExpansions += field.resume(expansionsPerTick - lastTickExpansions);
+				if (field.isComplete()) {
+					log.debug("Flow field for cell {} complete after {} expansions.", field.getGoalCell(),
+							field.getExpansions());
+				}
+			}
+		}
+	}
+
+	private void steer() {
+		lastTickSteered = 0;
+		lastTickWaiting = 0;
+		dominion.findEntitiesWith(FlowFollower.class, Position.class).stream().forEach(result -> {
+			final Entity entity = result.entity();
+			final FlowFollower follower = result.comp1();
+			final Position position = result.comp2();
+
+			final FlowField field = field(follower.goalCell());
+			if (!field.isComplete()) {
+				lastTickWaiting++;
+				return;
+			}
+			final int cell = grid.cellAt(position.x(), position.y());
+			if (cell == follower.lastCell() && entity.has(Movement.class)) {
+				return;
+			}
+			follower.setLastCell(cell);
+			lastTickSteered++;
+
+			final MoveRequestData requestData = follower.requestData();
+			final int next = cell >= 0 && cell != follower.goalCell() && !field.seesGoal(cell) ? field.next(cell)
+					: -1;
+			if (next < 0) {
+				// In sight of the target, or no way to it: finish in a straight line
+				entity.remove(follower);
+				moveTo(entity, requestData.targetX(), requestData.targetY(), requestData);
+			} else {
+				moveTo(entity, grid.centerX(next), grid.centerY(next), requestData);
+			}
+		});
+	}
+
+	private void evict() {
+		final Iterator<FlowField> iterator = fields.values().iterator();
+		while (iterator.hasNext()) {
+			final FlowField field = iterator.next();
+			if (tickClock.getTick() - field.getLastUsedTick() > idleTicks) {
+				log.debug("Evicting unused flow field for cell {}.", field.getGoalCell());
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * The field for the goal cell, created if needed, and marked as used.
+	 */
+	private FlowField field(int goalCell) {
+		FlowField field = fields.get(goalCell);
+		if (field == null) {
+			if (fields.size() >= maxFields) {
+				evictLeastRecentlyUsed();
+			}
+			field = new FlowField(grid, goalCell);
+			fields.put(goalCell, field);
+		}
+		field.setLastUsedTick(tickClock.getTick());
+		return field;
+	}
+
+	private void evictLeastRecentlyUsed() {
+		FlowField oldest = null;
+		for (FlowField field : fields.values()) {
+			if (oldest == null || field.getLastUsedTick() < oldest.getLastUsedTick()) {
+				oldest = field;
+			}
+		}
+		fields.remove(oldest.getGoalCell());
+	}
+
+	private void moveTo(Entity entity, long x, long y, MoveRequestData requestData) {
+		Movement movement = entity.get(Movement.class);
+		if (movement != null) {
+			movement.retarget(x, y, requestData.targetZ(), requestData.movementSpeed());
+		} else {
+			movement = new Movement(x, y, requestData.targetZ(), requestData.movementSpeed());
+			entity.add(movement);
+		}
+		if (changes != null) {
+			changes.mark(entity);
+		}
+		if (events != null) {
+			events.movementStarted(entity, movement);
+		}
+	}
+
+	private static <T> void removeIfPresent(Entity entity, Class<T> type) {
+		final T component = entity.get(type);
+		if (component != null) {
+			entity.remove(component);
+		}
+	}
+
+	/**
+	 * Field cell expansions spent on the last tick.
+	 */
+	public int getLastTickExpansions() {
+		return lastTickExpansions;
+	}
+
+	/**
+	 * Followers that were given a new target on the last tick.
+	 */
+	public int getLastTickSteered() {
+		return lastTickSteered;
+	}
+
+	/**
+	 * Followers that waited for their field to be built on the last tick.
+	 */
+	public int getLastTickWaiting() {
+		return lastTickWaiting;
+	}
+
+	public int getFieldCount() {
+		return fields.size();
+	}
+}
@@ -1,28 +1,62 @@
 package com.cosmic.scavengers.system;
 
+import java.util.Set;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.stereotype.Component;
 
 import com.cosmic.scavengers.ecs.domain.components.Movement;
+import com.cosmic.scavengers.ecs.domain.components.Waypoints;
 import com.cosmic.scavengers.ecs.domain.intents.MoveIntent;
+import com.cosmic.scavengers.ecs.domain.intents.PathIntent;
+import com.cosmic.scavengers.ecs.events.EcsEventBuffer;
+import com.cosmic.scavengers.ecs.tracking.ChangedEntityTracker;
+import com.cosmic.scavengers.gameplay.services.data.MovePathRequestData;
 import com.cosmic.scavengers.gameplay.services.data.MoveRequestData;
+import com.cosmic.scavengers.system.meta.IEcsSystem;
+import com.cosmic.scavengers.system.meta.SystemAccess;
 
 import dev.dominion.ecs.api.Dominion;
 import dev.dominion.ecs.api.Entity;
 
 /**
  * The "Gatekeeper" System. Converts transient player MoveIntents into
- * persistent Movement states.
+ * persistent Movement states, and PathIntents into {@link Waypoints} whose
+ * first leg starts immediately. Entities whose movement target changed are marked
+ * in the world's {@link ChangedEntityTracker}, and a
+ * {@code MOVEMENT_STARTED} event is appended to the {@link EcsEventBuffer},
+ * when those are given.
  */
-@Component
-public class IntentProcessorSystem implements Runnable {
+public class IntentProcessorSystem implements IEcsSystem {
 	private static final Logger log = LoggerFactory.getLogger(IntentProcessorSystem.class);
 	
 	private final Dominion dominion;
+	private final ChangedEntityTracker changes;
+	private final EcsEventBuffer events;
 
+	/**
+	 * An intent processor that reports to nobody, for tests and headless tools.
+	 */
 	public IntentProcessorSystem(Dominion dominion) {
+		this(dominion, null, null);
+	}
+
+	/**
+	 * @param changes Tracker marked with every entity given a new target, or
+	 *                null.
+	 * @param events  Buffer for started movements, or null.
+	 */
+	public IntentProcessorSystem(Dominion dominion, ChangedEntityTracker changes, EcsEventBuffer events) {
 		this.dominion = dominion;
+		this.changes = changes;
+		this.events = events;
+	}
+
+	@Override
+	public SystemAccess access() {
+		// Removes the intents, adds or re-targets Movement, installs or drops Waypoints
+		return SystemAccess.structural(Set.of(MoveIntent.class, PathIntent.class),
+				Set.of(Movement.class, Waypoints.class));
 	}
 
 	@Override
@@ -38,12 +72,59 @@ public class IntentProcessorSystem implements Runnable {
 					requsetData.entityId(),
 					requsetData.targetX(), requsetData.targetY(), requsetData.targetZ());
 
-			Movement movementState = new Movement(
-					requsetData.targetX(), requsetData.targetY(), requsetData.targetZ(), 
+			entity.remove(intent);
+
+			// A straight move order cancels the path the entity was following
+			final Waypoints waypoints = entity.get(Waypoints.class);
+			if (waypoints != null) {
+				entity.remove(waypoints);
+			}
+
+			startMovement(entity, requsetData.targetX(), requsetData.targetY(), requsetData.targetZ(),
 					requsetData.movementSpeed());
-			
+		});
+
+		dominion.findEntitiesWith(PathIntent.class).stream().forEach(result -> {
+			final Entity entity = result.entity();
+			final PathIntent intent = result.comp();
+			final MovePathRequestData requestData = intent.requestData();
+
+			log.debug("Processing Path Intent for Player '{}' Entity: '{}': {} waypoints",
+					requestData.playerId(), requestData.entityId(), requestData.waypointCount());
+
 			entity.remove(intent);
-			entity.add(movementState);			
+
+			Waypoints waypoints = entity.get(Waypoints.class);
+			if (waypoints != null) {
+				waypoints.replace(requestData.waypoints(), requestData.movementSpeed());
+			} else {
+				waypoints = new Waypoints(requestData.waypoints(), requestData.movementSpeed());
+				entity.add(waypoints);
+			}
+
+			// The first leg starts right away; the PathFollowingSystem takes the rest
+			startMovement(entity, waypoints.nextX(), waypoints.nextY(), waypoints.nextZ(), waypoints.speed());
+			waypoints.advance();
 		});
 	}
-}
\ No newline at end of file
+
+	private void startMovement(Entity entity, long targetX, long targetY, long targetZ, long speed) {
+		if (changes != null) {
+			changes.mark(entity);
+		}
+
+		// Re-targeting a moving entity updates its Movement in place instead of
+		// swapping the component, which would change the archetype twice
+		Movement movement = entity.get(Movement.class);
+		if (movement != null) {
+			movement.retarget(targetX, targetY, targetZ, speed);
+		} else {
+			movement = new Movement(targetX, targetY, targetZ, speed);
+			entity.add(movement);
+		}
+
+		if (events != null) {
+			events.movementStarted(entity, movement);
+		}
+	}
+}
@@ -2,16 +2,25 @@ package com.cosmic.scavengers.system;
 
 import static com.cosmic.scavengers.core.utils.DecimalUtils.ARITHMETIC;
 
-import org.decimal4j.api.Decimal;
-import org.decimal4j.scale.Scale4f;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.stereotype.Component;
 
-import com.cosmic.scavengers.core.utils.DecimalUtils;
+import com.cosmic.scavengers.core.utils.FixedPointMath;
+import com.cosmic.scavengers.engine.TickClock;
+import com.cosmic.scavengers.ecs.domain.components.EntitySlot;
 import com.cosmic.scavengers.ecs.domain.components.Movement;
 import com.cosmic.scavengers.ecs.domain.components.Position;
-import com.cosmic.scavengers.ecs.domain.intents.MoveIntent;
+import com.cosmic.scavengers.ecs.events.EcsEventBuffer;
+import com.cosmic.scavengers.ecs.tracking.ChangedEntityTracker;
+import com.cosmic.scavengers.spatial.SpatialHashGrid;
+import com.cosmic.scavengers.system.meta.IEcsSystem;
+import com.cosmic.scavengers.system.meta.SystemAccess;
 
 import dev.dominion.ecs.api.Dominion;
 import dev.dominion.ecs.api.Entity;
@@ -39,45 +48,108 @@ import dev.dominion.ecs.api.Entity;
  * </ul>
  *
  * <p>
+ * {@link Position} is updated in place rather than replaced, so a moving entity
+ * stays in the same archetype until it arrives.
+ *
+ * <p>
+ * Two backends produce bit-identical results: the per-entity path below, and a
+ * batched path that gathers all moving entities into a {@link MovementBatch}
+ * and runs the same math over primitive arrays. The batched one is faster for
+ * large worlds, and above a configurable size its chunks run in parallel on
+ * the shared system pool.
+ *
+ * <p>
+ * Every entity the system moves or snaps is marked in the world's
+ * {@link ChangedEntityTracker}, and every arrival is appended to the
+ * {@link EcsEventBuffer} as {@code MOVEMENT_ARRIVED}, when those are given, so
+ * downstream consumers do not have to rescan all entities. The world's
+ * {@link SpatialHashGrid} is told about each new position in the same pass; it
+ * only relinks entities that crossed into another cell.
+ *
+ * <p>
  * Design notes:
  * <ul>
  * <li>The system uses precomputed unscaled values and the DecimalUtils
  * arithmetic instance to preserve determinism across platforms.</li>
- * <li>Tick delta and snapping threshold are stored as Decimal&lt;Scale4f&gt;
- * constants and squared threshold is cached in unscaled form.</li>
+ * <li>{@link Position} and {@link Movement} store unscaled longs, so the
+ * per-entity math never creates Decimal objects.</li>
+ * <li>Square root and normalization use {@link FixedPointMath}, which is
+ * bit-identical to the HALF_UP arithmetic instance but much cheaper.</li>
+ * <li>The tick delta is read from the shared {@link TickClock}; the snapping
+ * threshold is an unscaled constant and its square is cached.</li>
  * </ul>
  */
-@Component
-public class MovementSystem implements Runnable {
+public class MovementSystem implements IEcsSystem {
 	private static final Logger log = LoggerFactory.getLogger(MovementSystem.class);
 
-	// Time delta for fixed-point math (0.1 seconds per tick)
-	private static final Decimal<Scale4f> TICK_DELTA = DecimalUtils.fromScaled(1000L);
-	// Distance threshold for snapping to target
-	private static final Decimal<Scale4f> THRESHOLD = DecimalUtils.fromScaled(1L);
+	// Distance threshold for snapping to target (scaled, 0.0001)
+	private static final long THRESHOLD_UNSCALED = 1L;
 
 	// Precomputed threshold squared in unscaled long form
 	// To ensure 100% determinism and API compatibility, using ARITHMETIC instance
 	// instead of power function
-	private static final long THRESHOLD_SQUARED_UNSCALED = ARITHMETIC.multiply(THRESHOLD.unscaledValue(),
-			THRESHOLD.unscaledValue());
+	private static final long THRESHOLD_SQUARED_UNSCALED = ARITHMETIC.multiply(THRESHOLD_UNSCALED,
+			THRESHOLD_UNSCALED);
+
+	// Entities per parallel chunk; large enough to amortize the task hand-off
+	public static final int CHUNK_SIZE = 4096;
 
 	private final Dominion dominion;
+	private final TickClock tickClock;
+	// Null when the per-entity backend is used
+	private final MovementBatch batch;
+	// Null when batches are always stepped on the calling thread
+	private final ForkJoinPool pool;
+	private final int parallelThreshold;
+	private final ChangedEntityTracker changes;
+	private final EcsEventBuffer events;
+	private final SpatialHashGrid spatialIndex;
 
 	/**
-	 * Creates a new MovementSystem that will query the supplied Dominion for
-	 * entities to process.
+	 * A movement system that steps on the calling thread and reports to nobody,
+	 * for tests and headless tools.
 	 *
-	 * @param dominion the ECS context used to find entities with Position and
-	 *                 Movement components (must not be null)
+	 * @param batched Use the structure-of-arrays {@link MovementBatch} backend.
+	 *                Results are bit-identical to the per-entity backend.
 	 */
-	public MovementSystem(Dominion dominion) {
+	public MovementSystem(Dominion dominion, TickClock tickClock, boolean batched) {
+		this(dominion, tickClock, batched, null, 0, null, null, null);
+	}
+
+	/**
+	 * @param dominion          The world whose Position and Movement components
+	 *                          are processed.
+	 * @param tickClock         The world's clock, providing the fixed tick delta.
+	 * @param batched           Use the structure-of-arrays {@link MovementBatch}
+	 *                          backend. Results are bit-identical to the
+	 *                          per-entity backend.
+	 * @param pool              Pool the batched backend steps large batches on in
+	 *                          fixed-size chunks, or null to stay on the calling
+	 *                          thread. Ignored by the per-entity backend.
+	 * @param parallelThreshold Moving entities needed before chunks are run in
+	 *                          parallel; smaller batches are stepped inline. 0 or
+	 *                          less disables parallel stepping.
+	 * @param changes           Tracker marked with every entity moved this tick,
+	 *                          or null.
+	 * @param events            Buffer receiving an event per arrival, or null.
+	 * @param spatialIndex      Index updated with every new position, or null.
+	 */
+	public MovementSystem(Dominion dominion, TickClock tickClock, boolean batched, ForkJoinPool pool,
+			int parallelThreshold, ChangedEntityTracker changes, EcsEventBuffer events,
+			SpatialHashGrid spatialIndex) {
 		this.dominion = dominion;
+		this.tickClock = tickClock;
+		this.batch = batched ? new MovementBatch() : null;
+		this.pool = batched && parallelThreshold > 0 ? pool : null;
+		this.parallelThreshold = parallelThreshold;
+		this.changes = changes;
+		this.events = events;
+		this.spatialIndex = spatialIndex;
 	}
 
 	/**
-	 * Simple holder for the difference between target and current position in X/Y
-	 * as fixed-point decimals.
+	 * Simple holder for the difference between target and current position in
+	 * X/Y/Z as unscaled fixed-point values.
 	 *
 	 * <p>
 	 * Fields are package-private because they are only used internally by the
@@ -86,11 +158,11 @@ public class MovementSystem implements Runnable {
 	 * </p>
 	 */
 	public static class DistanceDelta {
-		Decimal<Scale4f> deltaX;
-		Decimal<Scale4f> deltaY;
-		Decimal<Scale4f> deltaZ;
+		long deltaX;
+		long deltaY;
+		long deltaZ;
 
-		DistanceDelta(Decimal<Scale4f> deltaX, Decimal<Scale4f> deltaY, Decimal<Scale4f> deltaZ) {
+		DistanceDelta(long deltaX, long deltaY, long deltaZ) {
 			this.deltaX = deltaX;
 			this.deltaY = deltaY;
 			this.deltaZ = deltaZ;
@@ -134,6 +206,15 @@ public class MovementSystem implements Runnable {
 		}
 	}
 
+	/**
+	 * Reads Movement targets and updates Position in place. Removing Movement on
+	 * arrival is still a structural change.
+	 */
+	@Override
+	public SystemAccess access() {
+		return SystemAccess.structural(Set.of(Movement.class), Set.of(Position.class, Movement.class));
+	}
+
 	/**
 	 * Execute a single movement tick.
 	 *
@@ -146,10 +227,16 @@ public class MovementSystem implements Runnable {
 	 */
 	@Override
 	public void run() {
+		if (batch != null) {
+			runBatched();
+			return;
+		}
+
 		// Query entities with both Position and Movement components
 		dominion.findEntitiesWith(Movement.class, Position.class).stream().forEach(result -> {
 			try {
 				processMovementTick(result.entity(), result.comp1(), result.comp2());
+				recordMove(result.entity(), result.comp2());
 			} catch (Exception e) {
 				// Log the exception to aid in debugging runtime failures during ECS loop
 				// execution
@@ -158,6 +245,90 @@ public class MovementSystem implements Runnable {
 		});
 	}
 
+	/**
+	 * Batched backend: gather every moving entity into the batch columns, advance
+	 * them and write the new positions back, then remove Movement from the ones
+	 * that arrived.
+	 *
+	 * <p>
+	 * Stepping and writing back only touch each entity's own Position, so large
+	 * batches are split into chunks run on the pool. Removing Movement is a
+	 * structural change and is always applied afterwards on this thread, together
+	 * with the changed-entity marks, spatial index updates and arrival events,
+	 * which are not thread-safe.
+	 */
+	private void runBatched() {
+		batch.clear();
+		dominion.findEntitiesWith(Movement.class, Position.class).iterator()
+				.forEachRemaining(result -> batch.add(result.entity(), result.comp1(), result.comp2()));
+
+		final int size = batch.size();
+		if (pool != null && size >= parallelThreshold) {
+			stepParallel(size);
+		} else {
+			stepChunk(0, size);
+		}
+
+		for (int i = 0; i < size; i++) {
+			recordMove(batch.getEntity(i), batch.getPosition(i));
+			if (batch.hasArrived(i)) {
+				try {
+					batch.getEntity(i).remove(batch.getMovement(i));
+					if (events != null) {
+						events.movementArrived(batch.getEntity(i), batch.getPosition(i));
+					}
+				} catch (Exception e) {
+					log.error("Error finishing movement for entity {} - [{}].", batch.getEntity(i), e);
+				}
+			}
+		}
+		log.debug("Moved {} entities in one batch.", size);
+		batch.clear();
+	}
+
+	private void stepParallel(int size) {
+		final List<ForkJoinTask<?>> forked = new ArrayList<>(size / CHUNK_SIZE);
+		for (int from = CHUNK_SIZE; from < size; from += CHUNK_SIZE) {
+			final int start = from;
+			final int end = Math.min(size, from + CHUNK_SIZE);
+			forked.add(pool.submit(() -> stepChunk(start, end)));
+		}
+
+		// The calling thread takes the first chunk itself instead of idling
+		stepChunk(0, Math.min(size, CHUNK_SIZE));
+
+		for (ForkJoinTask<?> task : forked) {
+			task.join();
+		}
+	}
+
+	private void stepChunk(int from, int to) {
+		batch.step(from, to, THRESHOLD_SQUARED_UNSCALED, tickClock.getDeltaScaled());
+		for (int i = from; i < to; i++) {
+			batch.getPosition(i).set(batch.getX(i), batch.getY(i), batch.getZ(i));
+		}
+	}
+
+	/**
+	 * Marks the entity changed and moves it in the spatial index. Both are keyed
+	 * by its {@link EntitySlot}; entities without one are skipped.
+	 */
+	private void recordMove(Entity entity, Position position) {
+		if (changes == null && spatialIndex == null) {
+			return;
+		}
+		final EntitySlot slot = entity.get(EntitySlot.class);
+		if (slot == null) {
+			return;
+		}
+		if (changes != null) {
+			changes.mark(slot.index());
+		}
+		if (spatialIndex != null) {
+			spatialIndex.update(slot.index(), position.x(), position.y());
+		}
+	}
+
 	/**
 	 * Perform the movement update for a single entity for this tick.
 	 *
@@ -175,11 +346,10 @@ public class MovementSystem implements Runnable {
 		final long distanceSquaredUnscaled = calculateDistanceSquaredUnscaled(distanceDelta);
 
 		// Compute distance (unscaled)
-		final long distanceUnscaled = ARITHMETIC.sqrt(distanceSquaredUnscaled);
+		final long distanceUnscaled = FixedPointMath.sqrt(distanceSquaredUnscaled);
 
 		// Displacement Magnitude (DM) = Speed * Time Delta
-		final long displacementUnscaled = ARITHMETIC.multiply(movement.speed().unscaledValue(),
-				TICK_DELTA.unscaledValue());		
+		final long displacementUnscaled = ARITHMETIC.multiply(movement.speed(), tickClock.getDeltaScaled());		
 
 		// Snap if within threshold or if we would overshoot
 		if (distanceSquaredUnscaled <= THRESHOLD_SQUARED_UNSCALED 
@@ -196,14 +366,11 @@ public class MovementSystem implements Runnable {
 				displacementUnscaled,
 				normalizedDirection);
 		
-		// Remove Old Position
-		entity.remove(currentPosition);
-		
-		//Set New Position = Current Position + Displacement Vector
-		final Position newPosition = calculateNewPosition(currentPosition, displacementVector);
-		entity.add(newPosition);
-		
-		log.info("EntityId: '{}' moved from '{}' to '{}'.", entity.toString(), currentPosition, newPosition);
+		// New Position = Current Position + Displacement Vector, written in place so
+		// the entity keeps its archetype
+		applyDisplacement(currentPosition, displacementVector);
+
+		log.debug("EntityId: '{}' moved to '{}'.", entity, currentPosition);
 	}
 
 	/**
@@ -212,9 +379,9 @@ public class MovementSystem implements Runnable {
 	 */
 	private DistanceDelta calculateDistanceDelta(Position position, Movement movement) {
 		// Delta = Target - Current
-		final Decimal<Scale4f> deltaX = movement.targetX().subtract(position.x());
-		final Decimal<Scale4f> deltaY = movement.targetY().subtract(position.y());
-		final Decimal<Scale4f> deltaZ = movement.targetZ().subtract(position.z());
+		final long deltaX = ARITHMETIC.subtract(movement.targetX(), position.x());
+		final long deltaY = ARITHMETIC.subtract(movement.targetY(), position.y());
+		final long deltaZ = ARITHMETIC.subtract(movement.targetZ(), position.z());
 
 		return new DistanceDelta(deltaX, deltaY, deltaZ);
 	}
@@ -223,14 +390,9 @@ public class MovementSystem implements Runnable {
 	 * Compute the unscaled squared distance between two points in 3D.
 	 */
 	private long calculateDistanceSquaredUnscaled(DistanceDelta distanceDelta) {
-		final long deltaXSquaredUnscaled = ARITHMETIC.multiply(distanceDelta.deltaX.unscaledValue(),
-				distanceDelta.deltaX.unscaledValue());
-
-		final long deltaYSquaredUnscaled = ARITHMETIC.multiply(distanceDelta.deltaY.unscaledValue(),
-				distanceDelta.deltaY.unscaledValue());
-
-		final long deltaZSquaredUnscaled = ARITHMETIC.multiply(distanceDelta.deltaZ.unscaledValue(),
-				distanceDelta.deltaZ.unscaledValue());
+		final long deltaXSquaredUnscaled = ARITHMETIC.multiply(distanceDelta.deltaX, distanceDelta.deltaX);
+		final long deltaYSquaredUnscaled = ARITHMETIC.multiply(distanceDelta.deltaY, distanceDelta.deltaY);
+		final long deltaZSquaredUnscaled = ARITHMETIC.multiply(distanceDelta.deltaZ, distanceDelta.deltaZ);
 
 		final long xySumUnscaled = ARITHMETIC.add(deltaXSquaredUnscaled, deltaYSquaredUnscaled);
 		return ARITHMETIC.add(xySumUnscaled, deltaZSquaredUnscaled);
@@ -238,28 +400,27 @@ public class MovementSystem implements Runnable {
 
 	/**
 	 * Snap the entity to its movement target and remove the Movement component.
+	 * Removing Movement is the only structural change left in this system.
+	 * Reported as an arrival event.
 	 */
 	private void handleSnapCondition(Entity entity, Movement movement, Position position) {
-		log.info("Snap condition met for entity {}.", entity.toString());
+		log.debug("Snap condition met for entity {}.", entity);
+		position.set(movement.targetX(), movement.targetY(), movement.targetZ());
 		entity.remove(movement);
-		entity.remove(position);
-
-		final Position finalPosition = new Position(
-				movement.targetX(), 
-				movement.targetY(), 
-				movement.targetZ());
-		
-		entity.add(finalPosition);
+		if (events != null) {
+			events.movementArrived(entity, position);
+		}
 	}
 
 	/**
 	 * Normalize the delta vector by the provided unscaled distance using unscaled
-	 * arithmetic.
+	 * arithmetic. The three divisions share one reciprocal of the distance.
 	 */
 	private NormalizedDirection calculateNormalizedDirection(long distanceUnscaled, DistanceDelta distanceDelta) {
-		final long normXUnscaled = ARITHMETIC.divide(distanceDelta.deltaX.unscaledValue(), distanceUnscaled);
-		final long normYUnscaled = ARITHMETIC.divide(distanceDelta.deltaY.unscaledValue(), distanceUnscaled);
-		final long normZUnscaled = ARITHMETIC.divide(distanceDelta.deltaZ.unscaledValue(), distanceUnscaled);
+		final double reciprocal = 1.0 / distanceUnscaled;
+		final long normXUnscaled = FixedPointMath.divide(distanceDelta.deltaX, distanceUnscaled, reciprocal);
+		final long normYUnscaled = FixedPointMath.divide(distanceDelta.deltaY, distanceUnscaled, reciprocal);
+		final long normZUnscaled = FixedPointMath.divide(distanceDelta.deltaZ, distanceUnscaled, reciprocal);
 
 		return new NormalizedDirection(normXUnscaled, normYUnscaled, normZUnscaled);
 	}
@@ -277,14 +438,13 @@ public class MovementSystem implements Runnable {
 	}
 
 	/**
-	 * Calculate the new position by applying the displacement vector.
+	 * Move the position by the displacement vector, mutating it in place.
 	 */
-	private Position calculateNewPosition(Position position, DisplacementVector displacementVector) {
-		final long newX = ARITHMETIC.add(position.x().unscaledValue(), displacementVector.dispXUnscaled);
-		final long newY = ARITHMETIC.add(position.y().unscaledValue(), displacementVector.dispYUnscaled);
-		final long newZ = ARITHMETIC.add(position.z().unscaledValue(), displacementVector.dispZUnscaled);
+	private void applyDisplacement(Position position, DisplacementVector displacementVector) {
+		final long newX = ARITHMETIC.add(position.x(), displacementVector.dispXUnscaled);
+		final long newY = ARITHMETIC.add(position.y(), displacementVector.dispYUnscaled);
+		final long newZ = ARITHMETIC.add(position.z(), displacementVector.dispZUnscaled);
 
-		return new Position(DecimalUtils.fromScaled(newX), DecimalUtils.fromScaled(newY),
-				DecimalUtils.fromScaled(newZ));
+		position.set(newX, newY, newZ);
 	}
 }
\ No newline at end of file
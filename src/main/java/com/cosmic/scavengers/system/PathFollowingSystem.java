@@ -0,0 +1,81 @@
+package com.cosmic.scavengers.system;
+
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.cosmic.scavengers.ecs.domain.components.Movement;
+import com.cosmic.scavengers.ecs.domain.components.Waypoints;
+import com.cosmic.scavengers.ecs.events.EcsEventBuffer;
+import com.cosmic.scavengers.ecs.tracking.ChangedEntityTracker;
+import com.cosmic.scavengers.system.meta.IEcsSystem;
+import com.cosmic.scavengers.system.meta.SystemAccess;
+
+import dev.dominion.ecs.api.Dominion;
+import dev.dominion.ecs.api.Entity;
+
+/**
+ * Advances entities along their {@link Waypoints}.
+ *
+ * <p>
+ * An entity that has waypoints but no {@link Movement} has just arrived at its
+ * previous waypoint. The system gives it a Movement towards the next one, or
+ * removes the finished path. Registered before the {@link MovementSystem}, so
+ * the entity keeps moving on the tick after it arrived, and only entities
+ * between two legs are visited.
+ *
+ * <p>
+ * Each new leg is marked in the {@link ChangedEntityTracker} and reported as
+ * {@code MOVEMENT_STARTED}, when those are given, exactly like a move order.
+ */
+public class PathFollowingSystem implements IEcsSystem {
+	private static final Logger log = LoggerFactory.getLogger(PathFollowingSystem.class);
+
+	private final Dominion dominion;
+	private final ChangedEntityTracker changes;
+	private final EcsEventBuffer events;
+
+	/**
+	 * @param changes Tracker marked with every entity that starts a new leg, or
+	 *                null.
+	 * @param events  Buffer for started legs, or null.
+	 */
+	public PathFollowingSystem(Dominion dominion, ChangedEntityTracker changes, EcsEventBuffer events) {
+		this.dominion = dominion;
+		this.changes = changes;
+		this.events = events;
+	}
+
+	@Override
+	public SystemAccess access() {
+		// Adds Movement for the next leg, removes finished Waypoints
+		return SystemAccess.structural(Set.of(), Set.of(Movement.class, Waypoints.class));
+	}
+
+	@Override
+	public void run() {
+		dominion.findEntitiesWith(Waypoints.class).without(Movement.class).stream().forEach(result -> {
+			final Entity entity = result.entity();
+			final Waypoints waypoints = result.comp();
+
+			if (!waypoints.hasNext()) {
+				log.debug("Entity {} finished its path.", entity);
+				entity.remove(waypoints);
+				return;
+			}
+
+			final Movement movement = new Movement(waypoints.nextX(), waypoints.nextY(), waypoints.nextZ(),
+					waypoints.speed());
+			waypoints.advance();
+			entity.add(movement);
+
+			if (changes != null) {
+				changes.mark(entity);
+			}
+			if (events != null) {
+				events.movementStarted(entity, movement);
+			}
+		});
+	}
+}
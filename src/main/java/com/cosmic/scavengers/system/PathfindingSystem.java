@@ -0,0 +1,262 @@
+package com.cosmic.scavengers.system;
+
+import java.util.ArrayDeque;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.cosmic.scavengers.ecs.domain.components.Movement;
+import com.cosmic.scavengers.ecs.domain.components.PathRequest;
+import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.ecs.domain.components.Waypoints;
+import com.cosmic.scavengers.ecs.domain.intents.MoveIntent;
+import com.cosmic.scavengers.ecs.domain.intents.PathIntent;
+import com.cosmic.scavengers.ecs.tracking.ChangedEntityTracker;
+import com.cosmic.scavengers.gameplay.services.data.MovePathRequestData;
+import com.cosmic.scavengers.gameplay.services.data.MoveRequestData;
+import com.cosmic.scavengers.navigation.AStarSearch;
+import com.cosmic.scavengers.navigation.NavGrid;
+import com.cosmic.scavengers.navigation.PathCache;
+import com.cosmic.scavengers.system.meta.IEcsSystem;
+import com.cosmic.scavengers.system.meta.SystemAccess;
+
+import dev.dominion.ecs.api.Dominion;
+import dev.dominion.ecs.api.Entity;
+
+/**
+ * Routes move orders around obstacles.
+ *
+ * <p>
+ * Registered before the {@link IntentProcessorSystem}. A {@link MoveIntent}
+ * whose straight line is clear on the {@link NavGrid}, or that starts or ends
+ * outside it, is left alone. Otherwise the intent is taken over: with a cached
+ * path for the same start and goal cell it becomes a {@link PathIntent} at
+ * once, else the entity stops, gets a {@link PathRequest} and joins a FIFO
+ * queue for {@link AStarSearch}.
+ *
+ * <p>
+ * Searches are time-sliced: every tick spends at most
+ * {@code expansionsPerTick} node expansions, continuing the current search
+ * across ticks, so a burst of orders delays paths instead of blowing the tick.
+ * Finished paths are simplified, cached, and delivered as a
+ * {@link PathIntent} through the entity's waypoints to the exact target, so
+ * they feed the {@link PathFollowingSystem} and {@link MovementSystem} like a
+ * client path. An unreachable goal is delivered as a straight line. The cache
+ * is dropped whenever the obstacles change.
+ *
+ * <p>
+ * A newer order for the same entity supersedes its pending request. Queue
+ * order, the search and the cache are all deterministic, so replays produce the
+ * same paths on the same ticks.
+ */
+public class PathfindingSystem implements IEcsSystem {
+	private static final Logger log = LoggerFactory.getLogger(PathfindingSystem.class);
+
+	private record Pending(Entity entity, PathRequest request) {
+	}
+
+	private final Dominion dominion;
+	private final NavGrid grid;
+	private final int expansionsPerTick;
+	private final AStarSearch search;
+	private final PathCache cache;
+	private final ChangedEntityTracker changes;
+
+	private final ArrayDeque<Pending> queue = new ArrayDeque<>();
+	// Request the search is working on, null when idle
+	private Pending active = null;
+	private int cacheVersion;
+
+	private long pathsCompleted = 0;
+	private int lastTickExpansions = 0;
+
+	/**
+	 * @param expansionsPerTick Node expansions all searches may use per tick.
+	 * @param maxExpansions     Expansions after which one search gives up.
+	 * @param cacheCapacity     Paths kept in the shared cache.
+	 * @param changes           Tracker marked with entities stopped to wait
+	 *                          for a path, or null.
+	 */
+	public PathfindingSystem(Dominion dominion, NavGrid grid, int expansionsPerTick, int maxExpansions,
+			int cacheCapacity, ChangedEntityTracker changes) {
+		this.dominion = dominion;
+		this.grid = grid;
+		this.expansionsPerTick = expansionsPerTick;
+		this.search = new AStarSearch(grid, maxExpansions);
+		this.cache = new PathCache(cacheCapacity);
+		this.changes = changes;
+		this.cacheVersion = grid.getVersion();
+	}
+
+	@Override
+	public SystemAccess access() {
+		// Takes over MoveIntents, adds PathIntents, and stops entities while they wait
+		return SystemAccess.structural(Set.of(Position.class, MoveIntent.class, PathIntent.class),
+				Set.of(MoveIntent.class, PathIntent.class, PathRequest.class, Movement.class, Waypoints.class));
+	}
+
+	@Override
+	public void run() {
+		if (cacheVersion != grid.getVersion()) {
+			cacheVersion = grid.getVersion();
+			cache.clear();
+			if (active != null) {
+				// Restart on the new obstacles
+				search.start(active.request().startCell(), active.request().goalCell());
+			}
+		}
+
+		// A client path overrides a pending search
+		dominion.findEntitiesWith(PathIntent.class, PathRequest.class).stream()
+				.forEach(result -> result.entity().remove(result.comp2()));
+
+		dominion.findEntitiesWith(MoveIntent.class, Position.class).stream()
+				.forEach(result -> route(result.entity(), result.comp1(), result.comp2()));
+
+		lastTickExpansions = 0;
+		while (lastTickExpansions < expansionsPerTick && (active != null || !queue.isEmpty())) {
+			if (active == null && !startNext()) {
+				continue;
+			}
+			final int before = search.getExpansions();
+			final AStarSearch.Status status = search.resume(expansionsPerTick - lastTickExpansions);
+			lastTickExpansions += search.getExpansions() - before;
+			if (status == AStarSearch.Status.RUNNING) {
+				break;
+			}
+
+			final PathRequest request = active.request();
+			final int[] path = status == AStarSearch.Status.FOUND ? grid.simplify(search.getPath()) : null;
+			cache.put(request.startCell(), request.goalCell(), path);
+			deliver(active.entity(), request, path);
+			active = null;
+		}
+	}
+
+	/**
+	 * Decides how the move order is carried out; see the class comment.
+	 */
+	private void route(Entity entity, MoveIntent intent, Position position) {
+		final PathRequest stale = entity.get(PathRequest.class);
+		if (stale != null) {
+			entity.remove(stale);
+		}
+
+		final MoveRequestData requestData = intent.requsetData();
+		final int startCell = grid.cellAt(position.x(), position.y());
+		final int goalCell = grid.cellAt(requestData.targetX(), requestData.targetY());
+		if (startCell < 0 || goalCell < 0 || grid.hasLineOfSight(startCell, goalCell)) {
+			return;
+		}
+
+		entity.remove(intent);
+		final PathRequest request = new PathRequest(requestData, startCell, goalCell);
+		final int[] cached = cache.get(startCell, goalCell);
+		if (cached != null) {
+			deliverPath(entity, requestData, cached.length > 0 ? cached : null);
+			return;
+		}
+
+		entity.add(request);
+		stop(entity);
+		queue.add(new Pending(entity, request));
+		log.debug("Queued path search for entity {}, {} waiting.", requestData.entityId(), queue.size());
+	}
+
+	/**
+	 * Takes the next request that is still wanted. A path cached since it was
+	 * queued is delivered directly.
+	 *
+	 * @return Whether a search was started.
+	 */
+	private boolean startNext() {
+		final Pending next = queue.poll();
+		if (next.entity().get(PathRequest.class) != next.request()) {
+			return false;
+		}
+		final PathRequest request = next.request();
+		final int[] cached = cache.get(request.startCell(), request.goalCell());
+		if (cached != null) {
+			deliver(next.entity(), request, cached.length > 0 ? cached : null);
+			return false;
+		}
+		active = next;
+		search.start(request.startCell(), request.goalCell());
+		return true;
+	}
+
+	private void deliver(Entity entity, PathRequest request, int[] path) {
+		if (entity.get(PathRequest.class) != request) {
+			// Superseded while searching; the path is still cached
+			return;
+		}
+		entity.remove(request);
+		deliverPath(entity, request.requestData(), path);
+	}
+
+	/**
+	 * Adds a PathIntent through the inner cells of the path to the exact target.
+	 *
+	 * @param path Simplified cells from start to goal, or null for a straight
+	 *             line.
+	 */
+	private void deliverPath(Entity entity, MoveRequestData requestData, int[] path) {
+		final int inner = path != null ? Math.max(0, path.length - 2) : 0;
+		final long[] waypoints = new long[3 * (inner + 1)];
+		for (int i = 0; i < inner; i++) {
+			waypoints[3 * i] = grid.centerX(path[i + 1]);
+			waypoints[3 * i + 1] = grid.centerY(path[i + 1]);
+			waypoints[3 * i + 2] = requestData.targetZ();
+		}
+		waypoints[3 * inner] = requestData.targetX();
+		waypoints[3 * inner + 1] = requestData.targetY();
+		waypoints[3 * inner + 2] = requestData.targetZ();
+
+		final MovePathRequestData pathData = new MovePathRequestData(requestData.entityId(),
+				requestData.playerId(), waypoints, requestData.movementSpeed(), requestData.rotationSpeed(),
+				requestData.stoppingDistance());
+		entity.add(new PathIntent(requestData.entityId(), requestData.playerId(), pathData));
+		pathsCompleted++;
+	}
+
+	/**
+	 * The previous order no longer applies while the entity waits for its path.
+	 */
+	private void stop(Entity entity) {
+		final Movement movement = entity.get(Movement.class);
+		if (movement != null) {
+			entity.remove(movement);
+		}
+		final Waypoints waypoints = entity.get(Waypoints.class);
+		if (waypoints != null) {
+			entity.remove(waypoints);
+		}
+		if (changes != null) {
+			changes.mark(entity);
+		}
+	}
+
+	/**
+	 * Routed orders handed to the movement pipeline since the system was
+	 * created, from the cache or a search.
+	 */
+	public long getPathsCompleted() {
+		return pathsCompleted;
+	}
+
+	/**
+	 * Node expansions spent on the last tick.
+	 */
+	public int getLastTickExpansions() {
+		return lastTickExpansions;
+	}
+
+	public int getQueueSize() {
+		return queue.size() + (active != null ? 1 : 0);
+	}
+
+	public PathCache getCache() {
+		return cache;
+	}
+}
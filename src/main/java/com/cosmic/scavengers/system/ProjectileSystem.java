@@ -0,0 +1,170 @@
+package com.cosmic.scavengers.system;
+
+import java.util.Set;
+import java.util.function.IntPredicate;
+
+import com.cosmic.scavengers.ecs.domain.components.Health;
+import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.projectile.ProjectileStore;
+import com.cosmic.scavengers.spatial.SpatialHashGrid;
+import com.cosmic.scavengers.system.meta.IEcsSystem;
+import com.cosmic.scavengers.system.meta.SystemAccess;
+
+/**
+ * Flies the projectiles of a {@link ProjectileStore} and lets them hit hostile
+ * entities.
+ *
+ * <p>
+ * One loop per tick moves every projectile by its velocity and tests the path
+ * it covered in that tick against the world's {@link SpatialHashGrid}, so fast
+ * projectiles cannot skip over a target between two ticks. A projectile hits
+ * the first hostile entity along its path that is within {@code hitRadius} of
+ * it; hostility and the damage pass belong to the
+ * {@link CombatSystem}, which lowers health together with its own shots. Spent
+ * and expired projectiles are removed from the store in the same loop.
+ *
+ * <p>
+ * The hit test is exact fixed-point math, and projectiles are visited in store
+ * order, so the outcome is deterministic. Registered before the
+ * {@link CombatSystem}, so the damage lands in the same tick and projectiles
+ * fired this tick start flying on the next.
+ */
+public class ProjectileSystem implements IEcsSystem {
+	private static final int NONE = -1;
+	// Fraction bits of the position along a path, see distanceSquaredToPath()
+	private static final int PATH_FRACTION_BITS = 16;
+	// Initial size of the candidate buffer, grown when a path crosses more hostiles
+	private static final int INITIAL_CANDIDATES = 64;
+
+	private final ProjectileStore store;
+	private final SpatialHashGrid grid;
+	private final CombatSystem combat;
+	private final long hitRadius;
+	private final long hitRadiusSquared;
+	private final IntPredicate hostileFilter = this::isHostileToProjectile;
+	private int[] candidates = new int[INITIAL_CANDIDATES];
+	private long projectileOwner;
+
+	private int lastTickHits = 0;
+	private int lastTickExpired = 0;
+
+	/**
+	 * @param hitRadius Distance (scaled) from its path within which a
+	 *                  projectile hits an entity.
+	 */
+	public ProjectileSystem(ProjectileStore store, SpatialHashGrid grid, CombatSystem combat, long hitRadius) {
+		if (hitRadius <= 0) {
+			throw new IllegalArgumentException("Projectile hit radius must be positive");
+		}
+		this.store = store;
+		this.grid = grid;
+		this.combat = combat;
+		this.hitRadius = hitRadius;
+		this.hitRadiusSquared = hitRadius * hitRadius;
+	}
+
+	@Override
+	public SystemAccess access() {
+		// Hits add to the combat system's damage totals, so it never runs alongside combat
+		return SystemAccess.of(Set.of(Position.class), Set.of(Health.class));
+	}
+
+	@Override
+	public void run() {
+		lastTickHits = 0;
+		lastTickExpired = 0;
+
+		// Removing a projectile moves the last, not yet flown one into its index
+		int index = 0;
+		while (index < store.size()) {
+			final long startX = store.getX(index);
+			final long startY = store.getY(index);
+			final int ticksLeft = store.advance(index);
+
+			final int target = firstHit(startX, startY, store.getX(index), store.getY(index), store.getOwner(index));
+			if (target != NONE) {
+				combat.addDamage(target, store.getDamage(index));
+				store.remove(index);
+				lastTickHits++;
+			} else if (ticksLeft <= 0) {
+				store.remove(index);
+				lastTickExpired++;
+			} else {
+				index++;
+			}
+		}
+	}
+
+	public ProjectileStore getStore() {
+		return store;
+	}
+
+	public int getLastTickHits() {
+		return lastTickHits;
+	}
+
+	public int getLastTickExpired() {
+		return lastTickExpired;
+	}
+
+	/**
+	 * The hostile entity within the hit radius of the path that the projectile
+	 * reaches first, or -1. Equally early candidates resolve to the lower slot.
+	 */
+	private int firstHit(long startX, long startY, long endX, long endY, long ownerId) {
+		final long minX = Math.min(startX, endX) - hitRadius;
+		final long minY = Math.min(startY, endY) - hitRadius;
+		final long maxX = Math.max(startX, endX) + hitRadius;
+		final long maxY = Math.max(startY, endY) + hitRadius;
+		projectileOwner = ownerId;
+		final int found = grid.queryRect(minX, minY, maxX, maxY, candidates, hostileFilter);
+		if (found > candidates.length) {
+			candidates = new int[Math.max(found, candidates.length + (candidates.length >> 1))];
+			grid.queryRect(minX, minY, maxX, maxY, candidates, hostileFilter);
+		}
+		final long pathX = endX - startX;
+		final long pathY = endY - startY;
+
+		int best = NONE;
+		long bestProgress = Long.MAX_VALUE;
+		for (int i = 0; i < found; i++) {
+			final int candidate = candidates[i];
+			final long toX = grid.getX(candidate) - startX;
+			final long toY = grid.getY(candidate) - startY;
+			final long progress = toX * pathX + toY * pathY;
+			if (progress > bestProgress || (progress == bestProgress && candidate > best)) {
+				continue;
+			}
+			if (distanceSquaredToPath(toX, toY, pathX, pathY, progress) <= hitRadiusSquared) {
+				best = candidate;
+				bestProgress = progress;
+			}
+		}
+		return best;
+	}
+
+	private boolean isHostileToProjectile(int slot) {
+		return combat.isHostile(slot, projectileOwner);
+	}
+
+	/**
+	 * Squared distance from a point to the path, both relative to the path's
+	 * start. {@code progress} is their dot product. The closest point is located
+	 * in 1/65536 steps of the path, which {@link ProjectileStore#MAX_VELOCITY}
+	 * keeps within long range.
+	 */
+	private static long distanceSquaredToPath(long toX, long toY, long pathX, long pathY, long progress) {
+		final long lengthSquared = pathX * pathX + pathY * pathY;
+		long offsetX = toX;
+		long offsetY = toY;
+		if (progress >= lengthSquared) {
+			offsetX -= pathX;
+			offsetY -= pathY;
+		} else if (progress > 0) {
+			final long fraction = (progress << PATH_FRACTION_BITS) / lengthSquared;
+			offsetX -= (pathX * fraction) >> PATH_FRACTION_BITS;
+			offsetY -= (pathY * fraction) >> PATH_FRACTION_BITS;
+		}
+		return offsetX * offsetX + offsetY * offsetY;
+	}
+}
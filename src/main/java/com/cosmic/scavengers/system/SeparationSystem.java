@@ -0,0 +1,202 @@
+package com.cosmic.scavengers.system;
+
+import static com.cosmic.scavengers.core.utils.DecimalUtils.ARITHMETIC;
+
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.cosmic.scavengers.core.utils.FixedPointMath;
+import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.ecs.domain.tags.StaticTag;
+import com.cosmic.scavengers.ecs.tracking.ChangedEntityTracker;
+import com.cosmic.scavengers.registries.EntityRegistry;
+import com.cosmic.scavengers.spatial.SpatialHashGrid;
+import com.cosmic.scavengers.system.meta.IEcsSystem;
+import com.cosmic.scavengers.system.meta.SystemAccess;
+
+import dev.dominion.ecs.api.Entity;
+
+/**
+ * Pushes apart units that overlap, so units sent to the same point spread
+ * around it instead of stacking on one coordinate.
+ *
+ * <p>
+ * Every unit closer than {@code radius} to a neighbour is pushed away from it
+ * by half the overlap, the neighbour taking the other half, summed over its
+ * neighbours and clamped to half the radius per axis and tick. Neighbours come
+ * from the world's {@link SpatialHashGrid}, and the math is Scale4f fixed
+ * point on {@link FixedPointMath}. Exactly coincident units are split along
+ * one of eight fixed directions chosen from their two slots.
+ *
+ * <p>
+ * Pushes are computed for all examined units first and applied afterwards,
+ * so the result does not depend on the order units are visited in; the order
+ * is still fixed (ascending slots), which keeps the system deterministic.
+ *
+ * <p>
+ * The cost per tick is bounded: at most {@code unitsPerTick} units are
+ * examined, each against at most {@code maxNeighbours} neighbours, which are
+ * searched among at most eight times as many nearby units. A cursor
+ * over the slots resumes where the previous tick stopped, so a world larger
+ * than the budget is swept over several ticks. Static entities push others but
+ * are never moved themselves. Registered after the {@link MovementSystem}.
+ */
+public class SeparationSystem implements IEcsSystem {
+	private static final Logger log = LoggerFactory.getLogger(SeparationSystem.class);
+
+	// Unit vectors 45 degrees apart (Scale4f) for splitting coincident units
+	private static final long[] SPLIT_X = { 10_000L, 7_071L, 0L, -7_071L, -10_000L, -7_071L, 0L, 7_071L };
+	private static final long[] SPLIT_Y = { 0L, 7_071L, 10_000L, 7_071L, 0L, -7_071L, -10_000L, -7_071L };
+	// Nearby units looked at per neighbour slot, so a crowded cell cannot stall the tick
+	private static final int VISITS_PER_NEIGHBOUR = 8;
+
+	private final EntityRegistry registry;
+	private final SpatialHashGrid grid;
+	private final long radius;
+	private final long radiusSquared;
+	private final long maxPush;
+	private final ChangedEntityTracker changes;
+
+	private final int maxVisited;
+
+	// Scratch, sized by the budget
+	private final int[] neighbours;
+	private final int[] pushedSlots;
+	private final long[] pushX;
+	private final long[] pushY;
+	private int cursor = 0;
+
+	/**
+	 * @param radius        Distance (scaled) below which two units overlap.
+	 * @param unitsPerTick  Units examined per tick.
+	 * @param maxNeighbours Neighbours considered per unit; further ones, and
+	 *                      units beyond the first {@code 8 * maxNeighbours}
+	 *                      looked at, are ignored for that tick.
+	 * @param changes       Tracker marked with every pushed unit, or null.
+	 */
+	public SeparationSystem(EntityRegistry registry, SpatialHashGrid grid, long radius, int unitsPerTick,
+			int maxNeighbours, ChangedEntityTracker changes) {
+		if (radius <= 0 || unitsPerTick <= 0 || maxNeighbours <= 0) {
+			throw new IllegalArgumentException("Separation radius, budget and neighbour cap must be positive");
+		}
+		this.registry = registry;
+		this.grid = grid;
+		this.radius = radius;
+		this.radiusSquared = ARITHMETIC.multiply(radius, radius);
+		this.maxPush = radius / 2;
+		this.changes = changes;
+		this.maxVisited = (int) Math.min(Integer.MAX_VALUE, (long) maxNeighbours * VISITS_PER_NEIGHBOUR);
+		this.neighbours = new int[maxNeighbours];
+		this.pushedSlots = new int[unitsPerTick];
+		this.pushX = new long[unitsPerTick];
+		this.pushY = new long[unitsPerTick];
+	}
+
+	@Override
+	public SystemAccess access() {
+		return SystemAccess.of(Set.of(Position.class, StaticTag.class), Set.of(Position.class));
+	}
+
+	@Override
+	public void run() {
+		final int slotCount = registry.getSlotCount();
+		int examined = 0;
+		int pushed = 0;
+		for (int visited = 0; visited < slotCount && examined < pushedSlots.length; visited++) {
+			final int slot = cursor;
+			cursor = cursor + 1 < slotCount ? cursor + 1 : 0;
+
+			if (!grid.contains(slot)) {
+				continue;
+			}
+			final Entity entity = registry.getEntityAt(slot);
+			if (entity == null || entity.has(StaticTag.class)) {
+				continue;
+			}
+			examined++;
+			if (computePush(slot, pushed)) {
+				pushedSlots[pushed++] = slot;
+			}
+		}
+
+		for (int i = 0; i < pushed; i++) {
+			apply(pushedSlots[i], pushX[i], pushY[i]);
+		}
+		if (pushed > 0) {
+			log.debug("Separated {} of {} examined units.", pushed, examined);
+		}
+	}
+
+	/**
+	 * Sums the pushes from all overlapping neighbours into {@code pushX/Y[index]}.
+	 *
+	 * @return Whether the unit has to move.
+	 */
+	private boolean computePush(int slot, int index) {
+		final long x = grid.getX(slot);
+		final long y = grid.getY(slot);
+		final int found = grid.queryRangeBounded(x, y, radius, neighbours, maxVisited);
+
+		long sumX = 0;
+		long sumY = 0;
+		for (int n = 0; n < found; n++) {
+			final int other = neighbours[n];
+			if (other == slot) {
+				continue;
+			}
+			final long deltaX = x - grid.getX(other);
+			final long deltaY = y - grid.getY(other);
+			final long distanceSquared = ARITHMETIC.multiply(deltaX, deltaX) + ARITHMETIC.multiply(deltaY, deltaY);
+			if (distanceSquared >= radiusSquared) {
+				continue;
+			}
+
+			final long distance = FixedPointMath.sqrt(distanceSquared);
+			final long share = (radius - distance) / 2;
+			final long directionX;
+			final long directionY;
+			if (distance == 0) {
+				final int split = splitDirection(slot, other);
+				final long sign = slot < other ? -1L : 1L;
+				directionX = sign * SPLIT_X[split];
+				directionY = sign * SPLIT_Y[split];
+			} else {
+				final double reciprocal = 1.0 / distance;
+				directionX = FixedPointMath.divide(deltaX, distance, reciprocal);
+				directionY = FixedPointMath.divide(deltaY, distance, reciprocal);
+			}
+			sumX += ARITHMETIC.multiply(directionX, share);
+			sumY += ARITHMETIC.multiply(directionY, share);
+		}
+
+		pushX[index] = Math.max(-maxPush, Math.min(maxPush, sumX));
+		pushY[index] = Math.max(-maxPush, Math.min(maxPush, sumY));
+		return pushX[index] != 0 || pushY[index] != 0;
+	}
+
+	/**
+	 * Picks one of the split directions from the unordered slot pair, so both
+	 * units agree on the axis and move in opposite directions along it.
+	 */
+	private static int splitDirection(int slot, int other) {
+		final long pair = ((long) Math.min(slot, other) << 32) | Math.max(slot, other);
+		return (int) ((pair * 0x9E3779B97F4A7C15L) >>> 61);
+	}
+
+	private void apply(int slot, long deltaX, long deltaY) {
+		final Entity entity = registry.getEntityAt(slot);
+		final Position position = entity.get(Position.class);
+		if (position == null) {
+			return;
+		}
+		final long newX = position.x() + deltaX;
+		final long newY = position.y() + deltaY;
+		position.set(newX, newY, position.z());
+		grid.update(slot, newX, newY);
+		if (changes != null) {
+			changes.mark(slot);
+		}
+	}
+}
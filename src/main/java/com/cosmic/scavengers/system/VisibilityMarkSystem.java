@@ -0,0 +1,37 @@
+package com.cosmic.scavengers.system;
+
+import java.util.Set;
+
+import com.cosmic.scavengers.ecs.tracking.ChangedEntityTracker;
+import com.cosmic.scavengers.system.meta.IEcsSystem;
+import com.cosmic.scavengers.system.meta.SystemAccess;
+
+/**
+ * Hands the changed-entity marks of every tick to a {@link VisibilitySystem}.
+ *
+ * <p>
+ * Visibility runs only every few ticks, but the snapshot publisher clears the
+ * marks at the end of every tick. This step runs every tick and copies the
+ * marks into the visibility system's dirty set, so moves made between two
+ * visibility runs are not lost. It costs one bit test per changed entity.
+ * Registered before the visibility system and the publisher; the shared state
+ * each pair touches is declared in their access, so the scheduler keeps them
+ * in registration order.
+ */
+public class VisibilityMarkSystem implements IEcsSystem {
+	private final VisibilitySystem visibility;
+
+	public VisibilityMarkSystem(VisibilitySystem visibility) {
+		this.visibility = visibility;
+	}
+
+	@Override
+	public SystemAccess access() {
+		return SystemAccess.of(Set.of(ChangedEntityTracker.class), Set.of(VisibilitySystem.class));
+	}
+
+	@Override
+	public void run() {
+		visibility.collectChanges();
+	}
+}
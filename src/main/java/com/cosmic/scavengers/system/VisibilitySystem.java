@@ -0,0 +1,474 @@
+package com.cosmic.scavengers.system;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.cosmic.scavengers.ecs.domain.components.EntitySlot;
+import com.cosmic.scavengers.ecs.domain.components.Owner;
+import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.ecs.domain.components.Vision;
+import com.cosmic.scavengers.ecs.tracking.ChangedEntityTracker;
+import com.cosmic.scavengers.engine.TickClock;
+import com.cosmic.scavengers.registries.EntityRegistry;
+import com.cosmic.scavengers.system.meta.IEcsSystem;
+import com.cosmic.scavengers.system.meta.SystemAccess;
+
+import dev.dominion.ecs.api.Entity;
+
+/**
+ * Per-player fog of war: which cells of the map each player currently sees.
+ *
+ * <p>
+ * The map is a square of {@code size} x {@code size} cells of
+ * {@code cellSize} scaled units, centred on the origin. Every owned unit
+ * reveals the cells whose centres lie within its {@link Vision} radius (the
+ * default radius when it has none). Per player, every cell counts the units
+ * revealing it, and a bitset mirrors which counts are non-zero, so
+ * {@link #isVisibleTo(long, Entity)} is one bit test.
+ *
+ * <p>
+ * Fog of war runs at {@value #UPDATE_HZ} Hz rather than at the tick rate; a
+ * few hundred milliseconds of lag are not noticeable for what a player sees.
+ * Updates are incremental. Only entities marked in the world's
+ * {@link ChangedEntityTracker} since the last run, and newly registered ones,
+ * are looked at, and a unit's disc is only re-stamped when its cell, vision
+ * radius or owner changed. Moving within a cell costs a few component lookups,
+ * and moving to a neighbouring cell only touches the edges of the disc.
+ *
+ * <p>
+ * The snapshot publisher clears the tracker every tick, so the marks of the
+ * ticks between two runs are copied into a dirty set of this system by the
+ * {@link VisibilityMarkSystem}, which runs every tick and is registered before
+ * this system and the publisher.
+ *
+ * <p>
+ * Players get a dense index on their first unit, up to {@code maxPlayers};
+ * units of further players reveal nothing. Entities outside the map reveal
+ * nothing and are only visible to their owner. Engine thread only.
+ */
+public class VisibilitySystem implements IEcsSystem, EntityRegistry.SlotListener {
+	private static final Logger log = LoggerFactory.getLogger(VisibilitySystem.class);
+
+	private static final int INITIAL_SLOTS = 256;
+
+	// Executions per second
+	public static final double UPDATE_HZ = 2.0;
+
+	private final EntityRegistry registry;
+	private final int size;
+	private final long cellSize;
+	private final long origin;
+	private final int defaultRadiusCells;
+	private final int maxPlayers;
+	private final int tickInterval;
+	// Null when every registered slot is re-examined each run
+	private final ChangedEntityTracker changes;
+	// Slots marked or registered since the last run
+	private final ChangedEntityTracker dirty = new ChangedEntityTracker();
+
+	// Per player index
+	private final Map<Long, Integer> playerIndices = new HashMap<>();
+	private final int[][] revealCounts;
+	private final long[][] visibleBits;
+
+	// Cell offsets (packed dy << 16 | dx & 0xFFFF) of a disc, per radius in cells
+	private final Map<Integer, int[]> discs = new HashMap<>();
+	// Cells a disc leaves and enters when it moves to a neighbouring cell
+	private final Map<Integer, int[][]> discEdges = new HashMap<>();
+
+	// Per slot: the cell the entity is in, and the disc it currently reveals
+	private int[] entityCell = filled(INITIAL_SLOTS);
+	private int[] stampCell = filled(INITIAL_SLOTS);
+	private int[] stampRadius = new int[INITIAL_SLOTS];
+	private int[] stampPlayer = filled(INITIAL_SLOTS);
+	private long[] entityOwner = new long[INITIAL_SLOTS];
+	private int[] entityPlayer = filled(INITIAL_SLOTS);
+	private boolean[] owned = new boolean[INITIAL_SLOTS];
+
+	private int lastTickRestamped = 0;
+	private boolean playerLimitLogged = false;
+
+	/**
+	 * @param tickClock     The world's clock, used to derive the interval.
+	 * @param size          Cells per side.
+	 * @param cellSize      Cell edge, scaled.
+	 * @param defaultRadius Vision radius (scaled) of units without a
+	 *                      {@link Vision}.
+	 * @param maxPlayers    Players tracked per world.
+	 * @param changes       Tracker of the entities to re-examine, collected
+	 *                      through {@link #collectChanges()}, or null to
+	 *                      re-examine all of them every run.
+	 */
+	public VisibilitySystem(EntityRegistry registry, TickClock tickClock, int size, long cellSize,
+			long defaultRadius, int maxPlayers, ChangedEntityTracker changes) {
+		if (size <= 0 || cellSize <= 0 || maxPlayers <= 0 || defaultRadius < 0) {
+			throw new IllegalArgumentException("Visibility grid size, cell size and player limit must be positive");
+		}
+		this.registry = registry;
+		this.size = size;
+		this.cellSize = cellSize;
+		this.origin = -(size * cellSize) / 2;
+		this.defaultRadiusCells = radiusInCells(defaultRadius);
+		this.maxPlayers = maxPlayers;
+		this.tickInterval = tickClock.intervalForHz(UPDATE_HZ);
+		this.changes = changes;
+		this.revealCounts = new int[maxPlayers][];
+		this.visibleBits = new long[maxPlayers][];
+	}
+
+	@Override
+	public SystemAccess access() {
+		// The dirty set is shared with the VisibilityMarkSystem
+		return SystemAccess.of(Set.of(Position.class, Owner.class, Vision.class), Set.of(VisibilitySystem.class));
+	}
+
+	@Override
+	public int tickInterval() {
+		return tickInterval;
+	}
+
+	@Override
+	public void run() {
+		lastTickRestamped = 0;
+		if (changes == null) {
+			final int slotCount = registry.getSlotCount();
+			for (int slot = 0; slot < slotCount; slot++) {
+				refresh(slot);
+			}
+		} else {
+			final int dirtyCount = dirty.size();
+			for (int i = 0; i < dirtyCount; i++) {
+				refresh(dirty.getSlot(i));
+			}
+		}
+		dirty.clear();
+	}
+
+	/**
+	 * Adds the slots currently marked in the world's tracker to the ones the
+	 * next run re-examines. Called every tick, before the marks are cleared;
+	 * see {@link VisibilityMarkSystem}.
+	 */
+	public void collectChanges() {
+		if (changes == null) {
+			return;
+		}
+		final int changed = changes.size();
+		for (int i = 0; i < changed; i++) {
+			dirty.mark(changes.getSlot(i));
+		}
+	}
+
+	@Override
+	public void onRegistered(int slot, Entity entity) {
+		ensureSlotCapacity(slot);
+		dirty.mark(slot);
+	}
+
+	@Override
+	public void onUnregistered(int slot) {
+		if (slot >= entityCell.length) {
+			return;
+		}
+		unstamp(slot);
+		entityCell[slot] = -1;
+		owned[slot] = false;
+	}
+
+	/**
+	 * Whether the player currently sees the entity. Players always see their
+	 * own entities.
+	 */
+	public boolean isVisibleTo(long playerId, Entity entity) {
+		final EntitySlot slot = entity.get(EntitySlot.class);
+		return slot != null && isVisibleTo(playerId, slot.index());
+	}
+
+	/**
+	 * Slot variant of {@link #isVisibleTo(long, Entity)}.
+	 */
+	public boolean isVisibleTo(long playerId, int slot) {
+		if (slot >= entityCell.length) {
+			return false;
+		}
+		if (owned[slot] && entityOwner[slot] == playerId) {
+			return true;
+		}
+		return isCellVisible(playerId, entityCell[slot]);
+	}
+
+	/**
+	 * Whether the player sees the point. False outside the map.
+	 */
+	public boolean isVisibleTo(long playerId, long x, long y) {
+		return isCellVisible(playerId, cellAt(x, y));
+	}
+
+	/**
+	 * The player's visible cells as a bitset over {@code cy * size + cx}, or
+	 * null when the player has no units. Live view; do not modify.
+	 */
+	public long[] getVisibleCells(long playerId) {
+		final Integer index = playerIndices.get(playerId);
+		return index == null ? null : visibleBits[index];
+	}
+
+	public int getSize() {
+		return size;
+	}
+
+	public int getPlayerCount() {
+		return playerIndices.size();
+	}
+
+	/**
+	 * Units whose revealed disc was updated in the last run.
+	 */
+	public int getLastTickRestamped() {
+		return lastTickRestamped;
+	}
+
+	private boolean isCellVisible(long playerId, int cell) {
+		if (cell < 0) {
+			return false;
+		}
+		final Integer index = playerIndices.get(playerId);
+		return index != null && (visibleBits[index][cell >>> 6] & (1L << cell)) != 0;
+	}
+
+	/**
+	 * Brings the slot's cell and revealed disc up to date with its components.
+	 */
+	private void refresh(int slot) {
+		final Entity entity = registry.getEntityAt(slot);
+		if (entity == null) {
+			return;
+		}
+		ensureSlotCapacity(slot);
+		final Position position = entity.get(Position.class);
+		final int cell = position == null ? -1 : cellAt(position.x(), position.y());
+		entityCell[slot] = cell;
+
+		final Owner owner = entity.get(Owner.class);
+		final int player;
+		if (owner == null) {
+			owned[slot] = false;
+			player = -1;
+		} else if (owned[slot] && entityOwner[slot] == owner.playerId()) {
+			player = entityPlayer[slot];
+		} else {
+			owned[slot] = true;
+			entityOwner[slot] = owner.playerId();
+			player = playerIndex(owner.playerId());
+			entityPlayer[slot] = player;
+		}
+		final Vision vision = entity.get(Vision.class);
+		final int radius = vision == null ? defaultRadiusCells : radiusInCells(vision.radius());
+
+		final int revealed = player < 0 ? -1 : cell;
+		if (revealed == stampCell[slot] && radius == stampRadius[slot] && player == stampPlayer[slot]) {
+			return;
+		}
+		if (revealed >= 0 && radius == stampRadius[slot] && player == stampPlayer[slot]
+				&& step(stampCell[slot], revealed, radius, player)) {
+			stampCell[slot] = revealed;
+		} else {
+			unstamp(slot);
+			if (revealed >= 0) {
+				stamp(slot, revealed, radius, player);
+			}
+		}
+		lastTickRestamped++;
+	}
+
+	/**
+	 * Moves a disc to a neighbouring cell by updating only the cells on its
+	 * leading and trailing edges.
+	 *
+	 * @return False, changing nothing, when the cells are not neighbours.
+	 */
+	private boolean step(int from, int to, int radius, int player) {
+		if (from < 0) {
+			return false;
+		}
+		final int dx = to % size - from % size;
+		final int dy = to / size - from / size;
+		if (dx < -1 || dx > 1 || dy < -1 || dy > 1) {
+			return false;
+		}
+		final int direction = (dy + 1) * 3 + dx + 1;
+		final int[][] edges = edges(radius);
+		reveal(to, edges[2 * direction], player, -1);
+		reveal(to, edges[2 * direction + 1], player, 1);
+		return true;
+	}
+
+	private void stamp(int slot, int cell, int radius, int player) {
+		stampCell[slot] = cell;
+		stampRadius[slot] = radius;
+		stampPlayer[slot] = player;
+		reveal(cell, disc(radius), player, 1);
+	}
+
+	private void unstamp(int slot) {
+		if (stampCell[slot] >= 0) {
+			reveal(stampCell[slot], disc(stampRadius[slot]), stampPlayer[slot], -1);
+		}
+		stampCell[slot] = -1;
+		stampPlayer[slot] = -1;
+	}
+
+	/**
+	 * Adds {@code delta} to the player's counts over the offsets around the
+	 * cell, flipping the visible bits of the cells whose count crosses zero.
+	 */
+	private void reveal(int cell, int[] offsets, int player, int delta) {
+		final int[] counts = revealCounts[player];
+		final long[] bits = visibleBits[player];
+		final int centreX = cell % size;
+		final int centreY = cell / size;
+		for (int offset : offsets) {
+			final int cx = centreX + (short) offset;
+			final int cy = centreY + (offset >> 16);
+			if (cx < 0 || cy < 0 || cx >= size || cy >= size) {
+				continue;
+			}
+			final int target = cy * size + cx;
+			final int count = counts[target] + delta;
+			counts[target] = count;
+			if (count == 0) {
+				bits[target >>> 6] &= ~(1L << target);
+			} else if (count == 1 && delta > 0) {
+				bits[target >>> 6] |= 1L << target;
+			}
+		}
+	}
+
+	private int[] disc(int radius) {
+		int[] offsets = discs.get(radius);
+		if (offsets != null) {
+			return offsets;
+		}
+		final int radiusSquared = radius * radius;
+		int count = 0;
+		offsets = new int[(2 * radius + 1) * (2 * radius + 1)];
+		for (int dy = -radius; dy <= radius; dy++) {
+			for (int dx = -radius; dx <= radius; dx++) {
+				if (dx * dx + dy * dy <= radiusSquared) {
+					offsets[count++] = dy << 16 | dx & 0xFFFF;
+				}
+			}
+		}
+		offsets = Arrays.copyOf(offsets, count);
+		discs.put(radius, offsets);
+		return offsets;
+	}
+
+	/**
+	 * For a disc stepping by (dx, dy) in -1..1, indexed by
+	 * {@code 2 * ((dy + 1) * 3 + dx + 1)}: the offsets around the new centre
+	 * that it left, followed by the offsets it entered.
+	 */
+	private int[][] edges(int radius) {
+		int[][] edges = discEdges.get(radius);
+		if (edges != null) {
+			return edges;
+		}
+		final int[] offsets = disc(radius);
+		final int radiusSquared = radius * radius;
+		edges = new int[18][];
+		for (int dy = -1; dy <= 1; dy++) {
+			for (int dx = -1; dx <= 1; dx++) {
+				final int direction = (dy + 1) * 3 + dx + 1;
+				final int[] left = new int[offsets.length];
+				final int[] entered = new int[offsets.length];
+				int leftCount = 0;
+				int enteredCount = 0;
+				for (int offset : offsets) {
+					final int ox = (short) offset;
+					final int oy = offset >> 16;
+					// Relative to the new centre, a cell of the old disc sits at offset - step
+					final int lx = ox - dx;
+					final int ly = oy - dy;
+					if (lx * lx + ly * ly > radiusSquared) {
+						left[leftCount++] = ly << 16 | lx & 0xFFFF;
+					}
+					final int ex = ox + dx;
+					final int ey = oy + dy;
+					if (ex * ex + ey * ey > radiusSquared) {
+						entered[enteredCount++] = offset;
+					}
+				}
+				edges[2 * direction] = Arrays.copyOf(left, leftCount);
+				edges[2 * direction + 1] = Arrays.copyOf(entered, enteredCount);
+			}
+		}
+		discEdges.put(radius, edges);
+		return edges;
+	}
+
+	private int playerIndex(long playerId) {
+		final Integer known = playerIndices.get(playerId);
+		if (known != null) {
+			return known;
+		}
+		final int index = playerIndices.size();
+		if (index >= maxPlayers) {
+			if (!playerLimitLogged) {
+				log.warn("More than {} players in one world; units of player {} reveal nothing.", maxPlayers,
+						playerId);
+				playerLimitLogged = true;
+			}
+			return -1;
+		}
+		playerIndices.put(playerId, index);
+		revealCounts[index] = new int[size * size];
+		visibleBits[index] = new long[(size * size + 63) >>> 6];
+		return index;
+	}
+
+	private int cellAt(long x, long y) {
+		final long cx = Math.floorDiv(x - origin, cellSize);
+		final long cy = Math.floorDiv(y - origin, cellSize);
+		if (cx < 0 || cy < 0 || cx >= size || cy >= size) {
+			return -1;
+		}
+		return (int) cy * size + (int) cx;
+	}
+
+	private int radiusInCells(long radius) {
+		return (int) Math.min(size, (radius + cellSize - 1) / cellSize);
+	}
+
+	private void ensureSlotCapacity(int slot) {
+		if (slot < entityCell.length) {
+			return;
+		}
+		final int capacity = Math.max(slot + 1, entityCell.length * 2);
+		entityCell = grow(entityCell, capacity);
+		stampCell = grow(stampCell, capacity);
+		stampPlayer = grow(stampPlayer, capacity);
+		entityPlayer = grow(entityPlayer, capacity);
+		stampRadius = Arrays.copyOf(stampRadius, capacity);
+		entityOwner = Arrays.copyOf(entityOwner, capacity);
+		owned = Arrays.copyOf(owned, capacity);
+	}
+
+	private static int[] grow(int[] values, int capacity) {
+		final int previous = values.length;
+		final int[] grown = Arrays.copyOf(values, capacity);
+		Arrays.fill(grown, previous, capacity, -1);
+		return grown;
+	}
+
+	private static int[] filled(int capacity) {
+		final int[] values = new int[capacity];
+		Arrays.fill(values, -1);
+		return values;
+	}
+}
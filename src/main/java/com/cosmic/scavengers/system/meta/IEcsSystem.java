@@ -0,0 +1,42 @@
+package com.cosmic.scavengers.system.meta;
+
+/**
+ * A unit of per-tick work executed by the GameEngine.
+ *
+ * <p>
+ * Every system declares its component access so that the engine can run
+ * non-conflicting systems in parallel while keeping the result identical to
+ * running them one after another in registration order.
+ */
+public interface IEcsSystem extends Runnable {
+
+	/**
+	 * Component types this system reads and writes during {@link #run()}.
+	 */
+	SystemAccess access();
+
+	/**
+	 * Run this system every N ticks instead of every tick. Use
+	 * {@code TickClock.intervalForHz} to derive the interval from a target
+	 * frequency. A system running every N ticks covers N tick deltas of
+	 * simulated time per execution.
+	 */
+	default int tickInterval() {
+		return 1;
+	}
+
+	/**
+	 * Whether the engine may defer this system to a later tick when it is
+	 * overloaded. See {@link SystemPriority} for which systems may opt in.
+	 */
+	default SystemPriority priority() {
+		return SystemPriority.CRITICAL;
+	}
+
+	/**
+	 * Name used for logging and profiling.
+	 */
+	default String name() {
+		return getClass().getSimpleName();
+	}
+}
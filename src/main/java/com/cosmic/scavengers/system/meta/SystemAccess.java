@@ -0,0 +1,66 @@
+package com.cosmic.scavengers.system.meta;
+
+import java.util.Set;
+
+/**
+ * Declares which component types an {@link IEcsSystem} reads and writes.
+ *
+ * <p>
+ * The scheduler uses these declarations to decide which systems may run at the
+ * same time. Two systems conflict when either one writes a component the other
+ * reads or writes. A system that makes structural changes (adds or removes
+ * components, creates or deletes entities) moves entities between Dominion
+ * compositions, which every other system may be iterating, so it always runs
+ * alone.
+ *
+ * <p>
+ * Besides component types, the sets may name shared per-world state that is
+ * not a component, such as the {@code ChangedEntityTracker}: a system that
+ * clears it writes that type, one that only reads the marks reads it.
+ *
+ * @param reads      Component types the system only reads.
+ * @param writes     Component types the system mutates.
+ * @param structural Whether the system adds/removes components or entities.
+ */
+public record SystemAccess(Set<Class<?>> reads, Set<Class<?>> writes, boolean structural) {
+
+	public SystemAccess {
+		reads = Set.copyOf(reads);
+		writes = Set.copyOf(writes);
+	}
+
+	/**
+	 * Access for a system that only mutates component state in place.
+	 */
+	public static SystemAccess of(Set<Class<?>> reads, Set<Class<?>> writes) {
+		return new SystemAccess(reads, writes, false);
+	}
+
+	/**
+	 * Access for a system that also makes structural changes to entities.
+	 */
+	public static SystemAccess structural(Set<Class<?>> reads, Set<Class<?>> writes) {
+		return new SystemAccess(reads, writes, true);
+	}
+
+	/**
+	 * Returns true if this system and {@code other} must not run concurrently.
+	 */
+	public boolean conflictsWith(SystemAccess other) {
+		if (structural || other.structural) {
+			return true;
+		}
+		return intersects(writes, other.reads) 
+				|| intersects(writes, other.writes) 
+				|| intersects(reads, other.writes);
+	}
+
+	private static boolean intersects(Set<Class<?>> a, Set<Class<?>> b) {
+		for (Class<?> type : a) {
+			if (b.contains(type)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,28 @@
+package com.cosmic.scavengers.system.meta;
+
+/**
+ * How important it is that a system runs on the tick it is due.
+ *
+ * <p>
+ * Deferral decisions depend on wall-clock time, so only systems that do not
+ * change simulation state (network sync, persistence, telemetry) may be
+ * anything other than {@link #CRITICAL}; otherwise the simulation would stop
+ * being deterministic under load.
+ */
+public enum SystemPriority {
+	/**
+	 * Always runs when due. Required for deterministic simulation.
+	 */
+	CRITICAL,
+
+	/**
+	 * Deferred to a later tick once the current tick has used up its budget.
+	 */
+	NORMAL,
+
+	/**
+	 * Like {@link #NORMAL}, and additionally deferred on every tick that follows
+	 * an over-budget tick.
+	 */
+	LOW
+}
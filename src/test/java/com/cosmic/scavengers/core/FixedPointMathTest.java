@@ -0,0 +1,84 @@
+package com.cosmic.scavengers.core;
+
+import static com.cosmic.scavengers.core.utils.DecimalUtils.ARITHMETIC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import com.cosmic.scavengers.core.utils.FixedPointMath;
+
+/**
+ * Checks that {@link FixedPointMath} is bit-identical to the HALF_UP
+ * {@code ARITHMETIC} instance it replaces in the movement code: exhaustively
+ * for small values, where rounding ties are densest, and randomized over every
+ * magnitude, including the ranges that fall back to {@code ARITHMETIC}.
+ */
+class FixedPointMathTest {
+	private static final int RANDOM_SAMPLES = 2_000_000;
+
+	@Test
+	void test_Sqrt_SmallValues_MatchArithmetic() {
+		for (long value = 0; value <= 1_000_000L; value++) {
+			assertEquals(ARITHMETIC.sqrt(value), FixedPointMath.sqrt(value), "sqrt of " + value);
+		}
+	}
+
+	@Test
+	void test_Sqrt_RandomValues_MatchArithmetic() {
+		final SplittableRandom random = new SplittableRandom(16);
+		for (int i = 0; i < RANDOM_SAMPLES; i++) {
+			final long value = randomMagnitude(random, 63);
+			assertEquals(ARITHMETIC.sqrt(value), FixedPointMath.sqrt(value), "sqrt of " + value);
+		}
+		assertEquals(ARITHMETIC.sqrt(Long.MAX_VALUE), FixedPointMath.sqrt(Long.MAX_VALUE));
+	}
+
+	@Test
+	void test_Sqrt_Negative_Throws() {
+		assertThrows(ArithmeticException.class, () -> FixedPointMath.sqrt(-1L));
+	}
+
+	@Test
+	void test_Divide_SmallValues_MatchArithmetic() {
+		for (long divisor = -300; divisor <= 300; divisor++) {
+			if (divisor == 0) {
+				continue;
+			}
+			for (long dividend = -5_000; dividend <= 5_000; dividend++) {
+				assertEquals(ARITHMETIC.divide(dividend, divisor), FixedPointMath.divide(dividend, divisor),
+						dividend + " / " + divisor);
+			}
+		}
+	}
+
+	/**
+	 * Includes the shared-reciprocal form used for normalization, with a
+	 * reciprocal computed exactly like the movement code does.
+	 */
+	@Test
+	void test_Divide_RandomValues_MatchArithmetic() {
+		final SplittableRandom random = new SplittableRandom(4);
+		for (int i = 0; i < RANDOM_SAMPLES; i++) {
+			final long dividend = random.nextBoolean() ? randomMagnitude(random, 63) : -randomMagnitude(random, 63);
+			final long divisor = 1 + randomMagnitude(random, 62);
+			final long expected = ARITHMETIC.divide(dividend, divisor);
+			assertEquals(expected, FixedPointMath.divide(dividend, divisor), dividend + " / " + divisor);
+			assertEquals(expected, FixedPointMath.divide(dividend, divisor, 1.0 / divisor),
+					dividend + " / " + divisor + " by reciprocal");
+		}
+	}
+
+	@Test
+	void test_Divide_ByZero_Throws() {
+		assertThrows(ArithmeticException.class, () -> FixedPointMath.divide(1L, 0L));
+	}
+
+	// Uniform within a random power of two, so every magnitude is covered
+	private static long randomMagnitude(SplittableRandom random, int maxBits) {
+		final int bits = random.nextInt(1, maxBits + 1);
+		return bits == 63 ? random.nextLong(0, Long.MAX_VALUE) : random.nextLong(0, 1L << bits);
+	}
+}
@@ -0,0 +1,78 @@
+package com.cosmic.scavengers.ecs.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.cosmic.scavengers.ecs.commands.MoveEntityCommand;
+import com.cosmic.scavengers.ecs.domain.components.Owner;
+import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.ecs.domain.intents.MoveIntent;
+import com.cosmic.scavengers.engine.TickClock;
+import com.cosmic.scavengers.gameplay.services.data.MoveRequestData;
+import com.cosmic.scavengers.registries.EntityRegistry;
+import com.cosmic.scavengers.system.IntentProcessorSystem;
+import com.cosmic.scavengers.system.MovementSystem;
+
+import dev.dominion.ecs.api.Dominion;
+import dev.dominion.ecs.api.Entity;
+
+/**
+ * Drives the move pipeline of a real Dominion and checks the events the
+ * consumers see once per tick.
+ */
+class EcsEventDispatcherTest {
+
+	@Test
+	void test_MovePipeline_ReportsRejectionStartAndArrival() {
+		final Dominion dominion = Dominion.create("events");
+		try {
+			final TickClock tickClock = new TickClock(10);
+			final EntityRegistry registry = new EntityRegistry();
+			final EcsEventBuffer buffer = new EcsEventBuffer(registry);
+			final EcsEventDispatcher dispatcher = new EcsEventDispatcher(buffer, tickClock);
+			final IntentProcessorSystem intents = new IntentProcessorSystem(dominion, null, buffer);
+			final MovementSystem movement = new MovementSystem(dominion, tickClock, true, null, 0, null, buffer, null);
+
+			final List<String> seen = new ArrayList<>();
+			dispatcher.addConsumer((tick, events) -> {
+				for (int i = 0; i < events.size(); i++) {
+					seen.add(events.getType(i) + ":" + events.getEntityId(i) + ":" + events.getPlayerId(i) + ":"
+							+ events.getX(i) + ":" + events.getRejectReason(i));
+				}
+			});
+
+			final Entity entity = dominion.createEntity(new Position(0L, 0L, 0L), new Owner(7L));
+			registry.register(42L, entity);
+
+			// 1.0 unit away at 10 units/s arrives on the first movement tick
+			final MoveRequestData request = new MoveRequestData(42L, 7L, 10_000L, 0L, 0L, 100_000L, 0L, 0L);
+			new MoveEntityCommand(new MoveRequestData(99L, 7L, 5L, 0L, 0L, 100_000L, 0L, 0L))
+					.execute(dominion, registry, buffer);
+			entity.add(new MoveIntent(42L, 7L, request));
+
+			intents.run();
+			movement.run();
+			dispatcher.run();
+
+			assertEquals(List.of(
+					"INTENT_REJECTED:99:7:5:ENTITY_NOT_FOUND",
+					"MOVEMENT_STARTED:42:7:10000:null",
+					"MOVEMENT_ARRIVED:42:7:10000:null"), seen);
+			assertTrue(buffer.isEmpty(), "Dispatcher must clear the buffer");
+
+			// Nothing happens on the next tick, so consumers are not called
+			seen.clear();
+			intents.run();
+			movement.run();
+			dispatcher.run();
+			assertTrue(seen.isEmpty());
+		} finally {
+			dominion.close();
+		}
+	}
+}
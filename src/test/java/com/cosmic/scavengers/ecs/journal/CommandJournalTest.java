@@ -0,0 +1,191 @@
+package com.cosmic.scavengers.ecs.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.cosmic.scavengers.db.model.tables.pojos.PlayerEntities;
+import com.cosmic.scavengers.ecs.commands.InitSpawnEntitiesCommand;
+import com.cosmic.scavengers.ecs.commands.MoveEntityCommand;
+import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.engine.profiling.SystemTickProfiler;
+import com.cosmic.scavengers.engine.world.EngineSettings;
+import com.cosmic.scavengers.engine.world.GameWorld;
+import com.cosmic.scavengers.engine.world.GameWorldFactory;
+import com.cosmic.scavengers.gameplay.services.data.MoveRequestData;
+
+/**
+ * Round-trip tests for {@link CommandJournalWriter} and
+ * {@link CommandJournalReader}.
+ */
+class CommandJournalTest {
+
+	/**
+	 * Settings and commands come back exactly, including the commands' ticks,
+	 * negative coordinates and a missing player id.
+	 */
+	@Test
+	void test_WriteThenRead_RestoresTicksAndCommands() throws IOException {
+		final Path path = Files.createTempFile("commands", ".journal");
+		final MoveEntityCommand first = new MoveEntityCommand(new MoveRequestData(
+				42L, 7L,
+				-1_234_567L, 0L, 98_765L,
+				150_000L, 1L, -1L));
+		final MoveEntityCommand second = new MoveEntityCommand(new MoveRequestData(
+				Long.MAX_VALUE, null,
+				Long.MIN_VALUE, Long.MAX_VALUE,
+				0L, 0L, 0L,
+				0L));
+		try {
+			final EngineSettings settings = recordedSettings();
+			try (CommandJournalWriter writer = new CommandJournalWriter(path, settings)) {
+				writer.record(3, first);
+				writer.record(3, first);
+				writer.record(1_000_000, second);
+			}
+
+			try (CommandJournalReader reader = new CommandJournalReader(path)) {
+				final EngineSettings read = reader.getSettings();
+				assertEquals(settings.getTickRateHz(), read.getTickRateHz());
+				assertEquals(settings.getSeparationRadius(), read.getSeparationRadius());
+				assertEquals(settings.getNavGridSize(), read.getNavGridSize());
+				assertEquals(settings.getVisionRadius(), read.getVisionRadius());
+				assertEquals(settings.getCombatRetargetTicks(), read.getCombatRetargetTicks());
+				assertEquals(settings.getProjectileHitRadius(), read.getProjectileHitRadius());
+				assertEquals(new JournalEntry(3, first), reader.next());
+				assertEquals(new JournalEntry(3, first), reader.next());
+				assertEquals(new JournalEntry(1_000_000, second), reader.next());
+				assertNull(reader.next());
+			}
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	/**
+	 * A spawn without an id leaves the journal readable up to the previous
+	 * record and stops the recording.
+	 */
+	@Test
+	void test_WriteInitSpawn_NullEntityId_StopsRecordingCleanly() throws IOException {
+		final Path path = Files.createTempFile("commands", ".journal");
+		final MoveEntityCommand move = new MoveEntityCommand(new MoveRequestData(
+				1L, 7L, 0L, 0L, 0L, 10_000L, 0L, 0L));
+		final PlayerEntities withoutId = new PlayerEntities();
+		withoutId.setPlayerId(7L);
+		try {
+			try (CommandJournalWriter writer = new CommandJournalWriter(path, new EngineSettings())) {
+				writer.record(1, move);
+				writer.record(2, new InitSpawnEntitiesCommand(7L, List.of(withoutId)));
+				writer.record(3, move);
+			}
+
+			try (CommandJournalReader reader = new CommandJournalReader(path)) {
+				assertEquals(new JournalEntry(1, move), reader.next());
+				assertNull(reader.next());
+			}
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	/**
+	 * A world recorded with non-default settings and rebuilt from its own
+	 * journal ends up with every entity at exactly the recorded position.
+	 */
+	@Test
+	void test_Replay_RecordedWorld_ReachesSameState() throws IOException {
+		final Path dir = Files.createTempDirectory("journals");
+		final EngineSettings settings = recordedSettings();
+		settings.setJournalDir(dir.toString());
+		final GameWorldFactory recordingFactory = new GameWorldFactory(new SystemTickProfiler(), settings);
+		final GameWorld recorded = recordingFactory.create(1);
+		GameWorldFactory replayFactory = null;
+		GameWorld replayed = null;
+		try {
+			final List<PlayerEntities> units = new ArrayList<>();
+			for (int i = 0; i < 20; i++) {
+				final PlayerEntities unit = new PlayerEntities();
+				unit.setId(100L + i);
+				unit.setPlayerId(7L);
+				unit.setPosX(i * 3.5f);
+				unit.setPosY(-i * 1.25f);
+				unit.setPosZ(0f);
+				unit.setEntityName("unit-" + i);
+				unit.setIsStatic(false);
+				units.add(unit);
+			}
+			recorded.commandQueue().submit(new InitSpawnEntitiesCommand(7L, units));
+			recorded.engine().tick();
+			for (int i = 0; i < units.size(); i++) {
+				recorded.commandQueue().submit(new MoveEntityCommand(new MoveRequestData(
+						100L + i, 7L, 500_000L, 250_000L * (i % 3), 0L, 150_000L, 10_000L, 5_000L)));
+			}
+			for (int tick = 0; tick < 40; tick++) {
+				recorded.engine().tick();
+			}
+			recorded.commandQueue().submit(new MoveEntityCommand(new MoveRequestData(
+					105L, 7L, -300_000L, 0L, 0L, 200_000L, 10_000L, 5_000L)));
+			for (int tick = 0; tick < 40; tick++) {
+				recorded.engine().tick();
+			}
+			recorded.journal().close();
+
+			try (CommandJournalReader reader = new CommandJournalReader(recorded.journal().getPath())) {
+				replayFactory = new GameWorldFactory(new SystemTickProfiler(), reader.getSettings());
+				replayed = replayFactory.create(1);
+				new CommandJournalReplay(replayed, reader).run(0);
+			}
+			while (replayed.tickClock().getTick() < recorded.tickClock().getTick()) {
+				replayed.engine().tick();
+			}
+
+			assertEquals(recorded.tickClock().getTick(), replayed.tickClock().getTick());
+			assertEquals(recorded.entityRegistry().getActiveCount(), replayed.entityRegistry().getActiveCount());
+			for (long id : recorded.entityRegistry().getActiveIds()) {
+				final Position expected = recorded.entityRegistry().getLiveEntity(id).get(Position.class);
+				final Position actual = replayed.entityRegistry().getLiveEntity(id).get(Position.class);
+				assertNotNull(actual);
+				assertEquals(expected.x(), actual.x(), "Entity " + id);
+				assertEquals(expected.y(), actual.y(), "Entity " + id);
+			}
+		} finally {
+			recorded.dominion().close();
+			if (replayed != null) {
+				replayed.dominion().close();
+			}
+			recordingFactory.shutdown();
+			if (replayFactory != null) {
+				replayFactory.shutdown();
+			}
+			Files.deleteIfExists(recorded.journal().getPath());
+			Files.deleteIfExists(dir);
+		}
+	}
+
+	/**
+	 * Settings that differ from the defaults wherever the simulation would
+	 * notice, so a replay with default settings would diverge.
+	 */
+	private static EngineSettings recordedSettings() {
+		final EngineSettings settings = new EngineSettings();
+		settings.setTickRateHz(20);
+		settings.setSpatialCellSize(4);
+		settings.setSeparationRadius(2.5f);
+		settings.setSeparationMaxNeighbours(4);
+		settings.setNavGridSize(128);
+		settings.setNavCellSize(2);
+		settings.setVisionRadius(30);
+		settings.setCombatRetargetTicks(3);
+		settings.setProjectileHitRadius(0.5f);
+		return settings;
+	}
+}
@@ -0,0 +1,76 @@
+package com.cosmic.scavengers.ecs.tracking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.cosmic.scavengers.ecs.domain.components.EntitySlot;
+import com.cosmic.scavengers.ecs.domain.components.Movement;
+import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.engine.TickClock;
+import com.cosmic.scavengers.registries.EntityRegistry;
+import com.cosmic.scavengers.system.MovementSystem;
+
+import dev.dominion.ecs.api.Dominion;
+import dev.dominion.ecs.api.Entity;
+
+/**
+ * Tests for {@link ChangedEntityTracker} and the slots it is keyed by.
+ */
+class ChangedEntityTrackerTest {
+
+	@Test
+	void test_Mark_DeduplicatesAndKeepsOrder() {
+		final ChangedEntityTracker tracker = new ChangedEntityTracker();
+		tracker.mark(5);
+		tracker.mark(1);
+		tracker.mark(5);
+		for (int slot = 100; slot < 1_000; slot++) {
+			tracker.mark(slot);
+		}
+
+		assertEquals(902, tracker.size());
+		assertEquals(5, tracker.getSlot(0));
+		assertEquals(1, tracker.getSlot(1));
+		assertTrue(tracker.isMarked(999));
+
+		tracker.clear();
+		assertEquals(0, tracker.size());
+		assertFalse(tracker.isMarked(5));
+		assertFalse(tracker.isMarked(999));
+	}
+
+	/**
+	 * Only the moving entity is marked, and a freed slot is handed out again.
+	 */
+	@Test
+	void test_MovementSystem_MarksOnlyMovedEntities() {
+		final Dominion dominion = Dominion.create("tracker");
+		try {
+			final EntityRegistry registry = new EntityRegistry();
+			final Entity idle = dominion.createEntity(new Position(0L, 0L, 0L));
+			final Entity moving = dominion.createEntity(new Position(0L, 0L, 0L),
+					new Movement(1_000_000L, 0L, 0L, 10_000L));
+			registry.register(10L, idle);
+			registry.register(20L, moving);
+
+			final int movingSlot = moving.get(EntitySlot.class).index();
+			assertEquals(20L, registry.getIdAt(movingSlot));
+
+			final ChangedEntityTracker tracker = new ChangedEntityTracker();
+			new MovementSystem(dominion, new TickClock(10), true, null, 0, tracker, null, null).run();
+
+			assertEquals(1, tracker.size());
+			assertEquals(movingSlot, tracker.getSlot(0));
+
+			registry.unregister(20L);
+			assertEquals(-1L, registry.getIdAt(movingSlot));
+			registry.register(30L, dominion.createEntity(new Position(0L, 0L, 0L)));
+			assertEquals(30L, registry.getIdAt(movingSlot));
+		} finally {
+			dominion.close();
+		}
+	}
+}
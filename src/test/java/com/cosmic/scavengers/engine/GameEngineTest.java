@@ -3,17 +3,23 @@ package com.cosmic.scavengers.engine;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
 
+import com.cosmic.scavengers.engine.pacing.ParkingTickPacer;
+import com.cosmic.scavengers.engine.profiling.SystemTickProfiler;
+
 class GameEngineTest {
 
 	// Use @Spy to test the actual GameEngine while being able to mock its internal
 	// calls if needed.
 	@Spy
-	private GameEngine engine;
+	private GameEngine engine = new GameEngine("test-world", List.of(), new TickClock(10), new SystemTickProfiler(),
+			null, 0, new ParkingTickPacer());
 
 	@BeforeEach
 	void setUp() {
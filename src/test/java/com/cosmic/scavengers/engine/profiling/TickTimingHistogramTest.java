@@ -0,0 +1,103 @@
+package com.cosmic.scavengers.engine.profiling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link TickTimingHistogram}.
+ */
+class TickTimingHistogramTest {
+	private static final int LAST_BUCKET = 959;
+
+	/**
+	 * Values below 16 get a bucket each; above, the buckets tile every long
+	 * without gaps, and none is wider than a sixteenth of its lower bound.
+	 */
+	@Test
+	void test_Buckets_AreExactSmall_AndContiguous() {
+		for (int value = 0; value < 16; value++) {
+			assertEquals(value, TickTimingHistogram.bucketIndex(value));
+			assertEquals(value, TickTimingHistogram.bucketLowerBound(value));
+			assertEquals(value, TickTimingHistogram.bucketUpperBound(value));
+		}
+		for (int i = 0; i < LAST_BUCKET; i++) {
+			assertEquals(TickTimingHistogram.bucketUpperBound(i) + 1, TickTimingHistogram.bucketLowerBound(i + 1));
+		}
+		for (int i = 16; i <= LAST_BUCKET; i++) {
+			final long lower = TickTimingHistogram.bucketLowerBound(i);
+			assertTrue(TickTimingHistogram.bucketUpperBound(i) - lower < lower / 16);
+		}
+		for (int bit = 4; bit < 63; bit++) {
+			for (long value : new long[] { (1L << bit) - 1, 1L << bit, (1L << bit) + 1 }) {
+				final int index = TickTimingHistogram.bucketIndex(value);
+				assertTrue(TickTimingHistogram.bucketLowerBound(index) <= value);
+				assertTrue(TickTimingHistogram.bucketUpperBound(index) >= value);
+			}
+		}
+	}
+
+	/**
+	 * Long.MAX_VALUE lands in the last bucket and is reported without
+	 * overflow; negative samples count as zero.
+	 */
+	@Test
+	void test_LargestValues_FitTheLastBucket() {
+		assertEquals(LAST_BUCKET, TickTimingHistogram.bucketIndex(Long.MAX_VALUE));
+		assertEquals(Long.MAX_VALUE, TickTimingHistogram.bucketUpperBound(LAST_BUCKET));
+
+		final TickTimingHistogram histogram = new TickTimingHistogram("test", 1_000L);
+		histogram.record(Long.MAX_VALUE);
+		histogram.record(-5L);
+		final TickTimingSnapshot snapshot = histogram.snapshot();
+
+		assertEquals(2, snapshot.samples());
+		assertEquals(0L, snapshot.p50Nanos());
+		assertEquals(Long.MAX_VALUE, snapshot.p99Nanos());
+		assertEquals(Long.MAX_VALUE, snapshot.maxNanos());
+		assertEquals(1, snapshot.overBudget());
+	}
+
+	/**
+	 * Percentiles are interpolated by rank within their bucket, capped at the
+	 * largest sample, and exact for small values.
+	 */
+	@Test
+	void test_Percentiles_InterpolateWithinBucket() {
+		// All four in the bucket 1024..1087
+		final TickTimingHistogram histogram = new TickTimingHistogram("test", 1_000L);
+		for (long value : new long[] { 1_024L, 1_040L, 1_056L, 1_087L }) {
+			histogram.record(value);
+		}
+		TickTimingSnapshot snapshot = histogram.snapshot();
+		assertEquals(1_024L + 63 / 2, snapshot.p50Nanos());
+		assertEquals(1_087L, snapshot.p99Nanos());
+		assertEquals(4, snapshot.overBudget());
+
+		final TickTimingHistogram capped = new TickTimingHistogram("capped", 1_000L);
+		capped.record(1_030L);
+		capped.record(1_030L);
+		snapshot = capped.snapshot();
+		assertEquals(1_030L, snapshot.p99Nanos());
+
+		final TickTimingHistogram small = new TickTimingHistogram("small", 1_000L);
+		for (long value = 1; value <= 10; value++) {
+			small.record(value);
+		}
+		snapshot = small.snapshot();
+		assertEquals(5L, snapshot.p50Nanos());
+		assertEquals(10L, snapshot.p99Nanos());
+		assertEquals(0, snapshot.overBudget());
+		assertEquals(5L, snapshot.meanNanos());
+	}
+
+	@Test
+	void test_EmptyHistogram_ReportsZeros() {
+		final TickTimingSnapshot snapshot = new TickTimingHistogram("empty", 1_000L).snapshot();
+		assertEquals(0, snapshot.samples());
+		assertEquals(0L, snapshot.p50Nanos());
+		assertEquals(0L, snapshot.p99Nanos());
+		assertEquals(0L, snapshot.maxNanos());
+	}
+}
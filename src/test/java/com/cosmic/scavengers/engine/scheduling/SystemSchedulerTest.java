@@ -0,0 +1,143 @@
+package com.cosmic.scavengers.engine.scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import com.cosmic.scavengers.ecs.domain.components.Movement;
+import com.cosmic.scavengers.ecs.domain.components.Owner;
+import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.engine.TickClock;
+import com.cosmic.scavengers.system.meta.IEcsSystem;
+import com.cosmic.scavengers.system.meta.SystemAccess;
+import com.cosmic.scavengers.system.meta.SystemPriority;
+
+/**
+ * Unit tests for {@link SystemScheduler} stage construction and execution.
+ */
+class SystemSchedulerTest {
+
+	private record TestSystem(String name, SystemAccess access, SystemPriority priority, List<String> log)
+			implements IEcsSystem {
+		TestSystem(String name, SystemAccess access, List<String> log) {
+			this(name, access, SystemPriority.CRITICAL, log);
+		}
+
+		@Override
+		public void run() {
+			log.add(name);
+		}
+	}
+
+	private record FailingSystem(SystemAccess access) implements IEcsSystem {
+		@Override
+		public void run() {
+			throw new IllegalStateException("Simulated system failure");
+		}
+	}
+
+	/**
+	 * Readers of disjoint components share a stage; a writer waits for every
+	 * earlier reader of the same component; a structural system runs alone.
+	 */
+	@Test
+	void test_BuildStages_RespectsConflicts() {
+		final List<String> log = new CopyOnWriteArrayList<>();
+		final List<IEcsSystem> systems = List.of(
+				new TestSystem("readPosition", SystemAccess.of(Set.of(Position.class), Set.of()), log),
+				new TestSystem("readOwner", SystemAccess.of(Set.of(Owner.class), Set.of()), log),
+				new TestSystem("writePosition", SystemAccess.of(Set.of(Movement.class), Set.of(Position.class)), log),
+				new TestSystem("structural", SystemAccess.structural(Set.of(), Set.of()), log),
+				new TestSystem("readOwnerAgain", SystemAccess.of(Set.of(Owner.class), Set.of()), log));
+
+		final int[][] stages = SystemScheduler.buildStages(systems);
+
+		assertEquals(4, stages.length);
+		assertArrayEquals(new int[] { 0, 1 }, stages[0]);
+		assertArrayEquals(new int[] { 2 }, stages[1]);
+		assertArrayEquals(new int[] { 3 }, stages[2]);
+		assertArrayEquals(new int[] { 4 }, stages[3]);
+	}
+
+	/**
+	 * Every system runs exactly once per tick on a parallel scheduler, and
+	 * conflicting systems keep their registration order.
+	 */
+	@Test
+	void test_RunTick_Parallel_PreservesConflictOrder() {
+		final List<String> log = new CopyOnWriteArrayList<>();
+		final List<IEcsSystem> systems = List.of(
+				new TestSystem("a", SystemAccess.of(Set.of(Position.class), Set.of()), log),
+				new TestSystem("b", SystemAccess.of(Set.of(Owner.class), Set.of()), log),
+				new TestSystem("c", SystemAccess.of(Set.of(), Set.of(Position.class, Owner.class)), log));
+
+		final ForkJoinPool pool = new ForkJoinPool(4);
+		final SystemScheduler scheduler = new SystemScheduler(systems, new TickClock(10), pool, (index, nanos) -> {
+		}, Long.MAX_VALUE);
+		try {
+			scheduler.runTick(false);
+		} finally {
+			pool.shutdown();
+		}
+
+		assertEquals(3, log.size());
+		assertEquals("c", log.get(2), "The writer must run after both readers.");
+	}
+
+	/**
+	 * With the budget always spent, a deferrable system is postponed until it
+	 * hits the starvation cap, while critical systems keep running every tick.
+	 */
+	@Test
+	void test_RunTick_OverBudget_DefersNonCriticalUpToCap() {
+		final List<String> log = new CopyOnWriteArrayList<>();
+		final List<IEcsSystem> systems = List.of(
+				new TestSystem("critical", SystemAccess.of(Set.of(Position.class), Set.of()), log),
+				new TestSystem("normal", SystemAccess.of(Set.of(Owner.class), Set.of()), SystemPriority.NORMAL, log));
+
+		final TickClock tickClock = new TickClock(10);
+		final SystemScheduler scheduler = new SystemScheduler(systems, tickClock, null, (index, nanos) -> {
+		}, 0);
+		for (int i = 0; i <= SystemScheduler.MAX_DEFERRED_TICKS; i++) {
+			scheduler.runTick(false);
+			tickClock.advance();
+		}
+
+		assertEquals(SystemScheduler.MAX_DEFERRED_TICKS + 1, log.stream().filter("critical"::equals).count());
+		assertEquals(1, log.stream().filter("normal"::equals).count());
+	}
+
+	/**
+	 * A throwing system is reported and does not stop the rest of the tick.
+	 */
+	@Test
+	void test_RunTick_FailingSystem_OtherSystemsStillRun() {
+		final List<String> log = new CopyOnWriteArrayList<>();
+		final List<Integer> failed = new CopyOnWriteArrayList<>();
+		final List<IEcsSystem> systems = List.of(
+				new FailingSystem(SystemAccess.structural(Set.of(), Set.of())),
+				new TestSystem("after", SystemAccess.of(Set.of(Position.class), Set.of()), log));
+
+		final SystemScheduler scheduler = new SystemScheduler(systems, new TickClock(10), null,
+				new SystemScheduler.SystemTimingListener() {
+					@Override
+					public void onSystemFinished(int systemIndex, long nanos) {
+					}
+
+					@Override
+					public void onSystemFailed(int systemIndex, Exception e) {
+						failed.add(systemIndex);
+					}
+				}, Long.MAX_VALUE);
+
+		assertEquals(1, scheduler.runTick(false));
+		assertEquals(List.of(0), failed);
+		assertEquals(List.of("after"), log);
+	}
+}
@@ -0,0 +1,96 @@
+package com.cosmic.scavengers.engine.snapshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.cosmic.scavengers.ecs.domain.components.Owner;
+import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.ecs.tracking.ChangedEntityTracker;
+import com.cosmic.scavengers.engine.TickClock;
+import com.cosmic.scavengers.registries.EntityRegistry;
+
+import dev.dominion.ecs.api.Dominion;
+import dev.dominion.ecs.api.Entity;
+
+/**
+ * Tests for {@link WorldSnapshotPublisher}.
+ */
+class WorldSnapshotPublisherTest {
+
+	/**
+	 * A published snapshot keeps its content while later runs publish new
+	 * ones, as happens during back-to-back catch-up ticks.
+	 */
+	@Test
+	void test_Run_KeepsEarlierSnapshotsUnchanged() {
+		final Dominion dominion = Dominion.create("snapshots");
+		try {
+			final EntityRegistry registry = new EntityRegistry();
+			final TickClock clock = new TickClock(10);
+			final WorldSnapshotPublisher publisher = new WorldSnapshotPublisher(registry, clock,
+					new ChangedEntityTracker());
+			final Entity unit = dominion.createEntity(new Position(10_000L, 0L, 0L), new Owner(7L));
+			registry.register(1L, unit);
+
+			publisher.run();
+			final WorldSnapshot first = publisher.getLatest();
+			for (int i = 2; i <= 3; i++) {
+				clock.advance();
+				unit.get(Position.class).set(i * 10_000L, 0L, 0L);
+				publisher.run();
+			}
+			final WorldSnapshot third = publisher.getLatest();
+
+			assertNotSame(first, third);
+			assertEquals(1, first.getSequence());
+			assertEquals(0, first.getTick());
+			assertEquals(10_000L, first.getX(0));
+			assertEquals(3, third.getSequence());
+			assertEquals(2, third.getTick());
+			assertEquals(30_000L, third.getX(0));
+		} finally {
+			dominion.close();
+		}
+	}
+
+	/**
+	 * Entities are ordered by id even when freed slots are reused by entities
+	 * with other ids.
+	 */
+	@Test
+	void test_Run_SortsByIdAcrossReusedSlots() {
+		final Dominion dominion = Dominion.create("snapshots");
+		try {
+			final EntityRegistry registry = new EntityRegistry();
+			final WorldSnapshotPublisher publisher = new WorldSnapshotPublisher(registry, new TickClock(10),
+					new ChangedEntityTracker());
+			for (long id = 999; id >= 0; id--) {
+				registry.register(id, dominion.createEntity(new Position(id, 0L, 0L), new Owner(7L)));
+			}
+			for (long id = 0; id < 1_000; id += 2) {
+				final Entity entity = registry.getLiveEntity(id);
+				registry.unregister(id);
+				dominion.deleteEntity(entity);
+			}
+			for (long id = 5_000; id < 5_100; id++) {
+				registry.register(id, dominion.createEntity(new Position(id, 0L, 0L), new Owner(7L)));
+			}
+
+			publisher.run();
+			final WorldSnapshot snapshot = publisher.getLatest();
+			assertEquals(600, snapshot.size());
+			for (int i = 1; i < snapshot.size(); i++) {
+				assertTrue(snapshot.getEntityId(i - 1) < snapshot.getEntityId(i));
+				assertEquals(snapshot.getEntityId(i), snapshot.getX(i));
+			}
+			assertEquals(1, snapshot.getEntityId(0));
+			assertEquals(-1, snapshot.indexOf(998L));
+			assertEquals(599, snapshot.indexOf(5_099L));
+		} finally {
+			dominion.close();
+		}
+	}
+}
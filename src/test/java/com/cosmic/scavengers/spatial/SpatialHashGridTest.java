@@ -0,0 +1,195 @@
+package com.cosmic.scavengers.spatial;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import com.cosmic.scavengers.ecs.domain.components.EntitySlot;
+import com.cosmic.scavengers.ecs.domain.components.Movement;
+import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.engine.TickClock;
+import com.cosmic.scavengers.registries.EntityRegistry;
+import com.cosmic.scavengers.system.MovementSystem;
+
+import dev.dominion.ecs.api.Dominion;
+import dev.dominion.ecs.api.Entity;
+
+/**
+ * Tests for {@link SpatialHashGrid}, checked against a brute-force scan.
+ */
+class SpatialHashGridTest {
+	private static final long CELL = 100_000L;
+	private static final int COUNT = 2_000;
+
+	@Test
+	void test_Update_RelinksOnlyOnCellCrossing() {
+		final SpatialHashGrid grid = new SpatialHashGrid(CELL);
+		grid.insert(3, 10L, 10L);
+
+		assertFalse(grid.update(3, CELL - 1, 10L));
+		assertTrue(grid.update(3, CELL, 10L));
+		assertTrue(grid.update(3, -1L, -1L));
+		assertEquals(1, grid.size());
+
+		grid.remove(3);
+		assertEquals(0, grid.size());
+		assertFalse(grid.contains(3));
+		assertEquals(0, grid.getCellCount());
+		assertEquals(-1, grid.nearest(0L, 0L, 10 * CELL, null));
+	}
+
+	/**
+	 * The bounded query stops at the output size and at the number of slots
+	 * looked at, counting those out of range.
+	 */
+	@Test
+	void test_QueryRangeBounded_StopsAtBothCaps() {
+		final SpatialHashGrid grid = new SpatialHashGrid(CELL);
+		for (int slot = 0; slot < 10; slot++) {
+			grid.insert(slot, 0L, 0L);
+		}
+		for (int slot = 10; slot < 20; slot++) {
+			grid.insert(slot, CELL - 1, CELL - 1);
+		}
+
+		final int[] out = new int[50];
+		assertEquals(10, grid.queryRangeBounded(0L, 0L, 10L, out, 1_000));
+		assertEquals(4, grid.queryRangeBounded(0L, 0L, 10L, new int[4], 1_000));
+		assertEquals(2, grid.queryRangeBounded(0L, 0L, 10L, out, 12));
+		assertEquals(0, grid.queryRangeBounded(0L, 0L, 10L, out, 10));
+	}
+
+	/**
+	 * Random moves, removals and queries, including negative coordinates and
+	 * radii spanning many cells. The cell table only holds occupied cells.
+	 */
+	@Test
+	void test_Queries_MatchBruteForce() {
+		final SplittableRandom random = new SplittableRandom(7);
+		final SpatialHashGrid grid = new SpatialHashGrid(CELL);
+		final long[] xs = new long[COUNT];
+		final long[] ys = new long[COUNT];
+		final boolean[] live = new boolean[COUNT];
+		for (int slot = 0; slot < COUNT; slot++) {
+			xs[slot] = coordinate(random);
+			ys[slot] = coordinate(random);
+			live[slot] = true;
+			grid.insert(slot, xs[slot], ys[slot]);
+		}
+
+		final int[] out = new int[COUNT];
+		for (int round = 0; round < 200; round++) {
+			for (int n = 0; n < 100; n++) {
+				final int slot = random.nextInt(COUNT);
+				if (random.nextInt(10) == 0) {
+					live[slot] = !live[slot];
+					if (live[slot]) {
+						grid.insert(slot, xs[slot], ys[slot]);
+					} else {
+						grid.remove(slot);
+					}
+				} else if (live[slot]) {
+					xs[slot] += random.nextLong(-2 * CELL, 2 * CELL);
+					ys[slot] += random.nextLong(-2 * CELL, 2 * CELL);
+					grid.update(slot, xs[slot], ys[slot]);
+				}
+			}
+
+			final long x = coordinate(random);
+			final long y = coordinate(random);
+			final long radius = random.nextLong(1, 5 * CELL);
+
+			final int found = grid.queryRange(x, y, radius, out);
+			final int[] actual = Arrays.copyOf(out, found);
+			Arrays.sort(actual);
+			assertArrayEquals(bruteRange(xs, ys, live, x, y, radius), actual);
+
+			final int except = random.nextInt(COUNT);
+			assertEquals(bruteNearest(xs, ys, live, x, y, radius, except),
+					grid.nearest(x, y, radius, slot -> slot != except));
+			assertEquals(occupiedCells(xs, ys, live), grid.getCellCount());
+		}
+	}
+
+	@Test
+	void test_Registry_And_MovementSystem_KeepGridInSync() {
+		final Dominion dominion = Dominion.create("spatial");
+		try {
+			final EntityRegistry registry = new EntityRegistry();
+			final SpatialHashGrid grid = new SpatialHashGrid(CELL);
+			registry.addSlotListener(grid);
+
+			final Entity idle = dominion.createEntity(new Position(0L, 0L, 0L));
+			final Entity moving = dominion.createEntity(new Position(0L, 0L, 0L),
+					new Movement(10 * CELL, 0L, 0L, 10 * CELL));
+			registry.register(10L, idle);
+			registry.register(20L, moving);
+			assertEquals(2, grid.size());
+
+			final MovementSystem system = new MovementSystem(dominion, new TickClock(10), true, null, 0, null, null,
+					grid);
+			system.run();
+
+			final int movingSlot = moving.get(EntitySlot.class).index();
+			assertEquals(CELL, grid.getX(movingSlot));
+			assertEquals(movingSlot, grid.nearest(CELL, 0L, CELL / 2, null));
+
+			registry.unregister(20L);
+			assertEquals(1, grid.size());
+			assertEquals(idle.get(EntitySlot.class).index(), grid.nearest(CELL, 0L, 2 * CELL, null));
+		} finally {
+			dominion.close();
+		}
+	}
+
+	private static long coordinate(SplittableRandom random) {
+		return random.nextLong(-20 * CELL, 20 * CELL);
+	}
+
+	private static int[] bruteRange(long[] xs, long[] ys, boolean[] live, long x, long y, long radius) {
+		final int[] result = new int[COUNT];
+		int found = 0;
+		for (int slot = 0; slot < COUNT; slot++) {
+			if (live[slot] && distanceSquared(xs[slot] - x, ys[slot] - y) <= radius * radius) {
+				result[found++] = slot;
+			}
+		}
+		return Arrays.copyOf(result, found);
+	}
+
+	private static int bruteNearest(long[] xs, long[] ys, boolean[] live, long x, long y, long radius,
+			int except) {
+		int best = -1;
+		long bestDistance = Long.MAX_VALUE;
+		for (int slot = 0; slot < COUNT; slot++) {
+			final long distance = distanceSquared(xs[slot] - x, ys[slot] - y);
+			if (live[slot] && slot != except && distance <= radius * radius && distance < bestDistance) {
+				best = slot;
+				bestDistance = distance;
+			}
+		}
+		return best;
+	}
+
+	private static long distanceSquared(long dx, long dy) {
+		return dx * dx + dy * dy;
+	}
+
+	private static int occupiedCells(long[] xs, long[] ys, boolean[] live) {
+		final Set<Long> cells = new HashSet<>();
+		for (int slot = 0; slot < xs.length; slot++) {
+			if (live[slot]) {
+				cells.add((Math.floorDiv(xs[slot], CELL) << 32) | (Math.floorDiv(ys[slot], CELL) & 0xFFFFFFFFL));
+			}
+		}
+		return cells.size();
+	}
+}
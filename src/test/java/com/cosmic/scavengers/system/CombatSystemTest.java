@@ -0,0 +1,173 @@
+package com.cosmic.scavengers.system;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.cosmic.scavengers.ecs.domain.components.Health;
+import com.cosmic.scavengers.ecs.domain.components.Owner;
+import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.ecs.domain.components.Weapon;
+import com.cosmic.scavengers.ecs.events.EcsEventBuffer;
+import com.cosmic.scavengers.ecs.events.EcsEventType;
+import com.cosmic.scavengers.engine.TickClock;
+import com.cosmic.scavengers.registries.EntityRegistry;
+import com.cosmic.scavengers.spatial.SpatialHashGrid;
+
+import dev.dominion.ecs.api.Dominion;
+import dev.dominion.ecs.api.Entity;
+
+/**
+ * Tests for {@link CombatSystem}.
+ */
+class CombatSystemTest {
+	private static final long UNIT = 10_000L;
+
+	private Dominion dominion;
+	private EntityRegistry registry;
+	private EcsEventBuffer events;
+	private TickClock tickClock;
+	private CombatSystem combat;
+	private CombatCleanupSystem cleanup;
+
+	@BeforeEach
+	void setUp() {
+		dominion = Dominion.create("combat");
+		registry = new EntityRegistry();
+		final SpatialHashGrid grid = new SpatialHashGrid(10 * UNIT);
+		registry.addSlotListener(grid);
+		events = new EcsEventBuffer(registry);
+		tickClock = new TickClock(10);
+		// Searches every tick
+		combat = new CombatSystem(dominion, registry, grid, tickClock, 1, events, null);
+		registry.addSlotListener(combat);
+		cleanup = new CombatCleanupSystem(combat);
+	}
+
+	@AfterEach
+	void tearDown() {
+		dominion.close();
+	}
+
+	/**
+	 * The attacker skips the closer friendly unit, kills the nearest hostile one,
+	 * then moves on to the next; the one out of range is untouched.
+	 */
+	@Test
+	void test_NearestHostileInRange_IsAttacked_UntilDestroyed() {
+		registry.register(1L, dominion.createEntity(new Position(0L, 0L, 0L), new Owner(1L),
+				new Weapon(10 * UNIT, 30, 1)));
+		final Health friend = spawnTarget(2L, 1L, 2 * UNIT);
+		final Health near = spawnTarget(3L, 2L, 5 * UNIT);
+		final Health far = spawnTarget(4L, 2L, 8 * UNIT);
+		final Health outOfRange = spawnTarget(5L, 2L, 30 * UNIT);
+
+		tick();
+		assertEquals(20, near.current());
+		assertEquals(50, friend.current());
+
+		tick();
+		assertFalse(registry.isActive(3L));
+		assertEquals(1, events.size());
+		assertEquals(EcsEventType.ENTITY_DESTROYED, events.getType(0));
+		assertEquals(3L, events.getEntityId(0));
+
+		tick();
+		tick();
+		assertFalse(registry.isActive(4L));
+		assertEquals(0, far.current());
+
+		tick();
+		assertEquals(50, outOfRange.current());
+		assertEquals(50, friend.current());
+	}
+
+	/**
+	 * Shots of one tick are summed before the health is lowered, so two
+	 * attackers killing each other both fire.
+	 */
+	@Test
+	void test_SimultaneousShots_AreAppliedTogether() {
+		final Health first = spawnFighter(1L, 1L, 0L);
+		final Health second = spawnFighter(2L, 2L, 5 * UNIT);
+
+		tick();
+		assertEquals(0, first.current());
+		assertEquals(0, second.current());
+		assertEquals(2, combat.getLastTickShots());
+		assertEquals(2, combat.getLastTickDestroyed());
+		assertTrue(!registry.isActive(1L) && !registry.isActive(2L));
+	}
+
+	/**
+	 * Killed entities stay registered until the cleanup step, and only the
+	 * cleanup is structural.
+	 */
+	@Test
+	void test_Destruction_IsDeferredToCleanupStep() {
+		spawnFighter(1L, 1L, 0L);
+		spawnFighter(2L, 2L, 5 * UNIT);
+
+		combat.run();
+		assertTrue(registry.isActive(1L) && registry.isActive(2L));
+		assertEquals(0, events.size());
+
+		cleanup.run();
+		assertEquals(2, combat.getLastTickDestroyed());
+		assertEquals(2, events.size());
+		assertFalse(registry.isActive(1L) || registry.isActive(2L));
+		assertFalse(combat.access().structural());
+		assertTrue(cleanup.access().structural());
+	}
+
+	/**
+	 * Cooldowns count ticks of the world's clock, not runs of the system: a
+	 * second run within the same tick does not fire again.
+	 */
+	@Test
+	void test_Cooldown_FollowsTickClock() {
+		registry.register(1L, dominion.createEntity(new Position(0L, 0L, 0L), new Owner(1L),
+				new Weapon(10 * UNIT, 5, 2)));
+		final Health target = spawnTarget(2L, 2L, 5 * UNIT);
+
+		combat.run();
+		combat.run();
+		assertEquals(45, target.current());
+
+		tickClock.advance();
+		combat.run();
+		assertEquals(45, target.current());
+
+		tickClock.advance();
+		combat.run();
+		assertEquals(40, target.current());
+	}
+
+	/**
+	 * A combat pass followed by its structural cleanup step, then the clock
+	 * moves on like at the end of an engine tick.
+	 */
+	private void tick() {
+		combat.run();
+		cleanup.run();
+		tickClock.advance();
+	}
+
+	private Health spawnTarget(long id, long playerId, long x) {
+		final Health health = new Health(50, 50);
+		registry.register(id, dominion.createEntity(new Position(x, 0L, 0L), new Owner(playerId), health));
+		return health;
+	}
+
+	private Health spawnFighter(long id, long playerId, long x) {
+		final Health health = new Health(40, 40);
+		final Entity entity = dominion.createEntity(new Position(x, 0L, 0L), new Owner(playerId),
+				new Weapon(10 * UNIT, 40, 1), health);
+		registry.register(id, entity);
+		return health;
+	}
+}
@@ -0,0 +1,181 @@
+package com.cosmic.scavengers.system;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.cosmic.scavengers.ecs.commands.MoveEntityCommand;
+import com.cosmic.scavengers.ecs.domain.components.FlowFollower;
+import com.cosmic.scavengers.ecs.domain.components.Movement;
+import com.cosmic.scavengers.ecs.domain.components.Owner;
+import com.cosmic.scavengers.ecs.domain.components.PathRequest;
+import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.ecs.domain.intents.MoveIntent;
+import com.cosmic.scavengers.ecs.events.EcsEventBuffer;
+import com.cosmic.scavengers.ecs.events.EcsEventType;
+import com.cosmic.scavengers.engine.TickClock;
+import com.cosmic.scavengers.gameplay.services.data.MoveRequestData;
+import com.cosmic.scavengers.navigation.NavGrid;
+import com.cosmic.scavengers.registries.EntityRegistry;
+
+import dev.dominion.ecs.api.Dominion;
+import dev.dominion.ecs.api.Entity;
+
+/**
+ * Group orders around a wall of blocked cells, with the navigation systems
+ * registered in front of the movement systems as in a world.
+ */
+class FlowFieldSystemTest {
+	private static final long PLAYER_ID = 3L;
+	// 10 units/s, 1 unit per tick at 10 Hz
+	private static final long SPEED = 100_000L;
+	private static final long UNIT = 10_000L;
+	private static final int GROUP_SIZE = 4;
+
+	private Dominion dominion;
+	private EntityRegistry registry;
+	private NavGrid grid;
+	private TickClock tickClock;
+	private EcsEventBuffer events;
+	private FlowFieldSystem flowFields;
+	private List<Runnable> systems;
+
+	@BeforeEach
+	void setup() {
+		dominion = Dominion.create("flow-fields");
+		registry = new EntityRegistry();
+		// 40 x 40 cells of one unit; a wall at x = 0 from y = -8 to 8
+		grid = new NavGrid(40, UNIT, 0L);
+		for (long y = -8; y <= 8; y++) {
+			grid.addObstacle(0L, y * UNIT, 0L, 1);
+		}
+
+		tickClock = new TickClock(10);
+		events = new EcsEventBuffer(registry);
+		flowFields = new FlowFieldSystem(dominion, grid, tickClock, GROUP_SIZE, 100_000, 4, 5, null, events);
+		systems = List.of(
+				flowFields,
+				new PathfindingSystem(dominion, grid, 100_000, 100_000, 16, null),
+				new IntentProcessorSystem(dominion, null, events),
+				new PathFollowingSystem(dominion, null, events),
+				new MovementSystem(dominion, tickClock, true, null, 0, null, events, null),
+				tickClock::advance);
+	}
+
+	@AfterEach
+	void teardown() {
+		dominion.close();
+	}
+
+	@Test
+	void test_GroupOrder_SharesOneFieldAndArrives() {
+		final List<Entity> units = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			units.add(spawn(i, -5 * UNIT, (i - 5) * UNIT));
+			order(i, 5 * UNIT, 0L);
+		}
+
+		tick();
+		assertEquals(1, flowFields.getFieldCount());
+		for (Entity unit : units) {
+			assertFalse(unit.has(PathRequest.class));
+			assertTrue(unit.has(FlowFollower.class) || unit.has(Movement.class));
+		}
+
+		for (int tick = 0; tick < 100 && units.stream().anyMatch(FlowFieldSystemTest::moving); tick++) {
+			tick();
+		}
+		for (Entity unit : units) {
+			assertFalse(moving(unit));
+			assertEquals(5 * UNIT, unit.get(Position.class).x());
+			assertEquals(0L, unit.get(Position.class).y());
+		}
+	}
+
+	/**
+	 * Every unit that arrives through a flow field was reported as started when
+	 * its order was taken over.
+	 */
+	@Test
+	void test_GroupOrder_ReportsStartBeforeArrival() {
+		for (int i = 0; i < GROUP_SIZE; i++) {
+			spawn(i, -5 * UNIT, (i - 2) * UNIT);
+			order(i, 5 * UNIT, 0L);
+		}
+
+		final Set<Long> started = new HashSet<>();
+		final Set<Long> arrived = new HashSet<>();
+		for (int tick = 0; tick < 100 && arrived.size() < GROUP_SIZE; tick++) {
+			tick();
+			for (int i = 0; i < events.size(); i++) {
+				if (events.getType(i) == EcsEventType.MOVEMENT_STARTED) {
+					started.add(events.getEntityId(i));
+				} else if (events.getType(i) == EcsEventType.MOVEMENT_ARRIVED) {
+					assertTrue(started.contains(events.getEntityId(i)), "Entity " + events.getEntityId(i));
+					arrived.add(events.getEntityId(i));
+				}
+			}
+			if (tick == 0) {
+				assertEquals(GROUP_SIZE, started.size());
+			}
+			events.clear();
+		}
+		assertEquals(GROUP_SIZE, arrived.size());
+	}
+
+	@Test
+	void test_SmallOrder_IsLeftToThePathfinder() {
+		final Entity unit = spawn(1L, -5 * UNIT, 0L);
+		order(1L, 5 * UNIT, 0L);
+
+		flowFields.run();
+
+		assertTrue(unit.has(MoveIntent.class));
+		assertFalse(unit.has(FlowFollower.class));
+		assertEquals(0, flowFields.getFieldCount());
+	}
+
+	@Test
+	void test_UnusedField_IsEvicted() {
+		for (int i = 0; i < GROUP_SIZE; i++) {
+			spawn(i, 5 * UNIT, (i - 2) * UNIT);
+			order(i, 6 * UNIT, 0L);
+		}
+		tick();
+		assertEquals(1, flowFields.getFieldCount());
+
+		// The units see their target at once and stop following; 5 idle ticks later the field goes
+		for (int tick = 0; tick < 10; tick++) {
+			tick();
+		}
+		assertEquals(0, flowFields.getFieldCount());
+	}
+
+	private static boolean moving(Entity unit) {
+		return unit.has(Movement.class) || unit.has(FlowFollower.class);
+	}
+
+	private Entity spawn(long entityId, long x, long y) {
+		final Entity entity = dominion.createEntity(new Position(x, y, 0L), new Owner(PLAYER_ID));
+		registry.register(entityId, entity);
+		return entity;
+	}
+
+	private void order(long entityId, long x, long y) {
+		new MoveEntityCommand(new MoveRequestData(entityId, PLAYER_ID, x, y, 0L, SPEED, 0L, 0L))
+				.execute(dominion, registry);
+	}
+
+	private void tick() {
+		systems.forEach(Runnable::run);
+	}
+}
@@ -0,0 +1,108 @@
+package com.cosmic.scavengers.system;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.cosmic.scavengers.ecs.domain.components.Movement;
+import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.engine.TickClock;
+
+import dev.dominion.ecs.api.Dominion;
+import dev.dominion.ecs.api.Entity;
+
+/**
+ * Checks that the batched {@link MovementSystem} backend, sequential and
+ * chunked in parallel, produces exactly the same fixed-point positions as the
+ * per-entity one.
+ */
+class MovementBatchTest {
+	@Test
+	void test_Batched_IsBitIdenticalToPerEntity() {
+		final TickClock tickClock = new TickClock(10);
+		assertBitIdentical(2_000, 300, dominion -> new MovementSystem(dominion, tickClock, true));
+	}
+
+	/**
+	 * Spans several chunks, including a partial last one, with arrivals removed
+	 * after the parallel phase.
+	 */
+	@Test
+	void test_ParallelChunks_IsBitIdenticalToPerEntity() {
+		final TickClock tickClock = new TickClock(10);
+		final ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			assertBitIdentical(3 * MovementSystem.CHUNK_SIZE + 17, 100,
+					dominion -> new MovementSystem(dominion, tickClock, true, pool, 1, null, null, null));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	private static void assertBitIdentical(int entityCount, int ticks, Function<Dominion, MovementSystem> candidate) {
+		final Dominion perEntityWorld = Dominion.create("per-entity");
+		final Dominion candidateWorld = Dominion.create("candidate");
+		try {
+			final List<Entity> perEntity = spawn(perEntityWorld, entityCount, new SplittableRandom(7));
+			final List<Entity> batched = spawn(candidateWorld, entityCount, new SplittableRandom(7));
+
+			final MovementSystem perEntitySystem = new MovementSystem(perEntityWorld, new TickClock(10), false);
+			final MovementSystem batchedSystem = candidate.apply(candidateWorld);
+
+			int arrivals = 0;
+			for (int tick = 0; tick < ticks; tick++) {
+				perEntitySystem.run();
+				batchedSystem.run();
+
+				for (int i = 0; i < entityCount; i++) {
+					final Position expected = perEntity.get(i).get(Position.class);
+					final Position actual = batched.get(i).get(Position.class);
+					assertEquals(expected.x(), actual.x(), "X of entity " + i + " at tick " + tick);
+					assertEquals(expected.y(), actual.y(), "Y of entity " + i + " at tick " + tick);
+					assertEquals(expected.z(), actual.z(), "Z of entity " + i + " at tick " + tick);
+
+					final boolean moving = perEntity.get(i).has(Movement.class);
+					assertEquals(moving, batched.get(i).has(Movement.class),
+							"Movement of entity " + i + " at tick " + tick);
+					if (!moving && tick == ticks - 1) {
+						arrivals++;
+					}
+				}
+			}
+			// The scenario must exercise both the step and the snap branch
+			assertTrue(arrivals > 0 && arrivals < entityCount, "Arrived entities: " + arrivals);
+		} finally {
+			perEntityWorld.close();
+			candidateWorld.close();
+		}
+	}
+
+	/**
+	 * Spawns entities with mixed-sign coordinates, speeds from crawling to
+	 * overshooting, and some already sitting on their target.
+	 */
+	private static List<Entity> spawn(Dominion dominion, int count, SplittableRandom random) {
+		final List<Entity> entities = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			final Position position = new Position(coordinate(random), coordinate(random), coordinate(random));
+			final Movement movement = i % 50 == 0
+					? new Movement(position.x(), position.y(), position.z(), 10_000L)
+					: new Movement(coordinate(random), coordinate(random), coordinate(random),
+							random.nextLong(1L, 5_000_000L));
+			entities.add(dominion.createEntity(position, movement));
+		}
+		return entities;
+	}
+
+	// Up to +-5000.0 units, Scale4f
+	private static long coordinate(SplittableRandom random) {
+		return random.nextLong(-50_000_000L, 50_000_001L);
+	}
+}
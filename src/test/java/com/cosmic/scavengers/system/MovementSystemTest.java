@@ -1,7 +1,7 @@
 package com.cosmic.scavengers.system;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.Mockito.atLeast;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -11,19 +11,16 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.stream.Stream;
 
-import org.decimal4j.api.Decimal;
-import org.decimal4j.scale.Scale4f;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.cosmic.scavengers.core.utils.DecimalUtils;
 import com.cosmic.scavengers.ecs.domain.components.Movement;
 import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.engine.TickClock;
 import com.cosmic.scavengers.system.MovementSystem.DisplacementVector;
 import com.cosmic.scavengers.system.MovementSystem.DistanceDelta;
 import com.cosmic.scavengers.system.MovementSystem.NormalizedDirection;
@@ -39,7 +36,7 @@ import dev.dominion.ecs.api.Results.With2;
  * <p>
  * This test class exercises internal movement math via reflection and the
  * public run() behavior via a mocked Dominion/Results stream. Tests are written
- * against fixed-point Decimal values (Decimal4j) and assert on the unscaled
+ * against unscaled fixed-point values (Scale4f) and assert on the unscaled
  * values which represent the deterministic fixed-point units used throughout
  * the movement system.
  *
@@ -70,7 +67,7 @@ class MovementSystemTest {
 	@BeforeEach
 	void setup() {
 		MockitoAnnotations.openMocks(this);
-		movementSystem = new MovementSystem(dominion);
+		movementSystem = new MovementSystem(dominion, new TickClock(10), false);
 	}
 
 	// AI Generated Tests (Gemini)
@@ -81,27 +78,27 @@ class MovementSystemTest {
 	 * Scenario: - Start (0,0,0), Target (10,5,2), Speed 1.0
 	 *
 	 * Expectations: - DeltaX equals 10.0, DeltaY equals 5.0, and DeltaZ equals 2.0
-	 * (validated via Decimal equality)
+	 * (validated via unscaled equality)
 	 */
 	@Test
 	void test_CalculateDistanceDelta_3D() {
 		final Position position = new Position(
-				DecimalUtils.fromScaled(0L), 
-				DecimalUtils.fromScaled(0L),
-				DecimalUtils.fromScaled(0L));
+				0L, 
+				0L,
+				0L);
 
 		final Movement movement = new Movement(
-				DecimalUtils.fromScaled(10L),	// Target X
-				DecimalUtils.fromScaled(5L),	// Target Y
-				DecimalUtils.fromScaled(2L), 	// Target Z
-				DecimalUtils.fromScaled(1L));	// Speed
+				100000L,	// Target X
+				50000L,	// Target Y
+				20000L, 	// Target Z
+				10000L);	// Speed
 
 		final Method method = getPrivateMethod("calculateDistanceDelta", Position.class, Movement.class);
 		final DistanceDelta delta = (DistanceDelta) invokeMethod(method, position, movement);
 
-		assertEquals(100000L, delta.deltaX.unscaledValue());
-		assertEquals(50000L, delta.deltaY.unscaledValue());
-		assertEquals(20000L, delta.deltaZ.unscaledValue());
+		assertEquals(100000L, delta.deltaX);
+		assertEquals(50000L, delta.deltaY);
+		assertEquals(20000L, delta.deltaZ);
 	}
 
 	/**
@@ -111,9 +108,9 @@ class MovementSystemTest {
 	@Test
 	void test_CalculateDistanceSquaredUnscaled_3DPythagoras() {
 		final DistanceDelta delta = new DistanceDelta(
-				DecimalUtils.fromScaled(3L), 
-				DecimalUtils.fromScaled(4L),
-				DecimalUtils.fromScaled(12L));
+				30000L, 
+				40000L,
+				120000L);
 
 		final Method method = getPrivateMethod("calculateDistanceSquaredUnscaled", DistanceDelta.class);
 		final long distanceSquaredUnscaled = (long) invokeMethod(method, delta);
@@ -131,9 +128,9 @@ class MovementSystemTest {
 	@Test
 	void test_CalculateNormalizedDirection_3D_Accuracy() {
 		final DistanceDelta delta = new DistanceDelta(
-				DecimalUtils.fromScaled(3L), 
-				DecimalUtils.fromScaled(4L),
-				DecimalUtils.fromScaled(12L));
+				30000L, 
+				40000L,
+				120000L);
 
 		// Total distance is sqrt(1.69) = 1.3 in decimals?
 		// No, sqrt(1690000) = 1300. (1300 units is 0.13)
@@ -155,40 +152,41 @@ class MovementSystemTest {
 	}
 
 	/**
-	 * Tests movement for a single tick.
+	 * Tests movement for a single tick. The Position component is updated in
+	 * place, so no component is added to or removed from the entity.
 	 */
 	@Test
 	void test_Whole_3DMovement_SingleTick() {
 		final Position start = new Position(
-				DecimalUtils.fromScaled(0L), 
-				DecimalUtils.fromScaled(0L),
-				DecimalUtils.fromScaled(0L));
+				0L, 
+				0L,
+				0L);
 		
 		// Target 10 units away on X. Speed 1 unit/sec.
 		final Movement move = new Movement(
-				DecimalUtils.fromScaled(10L), 
-				DecimalUtils.fromScaled(0L),
-				DecimalUtils.fromScaled(0L), 
-				DecimalUtils.fromScaled(1L));
+				100000L, 
+				0L,
+				0L, 
+				10000L);
 
 		final Entity mockEntity = mock(Entity.class);
 		when(mockEntity.getName()).thenReturn("TestEntity3D");
 
-		final With2<Position, Movement> mockWith2 = new With2<>(start, move, mockEntity);
+		final With2<Movement, Position> mockWith2 = new With2<>(move, start, mockEntity);
 		@SuppressWarnings("unchecked")
-		final Results<With2<Position, Movement>> mockResults = mock(Results.class);
+		final Results<With2<Movement, Position>> mockResults = mock(Results.class);
 		when(mockResults.stream()).thenReturn(Stream.of(mockWith2));
-		when(dominion.findEntitiesWith(Position.class, Movement.class)).thenReturn((Results) mockResults);
+		when(dominion.findEntitiesWith(Movement.class, Position.class)).thenReturn(mockResults);
 
 		movementSystem.run();
 
-		final ArgumentCaptor<Position> positionCaptor = ArgumentCaptor.forClass(Position.class);
-		verify(mockEntity).add(positionCaptor.capture());
-
 		// Tick is 0.1s, Speed is 1.0 -> Move 0.1 units (1000L unscaled)
-		assertEquals(1000L, positionCaptor.getValue().x().unscaledValue());
-		assertEquals(0L, positionCaptor.getValue().y().unscaledValue());
-		assertEquals(0L, positionCaptor.getValue().z().unscaledValue());
+		assertEquals(1000L, start.x());
+		assertEquals(0L, start.y());
+		assertEquals(0L, start.z());
+
+		verify(mockEntity, never()).add(any());
+		verify(mockEntity, never()).remove(any());
 	}
 
 	// My Tests
@@ -199,22 +197,22 @@ class MovementSystemTest {
 	 * Scenario: - Start (0,0, 0), Target (10,5, 2), Speed 1.0
 	 *
 	 * Expectations: - DeltaX equals 10.0, DeltaY equals 5.0 and DeltaZ equals 2.0
-	 * (validated via Decimal equality)
+	 * (validated via unscaled equality)
 	 */
 	@Test
 	void test_CalculateDistanceDelta_PositiveVector() {
 		// Arrange: Start (0,0,0) -> Target (10, 5, 2)
-		final Decimal<Scale4f> startX = DecimalUtils.fromScaled(0L);
-		final Decimal<Scale4f> startY = DecimalUtils.fromScaled(0L);
-		final Decimal<Scale4f> startZ = DecimalUtils.fromScaled(0L);
+		final long startX = 0L;
+		final long startY = 0L;
+		final long startZ = 0L;
 
 		final Position position = new Position(startX, startY, startZ);
 
-		final Decimal<Scale4f> targetX = DecimalUtils.fromScaled(10L);
-		final Decimal<Scale4f> targetY = DecimalUtils.fromScaled(5L);
-		final Decimal<Scale4f> targetZ = DecimalUtils.fromScaled(2L);
+		final long targetX = 100000L;
+		final long targetY = 50000L;
+		final long targetZ = 20000L;
 
-		final Decimal<Scale4f> speed = DecimalUtils.fromScaled(1L);
+		final long speed = 10000L;
 
 		final Movement movement = new Movement(targetX, targetY, targetZ, speed);
 
@@ -224,9 +222,9 @@ class MovementSystemTest {
 
 		// We'll use unscaled values for all three to ensure strict deterministic
 		// equality
-		assertEquals(100000L, distanceDelta.deltaX.unscaledValue(), "DeltaX should be 10.0 (100000L).");
-		assertEquals(50000L, distanceDelta.deltaY.unscaledValue(), "DeltaY should be 5.0 (50000L).");
-		assertEquals(20000L, distanceDelta.deltaZ.unscaledValue(), "DeltaZ should be 2.0 (20000L).");
+		assertEquals(100000L, distanceDelta.deltaX, "DeltaX should be 10.0 (100000L).");
+		assertEquals(50000L, distanceDelta.deltaY, "DeltaY should be 5.0 (50000L).");
+		assertEquals(20000L, distanceDelta.deltaZ, "DeltaZ should be 2.0 (20000L).");
 	}
 
 	/**
@@ -239,9 +237,9 @@ class MovementSystemTest {
 	void test_CalculateDistanceSquaredUnscaled_Pythagoras_3D() {
 		// Arrange: Use a 3-4-12 vector
 		final DistanceDelta distanceDelta = new MovementSystem.DistanceDelta(
-				DecimalUtils.fromScaled(3L),
-				DecimalUtils.fromScaled(4L), 
-				DecimalUtils.fromScaled(12L));
+				30000L,
+				40000L, 
+				120000L);
 
 		// Act: Use your helper methods
 		final Method method = getPrivateMethod("calculateDistanceSquaredUnscaled", DistanceDelta.class);
@@ -258,7 +256,8 @@ class MovementSystemTest {
 
 	/**
 	 * Tests that handleSnapCondition places the entity exactly at the target
-	 * position (3D) and removes the Movement component from the entity.
+	 * position (3D) and removes the Movement component from the entity, keeping
+	 * the existing Position component.
 	 */
 	@Test
 	void test_HandleSnapCondition_PositionAndRemoval() {
@@ -266,29 +265,30 @@ class MovementSystemTest {
 		final Entity mockEntity = mock(Entity.class);
 		when(mockEntity.getName()).thenReturn("TestEntity");
 
+		final Position position = new Position(
+				29990L, 
+				39990L,
+				119990L);
+
 		// Target: (3, 4, 12) | Speed: 14.0
 		final Movement movement = new Movement(
-				DecimalUtils.fromScaled(3L), 
-				DecimalUtils.fromScaled(4L),
-				DecimalUtils.fromScaled(12L), 
-				DecimalUtils.fromScaled(14L));
+				30000L, 
+				40000L,
+				120000L, 
+				140000L);
 
 		// Act: Use your helpers to invoke the private snap logic
-		final Method method = getPrivateMethod("handleSnapCondition", Entity.class, Movement.class);
-		invokeMethod(method, mockEntity, movement);
+		final Method method = getPrivateMethod("handleSnapCondition", Entity.class, Movement.class, Position.class);
+		invokeMethod(method, mockEntity, movement, position);
 
 		// Assert: 1. Movement component must be removed
-		verify(mockEntity).removeType(Movement.class);
-
-		// Assert: 2. Position must be updated to match the target exactly
-		final ArgumentCaptor<Position> positionCaptor = ArgumentCaptor.forClass(Position.class);
-		verify(mockEntity, atLeast(1)).add(positionCaptor.capture());
+		verify(mockEntity).remove(movement);
 
-		final Position finalPosition = positionCaptor.getValue();
-
-		assertEquals(movement.targetX(), finalPosition.x(), "X must match target X.");
-		assertEquals(movement.targetY(), finalPosition.y(), "Y must match target Y.");
-		assertEquals(movement.targetZ(), finalPosition.z(), "Z must match target Z.");
+		// Assert: 2. Position must be updated in place to match the target exactly
+		verify(mockEntity, never()).add(any());
+		assertEquals(movement.targetX(), position.x(), "X must match target X.");
+		assertEquals(movement.targetY(), position.y(), "Y must match target Y.");
+		assertEquals(movement.targetZ(), position.z(), "Z must match target Z.");
 	}
 
 	/**
@@ -298,9 +298,9 @@ class MovementSystemTest {
 	@Test
 	void test_CalculateNormalizedDirection_3D() {
 		// Arrange: 3-4-12 triangle
-		final Decimal<Scale4f> deltaX = DecimalUtils.fromScaled(3L);
-		final Decimal<Scale4f> deltaY = DecimalUtils.fromScaled(4L);
-		final Decimal<Scale4f> deltaZ = DecimalUtils.fromScaled(12L);
+		final long deltaX = 30000L;
+		final long deltaY = 40000L;
+		final long deltaZ = 120000L;
 
 		final DistanceDelta distanceDelta = new DistanceDelta(deltaX, deltaY, deltaZ);
 
@@ -352,16 +352,16 @@ class MovementSystemTest {
 	}
 
 	/**
-	 * Tests calculateNewPosition correctly adds an unscaled displacement to the
-	 * current position in 3D and returns a new {@link Position}.
+	 * Tests applyDisplacement correctly adds an unscaled displacement to the
+	 * current position in 3D, mutating the given {@link Position}.
 	 */
 	@Test
-	void test_CalculateNewPosition_Addition() {
+	void test_ApplyDisplacement_Addition() {
 		// Arrange: Start Position (1.0, 5.0, 10.0)
 		final Position position = new Position(
-				DecimalUtils.fromScaled(1L), 
-				DecimalUtils.fromScaled(5L),
-				DecimalUtils.fromScaled(10L));
+				10000L, 
+				50000L,
+				100000L);
 
 		// Displacement Vector: (0.5, 0.2, -0.3) -> Raw unscaled: 5000L, 2000L, -3000L
 		final long dispXUnscaled = 5000L;
@@ -371,18 +371,18 @@ class MovementSystemTest {
 				dispZUnscaled);
 
 		// Act: Use your existing helper methods
-		final Method method = getPrivateMethod("calculateNewPosition", Position.class, DisplacementVector.class);
-		final Position newPosition = (Position) invokeMethod(method, position, displacementVector);
+		final Method method = getPrivateMethod("applyDisplacement", Position.class, DisplacementVector.class);
+		invokeMethod(method, position, displacementVector);
 
 		// Assert
 		// Expected X: 1.0 + 0.5 = 1.5 (15000L)
-		assertEquals(15000L, newPosition.x().unscaledValue(), "New X position should be 1.5 (15000L).");
+		assertEquals(15000L, position.x(), "New X position should be 1.5 (15000L).");
 
 		// Expected Y: 5.0 + 0.2 = 5.2 (52000L)
-		assertEquals(52000L, newPosition.y().unscaledValue(), "New Y position should be 5.2 (52000L).");
+		assertEquals(52000L, position.y(), "New Y position should be 5.2 (52000L).");
 
 		// Expected Z: 10.0 - 0.3 = 9.7 (97000L)
-		assertEquals(97000L, newPosition.z().unscaledValue(), "New Z position should be 9.7 (97000L).");
+		assertEquals(97000L, position.z(), "New Z position should be 9.7 (97000L).");
 	}
 
 	/**
@@ -397,42 +397,37 @@ class MovementSystemTest {
 	void test_Whole_3DMovementTowardsTarget() {
 		// Arrange: Start at origin
 		final Position startPos = new Position(
-				DecimalUtils.fromScaled(0L), 
-				DecimalUtils.fromScaled(0L),
-				DecimalUtils.fromScaled(0L));
+				0L, 
+				0L,
+				0L);
 
 		// Target (10,0,0) - Keeping it simple on X-axis for clear assertion math
 		final Movement move = new Movement(
-				DecimalUtils.fromScaled(10L), 
-				DecimalUtils.fromScaled(0L),
-				DecimalUtils.fromScaled(0L), 
-				DecimalUtils.fromScaled(1L));
+				100000L, 
+				0L,
+				0L, 
+				10000L);
 
 		final Entity mockEntity = mock(Entity.class);
 		when(mockEntity.getName()).thenReturn("SpaceExplorer");
 
 		// Dominion Mocking
-		final With2<Position, Movement> mockWith2 = new With2<>(startPos, move, mockEntity);
-		final Results<With2<Position, Movement>> mockResults = mock(Results.class);
+		final With2<Movement, Position> mockWith2 = new With2<>(move, startPos, mockEntity);
+		final Results<With2<Movement, Position>> mockResults = mock(Results.class);
 		when(mockResults.stream()).thenReturn(Stream.of(mockWith2));
-		when(dominion.findEntitiesWith(Position.class, Movement.class)).thenReturn((Results) mockResults);
+		when(dominion.findEntitiesWith(Movement.class, Position.class)).thenReturn(mockResults);
 
 		// Act
 		movementSystem.run();
 
-		// Assert
-		final ArgumentCaptor<Position> positionCaptor = ArgumentCaptor.forClass(Position.class);
-		verify(mockEntity).add(positionCaptor.capture());
-
-		final Position finalPosition = positionCaptor.getValue();
-
+		// Assert: the same Position instance was advanced
 		// With speed 1.0 and tick 0.1s, movement is exactly 0.1 units (1000L)
-		assertEquals(1000L, finalPosition.x().unscaledValue(), "X should advance by 0.1 units.");
-		assertEquals(0L, finalPosition.y().unscaledValue(), "Y should remain 0.");
-		assertEquals(0L, finalPosition.z().unscaledValue(), "Z should remain 0.");
+		assertEquals(1000L, startPos.x(), "X should advance by 0.1 units.");
+		assertEquals(0L, startPos.y(), "Y should remain 0.");
+		assertEquals(0L, startPos.z(), "Z should remain 0.");
 
 		// Ensure we haven't reached target yet, so Movement remains
-		verify(mockEntity, never()).removeType(Movement.class);
+		verify(mockEntity, never()).remove(move);
 	}
 
 	// --- HELPER METHODS ---
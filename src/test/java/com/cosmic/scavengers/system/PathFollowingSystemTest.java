@@ -0,0 +1,113 @@
+package com.cosmic.scavengers.system;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.cosmic.scavengers.ecs.commands.MoveEntityCommand;
+import com.cosmic.scavengers.ecs.commands.MoveEntityPathCommand;
+import com.cosmic.scavengers.ecs.domain.components.Movement;
+import com.cosmic.scavengers.ecs.domain.components.Owner;
+import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.ecs.domain.components.Waypoints;
+import com.cosmic.scavengers.engine.TickClock;
+import com.cosmic.scavengers.gameplay.services.data.MovePathRequestData;
+import com.cosmic.scavengers.gameplay.services.data.MoveRequestData;
+import com.cosmic.scavengers.registries.EntityRegistry;
+
+import dev.dominion.ecs.api.Dominion;
+import dev.dominion.ecs.api.Entity;
+
+/**
+ * Runs path commands through the intent, path-following and movement systems
+ * of a real Dominion, in the order the world registers them.
+ */
+class PathFollowingSystemTest {
+	private static final long PLAYER_ID = 3L;
+	private static final long ENTITY_ID = 11L;
+	// 10 units/s, 1 unit per tick at 10 Hz
+	private static final long SPEED = 100_000L;
+
+	private Dominion dominion;
+	private EntityRegistry registry;
+	private Entity entity;
+	private List<Runnable> systems;
+
+	@BeforeEach
+	void setup() {
+		dominion = Dominion.create("paths");
+		registry = new EntityRegistry();
+		entity = dominion.createEntity(new Position(0L, 0L, 0L), new Owner(PLAYER_ID));
+		registry.register(ENTITY_ID, entity);
+
+		final TickClock tickClock = new TickClock(10);
+		systems = List.of(
+				new IntentProcessorSystem(dominion),
+				new PathFollowingSystem(dominion, null, null),
+				new MovementSystem(dominion, tickClock, true));
+	}
+
+	@AfterEach
+	void teardown() {
+		dominion.close();
+	}
+
+	/**
+	 * An L-shaped path of 2 + 3 units takes one tick per unit and ends with
+	 * neither Movement nor Waypoints.
+	 */
+	@Test
+	void test_Path_VisitsEveryWaypointThenStops() {
+		submitPath(20_000L, 0L, 0L, 20_000L, 30_000L, 0L);
+
+		tick();
+		assertPosition(10_000L, 0L);
+		tick();
+		assertPosition(20_000L, 0L);
+		tick();
+		assertPosition(20_000L, 10_000L);
+		tick();
+		tick();
+		tick();
+		assertPosition(20_000L, 30_000L);
+
+		tick();
+		assertFalse(entity.has(Movement.class));
+		assertFalse(entity.has(Waypoints.class));
+	}
+
+	@Test
+	void test_MoveOrder_CancelsPath() {
+		submitPath(50_000L, 0L, 0L, 50_000L, 50_000L, 0L);
+		tick();
+		assertTrue(entity.has(Waypoints.class));
+
+		new MoveEntityCommand(new MoveRequestData(ENTITY_ID, PLAYER_ID, 10_000L, 0L, 0L, SPEED, 0L, 0L))
+				.execute(dominion, registry);
+		tick();
+
+		assertFalse(entity.has(Waypoints.class));
+		assertPosition(10_000L, 0L);
+	}
+
+	private void submitPath(long... waypoints) {
+		new MoveEntityPathCommand(new MovePathRequestData(ENTITY_ID, PLAYER_ID, waypoints, SPEED, 0L, 0L))
+				.execute(dominion, registry);
+	}
+
+	private void tick() {
+		systems.forEach(Runnable::run);
+	}
+
+	private void assertPosition(long x, long y) {
+		final Position position = entity.get(Position.class);
+		assertEquals(x, position.x());
+		assertEquals(y, position.y());
+	}
+}
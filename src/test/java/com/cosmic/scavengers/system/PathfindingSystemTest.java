@@ -0,0 +1,155 @@
+package com.cosmic.scavengers.system;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.cosmic.scavengers.ecs.commands.MoveEntityCommand;
+import com.cosmic.scavengers.ecs.domain.components.Movement;
+import com.cosmic.scavengers.ecs.domain.components.Owner;
+import com.cosmic.scavengers.ecs.domain.components.PathRequest;
+import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.ecs.domain.components.Waypoints;
+import com.cosmic.scavengers.ecs.domain.intents.PathIntent;
+import com.cosmic.scavengers.engine.TickClock;
+import com.cosmic.scavengers.gameplay.services.data.MoveRequestData;
+import com.cosmic.scavengers.navigation.NavGrid;
+import com.cosmic.scavengers.registries.EntityRegistry;
+
+import dev.dominion.ecs.api.Dominion;
+import dev.dominion.ecs.api.Entity;
+
+/**
+ * Routes move orders around a wall of blocked cells with the pathfinder
+ * registered in front of the movement systems, as in a world.
+ */
+class PathfindingSystemTest {
+	private static final long PLAYER_ID = 3L;
+	// 10 units/s, 1 unit per tick at 10 Hz
+	private static final long SPEED = 100_000L;
+	private static final long UNIT = 10_000L;
+
+	private Dominion dominion;
+	private EntityRegistry registry;
+	private NavGrid grid;
+
+	@BeforeEach
+	void setup() {
+		dominion = Dominion.create("pathfinding");
+		registry = new EntityRegistry();
+		// 40 x 40 cells of one unit; a wall at x = 0 from y = -8 to 8
+		grid = new NavGrid(40, UNIT, 0L);
+		for (long y = -8; y <= 8; y++) {
+			grid.addObstacle(0L, y * UNIT, 0L, 1);
+		}
+	}
+
+	@AfterEach
+	void teardown() {
+		dominion.close();
+	}
+
+	@Test
+	void test_BlockedOrder_WalksAroundWall() {
+		final Entity unit = spawn(1L, -5 * UNIT, 0L);
+		final List<Runnable> systems = systems(new PathfindingSystem(dominion, grid, 10_000, 10_000, 16, null));
+
+		order(1L, 5 * UNIT, 0L);
+		tick(systems);
+		final Waypoints waypoints = unit.get(Waypoints.class);
+		assertTrue(waypoints != null && waypoints.remaining() > 0, "Expected a detour through waypoints");
+
+		long maxAbsY = 0;
+		for (int tick = 0; tick < 100 && (unit.has(Movement.class) || unit.has(Waypoints.class)); tick++) {
+			tick(systems);
+			maxAbsY = Math.max(maxAbsY, Math.abs(unit.get(Position.class).y()));
+		}
+		assertFalse(unit.has(Movement.class));
+		assertFalse(unit.has(Waypoints.class));
+		assertEquals(5 * UNIT, unit.get(Position.class).x());
+		assertEquals(0L, unit.get(Position.class).y());
+		assertTrue(maxAbsY > 8 * UNIT, "Unit must go around the wall, got |y| <= " + maxAbsY);
+	}
+
+	@Test
+	void test_ClearOrder_StaysStraight() {
+		final Entity unit = spawn(1L, -5 * UNIT, 12 * UNIT);
+		final List<Runnable> systems = systems(new PathfindingSystem(dominion, grid, 10_000, 10_000, 16, null));
+
+		order(1L, 5 * UNIT, 12 * UNIT);
+		tick(systems);
+
+		assertTrue(unit.has(Movement.class));
+		assertFalse(unit.has(Waypoints.class));
+		assertEquals(12 * UNIT, unit.get(Movement.class).targetY());
+	}
+
+	/**
+	 * A budget of 3 expansions per tick spreads the search over several ticks,
+	 * during which the unit waits.
+	 */
+	@Test
+	void test_Budget_SlicesSearchAcrossTicks() {
+		final Entity unit = spawn(1L, -5 * UNIT, 0L);
+		final PathfindingSystem pathfinding = new PathfindingSystem(dominion, grid, 3, 10_000, 16, null);
+
+		order(1L, 5 * UNIT, 0L);
+		int ticks = 0;
+		do {
+			pathfinding.run();
+			ticks++;
+			assertTrue(pathfinding.getLastTickExpansions() <= 3);
+		} while (!unit.has(PathIntent.class) && ticks < 1_000);
+
+		assertTrue(ticks > 1);
+		assertTrue(unit.has(PathIntent.class));
+		assertFalse(unit.has(PathRequest.class));
+		assertEquals(1L, pathfinding.getPathsCompleted());
+	}
+
+	@Test
+	void test_SameStartAndGoal_SharesCachedPath() {
+		final Entity first = spawn(1L, -5 * UNIT, 0L);
+		final Entity second = spawn(2L, -5 * UNIT, 0L);
+		final PathfindingSystem pathfinding = new PathfindingSystem(dominion, grid, 10_000, 10_000, 16, null);
+
+		order(1L, 5 * UNIT, 0L);
+		pathfinding.run();
+		assertTrue(first.has(PathIntent.class));
+
+		order(2L, 5 * UNIT, 0L);
+		pathfinding.run();
+		assertTrue(second.has(PathIntent.class));
+		assertEquals(0, pathfinding.getLastTickExpansions());
+		assertEquals(1L, pathfinding.getCache().getHits());
+	}
+
+	private List<Runnable> systems(PathfindingSystem pathfinding) {
+		return List.of(
+				pathfinding,
+				new IntentProcessorSystem(dominion),
+				new PathFollowingSystem(dominion, null, null),
+				new MovementSystem(dominion, new TickClock(10), true));
+	}
+
+	private Entity spawn(long entityId, long x, long y) {
+		final Entity entity = dominion.createEntity(new Position(x, y, 0L), new Owner(PLAYER_ID));
+		registry.register(entityId, entity);
+		return entity;
+	}
+
+	private void order(long entityId, long x, long y) {
+		new MoveEntityCommand(new MoveRequestData(entityId, PLAYER_ID, x, y, 0L, SPEED, 0L, 0L))
+				.execute(dominion, registry);
+	}
+
+	private static void tick(List<Runnable> systems) {
+		systems.forEach(Runnable::run);
+	}
+}
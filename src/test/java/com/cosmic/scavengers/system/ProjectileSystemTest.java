@@ -0,0 +1,170 @@
+package com.cosmic.scavengers.system;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.cosmic.scavengers.ecs.domain.components.Health;
+import com.cosmic.scavengers.ecs.domain.components.Owner;
+import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.ecs.domain.components.Weapon;
+import com.cosmic.scavengers.engine.TickClock;
+import com.cosmic.scavengers.projectile.ProjectileStore;
+import com.cosmic.scavengers.registries.EntityRegistry;
+import com.cosmic.scavengers.spatial.SpatialHashGrid;
+
+import dev.dominion.ecs.api.Dominion;
+
+/**
+ * Tests for {@link ProjectileSystem}.
+ */
+class ProjectileSystemTest {
+	private static final long UNIT = 10_000L;
+
+	private Dominion dominion;
+	private EntityRegistry registry;
+	private ProjectileStore store;
+	private TickClock tickClock;
+	private CombatSystem combat;
+	private ProjectileSystem projectiles;
+
+	@BeforeEach
+	void setUp() {
+		dominion = Dominion.create("projectiles");
+		registry = new EntityRegistry();
+		final SpatialHashGrid grid = new SpatialHashGrid(10 * UNIT);
+		registry.addSlotListener(grid);
+		store = new ProjectileStore();
+		tickClock = new TickClock(10);
+		combat = new CombatSystem(dominion, registry, grid, tickClock, 1, null, store);
+		registry.addSlotListener(combat);
+		projectiles = new ProjectileSystem(store, grid, combat, UNIT);
+	}
+
+	@AfterEach
+	void tearDown() {
+		dominion.close();
+	}
+
+	/**
+	 * A slug crossing 40 units in one tick passes a friendly unit and hits the
+	 * hostile one behind it, half a unit off its path.
+	 */
+	@Test
+	void test_FastProjectile_HitsFirstHostileAlongItsPath() {
+		final Health friend = spawnTarget(1L, 1L, 10 * UNIT, 0L);
+		final Health enemy = spawnTarget(2L, 2L, 20 * UNIT, UNIT / 2);
+		final Health behind = spawnTarget(3L, 2L, 30 * UNIT, 0L);
+
+		store.spawn(0L, 0L, 40 * UNIT, 0L, 1L, 30, 5);
+		projectiles.run();
+		combat.run();
+
+		assertEquals(1, projectiles.getLastTickHits());
+		assertEquals(0, store.size());
+		assertEquals(20, enemy.current());
+		assertEquals(50, friend.current());
+		assertEquals(50, behind.current());
+	}
+
+	/**
+	 * A crowd of friendly units and a pile of hostiles beyond it, more than the
+	 * initial candidate buffer each, do not hide the first hostile on the path.
+	 */
+	@Test
+	void test_CrowdedPath_StillHitsFirstHostile() {
+		for (long id = 0; id < 100; id++) {
+			spawnTarget(id, 1L, 10 * UNIT, (id % 10) * UNIT / 10);
+		}
+		for (long id = 100; id < 200; id++) {
+			spawnTarget(id, 2L, 30 * UNIT, 0L);
+		}
+		final Health first = spawnTarget(200L, 2L, 20 * UNIT, 0L);
+
+		store.spawn(0L, 0L, 40 * UNIT, 0L, 1L, 30, 5);
+		projectiles.run();
+		combat.run();
+
+		assertEquals(1, projectiles.getLastTickHits());
+		assertEquals(20, first.current());
+	}
+
+	@Test
+	void test_ProjectileThatHitsNothing_Expires() {
+		store.spawn(0L, 0L, 0L, 40 * UNIT, 1L, 30, 2);
+		store.spawn(0L, 0L, 0L, -40 * UNIT, 1L, 30, 3);
+
+		projectiles.run();
+		assertEquals(2, store.size());
+		projectiles.run();
+		assertEquals(1, projectiles.getLastTickExpired());
+		assertEquals(1, store.size());
+		assertEquals(-80 * UNIT, store.getY(0));
+	}
+
+	/**
+	 * A weapon with a projectile speed fires a projectile, which destroys the
+	 * target on arrival.
+	 */
+	@Test
+	void test_ProjectileWeapon_FiresAndDestroysTarget() {
+		registry.register(1L, dominion.createEntity(new Position(0L, 0L, 0L), new Owner(1L),
+				new Weapon(30 * UNIT, 50, 10, 5 * UNIT)));
+		final Health enemy = spawnTarget(2L, 2L, 20 * UNIT, 0L);
+
+		projectiles.run();
+		combat.run();
+		assertEquals(1, combat.getLastTickProjectiles());
+		assertEquals(1, store.size());
+		assertEquals(50, enemy.current());
+
+		for (int tick = 0; tick < 4; tick++) {
+			tickClock.advance();
+			projectiles.run();
+			combat.run();
+			combat.removeDestroyed();
+		}
+		assertEquals(0, enemy.current());
+		assertFalse(registry.isActive(2L));
+		assertEquals(0, store.size());
+	}
+
+	/**
+	 * Weapons faster than the store allows fire at the store's limit in every
+	 * direction, including where rounding the direction overshoots it.
+	 */
+	@Test
+	void test_FastestWeapon_FiresWithinVelocityLimit() {
+		final int pairs = 360;
+		for (int i = 0; i < pairs; i++) {
+			final long baseX = i * 10_000 * UNIT;
+			final double angle = Math.toRadians(i);
+			registry.register(2L * i, dominion.createEntity(new Position(baseX, 0L, 0L), new Owner(1L),
+					new Weapon(60 * UNIT, 1, 10, Long.MAX_VALUE)));
+			spawnTarget(2L * i + 1, 2L, baseX + Math.round(50 * UNIT * Math.cos(angle)),
+					Math.round(50 * UNIT * Math.sin(angle)));
+		}
+		// At this offset the rounded direction has an x component of 1.0025
+		final long baseX = pairs * 10_000 * UNIT;
+		registry.register(2L * pairs, dominion.createEntity(new Position(baseX, 0L, 0L), new Owner(1L),
+				new Weapon(60 * UNIT, 1, 10, Long.MAX_VALUE)));
+		spawnTarget(2L * pairs + 1, 2L, baseX - 802L, -15L);
+
+		combat.run();
+		assertEquals(pairs + 1, store.size());
+		for (int i = 0; i < store.size(); i++) {
+			assertTrue(Math.abs(store.getVelocityX(i)) <= ProjectileStore.MAX_VELOCITY);
+			assertTrue(Math.abs(store.getVelocityY(i)) <= ProjectileStore.MAX_VELOCITY);
+		}
+	}
+
+	private Health spawnTarget(long id, long playerId, long x, long y) {
+		final Health health = new Health(50, 50);
+		registry.register(id, dominion.createEntity(new Position(x, y, 0L), new Owner(playerId), health));
+		return health;
+	}
+}
@@ -0,0 +1,107 @@
+package com.cosmic.scavengers.system;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.ecs.domain.tags.StaticTag;
+import com.cosmic.scavengers.registries.EntityRegistry;
+import com.cosmic.scavengers.spatial.SpatialHashGrid;
+
+import dev.dominion.ecs.api.Dominion;
+import dev.dominion.ecs.api.Entity;
+
+/**
+ * Tests for {@link SeparationSystem}.
+ */
+class SeparationSystemTest {
+	private static final long RADIUS = 10_000L;
+	private static final int UNITS = 20;
+
+	/**
+	 * Units stacked on one coordinate end up apart, with the same result in two
+	 * independent worlds.
+	 */
+	@Test
+	void test_StackedUnits_SpreadDeterministically() {
+		final long[] first = separateStack(100);
+		final long[] second = separateStack(100);
+		assertArrayEquals(first, second);
+
+		for (int i = 0; i < UNITS; i++) {
+			for (int j = i + 1; j < UNITS; j++) {
+				final long dx = first[2 * i] - first[2 * j];
+				final long dy = first[2 * i + 1] - first[2 * j + 1];
+				assertTrue(dx * dx + dy * dy >= RADIUS * RADIUS / 4, "Units " + i + " and " + j + " still overlap");
+			}
+		}
+	}
+
+	@Test
+	void test_StaticEntities_AreNotPushed_And_BudgetIsRespected() {
+		final Dominion dominion = Dominion.create("separation");
+		try {
+			final EntityRegistry registry = new EntityRegistry();
+			final SpatialHashGrid grid = new SpatialHashGrid(10 * RADIUS);
+			registry.addSlotListener(grid);
+
+			final Position station = new Position(0L, 0L, 0L);
+			registry.register(1L, dominion.createEntity(station, new StaticTag()));
+			final Position[] units = new Position[UNITS];
+			for (int i = 0; i < UNITS; i++) {
+				units[i] = new Position(0L, 0L, 0L);
+				registry.register(100L + i, dominion.createEntity(units[i]));
+			}
+
+			final SeparationSystem system = new SeparationSystem(registry, grid, RADIUS, 5, 8, null);
+			system.run();
+
+			int moved = 0;
+			for (Position unit : units) {
+				if (unit.x() != 0L || unit.y() != 0L) {
+					moved++;
+				}
+			}
+			assertTrue(moved > 0 && moved <= 5, "Moved " + moved + " units with a budget of 5");
+			assertEquals(0L, station.x());
+			assertEquals(0L, station.y());
+		} finally {
+			dominion.close();
+		}
+	}
+
+	/**
+	 * @return Final x/y of every unit, interleaved.
+	 */
+	private static long[] separateStack(int ticks) {
+		final Dominion dominion = Dominion.create("separation");
+		try {
+			final EntityRegistry registry = new EntityRegistry();
+			final SpatialHashGrid grid = new SpatialHashGrid(10 * RADIUS);
+			registry.addSlotListener(grid);
+			final Entity[] entities = new Entity[UNITS];
+			for (int i = 0; i < UNITS; i++) {
+				entities[i] = dominion.createEntity(new Position(50_000L, -50_000L, 0L));
+				registry.register(100L + i, entities[i]);
+			}
+
+			final SeparationSystem system = new SeparationSystem(registry, grid, RADIUS, UNITS, 16, null);
+			for (int tick = 0; tick < ticks; tick++) {
+				system.run();
+			}
+
+			final long[] positions = new long[2 * UNITS];
+			for (int i = 0; i < UNITS; i++) {
+				final Position position = entities[i].get(Position.class);
+				positions[2 * i] = position.x();
+				positions[2 * i + 1] = position.y();
+			}
+			return positions;
+		} finally {
+			dominion.close();
+		}
+	}
+}
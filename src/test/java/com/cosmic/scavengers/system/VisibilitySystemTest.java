@@ -0,0 +1,150 @@
+package com.cosmic.scavengers.system;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.cosmic.scavengers.ecs.domain.components.Owner;
+import com.cosmic.scavengers.ecs.domain.components.Position;
+import com.cosmic.scavengers.ecs.domain.components.Vision;
+import com.cosmic.scavengers.ecs.tracking.ChangedEntityTracker;
+import com.cosmic.scavengers.engine.TickClock;
+import com.cosmic.scavengers.engine.snapshot.WorldSnapshotPublisher;
+import com.cosmic.scavengers.registries.EntityRegistry;
+
+import dev.dominion.ecs.api.Dominion;
+import dev.dominion.ecs.api.Entity;
+
+/**
+ * Tests for {@link VisibilitySystem}.
+ */
+class VisibilitySystemTest {
+	private static final long UNIT = 10_000L;
+	private static final long SCOUT = 1L;
+	private static final long ENEMY = 2L;
+
+	private Dominion dominion;
+	private EntityRegistry registry;
+	private ChangedEntityTracker changes;
+	private VisibilitySystem visibility;
+	private VisibilityMarkSystem marks;
+
+	@BeforeEach
+	void setUp() {
+		dominion = Dominion.create("visibility");
+		registry = new EntityRegistry();
+		changes = new ChangedEntityTracker();
+		// 100 x 100 cells of one unit, default vision of 20 units
+		visibility = new VisibilitySystem(registry, new TickClock(10), 100, UNIT, 20 * UNIT, 4, changes);
+		marks = new VisibilityMarkSystem(visibility);
+		registry.addSlotListener(visibility);
+	}
+
+	@AfterEach
+	void tearDown() {
+		dominion.close();
+	}
+
+	@Test
+	void test_UnitsInRange_AreVisible_OwnUnitsAlways() {
+		final Entity scout = spawn(1L, SCOUT, 0L, 0L);
+		final Entity near = spawn(2L, ENEMY, 15 * UNIT, 0L);
+		final Entity far = spawn(3L, ENEMY, 40 * UNIT, 0L);
+		visibility.run();
+
+		assertTrue(visibility.isVisibleTo(SCOUT, scout));
+		assertTrue(visibility.isVisibleTo(SCOUT, near));
+		assertFalse(visibility.isVisibleTo(SCOUT, far));
+		assertTrue(visibility.isVisibleTo(ENEMY, far));
+		assertTrue(visibility.isVisibleTo(ENEMY, scout), "The enemy's own vision reaches the scout");
+		assertEquals(2, visibility.getPlayerCount());
+	}
+
+	/**
+	 * Only marked units are re-examined; moving the scout away hides the enemy
+	 * once the move is marked.
+	 */
+	@Test
+	void test_MovedUnits_UpdateVisibility_WhenMarked() {
+		final Entity scout = spawn(1L, SCOUT, 0L, 0L);
+		final Entity enemy = spawn(2L, ENEMY, 15 * UNIT, 0L);
+		visibility.run();
+		changes.clear();
+
+		scout.get(Position.class).set(-30 * UNIT, 0L, 0L);
+		visibility.run();
+		assertTrue(visibility.isVisibleTo(SCOUT, enemy), "Unmarked moves are not picked up");
+
+		changes.mark(scout);
+		marks.run();
+		visibility.run();
+		assertFalse(visibility.isVisibleTo(SCOUT, enemy));
+		assertEquals(1, visibility.getLastTickRestamped());
+	}
+
+	/**
+	 * Visibility runs at 2 Hz, and moves marked on the ticks in between are
+	 * kept although the publisher clears the marks every tick.
+	 */
+	@Test
+	void test_MovesBetweenRuns_AreKept() {
+		assertEquals(5, visibility.tickInterval());
+		final Entity scout = spawn(1L, SCOUT, 0L, 0L);
+		final Entity enemy = spawn(2L, ENEMY, 15 * UNIT, 0L);
+		visibility.run();
+
+		scout.get(Position.class).set(-30 * UNIT, 0L, 0L);
+		changes.mark(scout);
+		marks.run();
+		changes.clear();
+		for (int tick = 0; tick < 3; tick++) {
+			marks.run();
+			changes.clear();
+		}
+		assertTrue(visibility.isVisibleTo(SCOUT, enemy));
+
+		visibility.run();
+		assertFalse(visibility.isVisibleTo(SCOUT, enemy));
+		assertEquals(1, visibility.getLastTickRestamped());
+	}
+
+	@Test
+	void test_VisionChange_And_Unregister_UpdateVisibility() {
+		final Entity scout = spawn(1L, SCOUT, 0L, 0L);
+		final Entity enemy = spawn(2L, ENEMY, 35 * UNIT, 0L);
+		visibility.run();
+		assertFalse(visibility.isVisibleTo(SCOUT, enemy));
+
+		scout.add(new Vision(40 * UNIT));
+		changes.mark(scout);
+		marks.run();
+		visibility.run();
+		assertTrue(visibility.isVisibleTo(SCOUT, enemy));
+
+		registry.unregister(1L);
+		assertFalse(visibility.isVisibleTo(SCOUT, enemy));
+		assertFalse(visibility.isVisibleTo(SCOUT, 0L, 0L));
+	}
+
+	/**
+	 * The publisher clears the marks the mark system reads, and the mark system
+	 * fills the dirty set visibility drains, so the scheduler must never put
+	 * either pair into the same parallel stage.
+	 */
+	@Test
+	void test_Access_ConflictsWithSnapshotPublisher() {
+		final WorldSnapshotPublisher publisher = new WorldSnapshotPublisher(registry, new TickClock(10), changes);
+		assertTrue(marks.access().conflictsWith(publisher.access()));
+		assertTrue(marks.access().conflictsWith(visibility.access()));
+	}
+
+	private Entity spawn(long id, long playerId, long x, long y) {
+		final Entity entity = dominion.createEntity(new Position(x, y, 0L), new Owner(playerId));
+		registry.register(id, entity);
+		return entity;
+	}
+}